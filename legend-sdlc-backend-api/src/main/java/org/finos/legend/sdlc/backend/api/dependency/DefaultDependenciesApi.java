@@ -17,6 +17,7 @@ package org.finos.legend.sdlc.backend.api.dependency;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.finos.legend.sdlc.core.dependency.DependencyOperations;
+import org.finos.legend.sdlc.core.dependency.UpstreamDependencyResolver;
 import org.finos.legend.sdlc.domain.model.project.Project;
 import org.finos.legend.sdlc.domain.model.project.configuration.ProjectConfiguration;
 import org.finos.legend.sdlc.domain.model.project.configuration.ProjectDependency;
@@ -26,21 +27,40 @@ import org.finos.legend.sdlc.backend.api.project.ProjectApi;
 import org.finos.legend.sdlc.backend.api.project.ProjectConfigurationApi;
 import org.finos.legend.sdlc.project.source.SourceSpecification;
 import org.finos.legend.sdlc.backend.api.revision.RevisionApi;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 public class DefaultDependenciesApi implements DependenciesApi
 {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultDependenciesApi.class);
+
     private final ProjectApi projectApi;
     private final ProjectConfigurationApi projectConfigurationApi;
     private final RevisionApi revisionApi;
+    private final DownstreamDependencyIndex downstreamDependencyIndex;
+    private final UpstreamDependencyResolver upstreamDependencyResolver;
 
-    public DefaultDependenciesApi(ProjectApi projectApi, ProjectConfigurationApi projectConfigurationApi, RevisionApi revisionApi)
+    public DefaultDependenciesApi(ProjectApi projectApi, ProjectConfigurationApi projectConfigurationApi, RevisionApi revisionApi, DownstreamDependencyIndex downstreamDependencyIndex, UpstreamDependencyResolver upstreamDependencyResolver)
     {
         this.projectApi = projectApi;
         this.projectConfigurationApi = projectConfigurationApi;
         this.revisionApi = revisionApi;
+        this.downstreamDependencyIndex = downstreamDependencyIndex;
+        this.upstreamDependencyResolver = upstreamDependencyResolver;
+    }
+
+    public DefaultDependenciesApi(ProjectApi projectApi, ProjectConfigurationApi projectConfigurationApi, RevisionApi revisionApi, DownstreamDependencyIndex downstreamDependencyIndex)
+    {
+        this(projectApi, projectConfigurationApi, revisionApi, downstreamDependencyIndex, null);
+    }
+
+    public DefaultDependenciesApi(ProjectApi projectApi, ProjectConfigurationApi projectConfigurationApi, RevisionApi revisionApi)
+    {
+        this(projectApi, projectConfigurationApi, revisionApi, null);
     }
 
     @Override
@@ -67,6 +87,11 @@ public class DefaultDependenciesApi implements DependenciesApi
     @Override
     public Set<ProjectRevision> getDownstreamProjects(String projectId)
     {
+        if (isDownstreamDependencyIndexBuilt())
+        {
+            return this.downstreamDependencyIndex.getDownstreamProjects(projectId, this.projectApi);
+        }
+
         /*
             TODO : Maybe enable ElasticSearch for Gitlab https://docs.gitlab.com/ee/integration/elasticsearch.html ??
         */
@@ -90,9 +115,43 @@ public class DefaultDependenciesApi implements DependenciesApi
         return results;
     }
 
+    @Override
+    public void projectRevisionChanged(String projectId)
+    {
+        if (isDownstreamDependencyIndexBuilt())
+        {
+            try
+            {
+                this.downstreamDependencyIndex.update(projectId, this.projectConfigurationApi, this.revisionApi);
+            }
+            catch (Exception e)
+            {
+                // the next refresh picks up the change
+                LOGGER.warn("Error updating downstream dependency index for project {}", projectId, e);
+            }
+        }
+    }
+
+    @Override
+    public void projectDeleted(String projectId)
+    {
+        if (this.downstreamDependencyIndex != null)
+        {
+            this.downstreamDependencyIndex.remove(projectId);
+        }
+    }
+
+    private boolean isDownstreamDependencyIndexBuilt()
+    {
+        // the index is only built by its background refresh; until then, scan with the caller's access
+        return (this.downstreamDependencyIndex != null) && this.downstreamDependencyIndex.isBuilt();
+    }
+
     private Set<ProjectDependency> searchUpstream(ProjectConfiguration rootProjectConfiguration, boolean transitive)
     {
-        return DependencyOperations.getUpstreamDependencies(rootProjectConfiguration, transitive,
-                dependency -> this.projectConfigurationApi.getProjectConfiguration(dependency.getProjectId(), SourceSpecification.versionSourceSpecification(dependency.getVersionId())));
+        Function<ProjectDependency, ProjectConfiguration> resolver = dependency -> this.projectConfigurationApi.getProjectConfiguration(dependency.getProjectId(), SourceSpecification.versionSourceSpecification(dependency.getVersionId()));
+        return (this.upstreamDependencyResolver == null) ?
+               DependencyOperations.getUpstreamDependencies(rootProjectConfiguration, transitive, resolver) :
+               this.upstreamDependencyResolver.getUpstreamDependencies(rootProjectConfiguration, transitive, resolver, this.projectApi::getProject);
     }
 }
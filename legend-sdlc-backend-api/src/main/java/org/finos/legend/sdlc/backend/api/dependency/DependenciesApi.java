@@ -53,4 +53,25 @@ public interface DependenciesApi
 
     // Downstream projects: projects that depend on the project
     Set<ProjectRevision> getDownstreamProjects(String projectId);
+
+    /**
+     * Notify that the default branch of a project has changed, for example because a review was committed, so that
+     * any downstream dependency information kept between calls can be brought up to date. By default, this does
+     * nothing.
+     *
+     * @param projectId project id
+     */
+    default void projectRevisionChanged(String projectId)
+    {
+    }
+
+    /**
+     * Notify that a project has been deleted, so that it is dropped from any downstream dependency information kept
+     * between calls. By default, this does nothing.
+     *
+     * @param projectId project id
+     */
+    default void projectDeleted(String projectId)
+    {
+    }
 }
@@ -0,0 +1,355 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.backend.api.dependency;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.finos.legend.sdlc.backend.api.project.ProjectApi;
+import org.finos.legend.sdlc.backend.api.project.ProjectConfigurationApi;
+import org.finos.legend.sdlc.backend.api.revision.RevisionApi;
+import org.finos.legend.sdlc.domain.model.project.Project;
+import org.finos.legend.sdlc.domain.model.project.configuration.ProjectConfiguration;
+import org.finos.legend.sdlc.domain.model.project.configuration.ProjectDependency;
+import org.finos.legend.sdlc.domain.model.revision.Revision;
+import org.finos.legend.sdlc.project.source.SourceSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Reverse dependency index: for each project, the projects whose default branch depends on it, together with the
+ * revision at which the dependency was observed. The index is shared across sessions and is never refreshed on a
+ * lookup. It is maintained by a background refresh, started with {@link #startBackgroundRefresh}, which runs once per
+ * refresh interval with APIs bound to a service identity that can see every project. A refresh lists the projects and
+ * their current revisions, and only reads the project configuration of projects whose revision has moved since the
+ * last refresh. Changes to a project's default branch may be recorded between refreshes with
+ * {@link #update(String, ProjectConfigurationApi, RevisionApi)}.
+ * <p>
+ * Until the first refresh completes the index is not built, and callers should compute downstream projects some other
+ * way. Lookups through {@link #getDownstreamProjects(String, ProjectApi)} only return the projects which the caller can
+ * access.
+ */
+public class DownstreamDependencyIndex implements AutoCloseable
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(DownstreamDependencyIndex.class);
+
+    private static final long DEFAULT_REFRESH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final long refreshIntervalMillis;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final MutableMap<String, IndexEntry> entriesByProject = Maps.mutable.empty();
+    private final MutableMap<String, MutableSet<String>> dependentsByProject = Maps.mutable.empty();
+    private volatile boolean built = false;
+    private volatile boolean invalidated = false;
+    private volatile long lastRefreshTime;
+    private ScheduledExecutorService refreshExecutor;
+    private Runnable refreshTask;
+
+    public DownstreamDependencyIndex(long refreshIntervalMillis)
+    {
+        if (refreshIntervalMillis <= 0)
+        {
+            throw new IllegalArgumentException("Invalid refresh interval: " + refreshIntervalMillis);
+        }
+        this.refreshIntervalMillis = refreshIntervalMillis;
+    }
+
+    public DownstreamDependencyIndex()
+    {
+        this(DEFAULT_REFRESH_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Start refreshing the index in the background, immediately and then once per refresh interval. The APIs must be
+     * bound to a service identity rather than to a user, as the index is shared by all callers and a refresh only
+     * indexes the projects that the APIs can see.
+     *
+     * @param projectApi              service project API
+     * @param projectConfigurationApi service project configuration API
+     * @param revisionApi             service revision API
+     */
+    public synchronized void startBackgroundRefresh(ProjectApi projectApi, ProjectConfigurationApi projectConfigurationApi, RevisionApi revisionApi)
+    {
+        Objects.requireNonNull(projectApi, "project API may not be null");
+        Objects.requireNonNull(projectConfigurationApi, "project configuration API may not be null");
+        Objects.requireNonNull(revisionApi, "revision API may not be null");
+        if (this.refreshExecutor != null)
+        {
+            throw new IllegalStateException("Background refresh already started");
+        }
+        this.refreshTask = () ->
+        {
+            try
+            {
+                refresh(projectApi, projectConfigurationApi, revisionApi);
+            }
+            catch (Exception e)
+            {
+                // keep serving the existing index, and try again at the next refresh
+                LOGGER.warn("Error refreshing downstream dependency index", e);
+            }
+        };
+        this.refreshExecutor = Executors.newSingleThreadScheduledExecutor(r ->
+        {
+            Thread thread = new Thread(r, "downstream-dependency-index-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.refreshExecutor.scheduleWithFixedDelay(this.refreshTask, 0, this.refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop the background refresh, if it was started.
+     */
+    @Override
+    public synchronized void close()
+    {
+        if (this.refreshExecutor != null)
+        {
+            this.refreshExecutor.shutdownNow();
+            this.refreshExecutor = null;
+            this.refreshTask = null;
+        }
+    }
+
+    /**
+     * Get the projects which depend on the given project, as of the last refresh or update, which the caller can
+     * access. This never refreshes the index; the caller's access is checked with a single listing of the projects
+     * they can see.
+     *
+     * @param projectId  project id
+     * @param projectApi caller's project API, to check access
+     * @return downstream projects accessible to the caller with the revisions at which they were indexed
+     */
+    public Set<ProjectRevision> getDownstreamProjects(String projectId, ProjectApi projectApi)
+    {
+        Set<ProjectRevision> downstreamProjects = getDownstreamProjects(projectId);
+        if (downstreamProjects.isEmpty())
+        {
+            return downstreamProjects;
+        }
+        // false because downstream projects might not be owned by the current user
+        MutableSet<String> accessibleProjectIds = Iterate.collect(projectApi.getProjects(false, null, null, null, null), Project::getProjectId, Sets.mutable.empty());
+        MutableSet<ProjectRevision> accessible = Sets.mutable.ofInitialCapacity(downstreamProjects.size());
+        Iterate.select(downstreamProjects, pr -> accessibleProjectIds.contains(pr.getProjectId()), accessible);
+        return accessible;
+    }
+
+    /**
+     * Get the projects which depend on the given project, as of the last refresh or update, without refreshing or
+     * checking access.
+     *
+     * @param projectId project id
+     * @return downstream projects with the revisions at which they were indexed
+     */
+    public synchronized Set<ProjectRevision> getDownstreamProjects(String projectId)
+    {
+        MutableSet<String> dependents = this.dependentsByProject.get(projectId);
+        if (dependents == null)
+        {
+            return Collections.emptySet();
+        }
+        MutableSet<ProjectRevision> results = Sets.mutable.ofInitialCapacity(dependents.size());
+        dependents.forEach(d -> results.add(new ProjectRevision(d, this.entriesByProject.get(d).revisionId)));
+        return results;
+    }
+
+    /**
+     * Record the project configuration of a project at a revision of its default branch. This may be used to keep the
+     * index up to date between refreshes when a commit to a default branch is observed.
+     *
+     * @param projectId            project id
+     * @param revisionId           default branch revision id
+     * @param projectConfiguration project configuration at that revision
+     */
+    public void update(String projectId, String revisionId, ProjectConfiguration projectConfiguration)
+    {
+        Objects.requireNonNull(projectId, "project id may not be null");
+        Objects.requireNonNull(revisionId, "revision id may not be null");
+        MutableSet<String> upstreamProjectIds = Sets.mutable.empty();
+        if ((projectConfiguration != null) && (projectConfiguration.getProjectDependencies() != null))
+        {
+            Iterate.collectIf(projectConfiguration.getProjectDependencies(), d -> !projectId.equals(d.getProjectId()), ProjectDependency::getProjectId, upstreamProjectIds);
+        }
+        putEntry(projectId, new IndexEntry(revisionId, upstreamProjectIds.asUnmodifiable()));
+    }
+
+    /**
+     * Read the current default branch revision and project configuration of a project, and record them. This may be
+     * used to keep the index up to date between refreshes when a change to the default branch of a project is made.
+     *
+     * @param projectId               project id
+     * @param projectConfigurationApi project configuration API
+     * @param revisionApi             revision API
+     */
+    public void update(String projectId, ProjectConfigurationApi projectConfigurationApi, RevisionApi revisionApi)
+    {
+        updateIfChanged(projectId, projectConfigurationApi, revisionApi);
+    }
+
+    /**
+     * Remove a project from the index, for example when it is deleted.
+     *
+     * @param projectId project id
+     */
+    public synchronized void remove(String projectId)
+    {
+        IndexEntry entry = this.entriesByProject.remove(projectId);
+        if (entry != null)
+        {
+            removeDependents(projectId, entry);
+        }
+    }
+
+    /**
+     * Mark the index as stale. If the background refresh is running, a refresh is requested immediately rather than
+     * at the end of the current interval.
+     */
+    public synchronized void invalidate()
+    {
+        this.invalidated = true;
+        if (this.refreshExecutor != null)
+        {
+            this.refreshExecutor.execute(this.refreshTask);
+        }
+    }
+
+    public boolean isBuilt()
+    {
+        return this.built;
+    }
+
+    public boolean isStale()
+    {
+        return !this.built || this.invalidated || ((System.currentTimeMillis() - this.lastRefreshTime) >= this.refreshIntervalMillis);
+    }
+
+    /**
+     * Refresh the index with the given APIs, which should be bound to a service identity. Projects which are not
+     * listed are kept, and are only removed when found to have no default branch revision or through
+     * {@link #remove}. Concurrent refreshes are run one after the other.
+     *
+     * @param projectApi              service project API
+     * @param projectConfigurationApi service project configuration API
+     * @param revisionApi             service revision API
+     */
+    public void refresh(ProjectApi projectApi, ProjectConfigurationApi projectConfigurationApi, RevisionApi revisionApi)
+    {
+        this.refreshLock.lock();
+        try
+        {
+            doRefresh(projectApi, projectConfigurationApi, revisionApi);
+        }
+        finally
+        {
+            this.refreshLock.unlock();
+        }
+    }
+
+    private void doRefresh(ProjectApi projectApi, ProjectConfigurationApi projectConfigurationApi, RevisionApi revisionApi)
+    {
+        long start = System.currentTimeMillis();
+        this.invalidated = false;
+        List<Project> projects = projectApi.getProjects(false, null, null, null, null);
+        int configurationsRead = 0;
+        for (Project project : projects)
+        {
+            String projectId = project.getProjectId();
+            try
+            {
+                if (updateIfChanged(projectId, projectConfigurationApi, revisionApi))
+                {
+                    configurationsRead++;
+                }
+            }
+            catch (Exception e)
+            {
+                // keep whatever was previously indexed for this project
+                LOGGER.warn("Error indexing dependencies of project {}", projectId, e);
+            }
+        }
+        this.lastRefreshTime = System.currentTimeMillis();
+        this.built = true;
+        LOGGER.debug("Refreshed downstream dependency index: {} projects, {} configurations read in {}ms", projects.size(), configurationsRead, this.lastRefreshTime - start);
+    }
+
+    private boolean updateIfChanged(String projectId, ProjectConfigurationApi projectConfigurationApi, RevisionApi revisionApi)
+    {
+        Revision revision = revisionApi.getRevisionContext(projectId, SourceSpecification.projectSourceSpecification()).getCurrentRevision();
+        if (revision == null)
+        {
+            remove(projectId);
+            return false;
+        }
+        if (revision.getId().equals(getIndexedRevisionId(projectId)))
+        {
+            return false;
+        }
+        ProjectConfiguration projectConfiguration = projectConfigurationApi.getProjectConfiguration(projectId, SourceSpecification.projectSourceSpecification(), revision.getId());
+        update(projectId, revision.getId(), projectConfiguration);
+        return true;
+    }
+
+    private synchronized String getIndexedRevisionId(String projectId)
+    {
+        IndexEntry entry = this.entriesByProject.get(projectId);
+        return (entry == null) ? null : entry.revisionId;
+    }
+
+    private synchronized void putEntry(String projectId, IndexEntry entry)
+    {
+        IndexEntry previous = this.entriesByProject.put(projectId, entry);
+        if (previous != null)
+        {
+            removeDependents(projectId, previous);
+        }
+        entry.upstreamProjectIds.forEach(u -> this.dependentsByProject.getIfAbsentPut(u, Sets.mutable::empty).add(projectId));
+    }
+
+    private void removeDependents(String projectId, IndexEntry entry)
+    {
+        entry.upstreamProjectIds.forEach(u ->
+        {
+            MutableSet<String> dependents = this.dependentsByProject.get(u);
+            if ((dependents != null) && dependents.remove(projectId) && dependents.isEmpty())
+            {
+                this.dependentsByProject.remove(u);
+            }
+        });
+    }
+
+    private static class IndexEntry
+    {
+        private final String revisionId;
+        private final Set<String> upstreamProjectIds;
+
+        private IndexEntry(String revisionId, Set<String> upstreamProjectIds)
+        {
+            this.revisionId = revisionId;
+            this.upstreamProjectIds = upstreamProjectIds;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import org.finos.legend.sdlc.domain.model.entity.Entity;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public interface EntityAccessContext
 {
@@ -31,5 +32,22 @@ public interface EntityAccessContext
 
     List<Entity> getEntities(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> entityContentPredicate, boolean excludeInvalid);
 
+    /**
+     * Stream the entities matching the given predicates. Implementations should read entities lazily as the stream is
+     * consumed where they can, so that a consumer which does not retain the entities (such as one writing them to a
+     * response) need not hold them all in memory. The stream should be closed after use. The default implementation
+     * streams the result of {@link #getEntities(Predicate, Predicate, Predicate, boolean)}.
+     *
+     * @param entityPathPredicate     entity path predicate (may be null)
+     * @param classifierPathPredicate classifier path predicate (may be null)
+     * @param entityContentPredicate  entity content predicate (may be null)
+     * @param excludeInvalid          whether to exclude invalid entities rather than fail
+     * @return stream of entities
+     */
+    default Stream<Entity> streamEntities(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> entityContentPredicate, boolean excludeInvalid)
+    {
+        return getEntities(entityPathPredicate, classifierPathPredicate, entityContentPredicate, excludeInvalid).stream();
+    }
+
     List<String> getEntityPaths(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> entityContentPredicate);
 }
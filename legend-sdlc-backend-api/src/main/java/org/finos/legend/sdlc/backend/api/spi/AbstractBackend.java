@@ -21,12 +21,14 @@ import org.finos.legend.sdlc.backend.api.comparison.DefaultComparisonApi;
 import org.finos.legend.sdlc.backend.api.conflictresolution.ConflictResolutionApi;
 import org.finos.legend.sdlc.backend.api.dependency.DefaultDependenciesApi;
 import org.finos.legend.sdlc.backend.api.dependency.DependenciesApi;
+import org.finos.legend.sdlc.backend.api.dependency.DownstreamDependencyIndex;
 import org.finos.legend.sdlc.backend.api.issue.IssueApi;
 import org.finos.legend.sdlc.backend.api.patch.PatchApi;
 import org.finos.legend.sdlc.backend.api.review.ReviewApi;
 import org.finos.legend.sdlc.backend.api.version.VersionApi;
 import org.finos.legend.sdlc.backend.api.workflow.WorkflowApi;
 import org.finos.legend.sdlc.backend.api.workflow.WorkflowJobApi;
+import org.finos.legend.sdlc.core.dependency.UpstreamDependencyResolver;
 import org.finos.legend.sdlc.project.files.ProjectFileAccessProvider;
 
 import java.util.Collections;
@@ -46,6 +48,8 @@ public abstract class AbstractBackend implements Backend
     private final String type;
     private final Set<BackendCapability> capabilities;
     private final BackendEnvironment environment;
+    private final DownstreamDependencyIndex downstreamDependencyIndex = new DownstreamDependencyIndex();
+    private final UpstreamDependencyResolver upstreamDependencyResolver = new UpstreamDependencyResolver();
 
     protected AbstractBackend(String type, Set<BackendCapability> capabilities, BackendEnvironment environment)
     {
@@ -72,6 +76,24 @@ public abstract class AbstractBackend implements Backend
         return this.environment;
     }
 
+    /**
+     * The downstream dependency index shared by this backend's sessions. It is only used once built by its background
+     * refresh, so a backend with a service identity should start that refresh with the service identity's APIs;
+     * otherwise downstream projects are found by scanning with each caller's access.
+     *
+     * @return downstream dependency index
+     */
+    protected DownstreamDependencyIndex getDownstreamDependencyIndex()
+    {
+        return this.downstreamDependencyIndex;
+    }
+
+    @Override
+    public void close()
+    {
+        this.downstreamDependencyIndex.close();
+    }
+
     /**
      * Base session: defaults for the generic APIs, capability-gated throws for the optional ones. Subclasses
      * implement the core APIs (projects, workspaces, revisions, entities, configuration, users) and the storage
@@ -107,7 +129,7 @@ public abstract class AbstractBackend implements Backend
         @Override
         public DependenciesApi getDependenciesApi()
         {
-            return new DefaultDependenciesApi(getProjectApi(), getProjectConfigurationApi(), getRevisionApi());
+            return new DefaultDependenciesApi(getProjectApi(), getProjectConfigurationApi(), getRevisionApi(), AbstractBackend.this.downstreamDependencyIndex, AbstractBackend.this.upstreamDependencyResolver);
         }
 
         @Override
@@ -17,29 +17,74 @@ package org.finos.legend.sdlc.backend.api.tools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.Callable;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
+/**
+ * Processor for background tasks. Tasks run on a fixed-size thread pool. A retryable task that must wait before
+ * its next attempt is handed to a scheduler, so that waiting tasks do not hold pool threads. The number of pending
+ * tasks (queued, running, or waiting to retry) is bounded: when the bound is reached, submitters wait for a time and
+ * are then rejected. Tasks may be given a type, which is reported to the {@link Listener}.
+ */
 public class BackgroundTaskProcessor
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(BackgroundTaskProcessor.class);
 
-    private static final long DEFAULT_SLEEP_MILLIS = 100L;
+    public static final int DEFAULT_MAX_PENDING_TASKS = 10_000;
+    public static final long DEFAULT_SUBMIT_TIMEOUT_MILLIS = 10_000L;
+
+    private static final Listener NO_OP_LISTENER = new Listener()
+    {
+    };
 
     private final AtomicInteger taskCounter = new AtomicInteger(0);
     private final ThreadPoolExecutor executor;
+    private final ScheduledThreadPoolExecutor retryScheduler;
+    private final int maxPendingTasks;
+    private final Semaphore pendingTaskPermits;
+    private final long submitTimeoutMillis;
+    private final Listener listener;
+    private final Set<RetryableTaskWrapper> scheduledRetries = ConcurrentHashMap.newKeySet();
+    private final AtomicLong totalRetryCount = new AtomicLong(0L);
+    private final AtomicLong completedTaskCount = new AtomicLong(0L);
+    private final AtomicLong failedTaskCount = new AtomicLong(0L);
+    private volatile boolean shutdown = false;
 
     public BackgroundTaskProcessor(int threadPoolSize)
+    {
+        this(threadPoolSize, DEFAULT_MAX_PENDING_TASKS, DEFAULT_SUBMIT_TIMEOUT_MILLIS, null);
+    }
+
+    /**
+     * @param threadPoolSize      number of threads to run tasks
+     * @param maxPendingTasks     maximum number of tasks which may be pending (queued, running, or waiting to retry)
+     * @param submitTimeoutMillis how long a submitter waits for a pending task slot before the task is rejected
+     * @param listener            optional listener for task metrics
+     */
+    public BackgroundTaskProcessor(int threadPoolSize, int maxPendingTasks, long submitTimeoutMillis, Listener listener)
     {
         int realThreadPoolSize = Math.max(1, threadPoolSize);
         this.executor = new ThreadPoolExecutor(realThreadPoolSize, realThreadPoolSize, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), Executors.defaultThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
         this.executor.allowCoreThreadTimeOut(true);
+        this.retryScheduler = new ScheduledThreadPoolExecutor(1, Executors.defaultThreadFactory());
+        this.retryScheduler.setKeepAliveTime(60, TimeUnit.SECONDS);
+        this.retryScheduler.allowCoreThreadTimeOut(true);
+        this.retryScheduler.setRemoveOnCancelPolicy(true);
+        this.retryScheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.maxPendingTasks = Math.max(1, maxPendingTasks);
+        this.pendingTaskPermits = new Semaphore(this.maxPendingTasks);
+        this.submitTimeoutMillis = Math.max(0L, submitTimeoutMillis);
+        this.listener = (listener == null) ? NO_OP_LISTENER : listener;
     }
 
     /**
@@ -60,7 +105,19 @@ public class BackgroundTaskProcessor
      */
     public void submitTask(Task task, String description)
     {
-        submit(new SimpleTaskWrapper(task, description));
+        submitTask(null, task, description);
+    }
+
+    /**
+     * Submit a task of the given type for background execution.
+     *
+     * @param taskType    task type (may be null)
+     * @param task        task
+     * @param description task description for logging and error messages
+     */
+    public void submitTask(String taskType, Task task, String description)
+    {
+        submit(new SimpleTaskWrapper(taskType, task, description));
     }
 
     /**
@@ -212,7 +269,22 @@ public class BackgroundTaskProcessor
      */
     public void submitRetryableTask(RetryableTask task, Predicate<? super Exception> isExceptionRetryable, long minWaitBetweenRetriesMillis, String description)
     {
-        submit(new RetryableTaskWrapper(task, isExceptionRetryable, minWaitBetweenRetriesMillis, description));
+        submitRetryableTask(null, task, isExceptionRetryable, minWaitBetweenRetriesMillis, description);
+    }
+
+    /**
+     * Submit a retryable task of the given type for background execution. See
+     * {@link #submitRetryableTask(RetryableTask, Predicate, long, String)}.
+     *
+     * @param taskType                    task type (may be null)
+     * @param task                        retryable task
+     * @param isExceptionRetryable        predicate to test which exceptions are retryable (if null, no exceptions are retryable)
+     * @param minWaitBetweenRetriesMillis minimum time to wait between retries in milliseconds
+     * @param description                 task description for logger and error messages
+     */
+    public void submitRetryableTask(String taskType, RetryableTask task, Predicate<? super Exception> isExceptionRetryable, long minWaitBetweenRetriesMillis, String description)
+    {
+        submit(new RetryableTaskWrapper(taskType, task, isExceptionRetryable, minWaitBetweenRetriesMillis, description));
     }
 
     /**
@@ -221,7 +293,8 @@ public class BackgroundTaskProcessor
      * <p>After calling this method, no new tasks will be accepted.
      * Previously submitted tasks are executed, though retryable
      * tasks will not longer be resubmitted if they do not complete.
-     * accepted.
+     * Retryable tasks waiting for their next attempt are given one
+     * final attempt without further waiting.
      *
      * <p>This method has no additional effect once the task processor
      * is shut down.
@@ -229,12 +302,19 @@ public class BackgroundTaskProcessor
      * <p>This method does not wait for previously submitted tasks to
      * complete. Use {@link #awaitTermination awaitTermination} for that.
      */
-    public void shutdown()
+    public synchronized void shutdown()
     {
-        if (!isShutdown())
+        if (this.shutdown)
         {
-            LOGGER.info("Shutting down");
+            return;
         }
+        LOGGER.info("Shutting down");
+        this.shutdown = true;
+
+        // delayed retries are dropped from the scheduler on shutdown, so give them their final attempt here, now
+        // rather than after their delay
+        this.retryScheduler.shutdown();
+        this.scheduledRetries.forEach(RetryableTaskWrapper::dispatchScheduledRetry);
         this.executor.shutdown();
     }
 
@@ -245,7 +325,7 @@ public class BackgroundTaskProcessor
      */
     public boolean isShutdown()
     {
-        return this.executor.isShutdown();
+        return this.shutdown;
     }
 
     /**
@@ -274,29 +354,113 @@ public class BackgroundTaskProcessor
         return terminated;
     }
 
+    /**
+     * Number of tasks waiting for a thread.
+     *
+     * @return queued task count
+     */
+    public int getQueuedTaskCount()
+    {
+        return this.executor.getQueue().size();
+    }
+
+    /**
+     * Number of retryable tasks waiting for their next attempt.
+     *
+     * @return scheduled retry count
+     */
+    public int getScheduledRetryCount()
+    {
+        return this.scheduledRetries.size();
+    }
+
+    /**
+     * Approximate number of tasks currently running.
+     *
+     * @return active task count
+     */
+    public int getActiveTaskCount()
+    {
+        return this.executor.getActiveCount();
+    }
+
+    /**
+     * Number of tasks accepted which have not yet finished (queued, running, or waiting to retry).
+     *
+     * @return pending task count
+     */
+    public int getPendingTaskCount()
+    {
+        return this.maxPendingTasks - this.pendingTaskPermits.availablePermits();
+    }
+
+    public long getTotalRetryCount()
+    {
+        return this.totalRetryCount.get();
+    }
+
+    public long getCompletedTaskCount()
+    {
+        return this.completedTaskCount.get();
+    }
+
+    public long getFailedTaskCount()
+    {
+        return this.failedTaskCount.get();
+    }
+
     private void submit(TaskWrapper taskWrapper)
     {
         LOGGER.debug("{} Submitting task", taskWrapper.logPrefix);
+        if (isShutdown())
+        {
+            RejectedExecutionException e = new RejectedExecutionException("Background task processor is shut down");
+            LOGGER.error("{} Task rejected", taskWrapper.logPrefix, e);
+            notifyListener(() -> this.listener.taskRejected(taskWrapper.taskType));
+            throw e;
+        }
+
+        boolean acquired;
         try
         {
-            this.executor.submit(taskWrapper);
+            acquired = this.pendingTaskPermits.tryAcquire(this.submitTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            acquired = false;
         }
-        catch (RejectedExecutionException e)
+        if (!acquired)
         {
+            RejectedExecutionException e = new RejectedExecutionException("Too many pending background tasks (" + this.maxPendingTasks + ")");
             LOGGER.error("{} Task rejected", taskWrapper.logPrefix, e);
+            notifyListener(() -> this.listener.taskRejected(taskWrapper.taskType));
             throw e;
         }
+
+        try
+        {
+            this.executor.execute(taskWrapper);
+        }
         catch (Exception e)
         {
+            this.pendingTaskPermits.release();
             LOGGER.error("{} Error while submitting task", taskWrapper.logPrefix, e);
             throw e;
         }
         LOGGER.debug("{} task submitted", taskWrapper.logPrefix);
     }
 
-    private boolean isQueueEmpty()
+    private void notifyListener(Runnable notification)
     {
-        return this.executor.getQueue().isEmpty();
+        try
+        {
+            notification.run();
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Error notifying background task listener", e);
+        }
     }
 
     public interface Task
@@ -329,22 +493,70 @@ public class BackgroundTaskProcessor
         boolean run() throws Exception;
     }
 
-    private abstract class TaskWrapper implements Callable<Void>
+    /**
+     * Listener for background task metrics. Methods are called on task processor threads, and so should be quick.
+     */
+    public interface Listener
+    {
+        /**
+         * Called when a retryable task is scheduled for another attempt.
+         *
+         * @param taskType    task type (may be null)
+         * @param attempt     number of the upcoming attempt
+         * @param delayMillis delay before the attempt
+         */
+        default void taskRetryScheduled(String taskType, int attempt, long delayMillis)
+        {
+        }
+
+        /**
+         * Called when a task finishes, either successfully or not, and will not be attempted again.
+         *
+         * @param taskType     task type (may be null)
+         * @param attempts     number of attempts made
+         * @param latencyNanos time from submission to finish, in nanoseconds
+         * @param succeeded    whether the task completed successfully
+         */
+        default void taskFinished(String taskType, int attempts, long latencyNanos, boolean succeeded)
+        {
+        }
+
+        /**
+         * Called when a task is rejected on submission.
+         *
+         * @param taskType task type (may be null)
+         */
+        default void taskRejected(String taskType)
+        {
+        }
+    }
+
+    private abstract class TaskWrapper implements Runnable
     {
         protected final int id;
+        protected final String taskType;
         protected final String logPrefix;
+        protected final long submitNanos = System.nanoTime();
+        protected int tryCount = 1;
 
-        protected TaskWrapper(String description)
+        protected TaskWrapper(String taskType, String description)
         {
             this.id = BackgroundTaskProcessor.this.taskCounter.incrementAndGet();
+            this.taskType = taskType;
             this.logPrefix = "[task " + this.id + (((description == null) || description.isEmpty()) ? "" : (": " + description)) + "]";
         }
 
         @Override
-        public Void call() throws Exception
+        public void run()
         {
-            runTask();
-            return null;
+            try
+            {
+                runTask();
+            }
+            catch (Exception e)
+            {
+                // already logged by the task wrapper
+            }
         }
 
         @Override
@@ -353,6 +565,14 @@ public class BackgroundTaskProcessor
             return "<" + getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(this)) + " " + this.logPrefix + ">";
         }
 
+        protected void finish(boolean succeeded)
+        {
+            (succeeded ? BackgroundTaskProcessor.this.completedTaskCount : BackgroundTaskProcessor.this.failedTaskCount).incrementAndGet();
+            BackgroundTaskProcessor.this.pendingTaskPermits.release();
+            long latencyNanos = System.nanoTime() - this.submitNanos;
+            notifyListener(() -> BackgroundTaskProcessor.this.listener.taskFinished(this.taskType, this.tryCount, latencyNanos, succeeded));
+        }
+
         protected abstract void runTask() throws Exception;
     }
 
@@ -360,9 +580,9 @@ public class BackgroundTaskProcessor
     {
         private final Task task;
 
-        private SimpleTaskWrapper(Task task, String description)
+        private SimpleTaskWrapper(String taskType, Task task, String description)
         {
-            super(description);
+            super(taskType, description);
             this.task = task;
         }
 
@@ -377,9 +597,11 @@ public class BackgroundTaskProcessor
             catch (Exception e)
             {
                 LOGGER.warn("{} Error occurred during task", this.logPrefix, e);
+                finish(false);
                 throw e;
             }
             LOGGER.debug("{} Finished task", this.logPrefix);
+            finish(true);
         }
     }
 
@@ -388,12 +610,10 @@ public class BackgroundTaskProcessor
         private final RetryableTask task;
         private final Predicate<? super Exception> isRetryableException;
         private final long minWaitBetweenRetriesMillis;
-        private long lastTime;
-        private int tryCount = 1;
 
-        private RetryableTaskWrapper(RetryableTask task, Predicate<? super Exception> isRetryableException, long minWaitBetweenRetriesMillis, String description)
+        private RetryableTaskWrapper(String taskType, RetryableTask task, Predicate<? super Exception> isRetryableException, long minWaitBetweenRetriesMillis, String description)
         {
-            super(description);
+            super(taskType, description);
             this.task = task;
             this.isRetryableException = isRetryableException;
             this.minWaitBetweenRetriesMillis = minWaitBetweenRetriesMillis;
@@ -402,30 +622,6 @@ public class BackgroundTaskProcessor
         @Override
         protected void runTask() throws Exception
         {
-            long millisBeforeNextTry = getMillisBeforeNextTry();
-            while (millisBeforeNextTry > 0)
-            {
-                try
-                {
-                    Thread.sleep(Math.min(millisBeforeNextTry, DEFAULT_SLEEP_MILLIS));
-                }
-                catch (InterruptedException e)
-                {
-                    resubmit();
-                    throw e;
-                }
-                millisBeforeNextTry = getMillisBeforeNextTry();
-                if ((millisBeforeNextTry > DEFAULT_SLEEP_MILLIS) && !isQueueEmpty())
-                {
-                    // Let other tasks have a chance: try to resubmit, but if we fail then let the task run
-                    if (resubmit())
-                    {
-                        return;
-                    }
-                    millisBeforeNextTry = 0;
-                }
-            }
-
             LOGGER.debug("{} Starting task, attempt #{}", this.logPrefix, this.tryCount);
             boolean finished;
             try
@@ -437,38 +633,25 @@ public class BackgroundTaskProcessor
                 if (isExceptionRetryable(e))
                 {
                     LOGGER.warn("{} Retryable error occurred on attempt #{}, resubmitting", this.logPrefix, this.tryCount, e);
-                    this.lastTime = System.currentTimeMillis();
-                    this.tryCount++;
-                    resubmit();
+                    scheduleRetry();
                     return;
                 }
                 LOGGER.warn("{} Non-retryable error occurred during task on attempt #{}", this.logPrefix, this.tryCount, e);
+                finish(false);
                 throw e;
             }
             if (finished)
             {
                 LOGGER.debug("{} Finished task on attempt #{}", this.logPrefix, this.tryCount);
+                finish(true);
             }
             else
             {
                 LOGGER.debug("{} Task unfinished on attempt #{}, resubmitting", this.logPrefix, this.tryCount);
-                this.lastTime = System.currentTimeMillis();
-                this.tryCount++;
-                resubmit();
+                scheduleRetry();
             }
         }
 
-        private long getMillisBeforeNextTry()
-        {
-            if ((this.tryCount <= 1) || (this.minWaitBetweenRetriesMillis <= 0) || isShutdown())
-            {
-                return 0L;
-            }
-
-            long millisSinceLastTime = (System.currentTimeMillis() - this.lastTime);
-            return this.minWaitBetweenRetriesMillis - millisSinceLastTime;
-        }
-
         private boolean isExceptionRetryable(Exception exception)
         {
             if (this.isRetryableException != null)
@@ -485,28 +668,64 @@ public class BackgroundTaskProcessor
             return false;
         }
 
-        private boolean resubmit()
+        private void scheduleRetry()
         {
             if (isShutdown())
             {
-                LOGGER.debug("{} Executor service is shut down, not resubmitting", this.logPrefix);
-                return false;
+                LOGGER.debug("{} Task processor is shut down, not resubmitting", this.logPrefix);
+                finish(false);
+                return;
             }
 
+            this.tryCount++;
+            BackgroundTaskProcessor.this.totalRetryCount.incrementAndGet();
+            long delayMillis = Math.max(0L, this.minWaitBetweenRetriesMillis);
+            notifyListener(() -> BackgroundTaskProcessor.this.listener.taskRetryScheduled(this.taskType, this.tryCount, delayMillis));
+            if (delayMillis == 0L)
+            {
+                try
+                {
+                    BackgroundTaskProcessor.this.executor.execute(this);
+                }
+                catch (RejectedExecutionException e)
+                {
+                    LOGGER.warn("{} Task rejected on retry submission", this.logPrefix, e);
+                    finish(false);
+                }
+                return;
+            }
+
+            // the scheduler only hands the task back to the pool, so waiting tasks hold no threads; the task is
+            // tracked so that shutdown can give it its final attempt
+            BackgroundTaskProcessor.this.scheduledRetries.add(this);
             try
             {
-                BackgroundTaskProcessor.this.executor.submit(this);
-                return true;
+                BackgroundTaskProcessor.this.retryScheduler.schedule(this::dispatchScheduledRetry, delayMillis, TimeUnit.MILLISECONDS);
             }
             catch (RejectedExecutionException e)
             {
-                LOGGER.warn("{} Task rejected on retry submission", this.logPrefix, e);
+                // shut down concurrently: shutdown gives the task its final attempt, unless it has already run
+                LOGGER.debug("{} Retry scheduler is shut down", this.logPrefix);
+                dispatchScheduledRetry();
+            }
+        }
+
+        private void dispatchScheduledRetry()
+        {
+            // whoever removes the task (the scheduler or shutdown) dispatches it, so it is dispatched exactly once
+            if (!BackgroundTaskProcessor.this.scheduledRetries.remove(this))
+            {
+                return;
+            }
+            try
+            {
+                BackgroundTaskProcessor.this.executor.execute(this);
             }
             catch (Exception e)
             {
                 LOGGER.warn("{} Error resubmitting task for retry", this.logPrefix, e);
+                finish(false);
             }
-            return false;
         }
     }
 }
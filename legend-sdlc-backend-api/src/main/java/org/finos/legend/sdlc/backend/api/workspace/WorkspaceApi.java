@@ -17,6 +17,7 @@ package org.finos.legend.sdlc.backend.api.workspace;
 import org.finos.legend.sdlc.domain.model.project.workspace.Workspace;
 import org.finos.legend.sdlc.domain.model.project.workspace.WorkspaceType;
 import org.finos.legend.sdlc.domain.model.version.VersionId;
+import org.finos.legend.sdlc.error.LegendSDLCException;
 import org.finos.legend.sdlc.project.source.SourceSpecification;
 import org.finos.legend.sdlc.project.source.WorkspaceSourceSpecification;
 import org.finos.legend.sdlc.project.workspace.WorkspaceSource;
@@ -26,6 +27,8 @@ import org.finos.legend.sdlc.project.files.ProjectFileAccessProvider.WorkspaceAc
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 public interface WorkspaceApi
 {
@@ -107,6 +110,87 @@ public interface WorkspaceApi
      */
     WorkspaceUpdateReport updateWorkspace(String projectId, WorkspaceSpecification workspaceSpecification);
 
+    /**
+     * Update the workspace with the latest committed changes, as {@link #updateWorkspace} does, but return a future of
+     * the report rather than waiting for it. By default, the update is done before returning; implementations which
+     * update workspaces in the background should override this.
+     *
+     * @param projectId              project id
+     * @param workspaceSpecification workspace specification
+     * @return future of a workspace update report
+     */
+    default CompletionStage<WorkspaceUpdateReport> updateWorkspaceAsync(String projectId, WorkspaceSpecification workspaceSpecification)
+    {
+        CompletableFuture<WorkspaceUpdateReport> future = new CompletableFuture<>();
+        try
+        {
+            future.complete(updateWorkspace(projectId, workspaceSpecification));
+        }
+        catch (Throwable t)
+        {
+            future.completeExceptionally(t);
+        }
+        return future;
+    }
+
+    /**
+     * Submit a job to update the workspace with the latest committed changes, and return without waiting for it to
+     * finish. The status of the job can be followed with {@link #getWorkspaceUpdateJob}. If an update of the same
+     * workspace is already pending or running, then that job is returned instead of a new one. By default, update
+     * jobs are not supported.
+     *
+     * @param projectId              project id
+     * @param workspaceSpecification workspace specification
+     * @return workspace update job
+     */
+    default WorkspaceUpdateJob submitWorkspaceUpdate(String projectId, WorkspaceSpecification workspaceSpecification)
+    {
+        throw new LegendSDLCException("Workspace update jobs are not supported", 501);
+    }
+
+    /**
+     * Get a workspace update job previously submitted in the given project by the current user. Jobs are only
+     * retained for a limited time after they finish. By default, update jobs are not supported.
+     *
+     * @param projectId project id
+     * @param jobId     job id
+     * @return workspace update job
+     */
+    default WorkspaceUpdateJob getWorkspaceUpdateJob(String projectId, String jobId)
+    {
+        throw new LegendSDLCException("Workspace update jobs are not supported", 501);
+    }
+
+    interface WorkspaceUpdateJob
+    {
+        String getId();
+
+        String getProjectId();
+
+        String getWorkspaceId();
+
+        WorkspaceUpdateJobStatus getStatus();
+
+        /**
+         * Get the report of the update. This is only available once the job has succeeded.
+         *
+         * @return workspace update report or null
+         */
+        WorkspaceUpdateReport getReport();
+
+        /**
+         * Get the error message of the update. This is only available if the job has failed.
+         *
+         * @return error message or null
+         */
+        String getErrorMessage();
+    }
+
+    enum WorkspaceUpdateJobStatus
+    {
+        PENDING, RUNNING, SUCCEEDED, FAILED
+    }
+
     interface WorkspaceUpdateReport
     {
         WorkspaceUpdateReportStatus getStatus();
@@ -14,7 +14,9 @@
 
 package org.finos.legend.sdlc.core.dependency;
 
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.set.MutableSet;
 import org.finos.legend.sdlc.domain.model.project.configuration.ProjectConfiguration;
 import org.finos.legend.sdlc.domain.model.project.configuration.ProjectDependency;
@@ -22,6 +24,9 @@ import org.finos.legend.sdlc.domain.model.project.configuration.ProjectDependenc
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 /**
@@ -61,4 +66,71 @@ public class DependencyOperations
         }
         return results;
     }
+
+    /**
+     * Get the upstream project dependencies of the given configuration, as
+     * {@link #getUpstreamDependencies(ProjectConfiguration, boolean, Function)}, but resolving the dependencies of
+     * each level of the breadth-first walk concurrently on {@code executor}. The resolver must therefore be safe to
+     * call from multiple threads. If {@code executor} is null, dependencies are resolved serially on the calling
+     * thread.
+     */
+    public static Set<ProjectDependency> getUpstreamDependencies(ProjectConfiguration rootProjectConfiguration, boolean transitive, Function<? super ProjectDependency, ? extends ProjectConfiguration> dependencyConfigurationResolver, Executor executor)
+    {
+        if (!transitive || (executor == null))
+        {
+            return getUpstreamDependencies(rootProjectConfiguration, transitive, dependencyConfigurationResolver);
+        }
+
+        MutableSet<ProjectDependency> results = Sets.mutable.empty();
+        MutableList<ProjectDependency> frontier = Lists.mutable.empty();
+        rootProjectConfiguration.getProjectDependencies().forEach(d ->
+        {
+            if (results.add(d))
+            {
+                frontier.add(d);
+            }
+        });
+        while (frontier.notEmpty())
+        {
+            MutableList<ProjectConfiguration> configurations = resolveAll(frontier, dependencyConfigurationResolver, executor);
+            frontier.clear();
+            configurations.forEach(c -> c.getProjectDependencies().forEach(d ->
+            {
+                if (results.add(d))
+                {
+                    frontier.add(d);
+                }
+            }));
+        }
+        return results;
+    }
+
+    private static MutableList<ProjectConfiguration> resolveAll(MutableList<ProjectDependency> dependencies, Function<? super ProjectDependency, ? extends ProjectConfiguration> dependencyConfigurationResolver, Executor executor)
+    {
+        if (dependencies.size() == 1)
+        {
+            // no point in handing a single resolution off to another thread
+            return Lists.mutable.with(dependencyConfigurationResolver.apply(dependencies.get(0)));
+        }
+
+        MutableList<CompletableFuture<ProjectConfiguration>> futures = dependencies.collect(d -> CompletableFuture.<ProjectConfiguration>supplyAsync(() -> dependencyConfigurationResolver.apply(d), executor));
+        try
+        {
+            return futures.collect(CompletableFuture::join);
+        }
+        catch (CompletionException e)
+        {
+            futures.forEach(f -> f.cancel(false));
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,241 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.core.dependency;
+
+import org.finos.legend.sdlc.domain.model.project.configuration.ProjectConfiguration;
+import org.finos.legend.sdlc.domain.model.project.configuration.ProjectDependency;
+import org.finos.legend.sdlc.domain.model.version.VersionId;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Long-lived resolver of upstream dependencies. Each level of the dependency graph is resolved concurrently on a
+ * bounded thread pool, and the project configurations of released versions are memoized across calls, since they
+ * never change. Concurrent resolutions of the same released version are collapsed into one. Configurations of
+ * non-version dependencies (such as snapshots) are always resolved afresh.
+ * <p>
+ * Memoized configurations are shared between callers, and are returned without calling the caller's configuration
+ * resolver. Callers whose resolver checks access to the upstream project should therefore also give an access
+ * checker, which is called instead whenever a memoized configuration is used.
+ */
+public class UpstreamDependencyResolver
+{
+    private static final int DEFAULT_PARALLELISM = 8;
+    private static final int DEFAULT_MAX_CACHED_CONFIGURATIONS = 10_000;
+
+    private final Executor executor;
+    private final LinkedHashMap<String, CompletableFuture<ProjectConfiguration>> configurations;
+
+    public UpstreamDependencyResolver(Executor executor, int maxCachedConfigurations)
+    {
+        if (maxCachedConfigurations < 0)
+        {
+            throw new IllegalArgumentException("Invalid max cached configurations: " + maxCachedConfigurations);
+        }
+        this.executor = executor;
+        this.configurations = new LinkedHashMap<String, CompletableFuture<ProjectConfiguration>>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<ProjectConfiguration>> eldest)
+            {
+                return size() > maxCachedConfigurations;
+            }
+        };
+    }
+
+    public UpstreamDependencyResolver(int parallelism, int maxCachedConfigurations)
+    {
+        this(newExecutor(parallelism), maxCachedConfigurations);
+    }
+
+    public UpstreamDependencyResolver()
+    {
+        this(DEFAULT_PARALLELISM, DEFAULT_MAX_CACHED_CONFIGURATIONS);
+    }
+
+    /**
+     * Get the upstream project dependencies of the given configuration. See
+     * {@link DependencyOperations#getUpstreamDependencies(ProjectConfiguration, boolean, Function, Executor)}.
+     * The resolver must be safe to call from multiple threads.
+     */
+    public Set<ProjectDependency> getUpstreamDependencies(ProjectConfiguration rootProjectConfiguration, boolean transitive, Function<? super ProjectDependency, ? extends ProjectConfiguration> dependencyConfigurationResolver)
+    {
+        return getUpstreamDependencies(rootProjectConfiguration, transitive, dependencyConfigurationResolver, null);
+    }
+
+    /**
+     * Get the upstream project dependencies of the given configuration, as
+     * {@link #getUpstreamDependencies(ProjectConfiguration, boolean, Function)} does, checking access to each project
+     * whose memoized configuration is used. The access checker is given the project id, and should throw if the
+     * caller may not access the project. It is called at most once per project for the call.
+     */
+    public Set<ProjectDependency> getUpstreamDependencies(ProjectConfiguration rootProjectConfiguration, boolean transitive, Function<? super ProjectDependency, ? extends ProjectConfiguration> dependencyConfigurationResolver, Consumer<? super String> accessChecker)
+    {
+        Consumer<String> checker;
+        if (accessChecker == null)
+        {
+            checker = null;
+        }
+        else
+        {
+            // concurrent checks of the same project wait for the first
+            ConcurrentMap<String, CompletableFuture<Void>> checks = new ConcurrentHashMap<>();
+            checker = projectId ->
+            {
+                CompletableFuture<Void> check = new CompletableFuture<>();
+                CompletableFuture<Void> existingCheck = checks.putIfAbsent(projectId, check);
+                if (existingCheck != null)
+                {
+                    join(existingCheck);
+                    return;
+                }
+                try
+                {
+                    accessChecker.accept(projectId);
+                    check.complete(null);
+                }
+                catch (Throwable t)
+                {
+                    check.completeExceptionally(t);
+                    throw t;
+                }
+            };
+        }
+        return DependencyOperations.getUpstreamDependencies(rootProjectConfiguration, transitive, d -> resolve(d, dependencyConfigurationResolver, checker), this.executor);
+    }
+
+    /**
+     * Resolve the configuration of a single dependency, using the memoized configuration if there is one.
+     */
+    public ProjectConfiguration resolve(ProjectDependency dependency, Function<? super ProjectDependency, ? extends ProjectConfiguration> dependencyConfigurationResolver)
+    {
+        return resolve(dependency, dependencyConfigurationResolver, null);
+    }
+
+    /**
+     * Resolve the configuration of a single dependency, using the memoized configuration if there is one. If the
+     * memoized configuration is used and the access checker is not null, it is called with the project id first.
+     */
+    public ProjectConfiguration resolve(ProjectDependency dependency, Function<? super ProjectDependency, ? extends ProjectConfiguration> dependencyConfigurationResolver, Consumer<? super String> accessChecker)
+    {
+        if (!isMemoizable(dependency))
+        {
+            return dependencyConfigurationResolver.apply(dependency);
+        }
+
+        String key = dependency.getProjectId() + ':' + dependency.getVersionId();
+        CompletableFuture<ProjectConfiguration> future;
+        boolean isResolver = false;
+        synchronized (this.configurations)
+        {
+            future = this.configurations.get(key);
+            if (future == null)
+            {
+                future = new CompletableFuture<>();
+                this.configurations.put(key, future);
+                isResolver = true;
+            }
+        }
+
+        if (isResolver)
+        {
+            try
+            {
+                ProjectConfiguration configuration = Objects.requireNonNull(dependencyConfigurationResolver.apply(dependency), "resolved configuration may not be null");
+                future.complete(configuration);
+                return configuration;
+            }
+            catch (Throwable t)
+            {
+                // failures are not memoized
+                synchronized (this.configurations)
+                {
+                    this.configurations.remove(key, future);
+                }
+                future.completeExceptionally(t);
+                throw t;
+            }
+        }
+
+        // the configuration was (or is being) resolved by another caller, so the resolver has not checked this one
+        if (accessChecker != null)
+        {
+            accessChecker.accept(dependency.getProjectId());
+        }
+        return join(future);
+    }
+
+    public int getCachedConfigurationCount()
+    {
+        synchronized (this.configurations)
+        {
+            return this.configurations.size();
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future)
+    {
+        try
+        {
+            return future.join();
+        }
+        catch (CompletionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isMemoizable(ProjectDependency dependency)
+    {
+        return (dependency.getProjectId() != null) && (dependency.getVersionId() != null) && VersionId.isValidVersionIdString(dependency.getVersionId());
+    }
+
+    private static Executor newExecutor(int parallelism)
+    {
+        int realParallelism = Math.max(1, parallelism);
+        AtomicInteger threadCounter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(realParallelism, realParallelism, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r ->
+        {
+            Thread thread = new Thread(r, "upstream-dependency-resolver-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
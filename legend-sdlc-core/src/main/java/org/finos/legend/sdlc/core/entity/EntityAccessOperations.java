@@ -25,6 +25,7 @@ import org.finos.legend.sdlc.tools.StringTools;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -84,22 +85,50 @@ public class EntityAccessOperations
 
     public static List<Entity> getEntities(ProjectFileAccessProvider.FileAccessContext fileAccessContext, Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> entityContentPredicate, boolean excludeInvalid)
     {
-        try (Stream<EntityProjectFile> stream = getEntityProjectFiles(fileAccessContext, entityPathPredicate, classifierPathPredicate, entityContentPredicate, excludeInvalid))
+        try (Stream<Entity> stream = streamEntities(fileAccessContext, entityPathPredicate, classifierPathPredicate, entityContentPredicate, excludeInvalid))
         {
-            return stream.map(excludeInvalid ? epf ->
-            {
-                try
-                {
-                    return epf.getEntity();
-                }
-                catch (Exception ignore)
-                {
-                    return null;
-                }
-            } : EntityProjectFile::getEntity).filter(Objects::nonNull).collect(Collectors.toList());
+            return stream.collect(Collectors.toList());
         }
     }
 
+    /**
+     * Stream the entities matching the given predicates. Entity files are read and deserialized lazily as the stream
+     * is consumed, so consumers which do not retain the entities never hold more than one in memory. The stream
+     * should be closed after use.
+     */
+    public static Stream<Entity> streamEntities(ProjectFileAccessProvider.FileAccessContext fileAccessContext, Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> entityContentPredicate, boolean excludeInvalid)
+    {
+        return toEntities(getEntityProjectFiles(fileAccessContext, entityPathPredicate, classifierPathPredicate, entityContentPredicate, excludeInvalid), excludeInvalid);
+    }
+
+    /**
+     * Map a stream of entity project files to their entities. If {@code excludeInvalid} is true, files which cannot
+     * be deserialized are skipped; otherwise, they cause the stream to fail.
+     */
+    public static Stream<Entity> toEntities(Stream<EntityProjectFile> entityProjectFiles, boolean excludeInvalid)
+    {
+        return toEntities(entityProjectFiles, EntityProjectFile::getEntity, excludeInvalid);
+    }
+
+    /**
+     * Map a stream of files to their entities, as {@link #toEntities(Stream, boolean)} does, for files of any type
+     * which the given function can read an entity from.
+     */
+    public static <T> Stream<Entity> toEntities(Stream<T> files, Function<? super T, ? extends Entity> getEntity, boolean excludeInvalid)
+    {
+        return files.<Entity>map(excludeInvalid ? file ->
+        {
+            try
+            {
+                return getEntity.apply(file);
+            }
+            catch (Exception ignore)
+            {
+                return null;
+            }
+        } : getEntity).filter(Objects::nonNull);
+    }
+
     public static List<String> getEntityPaths(ProjectFileAccessProvider.FileAccessContext fileAccessContext, Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> entityContentPredicate)
     {
         try (Stream<EntityProjectFile> stream = getEntityProjectFiles(fileAccessContext, entityPathPredicate, classifierPathPredicate, entityContentPredicate))
@@ -124,17 +153,17 @@ public class EntityAccessOperations
         {
             stream = stream.filter(excludeInvalid ? epf ->
             {
-                Entity entity;
+                String classifierPath;
                 try
                 {
-                    entity = epf.getEntity();
+                    classifierPath = epf.getClassifierPath();
                 }
                 catch (Exception ignore)
                 {
                     return false;
                 }
-                return classifierPathPredicate.test(entity.getClassifierPath());
-            } : epf -> classifierPathPredicate.test(epf.getEntity().getClassifierPath()));
+                return classifierPathPredicate.test(classifierPath);
+            } : epf -> classifierPathPredicate.test(epf.getClassifierPath()));
         }
         if (contentPredicate != null)
         {
@@ -0,0 +1,28 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.core.entity;
+
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A predicate on entity content which depends only on the entity's annotations, i.e., its "stereotypes" and
+ * "taggedValues" properties. Such a predicate can be evaluated by an {@link EntityIndex} without reading the rest of
+ * the entity content.
+ */
+@FunctionalInterface
+public interface EntityAnnotationPredicate extends Predicate<Map<String, ?>>
+{
+}
@@ -0,0 +1,231 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.core.entity;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.project.files.ProjectFileAccessProvider;
+import org.finos.legend.sdlc.project.structure.EntitySourceDirectory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Secondary index of the entities of a project at a single revision, recording for each entity file its entity path,
+ * classifier path and annotations (stereotypes and tagged values). The index is built with one pass over the entity
+ * files and is immutable thereafter, so it may be shared between threads and cached for as long as the revision is.
+ * Queries with path, classifier and {@link EntityAnnotationPredicate annotation} predicates are answered from the
+ * index, and only the matching entity files are fetched and deserialized again.
+ * <p>
+ * Query results are the same as those of the equivalent {@link EntityAccessOperations} scan over the same files, in
+ * the same order, including for entity files which cannot be deserialized.
+ */
+public class EntityIndex
+{
+    private static final String STEREOTYPES = "stereotypes";
+    private static final String TAGGED_VALUES = "taggedValues";
+
+    private final ProjectFileAccessProvider.FileAccessContext fileAccessContext;
+    private final ImmutableList<Entry> entries;
+
+    private EntityIndex(ProjectFileAccessProvider.FileAccessContext fileAccessContext, ImmutableList<Entry> entries)
+    {
+        this.fileAccessContext = fileAccessContext;
+        this.entries = entries;
+    }
+
+    public int size()
+    {
+        return this.entries.size();
+    }
+
+    public List<String> getEntityPaths(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> annotationPredicate)
+    {
+        return select(entityPathPredicate, classifierPathPredicate, annotationPredicate, false).collect(e -> e.entityPath);
+    }
+
+    public List<Entity> getEntities(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> annotationPredicate, boolean excludeInvalid)
+    {
+        MutableList<Entry> selected = select(entityPathPredicate, classifierPathPredicate, annotationPredicate, excludeInvalid);
+        if (!excludeInvalid)
+        {
+            return selected.collect(this::loadEntity);
+        }
+        return selected.collectIf(e -> e.valid, this::loadEntity);
+    }
+
+    /**
+     * Stream the matching entities. Entity files are fetched and deserialized lazily as the stream is consumed.
+     */
+    public Stream<Entity> streamEntities(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> annotationPredicate, boolean excludeInvalid)
+    {
+        Stream<Entry> selected = select(entityPathPredicate, classifierPathPredicate, annotationPredicate, excludeInvalid).stream();
+        return (excludeInvalid ? selected.filter(e -> e.valid) : selected).map(this::loadEntity);
+    }
+
+    private MutableList<Entry> select(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> annotationPredicate, boolean excludeInvalid)
+    {
+        MutableList<Entry> selected = Lists.mutable.empty();
+        for (Entry entry : this.entries)
+        {
+            if (((entityPathPredicate == null) || entityPathPredicate.test(entry.entityPath)) &&
+                    ((classifierPathPredicate == null) || matchesClassifierPath(entry, classifierPathPredicate, excludeInvalid)) &&
+                    ((annotationPredicate == null) || matchesAnnotations(entry, annotationPredicate, excludeInvalid)))
+            {
+                selected.add(entry);
+            }
+        }
+        return selected;
+    }
+
+    private boolean matchesClassifierPath(Entry entry, Predicate<String> classifierPathPredicate, boolean excludeInvalid)
+    {
+        if (entry.classifierPath != null)
+        {
+            return classifierPathPredicate.test(entry.classifierPath);
+        }
+        // the header could not be read: fail as a scan would, unless invalid entities are excluded
+        return !excludeInvalid && classifierPathPredicate.test(newEntityProjectFile(entry).getClassifierPath());
+    }
+
+    private boolean matchesAnnotations(Entry entry, Predicate<? super Map<String, ?>> annotationPredicate, boolean excludeInvalid)
+    {
+        if (entry.valid)
+        {
+            return annotationPredicate.test(entry.annotations);
+        }
+        // the entity could not be deserialized: fail as a scan would, unless invalid entities are excluded
+        return !excludeInvalid && annotationPredicate.test(newEntityProjectFile(entry).getEntity().getContent());
+    }
+
+    private Entity loadEntity(Entry entry)
+    {
+        return newEntityProjectFile(entry).getEntity();
+    }
+
+    private EntityProjectFile newEntityProjectFile(Entry entry)
+    {
+        ProjectFileAccessProvider.ProjectFile file = this.fileAccessContext.getFile(entry.filePath);
+        if (file == null)
+        {
+            throw new IllegalStateException("Indexed entity file " + entry.filePath + " no longer exists");
+        }
+        return new EntityProjectFile(entry.sourceDirectory, file);
+    }
+
+    /**
+     * Return whether an index can evaluate the given entity content predicate. This is the case if it is null or an
+     * {@link EntityAnnotationPredicate}; other content predicates require a full scan.
+     *
+     * @param entityContentPredicate entity content predicate (may be null)
+     * @return whether an index can evaluate the predicate
+     */
+    public static boolean canEvaluate(Predicate<?> entityContentPredicate)
+    {
+        return (entityContentPredicate == null) || (entityContentPredicate instanceof EntityAnnotationPredicate);
+    }
+
+    /**
+     * Build an index of the entities accessible through the given file access context. The context is retained to
+     * fetch matching entity files, so it must continue to serve the same files for as long as the index is used: for
+     * example, a context for a fixed commit.
+     *
+     * @param fileAccessContext file access context for a fixed revision
+     * @return entity index
+     */
+    public static EntityIndex build(ProjectFileAccessProvider.FileAccessContext fileAccessContext)
+    {
+        MutableList<Entry> entries = Lists.mutable.empty();
+        try (Stream<EntityProjectFile> stream = EntityAccessOperations.getEntityProjectFiles(fileAccessContext))
+        {
+            stream.forEach(epf -> entries.add(newEntry(epf)));
+        }
+        return new EntityIndex(fileAccessContext, entries.toImmutable());
+    }
+
+    private static Entry newEntry(EntityProjectFile entityProjectFile)
+    {
+        String entityPath = entityProjectFile.getEntityPath();
+        String filePath = entityProjectFile.getFile().getPath();
+        EntitySourceDirectory sourceDirectory = entityProjectFile.getSourceDirectory();
+        Entity entity;
+        try
+        {
+            entity = entityProjectFile.getEntity();
+        }
+        catch (Exception e)
+        {
+            String classifierPath;
+            try
+            {
+                classifierPath = entityProjectFile.getClassifierPath();
+            }
+            catch (Exception ignore)
+            {
+                classifierPath = null;
+            }
+            return new Entry(entityPath, sourceDirectory, filePath, classifierPath, null);
+        }
+        return new Entry(entityPath, sourceDirectory, filePath, entity.getClassifierPath(), getAnnotations(entity.getContent()));
+    }
+
+    private static Map<String, ?> getAnnotations(Map<String, ?> content)
+    {
+        Object stereotypes = content.get(STEREOTYPES);
+        Object taggedValues = content.get(TAGGED_VALUES);
+        if ((stereotypes == null) && (taggedValues == null))
+        {
+            return Collections.emptyMap();
+        }
+        MutableMap<String, Object> annotations = Maps.mutable.ofInitialCapacity(2);
+        if (stereotypes != null)
+        {
+            annotations.put(STEREOTYPES, stereotypes);
+        }
+        if (taggedValues != null)
+        {
+            annotations.put(TAGGED_VALUES, taggedValues);
+        }
+        return annotations.asUnmodifiable();
+    }
+
+    private static class Entry
+    {
+        private final String entityPath;
+        private final EntitySourceDirectory sourceDirectory;
+        private final String filePath;
+        private final String classifierPath;
+        private final Map<String, ?> annotations;
+        private final boolean valid;
+
+        private Entry(String entityPath, EntitySourceDirectory sourceDirectory, String filePath, String classifierPath, Map<String, ?> annotations)
+        {
+            this.entityPath = Objects.requireNonNull(entityPath, "entity path may not be null");
+            this.sourceDirectory = sourceDirectory;
+            this.filePath = filePath;
+            this.classifierPath = classifierPath;
+            this.annotations = annotations;
+            this.valid = (annotations != null);
+        }
+    }
+}
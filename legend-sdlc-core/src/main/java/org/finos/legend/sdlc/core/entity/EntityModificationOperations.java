@@ -18,6 +18,7 @@ import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.domain.model.entity.change.EntityChange;
@@ -372,12 +373,12 @@ public class EntityModificationOperations
                 }
 
                 Entity entity = Entity.newEntity(entityPath, change.getClassifierPath(), change.getContent());
-                EntitySourceDirectory sourceDirectory = projectStructure.findSourceDirectoryForEntity(entity);
-                if (sourceDirectory == null)
+                Pair<EntitySourceDirectory, byte[]> serialized = projectStructure.findSourceDirectoryAndSerializeEntity(entity);
+                if (serialized == null)
                 {
                     throw new LegendSDLCException("Unable to handle operation " + change + ": cannot serialize entity \"" + entityPath + "\"");
                 }
-                return ProjectFileOperation.addFile(sourceDirectory.entityPathToFilePath(change.getEntityPath()), sourceDirectory.serializeToBytes(entity));
+                return ProjectFileOperation.addFile(serialized.getOne().entityPathToFilePath(change.getEntityPath()), serialized.getTwo());
             }
             case DELETE:
             {
@@ -401,14 +402,14 @@ public class EntityModificationOperations
                     throw new LegendSDLCException("Unable to handle operation " + change + ": could not find entity \"" + entityPath + "\"");
                 }
 
-                EntitySourceDirectory newSourceDirectory = projectStructure.findSourceDirectoryForEntity(entity);
-                if (newSourceDirectory == null)
+                Pair<EntitySourceDirectory, byte[]> newSourceDirectoryAndSerialized = projectStructure.findSourceDirectoryAndSerializeEntity(entity);
+                if (newSourceDirectoryAndSerialized == null)
                 {
                     throw new LegendSDLCException("Unable to handle operation " + change + ": cannot serialize entity \"" + entityPath + "\"");
                 }
 
-                String newFilePath = newSourceDirectory.entityPathToFilePath(entityPath);
-                byte[] serialized = newSourceDirectory.serializeToBytes(entity);
+                String newFilePath = newSourceDirectoryAndSerialized.getOne().entityPathToFilePath(entityPath);
+                byte[] serialized = newSourceDirectoryAndSerialized.getTwo();
 
                 if (!currentFilePath.equals(newFilePath))
                 {
@@ -17,18 +17,22 @@ package org.finos.legend.sdlc.core.entity;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.project.files.ProjectFileAccessProvider;
 import org.finos.legend.sdlc.project.structure.EntitySourceDirectory;
+import org.finos.legend.sdlc.serialization.EntityHeader;
 
 import java.util.Objects;
 
 /**
- * A project file known to lie in an entity source directory, with lazy access to its entity path and (deserialized)
- * entity. Deserialization validates that the entity's declared path matches the path implied by the file location.
+ * A project file known to lie in an entity source directory, with lazy access to its entity path, classifier path and
+ * (deserialized) entity. Deserialization validates that the entity's declared path matches the path implied by the
+ * file location. The classifier path is read from the entity header where possible, without deserializing the full
+ * entity content.
  */
 public class EntityProjectFile
 {
     private final EntitySourceDirectory sourceDirectory;
     private final ProjectFileAccessProvider.ProjectFile file;
     private String path;
+    private String classifierPath;
     private Entity entity;
 
     public EntityProjectFile(EntitySourceDirectory sourceDirectory, ProjectFileAccessProvider.ProjectFile file)
@@ -37,6 +41,16 @@ public class EntityProjectFile
         this.file = file;
     }
 
+    public EntitySourceDirectory getSourceDirectory()
+    {
+        return this.sourceDirectory;
+    }
+
+    public ProjectFileAccessProvider.ProjectFile getFile()
+    {
+        return this.file;
+    }
+
     public synchronized String getEntityPath()
     {
         if (this.path == null)
@@ -46,6 +60,24 @@ public class EntityProjectFile
         return this.path;
     }
 
+    public synchronized String getClassifierPath()
+    {
+        if (this.entity != null)
+        {
+            return this.entity.getClassifierPath();
+        }
+        if (this.classifierPath == null)
+        {
+            EntityHeader header = this.sourceDirectory.deserializeHeader(this.file);
+            if (!Objects.equals(header.getPath(), getEntityPath()))
+            {
+                throw new RuntimeException("Expected entity path " + getEntityPath() + ", found " + header.getPath());
+            }
+            this.classifierPath = header.getClassifierPath();
+        }
+        return this.classifierPath;
+    }
+
     public synchronized Entity getEntity()
     {
         if (this.entity == null)
@@ -222,15 +222,16 @@ public class ProjectStructureUpdater
                         StringTools.appendThrowableMessageIfPresent(builder, e);
                         throw new LegendSDLCException(builder.toString(), e);
                     }
-                    EntitySourceDirectory newSourceDirectory = Iterate.detectWith(newEntityDirectories, EntitySourceDirectory::canSerialize, entity);
-                    if (newSourceDirectory == null)
+                    Pair<EntitySourceDirectory, byte[]> newSourceDirectoryAndBytes = newProjectStructure.findSourceDirectoryAndSerializeEntity(entity);
+                    if (newSourceDirectoryAndBytes == null)
                     {
                         throw new LegendSDLCException("Could not find a new source directory for entity " + entity.getPath() + ", currently in " + currentPath);
                     }
+                    EntitySourceDirectory newSourceDirectory = newSourceDirectoryAndBytes.getOne();
                     if (!currentSourceDirectory.equals(newSourceDirectory))
                     {
                         String newPath = newSourceDirectory.entityPathToFilePath(entity.getPath());
-                        byte[] newBytes = newSourceDirectory.serializeToBytes(entity);
+                        byte[] newBytes = newSourceDirectoryAndBytes.getTwo();
                         if (!newPath.equals(currentPath))
                         {
                             operations.add(ProjectFileOperation.moveFile(currentPath, newPath, newBytes));
@@ -0,0 +1,220 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.core.dependency;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
+import org.finos.legend.sdlc.domain.model.project.configuration.MetamodelDependency;
+import org.finos.legend.sdlc.domain.model.project.configuration.ProjectConfiguration;
+import org.finos.legend.sdlc.domain.model.project.configuration.ProjectDependency;
+import org.finos.legend.sdlc.domain.model.project.configuration.ProjectStructureVersion;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class TestUpstreamDependencyResolver
+{
+    private final MutableMap<String, ProjectConfiguration> configurations = Maps.mutable.empty();
+    private final ConcurrentHashMap<String, AtomicInteger> resolutionCounts = new ConcurrentHashMap<>();
+    private final Function<ProjectDependency, ProjectConfiguration> resolver = d ->
+    {
+        String key = d.getProjectId() + ':' + d.getVersionId();
+        this.resolutionCounts.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        ProjectConfiguration configuration = this.configurations.get(key);
+        if (configuration == null)
+        {
+            throw new IllegalStateException("Unknown dependency: " + key);
+        }
+        return configuration;
+    };
+
+    private ExecutorService executor;
+
+    /*
+        Path from x to y indicates that project x depends on project y
+
+        root
+         +-- A:1.0.0
+         |   +-- C:1.0.0
+         |   +-- D:1.0.0
+         |       +-- E:1.0.0
+         +-- B:1.0.0
+             +-- D:1.0.0*
+             +-- F:master-SNAPSHOT
+     */
+    @Before
+    public void setUp()
+    {
+        this.executor = Executors.newFixedThreadPool(4);
+        addConfiguration("A:1.0.0", "C:1.0.0", "D:1.0.0");
+        addConfiguration("B:1.0.0", "D:1.0.0", "F:master-SNAPSHOT");
+        addConfiguration("C:1.0.0");
+        addConfiguration("D:1.0.0", "E:1.0.0");
+        addConfiguration("E:1.0.0");
+        addConfiguration("F:master-SNAPSHOT");
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentMatchesSerial()
+    {
+        ProjectConfiguration root = newConfiguration("root", "A:1.0.0", "B:1.0.0");
+        Set<ProjectDependency> serial = DependencyOperations.getUpstreamDependencies(root, true, this.resolver);
+        Set<ProjectDependency> concurrent = DependencyOperations.getUpstreamDependencies(root, true, this.resolver, this.executor);
+        Assert.assertEquals(dependencies("A:1.0.0", "B:1.0.0", "C:1.0.0", "D:1.0.0", "E:1.0.0", "F:master-SNAPSHOT"), serial);
+        Assert.assertEquals(serial, concurrent);
+        Assert.assertEquals(dependencies("A:1.0.0", "B:1.0.0"), DependencyOperations.getUpstreamDependencies(root, false, this.resolver, this.executor));
+    }
+
+    @Test
+    public void testVersionsMemoizedAcrossCalls()
+    {
+        UpstreamDependencyResolver upstreamResolver = new UpstreamDependencyResolver(this.executor, 100);
+        ProjectConfiguration root = newConfiguration("root", "A:1.0.0", "B:1.0.0");
+
+        Set<ProjectDependency> first = upstreamResolver.getUpstreamDependencies(root, true, this.resolver);
+        Set<ProjectDependency> second = upstreamResolver.getUpstreamDependencies(root, true, this.resolver);
+        Assert.assertEquals(first, second);
+        Assert.assertEquals(5, upstreamResolver.getCachedConfigurationCount());
+        for (String versioned : new String[]{"A:1.0.0", "B:1.0.0", "C:1.0.0", "D:1.0.0", "E:1.0.0"})
+        {
+            Assert.assertEquals(versioned, 1, this.resolutionCounts.get(versioned).get());
+        }
+        Assert.assertEquals(2, this.resolutionCounts.get("F:master-SNAPSHOT").get());
+    }
+
+    @Test
+    public void testFailureNotMemoized()
+    {
+        UpstreamDependencyResolver upstreamResolver = new UpstreamDependencyResolver(this.executor, 100);
+        ProjectConfiguration root = newConfiguration("root", "A:1.0.0", "G:1.0.0");
+
+        IllegalStateException e = Assert.assertThrows(IllegalStateException.class, () -> upstreamResolver.getUpstreamDependencies(root, true, this.resolver));
+        Assert.assertEquals("Unknown dependency: G:1.0.0", e.getMessage());
+
+        addConfiguration("G:1.0.0");
+        Assert.assertEquals(dependencies("A:1.0.0", "C:1.0.0", "D:1.0.0", "E:1.0.0", "G:1.0.0"), upstreamResolver.getUpstreamDependencies(root, true, this.resolver));
+        Assert.assertEquals(2, this.resolutionCounts.get("G:1.0.0").get());
+    }
+
+    @Test
+    public void testMemoizedConfigurationsCheckAccess()
+    {
+        UpstreamDependencyResolver upstreamResolver = new UpstreamDependencyResolver(this.executor, 100);
+        ProjectConfiguration root = newConfiguration("root", "A:1.0.0", "B:1.0.0");
+        Set<ProjectDependency> expected = dependencies("A:1.0.0", "B:1.0.0", "C:1.0.0", "D:1.0.0", "E:1.0.0", "F:master-SNAPSHOT");
+
+        // nothing is memoized yet, so the resolver does all the checking
+        Set<String> checked = ConcurrentHashMap.newKeySet();
+        Assert.assertEquals(expected, upstreamResolver.getUpstreamDependencies(root, true, this.resolver, checked::add));
+        Assert.assertEquals(Collections.emptySet(), checked);
+
+        // memoized configurations are only used once access has been checked, once per project
+        ConcurrentHashMap<String, AtomicInteger> checkCounts = new ConcurrentHashMap<>();
+        Assert.assertEquals(expected, upstreamResolver.getUpstreamDependencies(root, true, this.resolver, id -> checkCounts.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet()));
+        Assert.assertEquals(Sets.mutable.with("A", "B", "C", "D", "E"), checkCounts.keySet());
+        checkCounts.forEach((id, count) -> Assert.assertEquals(id, 1, count.get()));
+
+        // a caller without access to a memoized project gets the access checker's error
+        IllegalStateException e = Assert.assertThrows(IllegalStateException.class, () -> upstreamResolver.getUpstreamDependencies(root, true, this.resolver, id ->
+        {
+            if ("D".equals(id))
+            {
+                throw new IllegalStateException("No access to " + id);
+            }
+        }));
+        Assert.assertEquals("No access to D", e.getMessage());
+    }
+
+    @Test
+    public void testMemoizationBounded()
+    {
+        UpstreamDependencyResolver upstreamResolver = new UpstreamDependencyResolver(this.executor, 2);
+        upstreamResolver.getUpstreamDependencies(newConfiguration("root", "A:1.0.0", "B:1.0.0"), true, this.resolver);
+        Assert.assertEquals(2, upstreamResolver.getCachedConfigurationCount());
+    }
+
+    private void addConfiguration(String dependency, String... dependencies)
+    {
+        ProjectDependency projectDependency = ProjectDependency.parseProjectDependency(dependency);
+        this.configurations.put(dependency, newConfiguration(projectDependency.getProjectId(), dependencies));
+    }
+
+    private static Set<ProjectDependency> dependencies(String... dependencies)
+    {
+        return ArrayAdapter.adapt(dependencies).collect(ProjectDependency::parseProjectDependency, Sets.mutable.empty());
+    }
+
+    private static ProjectConfiguration newConfiguration(String projectId, String... dependencies)
+    {
+        List<ProjectDependency> projectDependencies = Lists.mutable.withAll(dependencies(dependencies));
+        return new ProjectConfiguration()
+        {
+            @Override
+            public String getProjectId()
+            {
+                return projectId;
+            }
+
+            @Override
+            public ProjectStructureVersion getProjectStructureVersion()
+            {
+                return null;
+            }
+
+            @Override
+            public String getGroupId()
+            {
+                return null;
+            }
+
+            @Override
+            public String getArtifactId()
+            {
+                return null;
+            }
+
+            @Override
+            public List<ProjectDependency> getProjectDependencies()
+            {
+                return projectDependencies;
+            }
+
+            @Override
+            public List<MetamodelDependency> getMetamodelDependencies()
+            {
+                return Collections.emptyList();
+            }
+        };
+    }
+}
@@ -0,0 +1,202 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.core.entity;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.project.files.AbstractFileAccessContext;
+import org.finos.legend.sdlc.project.files.ProjectFileAccessProvider;
+import org.finos.legend.sdlc.project.files.ProjectFiles;
+import org.finos.legend.sdlc.project.files.ProjectPaths;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class TestEntityIndex
+{
+    private static final String CLASS = "meta::pure::metamodel::type::Class";
+    private static final String ENUMERATION = "meta::pure::metamodel::type::Enumeration";
+
+    private final MutableMap<String, String> files = Maps.mutable.empty();
+    private final MutableList<String> fetchedPaths = Lists.mutable.empty();
+    private final ProjectFileAccessProvider.FileAccessContext fileAccessContext = new AbstractFileAccessContext()
+    {
+        @Override
+        protected Stream<ProjectFileAccessProvider.ProjectFile> getFilesInCanonicalDirectories(MutableList<String> directories)
+        {
+            return TestEntityIndex.this.files.keyValuesView()
+                    .select(p -> ProjectPaths.ROOT_DIRECTORY.equals(directories.get(0)) || directories.anySatisfy(p.getOne()::startsWith))
+                    .collect(p -> ProjectFiles.newStringProjectFile(p.getOne(), p.getTwo()))
+                    .toList()
+                    .stream();
+        }
+
+        @Override
+        public ProjectFileAccessProvider.ProjectFile getFile(String path)
+        {
+            TestEntityIndex.this.fetchedPaths.add(path);
+            String content = TestEntityIndex.this.files.get(path);
+            return (content == null) ? null : ProjectFiles.newStringProjectFile(path, content);
+        }
+    };
+
+    @Before
+    public void setUp()
+    {
+        addEntity("model::domain", "Person", CLASS, "[{\"profile\": \"model::Profile\", \"value\": \"important\"}]", null);
+        addEntity("model::domain", "Firm", CLASS, null, "[{\"tag\": {\"profile\": \"model::Profile\", \"value\": \"doc\"}, \"value\": \"A firm\"}]");
+        addEntity("model::domain", "Country", ENUMERATION, null, null);
+        addEntity("model::other", "Thing", CLASS, "[{\"profile\": \"model::Profile\", \"value\": \"deprecated\"}]", null);
+    }
+
+    @Test
+    public void testIndexMatchesScan()
+    {
+        EntityIndex index = EntityIndex.build(this.fileAccessContext);
+        Assert.assertEquals(4, index.size());
+
+        assertMatchesScan(index, null, null, null);
+        assertMatchesScan(index, p -> p.startsWith("model::domain::"), null, null);
+        assertMatchesScan(index, null, CLASS::equals, null);
+        assertMatchesScan(index, null, null, stereotype("model::Profile.important"));
+        assertMatchesScan(index, p -> p.startsWith("model::"), CLASS::equals, taggedValue("model::Profile.doc"));
+
+        Assert.assertEquals(Lists.mutable.with("model::domain::Person", "model::other::Thing"), Lists.mutable.withAll(index.getEntityPaths(null, null, (EntityAnnotationPredicate) c -> c.containsKey("stereotypes"))).sortThis());
+    }
+
+    @Test
+    public void testOnlyMatchingFilesFetched()
+    {
+        EntityIndex index = EntityIndex.build(this.fileAccessContext);
+        this.fetchedPaths.clear();
+
+        Assert.assertEquals(Lists.mutable.with("model::domain::Country"), index.getEntityPaths(null, ENUMERATION::equals, null));
+        Assert.assertEquals(Lists.mutable.empty(), this.fetchedPaths);
+
+        List<Entity> entities = index.getEntities(null, ENUMERATION::equals, null, false);
+        Assert.assertEquals(1, entities.size());
+        Assert.assertEquals("model::domain::Country", entities.get(0).getPath());
+        Assert.assertEquals(Lists.mutable.with("/entities/model/domain/Country.json"), this.fetchedPaths);
+    }
+
+    @Test
+    public void testInvalidEntities()
+    {
+        // valid header but invalid content
+        this.files.put("/entities/model/domain/Broken.json", "{\"classifierPath\": \"" + CLASS + "\", \"content\": {\"name\": \"Broken\", \"package\": \"model::domain\", \"properties\": [}");
+        EntityIndex index = EntityIndex.build(this.fileAccessContext);
+        Assert.assertEquals(5, index.size());
+
+        assertMatchesScan(index, null, null, null);
+        assertMatchesScan(index, p -> !p.endsWith("::Broken"), CLASS::equals, stereotype("model::Profile.important"));
+        Assert.assertEquals(
+                EntityAccessOperations.getEntityPaths(this.fileAccessContext, null, CLASS::equals, null),
+                index.getEntityPaths(null, CLASS::equals, null));
+        Assert.assertTrue(index.getEntityPaths(null, CLASS::equals, null).contains("model::domain::Broken"));
+
+        Assert.assertThrows(Exception.class, () -> EntityAccessOperations.getEntities(this.fileAccessContext, null, null, null, false));
+        Assert.assertThrows(Exception.class, () -> index.getEntities(null, null, null, false));
+        Assert.assertThrows(Exception.class, () -> EntityAccessOperations.getEntityPaths(this.fileAccessContext, null, null, stereotype("model::Profile.important")));
+        Assert.assertThrows(Exception.class, () -> index.getEntityPaths(null, null, stereotype("model::Profile.important")));
+
+        // declared path does not match file path, so not even the header is valid
+        this.files.put("/entities/model/domain/Misplaced.json", entityJson("model::elsewhere", "Misplaced", CLASS, null, null));
+        EntityIndex index2 = EntityIndex.build(this.fileAccessContext);
+        Assert.assertEquals(6, index2.size());
+
+        assertMatchesScan(index2, null, null, null);
+        Assert.assertThrows(Exception.class, () -> EntityAccessOperations.getEntityPaths(this.fileAccessContext, null, CLASS::equals, null));
+        Assert.assertThrows(Exception.class, () -> index2.getEntityPaths(null, CLASS::equals, null));
+    }
+
+    @Test
+    public void testCanEvaluate()
+    {
+        Assert.assertTrue(EntityIndex.canEvaluate(null));
+        Assert.assertTrue(EntityIndex.canEvaluate(stereotype("model::Profile.important")));
+        Predicate<Map<String, ?>> contentPredicate = c -> c.containsKey("properties");
+        Assert.assertFalse(EntityIndex.canEvaluate(contentPredicate));
+    }
+
+    private void assertMatchesScan(EntityIndex index, Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, EntityAnnotationPredicate annotationPredicate)
+    {
+        Assert.assertEquals(
+                EntityAccessOperations.getEntityPaths(this.fileAccessContext, entityPathPredicate, classifierPathPredicate, annotationPredicate),
+                index.getEntityPaths(entityPathPredicate, classifierPathPredicate, annotationPredicate));
+        List<Entity> expected = EntityAccessOperations.getEntities(this.fileAccessContext, entityPathPredicate, classifierPathPredicate, annotationPredicate, true);
+        List<Entity> actual = index.getEntities(entityPathPredicate, classifierPathPredicate, annotationPredicate, true);
+        Assert.assertEquals(ListIterate.collect(expected, Entity::getPath), ListIterate.collect(actual, Entity::getPath));
+        try (Stream<Entity> stream = index.streamEntities(entityPathPredicate, classifierPathPredicate, annotationPredicate, true))
+        {
+            Assert.assertEquals(ListIterate.collect(expected, Entity::getPath), stream.map(Entity::getPath).collect(Collectors.toList()));
+        }
+        for (int i = 0; i < expected.size(); i++)
+        {
+            Assert.assertEquals(expected.get(i).getClassifierPath(), actual.get(i).getClassifierPath());
+            Assert.assertEquals(expected.get(i).getContent(), actual.get(i).getContent());
+        }
+    }
+
+    private void addEntity(String pkg, String name, String classifierPath, String stereotypes, String taggedValues)
+    {
+        this.files.put("/entities/" + pkg.replace("::", "/") + "/" + name + ".json", entityJson(pkg, name, classifierPath, stereotypes, taggedValues));
+    }
+
+    private static String entityJson(String pkg, String name, String classifierPath, String stereotypes, String taggedValues)
+    {
+        StringBuilder builder = new StringBuilder("{\"classifierPath\": \"").append(classifierPath).append("\", \"content\": {");
+        builder.append("\"name\": \"").append(name).append("\", \"package\": \"").append(pkg).append('"');
+        if (stereotypes != null)
+        {
+            builder.append(", \"stereotypes\": ").append(stereotypes);
+        }
+        if (taggedValues != null)
+        {
+            builder.append(", \"taggedValues\": ").append(taggedValues);
+        }
+        return builder.append("}}").toString();
+    }
+
+    private static EntityAnnotationPredicate stereotype(String stereotype)
+    {
+        return content ->
+        {
+            Object stereotypes = content.get("stereotypes");
+            return (stereotypes instanceof List) && ((List<?>) stereotypes).stream()
+                    .anyMatch(s -> (s instanceof Map) && stereotype.equals(((Map<?, ?>) s).get("profile") + "." + ((Map<?, ?>) s).get("value")));
+        };
+    }
+
+    private static EntityAnnotationPredicate taggedValue(String tag)
+    {
+        return content ->
+        {
+            Object taggedValues = content.get("taggedValues");
+            return (taggedValues instanceof List) && ((List<?>) taggedValues).stream()
+                    .map(tv -> (tv instanceof Map) ? ((Map<?, ?>) tv).get("tag") : null)
+                    .anyMatch(t -> (t instanceof Map) && tag.equals(((Map<?, ?>) t).get("profile") + "." + ((Map<?, ?>) t).get("value")));
+        };
+    }
+}
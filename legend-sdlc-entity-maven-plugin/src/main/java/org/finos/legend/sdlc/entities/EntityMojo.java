@@ -21,6 +21,7 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.finos.legend.sdlc.serialization.EntityArchive;
 import org.finos.legend.sdlc.serialization.EntitySerializer;
 import org.finos.legend.sdlc.serialization.EntitySerializers;
 
@@ -35,6 +36,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 @Mojo(name = "process-entities", defaultPhase = LifecyclePhase.COMPILE)
 public class EntityMojo extends AbstractMojo
@@ -51,6 +53,12 @@ public class EntityMojo extends AbstractMojo
     @Parameter(defaultValue = "true")
     public boolean enforceOneEntityPerFile;
 
+    @Parameter(defaultValue = "true")
+    public boolean writeEntityArchive;
+
+    @Parameter(defaultValue = "false")
+    public boolean compressEntityArchive;
+
     @Override
     public void execute() throws MojoExecutionException
     {
@@ -95,10 +103,87 @@ public class EntityMojo extends AbstractMojo
                 throw new MojoExecutionException(builder.toString(), e);
             }
         }
+        if (this.writeEntityArchive)
+        {
+            writeEntityArchive(outputSerializer);
+        }
+        else
+        {
+            deleteEntityArchive();
+        }
         long end = System.nanoTime();
         getLog().info(String.format("Finished processing %,d entities (%.9fs)", totalCount, nanoDuration(start, end)));
     }
 
+    private void writeEntityArchive(EntitySerializer serializer) throws MojoExecutionException
+    {
+        long archiveStart = System.nanoTime();
+        Path outputPath = this.outputDirectory.toPath();
+        Path entitiesDirectory = outputPath.resolve("entities");
+        Path archivePath = outputPath.resolve(EntityArchive.DEFAULT_FILE_NAME);
+        getLog().info("Writing entity archive " + archivePath);
+        try
+        {
+            EntityArchive.Writer writer = EntityArchive.newWriter().withCompression(this.compressEntityArchive);
+            if (Files.isDirectory(entitiesDirectory))
+            {
+                String extension = "." + serializer.getDefaultFileExtension();
+                try (Stream<Path> stream = Files.walk(entitiesDirectory))
+                {
+                    for (Path file : (Iterable<Path>) stream.filter(p -> p.getFileName().toString().endsWith(extension) && Files.isRegularFile(p))::iterator)
+                    {
+                        writer.addSerializedEntity(Files.readAllBytes(file));
+                    }
+                }
+            }
+            if (writer.size() == 0)
+            {
+                // no entities: remove any stale archive rather than writing an empty one
+                Files.deleteIfExists(archivePath);
+                getLog().info("No entities: no entity archive written");
+                return;
+            }
+            writer.write(archivePath);
+            long archiveEnd = System.nanoTime();
+            getLog().info(String.format("Finished writing %,d entities to entity archive %s (%.9fs)", writer.size(), archivePath, nanoDuration(archiveStart, archiveEnd)));
+        }
+        catch (Exception e)
+        {
+            long archiveEnd = System.nanoTime();
+            getLog().info(String.format("Error writing entity archive %s (%.9fs)", archivePath, nanoDuration(archiveStart, archiveEnd)), e);
+            StringBuilder builder = new StringBuilder("Error writing entity archive ").append(archivePath);
+            String eMessage = e.getMessage();
+            if (eMessage != null)
+            {
+                builder.append(": ").append(eMessage);
+            }
+            throw new MojoExecutionException(builder.toString(), e);
+        }
+    }
+
+    private void deleteEntityArchive() throws MojoExecutionException
+    {
+        // an archive left by an earlier build would take precedence over the entity files when loading
+        Path archivePath = this.outputDirectory.toPath().resolve(EntityArchive.DEFAULT_FILE_NAME);
+        try
+        {
+            if (Files.deleteIfExists(archivePath))
+            {
+                getLog().info("Deleted stale entity archive " + archivePath);
+            }
+        }
+        catch (Exception e)
+        {
+            StringBuilder builder = new StringBuilder("Error deleting stale entity archive ").append(archivePath);
+            String eMessage = e.getMessage();
+            if (eMessage != null)
+            {
+                builder.append(": ").append(eMessage);
+            }
+            throw new MojoExecutionException(builder.toString(), e);
+        }
+    }
+
     private List<SerializationSpec> getSerializationSpecs() throws MojoExecutionException
     {
         Map<String, EntitySerializer> entitySerializers = EntitySerializers.getAvailableSerializersByName();
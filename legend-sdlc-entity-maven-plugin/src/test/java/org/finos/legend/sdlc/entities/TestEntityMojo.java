@@ -18,8 +18,10 @@ import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.testing.MojoRule;
 import org.apache.maven.project.MavenProject;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.serialization.EntityArchive;
 import org.finos.legend.sdlc.tools.entity.EntityPaths;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -33,6 +35,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
 public class TestEntityMojo
 {
@@ -72,7 +75,7 @@ public class TestEntityMojo
 
         Map<String, Entity> expectedEntities = TestHelper.loadEntities(TestHelper.getPathFromResource("simple-json-model"));
         TestHelper.assertDirectoryTreeFilePaths(
-                Iterate.collect(expectedEntities.keySet(), p -> Paths.get("entities" + outputDir.getFileSystem().getSeparator() + p.replace(EntityPaths.PACKAGE_SEPARATOR, outputDir.getFileSystem().getSeparator()) + ".json"), Sets.mutable.empty()),
+                getExpectedOutputFilePaths(expectedEntities.keySet(), outputDir),
                 outputDir);
         Map<String, Entity> actualEntities = TestHelper.loadEntities(outputDir);
         TestHelper.assertEntitiesByPathEqual(expectedEntities, actualEntities);
@@ -149,12 +152,37 @@ public class TestEntityMojo
 
         Map<String, Entity> expectedEntities = TestHelper.loadEntities(simpleJsonModelDir);
         TestHelper.assertDirectoryTreeFilePaths(
-                Iterate.collect(expectedEntities.keySet(), p -> Paths.get("entities" + outputDir.getFileSystem().getSeparator() + p.replace(EntityPaths.PACKAGE_SEPARATOR, outputDir.getFileSystem().getSeparator()) + ".json"), Sets.mutable.empty()),
+                getExpectedOutputFilePaths(expectedEntities.keySet(), outputDir),
                 outputDir);
         Map<String, Entity> actualEntities = TestHelper.loadEntities(outputDir);
         TestHelper.assertEntitiesByPathEqual(expectedEntities, actualEntities);
     }
 
+    @Test
+    public void testNoEntityArchiveRemovesStaleArchive() throws Exception
+    {
+        File projectDir = this.tempFolder.newFolder();
+        copyPomFromResource("poms/legend-source-directory-no-archive.xml", projectDir);
+        MavenProject mavenProject = this.mojoRule.readMavenProject(projectDir);
+        Path outputDir = new File(mavenProject.getBuild().getOutputDirectory()).toPath();
+        Path srcMain = projectDir.toPath().resolve("src").resolve("main");
+
+        Path simpleJsonModelDir = TestHelper.getPathFromResource("simple-json-model");
+        TestHelper.copyDirectoryTree(simpleJsonModelDir.resolve("entities"), Files.createDirectories(srcMain.resolve("legend")));
+
+        // an archive left by an earlier build must not survive, since it would be loaded instead of the entity files
+        Path archivePath = Files.createDirectories(outputDir).resolve(EntityArchive.DEFAULT_FILE_NAME);
+        Files.write(archivePath, new byte[]{1, 2, 3});
+        this.mojoRule.executeMojo(projectDir, GOAL);
+        Assert.assertFalse(Files.exists(archivePath));
+
+        Map<String, Entity> expectedEntities = TestHelper.loadEntities(simpleJsonModelDir);
+        Set<Path> expectedPaths = getExpectedOutputFilePaths(expectedEntities.keySet(), outputDir);
+        expectedPaths.remove(Paths.get(EntityArchive.DEFAULT_FILE_NAME));
+        TestHelper.assertDirectoryTreeFilePaths(expectedPaths, outputDir);
+        TestHelper.assertEntitiesByPathEqual(expectedEntities, TestHelper.loadEntities(outputDir));
+    }
+
     @Test
     public void testPureSource() throws Exception
     {
@@ -182,7 +210,7 @@ public class TestEntityMojo
 
         Map<String, Entity> expectedEntities = TestHelper.loadEntities(TestHelper.getPathFromResource("simple-json-model"));
         TestHelper.assertDirectoryTreeFilePaths(
-                Iterate.collect(expectedEntities.keySet(), p -> Paths.get("entities" + outputDir.getFileSystem().getSeparator() + p.replace(EntityPaths.PACKAGE_SEPARATOR, outputDir.getFileSystem().getSeparator()) + ".json"), Sets.mutable.empty()),
+                getExpectedOutputFilePaths(expectedEntities.keySet(), outputDir),
                 outputDir);
         Map<String, Entity> actualEntities = TestHelper.loadEntities(outputDir);
         TestHelper.assertEntitiesByPathEqual(expectedEntities, actualEntities);
@@ -203,7 +231,7 @@ public class TestEntityMojo
 
         Map<String, Entity> expectedEntities = TestHelper.loadEntities(TestHelper.getPathFromResource("single-file-json-model"));
         TestHelper.assertDirectoryTreeFilePaths(
-                Iterate.collect(expectedEntities.keySet(), p -> Paths.get("entities" + outputDir.getFileSystem().getSeparator() + p.replace(EntityPaths.PACKAGE_SEPARATOR, outputDir.getFileSystem().getSeparator()) + ".json"), Sets.mutable.empty()),
+                getExpectedOutputFilePaths(expectedEntities.keySet(), outputDir),
                 outputDir);
         Map<String, Entity> actualEntities = TestHelper.loadEntities(outputDir);
         TestHelper.assertEntitiesByPathEqual(expectedEntities, actualEntities);
@@ -241,7 +269,7 @@ public class TestEntityMojo
 
         Map<String, Entity> expectedEntities = TestHelper.loadEntities(TestHelper.getPathFromResource("simple-json-model"));
         TestHelper.assertDirectoryTreeFilePaths(
-                Iterate.collect(expectedEntities.keySet(), p -> Paths.get("entities" + outputDir.getFileSystem().getSeparator() + p.replace(EntityPaths.PACKAGE_SEPARATOR, outputDir.getFileSystem().getSeparator()) + ".json"), Sets.mutable.empty()),
+                getExpectedOutputFilePaths(expectedEntities.keySet(), outputDir),
                 outputDir);
         Map<String, Entity> actualEntities = TestHelper.loadEntities(outputDir);
         TestHelper.assertEntitiesByPathEqual(expectedEntities, actualEntities);
@@ -263,7 +291,7 @@ public class TestEntityMojo
 
         Map<String, Entity> expectedEntities = TestHelper.loadEntities(TestHelper.getPathFromResource("simple-json-model"));
         TestHelper.assertDirectoryTreeFilePaths(
-                Iterate.collect(expectedEntities.keySet(), p -> Paths.get("entities" + outputDir.getFileSystem().getSeparator() + p.replace(EntityPaths.PACKAGE_SEPARATOR, outputDir.getFileSystem().getSeparator()) + ".json"), Sets.mutable.empty()),
+                getExpectedOutputFilePaths(expectedEntities.keySet(), outputDir),
                 outputDir);
         Map<String, Entity> actualEntities = TestHelper.loadEntities(outputDir);
         TestHelper.assertEntitiesByPathEqual(expectedEntities, actualEntities);
@@ -287,6 +315,17 @@ public class TestEntityMojo
         Assert.assertEquals(expectedMessage, e.getMessage());
     }
 
+    private static Set<Path> getExpectedOutputFilePaths(Set<String> entityPaths, Path outputDir)
+    {
+        String separator = outputDir.getFileSystem().getSeparator();
+        MutableSet<Path> paths = Iterate.collect(entityPaths, p -> Paths.get("entities" + separator + p.replace(EntityPaths.PACKAGE_SEPARATOR, separator) + ".json"), Sets.mutable.empty());
+        if (paths.notEmpty())
+        {
+            paths.add(Paths.get(EntityArchive.DEFAULT_FILE_NAME));
+        }
+        return paths;
+    }
+
     private void copyPomFromResource(String resourceName, File targetDir) throws IOException
     {
         copyPomFromResource(resourceName, targetDir.toPath());
@@ -16,6 +16,9 @@ package org.finos.legend.sdlc.serialization;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.StreamReadFeature;
 import com.fasterxml.jackson.core.StreamWriteFeature;
 import com.fasterxml.jackson.databind.JavaType;
@@ -117,8 +120,92 @@ public class DefaultJsonEntitySerializer implements EntityTextSerializer
         return toEntity(JSON_MAPPER.readValue(content, ENTITY_FILE_TYPE));
     }
 
+    @Override
+    public EntityHeader deserializeHeader(InputStream stream) throws IOException
+    {
+        try (JsonParser parser = JSON_MAPPER.getFactory().createParser(stream))
+        {
+            return readHeader(parser);
+        }
+    }
+
+    @Override
+    public EntityHeader deserializeHeader(byte[] content) throws IOException
+    {
+        try (JsonParser parser = JSON_MAPPER.getFactory().createParser(content))
+        {
+            return readHeader(parser);
+        }
+    }
+
     // Helpers
 
+    private static EntityHeader readHeader(JsonParser parser) throws IOException
+    {
+        if (parser.nextToken() != JsonToken.START_OBJECT)
+        {
+            throw new JsonParseException(parser, "Expected start of entity object");
+        }
+
+        // since entity files are written with sorted keys, classifierPath comes before content, and within content,
+        // name and package come before the (usually much larger) remainder, so we can normally stop early
+        String classifierPath = null;
+        String pkg = null;
+        String name = null;
+        boolean pkgFound = false;
+        boolean contentRead = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("classifierPath".equals(field))
+            {
+                classifierPath = (token == JsonToken.VALUE_STRING) ? parser.getText() : null;
+                parser.skipChildren();
+            }
+            else if ("content".equals(field) && (token == JsonToken.START_OBJECT))
+            {
+                while (parser.nextToken() == JsonToken.FIELD_NAME)
+                {
+                    String contentField = parser.getCurrentName();
+                    JsonToken contentToken = parser.nextToken();
+                    if ("name".equals(contentField))
+                    {
+                        name = (contentToken == JsonToken.VALUE_STRING) ? parser.getText() : null;
+                    }
+                    else if ("package".equals(contentField))
+                    {
+                        if ((contentToken != JsonToken.VALUE_STRING) && (contentToken != JsonToken.VALUE_NULL))
+                        {
+                            throw new RuntimeException("Could not compute entity path");
+                        }
+                        pkg = (contentToken == JsonToken.VALUE_STRING) ? parser.getText() : null;
+                        pkgFound = true;
+                    }
+                    parser.skipChildren();
+                    if ((classifierPath != null) && (name != null) && pkgFound)
+                    {
+                        return EntityHeader.newEntityHeader(classifierPath, pkg, name);
+                    }
+                }
+                contentRead = true;
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+            if ((classifierPath != null) && contentRead)
+            {
+                break;
+            }
+        }
+        if (name == null)
+        {
+            throw new RuntimeException("Could not compute entity path");
+        }
+        return EntityHeader.newEntityHeader(classifierPath, pkg, name);
+    }
+
     private static EntityFile toEntityFile(Entity entity)
     {
         return EntityFile.newEntityFile(entity.getClassifierPath(), entity.getContent());
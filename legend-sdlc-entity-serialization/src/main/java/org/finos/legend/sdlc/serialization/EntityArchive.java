@@ -0,0 +1,479 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.serialization;
+
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.tools.entity.EntityPaths;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Packed archive of entities, serialized with the default JSON serializer. The archive is a single file with a header
+ * and an index of entity path, classifier path, offset and length for each entity, followed by the concatenated
+ * (optionally deflated) entity files. Entities are sorted by path, so a single entity or all the entities of a package
+ * can be found by binary search of the index. Only the index is decoded when the archive is read; entity content is
+ * only decoded on access.
+ * <p>
+ * An archive on the default file system is memory-mapped; otherwise (for example, in a jar) it is read into memory in
+ * one read. Instances are immutable and safe for concurrent use.
+ */
+public class EntityArchive
+{
+    public static final String DEFAULT_FILE_NAME = "entities.pack";
+
+    // "LENT"
+    private static final int MAGIC = 0x4C454E54;
+    private static final int FORMAT_VERSION = 1;
+    private static final int FLAG_COMPRESSED = 0x1;
+    // magic, version, flags, entry count, index length
+    private static final int HEADER_LENGTH = 5 * Integer.BYTES;
+
+    private static final EntitySerializer ENTITY_SERIALIZER = EntitySerializers.getDefaultJsonSerializer();
+
+    private final ByteBuffer buffer;
+    private final int dataStart;
+    private final boolean compressed;
+    private final String[] entityPaths;
+    private final String[] classifierPaths;
+    private final int[] offsets;
+    private final int[] storedLengths;
+    private final int[] lengths;
+
+    private EntityArchive(ByteBuffer buffer, int dataStart, boolean compressed, String[] entityPaths, String[] classifierPaths, int[] offsets, int[] storedLengths, int[] lengths)
+    {
+        this.buffer = buffer;
+        this.dataStart = dataStart;
+        this.compressed = compressed;
+        this.entityPaths = entityPaths;
+        this.classifierPaths = classifierPaths;
+        this.offsets = offsets;
+        this.storedLengths = storedLengths;
+        this.lengths = lengths;
+    }
+
+    public int size()
+    {
+        return this.entityPaths.length;
+    }
+
+    public boolean isCompressed()
+    {
+        return this.compressed;
+    }
+
+    public boolean hasEntity(String entityPath)
+    {
+        return indexOf(entityPath) >= 0;
+    }
+
+    /**
+     * Get the paths of all entities in the archive, in sorted order.
+     *
+     * @return entity paths
+     */
+    public List<String> getEntityPaths()
+    {
+        return Collections.unmodifiableList(Arrays.asList(this.entityPaths));
+    }
+
+    /**
+     * Get the paths of all entities in a package (including sub-packages), in sorted order.
+     *
+     * @param packagePath package path
+     * @return entity paths
+     */
+    public List<String> getEntityPathsInPackage(String packagePath)
+    {
+        if (EntityPaths.PACKAGE_SEPARATOR.equals(packagePath))
+        {
+            return getEntityPaths();
+        }
+        String prefix = packagePath + EntityPaths.PACKAGE_SEPARATOR;
+        int start = Arrays.binarySearch(this.entityPaths, prefix);
+        if (start < 0)
+        {
+            start = -(start + 1);
+        }
+        int end = start;
+        while ((end < this.entityPaths.length) && this.entityPaths[end].startsWith(prefix))
+        {
+            end++;
+        }
+        return Collections.unmodifiableList(Arrays.asList(this.entityPaths).subList(start, end));
+    }
+
+    /**
+     * Get the classifier path of an entity from the index, without decoding the entity. Returns null if there is no
+     * such entity in the archive.
+     *
+     * @param entityPath entity path
+     * @return classifier path or null
+     */
+    public String getClassifierPath(String entityPath)
+    {
+        int index = indexOf(entityPath);
+        return (index < 0) ? null : this.classifierPaths[index];
+    }
+
+    /**
+     * Get an entity by path. Returns null if there is no such entity in the archive.
+     *
+     * @param entityPath entity path
+     * @return entity or null
+     * @throws UncheckedIOException if the entity cannot be decoded
+     */
+    public Entity getEntity(String entityPath)
+    {
+        int index = indexOf(entityPath);
+        if (index < 0)
+        {
+            return null;
+        }
+        try
+        {
+            return ENTITY_SERIALIZER.deserialize(getEntityContent(index));
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error reading entity " + entityPath + " from archive", e);
+        }
+    }
+
+    /**
+     * Get an entity by path, without deserializing its content. Returns null if there is no such entity in the archive.
+     *
+     * @param entityPath entity path
+     * @return serialized entity or null
+     * @throws UncheckedIOException if the entity cannot be decoded
+     */
+    public SerializedEntity getSerializedEntity(String entityPath)
+    {
+        int index = indexOf(entityPath);
+        if (index < 0)
+        {
+            return null;
+        }
+        try
+        {
+            return SerializedEntity.newSerializedEntity(this.entityPaths[index], this.classifierPaths[index], getEntityContent(index));
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Error reading entity " + entityPath + " from archive", e);
+        }
+    }
+
+    public Stream<Entity> getEntities()
+    {
+        return getEntityPaths().stream().map(this::getEntity);
+    }
+
+    public Stream<Entity> getEntitiesInPackage(String packagePath)
+    {
+        return getEntityPathsInPackage(packagePath).stream().map(this::getEntity);
+    }
+
+    private int indexOf(String entityPath)
+    {
+        return (entityPath == null) ? -1 : Arrays.binarySearch(this.entityPaths, entityPath);
+    }
+
+    private byte[] getEntityContent(int index) throws IOException
+    {
+        ByteBuffer entryBuffer = this.buffer.duplicate();
+        entryBuffer.position(this.dataStart + this.offsets[index]);
+        byte[] stored = new byte[this.storedLengths[index]];
+        entryBuffer.get(stored);
+        if (!this.compressed)
+        {
+            return stored;
+        }
+
+        Inflater inflater = new Inflater();
+        try
+        {
+            inflater.setInput(stored);
+            byte[] content = new byte[this.lengths[index]];
+            int read = 0;
+            while (read < content.length)
+            {
+                int count = inflater.inflate(content, read, content.length - read);
+                if (count == 0)
+                {
+                    break;
+                }
+                read += count;
+            }
+            if (read != content.length)
+            {
+                throw new IOException("Corrupt archive entry for " + this.entityPaths[index]);
+            }
+            return content;
+        }
+        catch (DataFormatException e)
+        {
+            throw new IOException("Corrupt archive entry for " + this.entityPaths[index], e);
+        }
+        finally
+        {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Read an entity archive from a file. A file on the default file system is memory-mapped; otherwise, the file is
+     * read into memory.
+     *
+     * @param path archive file path
+     * @return entity archive
+     * @throws IOException if the file cannot be read or is not a valid archive
+     */
+    public static EntityArchive read(Path path) throws IOException
+    {
+        if (path.getFileSystem() != FileSystems.getDefault())
+        {
+            return read(Files.readAllBytes(path));
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+            {
+                throw new IOException("Entity archive is too large: " + path);
+            }
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    public static EntityArchive read(byte[] bytes) throws IOException
+    {
+        return read(ByteBuffer.wrap(bytes));
+    }
+
+    private static EntityArchive read(ByteBuffer buffer) throws IOException
+    {
+        ByteBuffer readOnlyBuffer = buffer.asReadOnlyBuffer();
+        ByteBuffer header = readOnlyBuffer.duplicate();
+        if (header.remaining() < HEADER_LENGTH)
+        {
+            throw new IOException("Invalid entity archive: too short");
+        }
+        if (header.getInt() != MAGIC)
+        {
+            throw new IOException("Invalid entity archive: unknown format");
+        }
+        int version = header.getInt();
+        if (version != FORMAT_VERSION)
+        {
+            throw new IOException("Unsupported entity archive version: " + version);
+        }
+        int flags = header.getInt();
+        int count = header.getInt();
+        int indexLength = header.getInt();
+        if ((count < 0) || (indexLength < 0) || (indexLength > header.remaining()))
+        {
+            throw new IOException("Invalid entity archive: invalid index");
+        }
+        byte[] index = new byte[indexLength];
+        header.get(index);
+        int dataStart = header.position();
+        int dataLength = header.remaining();
+
+        String[] entityPaths = new String[count];
+        String[] classifierPaths = new String[count];
+        int[] offsets = new int[count];
+        int[] storedLengths = new int[count];
+        int[] lengths = new int[count];
+        DataInputStream indexStream = new DataInputStream(new ByteArrayInputStream(index));
+        for (int i = 0; i < count; i++)
+        {
+            entityPaths[i] = indexStream.readUTF();
+            classifierPaths[i] = indexStream.readUTF();
+            offsets[i] = indexStream.readInt();
+            storedLengths[i] = indexStream.readInt();
+            lengths[i] = indexStream.readInt();
+            if ((offsets[i] < 0) || (storedLengths[i] < 0) || (lengths[i] < 0) || (offsets[i] > (dataLength - storedLengths[i])))
+            {
+                throw new IOException("Invalid entity archive: invalid entry for " + entityPaths[i]);
+            }
+            if ((i > 0) && (entityPaths[i - 1].compareTo(entityPaths[i]) >= 0))
+            {
+                throw new IOException("Invalid entity archive: entries out of order at " + entityPaths[i]);
+            }
+        }
+        return new EntityArchive(readOnlyBuffer, dataStart, (flags & FLAG_COMPRESSED) != 0, entityPaths, classifierPaths, offsets, storedLengths, lengths);
+    }
+
+    public static Writer newWriter()
+    {
+        return new Writer();
+    }
+
+    public static class Writer
+    {
+        private final Map<String, WriterEntry> entries = new TreeMap<>();
+        private boolean compress = false;
+
+        private Writer()
+        {
+        }
+
+        public Writer withCompression(boolean compress)
+        {
+            this.compress = compress;
+            return this;
+        }
+
+        public int size()
+        {
+            return this.entries.size();
+        }
+
+        public Writer addEntity(Entity entity) throws IOException
+        {
+            addEntry(entity.getPath(), entity.getClassifierPath(), ENTITY_SERIALIZER.serializeToBytes(entity));
+            return this;
+        }
+
+        /**
+         * Add an entity which is already serialized with the default JSON serializer. Only the entity header is read
+         * to index the entity; the content is stored as is.
+         *
+         * @param content serialized entity
+         * @return this writer
+         * @throws IOException if the entity header cannot be read
+         */
+        public Writer addSerializedEntity(byte[] content) throws IOException
+        {
+            EntityHeader header = ENTITY_SERIALIZER.deserializeHeader(content);
+            addEntry(header.getPath(), header.getClassifierPath(), content);
+            return this;
+        }
+
+        private void addEntry(String entityPath, String classifierPath, byte[] content)
+        {
+            Objects.requireNonNull(entityPath, "entity path may not be null");
+            Objects.requireNonNull(classifierPath, "classifier path may not be null");
+            if (this.entries.putIfAbsent(entityPath, new WriterEntry(classifierPath, content)) != null)
+            {
+                throw new IllegalArgumentException("Duplicate entity: " + entityPath);
+            }
+        }
+
+        public void write(Path path) throws IOException
+        {
+            try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(path)))
+            {
+                write(stream);
+            }
+        }
+
+        public void write(OutputStream stream) throws IOException
+        {
+            ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+            DataOutputStream index = new DataOutputStream(indexBytes);
+            byte[][] storedContents = new byte[this.entries.size()][];
+            long offset = 0;
+            int i = 0;
+            for (Map.Entry<String, WriterEntry> entry : this.entries.entrySet())
+            {
+                byte[] content = entry.getValue().content;
+                byte[] stored = this.compress ? deflate(content) : content;
+                if ((offset + stored.length) > Integer.MAX_VALUE)
+                {
+                    throw new IOException("Entity archive would be too large");
+                }
+                index.writeUTF(entry.getKey());
+                index.writeUTF(entry.getValue().classifierPath);
+                index.writeInt((int) offset);
+                index.writeInt(stored.length);
+                index.writeInt(content.length);
+                storedContents[i++] = stored;
+                offset += stored.length;
+            }
+            index.flush();
+
+            DataOutputStream out = new DataOutputStream(stream);
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(this.compress ? FLAG_COMPRESSED : 0);
+            out.writeInt(this.entries.size());
+            out.writeInt(indexBytes.size());
+            indexBytes.writeTo(out);
+            for (byte[] stored : storedContents)
+            {
+                out.write(stored);
+            }
+            out.flush();
+        }
+
+        private static byte[] deflate(byte[] content)
+        {
+            Deflater deflater = new Deflater();
+            try
+            {
+                deflater.setInput(content);
+                deflater.finish();
+                ByteArrayOutputStream stream = new ByteArrayOutputStream(Math.max(64, content.length / 2));
+                byte[] buffer = new byte[8192];
+                while (!deflater.finished())
+                {
+                    int count = deflater.deflate(buffer);
+                    stream.write(buffer, 0, count);
+                }
+                return stream.toByteArray();
+            }
+            finally
+            {
+                deflater.end();
+            }
+        }
+    }
+
+    private static class WriterEntry
+    {
+        private final String classifierPath;
+        private final byte[] content;
+
+        private WriterEntry(String classifierPath, byte[] content)
+        {
+            this.classifierPath = classifierPath;
+            this.content = content;
+        }
+    }
+}
@@ -39,11 +39,19 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -56,6 +64,7 @@ public class EntityLoader implements AutoCloseable
     private static final String ENTITY_FILE_EXTENSION = "." + ENTITY_SERIALIZER.getDefaultFileExtension();
 
     private final List<EntityFileSearch> searchList;
+    private final ConcurrentMap<Path, Optional<EntityArchive>> archives = new ConcurrentHashMap<>();
 
     private EntityLoader(List<EntityFileSearch> searchList)
     {
@@ -66,19 +75,64 @@ public class EntityLoader implements AutoCloseable
     {
         String entityFilePath = entityPathToFilePath(entityPath);
         return this.searchList.stream()
-                .map(s -> s.getPath(entityFilePath))
-                .filter(EntityLoader::isPossiblyEntityFile)
-                .map(EntityLoader::readEntity)
+                .map(s -> getEntity(s, entityPath, entityFilePath))
                 .filter(Objects::nonNull)
                 .findFirst()
                 .orElse(null);
     }
 
     public Stream<Entity> getAllEntities()
+    {
+        return getAllEntities(false);
+    }
+
+    /**
+     * Get all entities. If parallel is true, the entity files of all sources are listed and deserialized in parallel
+     * and the returned stream is parallel. The encounter order is the same in either case, so operations such as
+     * collect and forEachOrdered see the entities in the same order; but note that consumers passed to forEach must
+     * be thread-safe for a parallel stream.
+     *
+     * @param parallel whether to load entities in parallel
+     * @return stream of all entities
+     */
+    public Stream<Entity> getAllEntities(boolean parallel)
+    {
+        try
+        {
+            return getEntitiesInDirectory(ENTITIES_DIRECTORY, EntityPaths.PACKAGE_SEPARATOR, parallel, false);
+        }
+        catch (Exception e)
+        {
+            StringBuilder builder = new StringBuilder("Error getting all entities");
+            String eMessage = e.getMessage();
+            if (eMessage != null)
+            {
+                builder.append(": ").append(eMessage);
+            }
+            throw new RuntimeException(builder.toString(), e);
+        }
+    }
+
+    public Stream<Entity> getAllSerializedEntities()
+    {
+        return getAllSerializedEntities(false);
+    }
+
+    /**
+     * Get all entities as {@link SerializedEntity serialized entities}: entity files are read and their headers
+     * checked, but the content of each entity is only deserialized if it is requested. This allows consumers which
+     * can bind the serialized form directly (such as protocol converters) to skip building the content maps. Entity
+     * files with invalid content are not detected until the content is requested or bound. See
+     * {@link #getAllEntities(boolean)} for the meaning of parallel.
+     *
+     * @param parallel whether to load entities in parallel
+     * @return stream of all entities, as serialized entities
+     */
+    public Stream<Entity> getAllSerializedEntities(boolean parallel)
     {
         try
         {
-            return getEntitiesInDirectory(ENTITIES_DIRECTORY);
+            return getEntitiesInDirectory(ENTITIES_DIRECTORY, EntityPaths.PACKAGE_SEPARATOR, parallel, true);
         }
         catch (Exception e)
         {
@@ -93,10 +147,23 @@ public class EntityLoader implements AutoCloseable
     }
 
     public Stream<Entity> getEntitiesInPackage(String packagePath)
+    {
+        return getEntitiesInPackage(packagePath, false);
+    }
+
+    /**
+     * Get all entities in a package (including sub-packages). See {@link #getAllEntities(boolean)} for the meaning
+     * of parallel.
+     *
+     * @param packagePath package path
+     * @param parallel    whether to load entities in parallel
+     * @return stream of entities in the package
+     */
+    public Stream<Entity> getEntitiesInPackage(String packagePath, boolean parallel)
     {
         try
         {
-            return getEntitiesInDirectory(packagePathToDirectoryPath(packagePath));
+            return getEntitiesInDirectory(packagePathToDirectoryPath(packagePath), packagePath, parallel, false);
         }
         catch (Exception e)
         {
@@ -139,21 +206,97 @@ public class EntityLoader implements AutoCloseable
                 }
             }
         }
+        this.archives.clear();
         if (exception != null)
         {
             throw exception;
         }
     }
 
-    private Stream<Entity> getEntitiesInDirectory(String directoryPath)
+    private Entity getEntity(EntityFileSearch search, String entityPath, String entityFilePath)
     {
-        return this.searchList.stream()
-                .flatMap(s -> s.getPathsInDirectory(directoryPath))
-                .filter(EntityLoader::isPossiblyEntityFile)
-                .map(EntityLoader::readEntity)
+        Entity entity = search.getArchivePaths()
+                .map(this::getArchive)
+                .filter(a -> (a != null) && a.hasEntity(entityPath))
+                .map(a -> readEntity(a, entityPath))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+        if (entity != null)
+        {
+            return entity;
+        }
+        Path path = search.getPath(entityFilePath);
+        return isPossiblyEntityFile(path) ? readEntity(path) : null;
+    }
+
+    private Stream<Entity> getEntitiesInDirectory(String directoryPath, String packagePath, boolean parallel, boolean serialized)
+    {
+        // Nothing is listed until a terminal operation is invoked on the stream
+        int characteristics = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        if (!parallel)
+        {
+            return StreamSupport.stream(() -> getEntitySources(directoryPath, packagePath, serialized).spliterator(), characteristics, false)
+                    .flatMap(EntitySource::getEntityReaders)
+                    .map(Supplier::get)
+                    .filter(Objects::nonNull);
+        }
+
+        // List the entities of all sources (archives, or directories of entity files) in parallel, then read the
+        // entities in parallel from a list, which splits evenly
+        return StreamSupport.stream(() -> listEntityReaders(directoryPath, packagePath, serialized).spliterator(), characteristics, true)
+                .map(Supplier::get)
                 .filter(Objects::nonNull);
     }
 
+    private List<Supplier<Entity>> listEntityReaders(String directoryPath, String packagePath, boolean serialized)
+    {
+        List<List<Supplier<Entity>>> readersBySource = getEntitySources(directoryPath, packagePath, serialized).parallelStream()
+                .map(source ->
+                {
+                    try (Stream<Supplier<Entity>> readers = source.getEntityReaders())
+                    {
+                        return readers.collect(Collectors.toList());
+                    }
+                })
+                .collect(Collectors.toList());
+        List<Supplier<Entity>> readers = new ArrayList<>();
+        readersBySource.forEach(readers::addAll);
+        return readers;
+    }
+
+    /**
+     * Get the sources of entities in a directory, in search order. Where a search location has an entity archive, the
+     * archive is used in preference to the entity files alongside it. If serialized is true, the readers produce
+     * {@link SerializedEntity serialized entities}.
+     */
+    private List<EntitySource> getEntitySources(String directoryPath, String packagePath, boolean serialized)
+    {
+        List<EntitySource> sources = new ArrayList<>();
+        for (EntityFileSearch search : this.searchList)
+        {
+            Set<Path> archiveRoots = new HashSet<>();
+            search.getArchivePaths().forEach(archivePath ->
+            {
+                EntityArchive archive = getArchive(archivePath);
+                if (archive != null)
+                {
+                    archiveRoots.add(archivePath.getParent());
+                    sources.add(() -> archive.getEntityPathsInPackage(packagePath).stream().map(p -> entityReader(archive, p, serialized)));
+                }
+            });
+            search.getDirectories(directoryPath)
+                    .filter(d -> archiveRoots.isEmpty() || !archiveRoots.contains(getSourceRoot(d, directoryPath)))
+                    .forEach(d -> sources.add(() -> getDirectoryStream(d).filter(EntityLoader::isPossiblyEntityFile).map(p -> entityReader(p, serialized))));
+        }
+        return sources;
+    }
+
+    private EntityArchive getArchive(Path archivePath)
+    {
+        return this.archives.computeIfAbsent(archivePath, EntityLoader::readArchive).orElse(null);
+    }
+
     public static EntityLoader newEntityLoader(ClassLoader classLoader)
     {
         return new EntityLoader(Collections.singletonList(new ClassLoaderEntityFileSearch(classLoader)));
@@ -230,6 +373,68 @@ public class EntityLoader implements AutoCloseable
         return new EntityLoader(searchList);
     }
 
+    private static Optional<EntityArchive> readArchive(Path archivePath)
+    {
+        try
+        {
+            return Optional.of(EntityArchive.read(archivePath));
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Error reading entity archive {}, will read entity files instead", archivePath, e);
+            return Optional.empty();
+        }
+    }
+
+    private static Supplier<Entity> entityReader(EntityArchive archive, String entityPath, boolean serialized)
+    {
+        return serialized ? () -> readSerializedEntity(archive, entityPath) : () -> readEntity(archive, entityPath);
+    }
+
+    private static Supplier<Entity> entityReader(Path path, boolean serialized)
+    {
+        return serialized ? () -> readSerializedEntity(path) : () -> readEntity(path);
+    }
+
+    private static Entity readEntity(EntityArchive archive, String entityPath)
+    {
+        try
+        {
+            return archive.getEntity(entityPath);
+        }
+        catch (Exception e)
+        {
+            LOGGER.error("Error reading entity {} from archive", entityPath, e);
+            return null;
+        }
+    }
+
+    private static Entity readSerializedEntity(EntityArchive archive, String entityPath)
+    {
+        try
+        {
+            return archive.getSerializedEntity(entityPath);
+        }
+        catch (Exception e)
+        {
+            LOGGER.error("Error reading entity {} from archive", entityPath, e);
+            return null;
+        }
+    }
+
+    private static Entity readSerializedEntity(Path path)
+    {
+        try
+        {
+            return SerializedEntity.newSerializedEntity(Files.readAllBytes(path));
+        }
+        catch (Exception e)
+        {
+            LOGGER.error("Error reading entity from file: {}", path, e);
+            return null;
+        }
+    }
+
     private static Entity readEntity(Path path)
     {
         try (InputStream stream = Files.newInputStream(path))
@@ -272,6 +477,16 @@ public class EntityLoader implements AutoCloseable
         return builder.append('/').append(packageablePath, current, packageablePath.length());
     }
 
+    private static Path getSourceRoot(Path directory, String directoryPath)
+    {
+        Path root = directory;
+        for (int i = directoryPath.indexOf('/'); (root != null) && (i != -1); i = directoryPath.indexOf('/', i + 1))
+        {
+            root = root.getParent();
+        }
+        return (root == null) ? null : root.getParent();
+    }
+
     private static boolean isPossiblyEntityFile(Path path)
     {
         return (path != null) && isPossiblyEntityFileName(path.toString()) && Files.isRegularFile(path);
@@ -448,16 +663,24 @@ public class EntityLoader implements AutoCloseable
         }
     }
 
+    private interface EntitySource
+    {
+        Stream<Supplier<Entity>> getEntityReaders();
+    }
+
     private interface EntityFileSearch extends AutoCloseable
     {
         Path getPath(String filePath);
 
-        Stream<Path> getPathsInDirectory(String dirPath);
+        Stream<Path> getDirectories(String dirPath);
+
+        Stream<Path> getArchivePaths();
     }
 
     private static class ClassLoaderEntityFileSearch implements EntityFileSearch
     {
         private final ClassLoader classLoader;
+        private List<Path> archivePaths;
 
         private ClassLoaderEntityFileSearch(ClassLoader classLoader)
         {
@@ -472,7 +695,7 @@ public class EntityLoader implements AutoCloseable
         }
 
         @Override
-        public Stream<Path> getPathsInDirectory(String dirPath)
+        public Stream<Path> getDirectories(String dirPath)
         {
             Enumeration<URL> urls;
             try
@@ -499,8 +722,34 @@ public class EntityLoader implements AutoCloseable
             }, 0), false)
                     .map(EntityLoader::getPathFromURL)
                     .filter(Objects::nonNull)
-                    .filter(Files::isDirectory)
-                    .flatMap(EntityLoader::getDirectoryStream);
+                    .filter(Files::isDirectory);
+        }
+
+        @Override
+        public synchronized Stream<Path> getArchivePaths()
+        {
+            if (this.archivePaths == null)
+            {
+                List<Path> paths = new ArrayList<>();
+                try
+                {
+                    Enumeration<URL> urls = this.classLoader.getResources(EntityArchive.DEFAULT_FILE_NAME);
+                    while (urls.hasMoreElements())
+                    {
+                        Path path = getPathFromURL(urls.nextElement());
+                        if (path != null)
+                        {
+                            paths.add(path);
+                        }
+                    }
+                }
+                catch (IOException e)
+                {
+                    LOGGER.debug("Error getting entity archives from class loader", e);
+                }
+                this.archivePaths = paths;
+            }
+            return this.archivePaths.stream();
         }
 
         @Override
@@ -525,10 +774,17 @@ public class EntityLoader implements AutoCloseable
         }
 
         @Override
-        public Stream<Path> getPathsInDirectory(String dirPath)
+        public Stream<Path> getDirectories(String dirPath)
         {
             Path resolvedPath = this.directory.resolve(dirPath);
-            return Files.isDirectory(resolvedPath) ? EntityLoader.getDirectoryStream(resolvedPath) : Stream.empty();
+            return Files.isDirectory(resolvedPath) ? Stream.of(resolvedPath) : Stream.empty();
+        }
+
+        @Override
+        public Stream<Path> getArchivePaths()
+        {
+            Path archivePath = this.directory.resolve(EntityArchive.DEFAULT_FILE_NAME);
+            return Files.isRegularFile(archivePath) ? Stream.of(archivePath) : Stream.empty();
         }
 
         @Override
@@ -28,6 +28,7 @@ import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 public interface EntitySerializer
 {
@@ -55,6 +56,20 @@ public interface EntitySerializer
      */
     boolean canSerialize(Entity entity);
 
+    /**
+     * Serialize an entity to a byte array if it can be serialized by this serializer; otherwise, return an empty
+     * optional. This is equivalent to {@link #canSerialize} followed by {@link #serializeToBytes}, but implementations
+     * where checking involves serializing may override it to avoid doing the work twice.
+     *
+     * @param entity entity to serialize
+     * @return byte array serialization of entity, if it can be serialized
+     * @throws IOException if an I/O error occurs
+     */
+    default Optional<byte[]> serializeToBytesIfPossible(Entity entity) throws IOException
+    {
+        return canSerialize(entity) ? Optional.of(serializeToBytes(entity)) : Optional.empty();
+    }
+
     /**
      * Serialize an entity to an output stream.
      *
@@ -172,6 +187,32 @@ public interface EntitySerializer
         return deserialize(new ByteArrayInputStream(content));
     }
 
+    /**
+     * Deserialize just the header (classifier path, package and name) of an entity from an input stream. Serializers
+     * which can read the header without deserializing the full entity content should override this; the default
+     * implementation deserializes the full entity.
+     *
+     * @param stream input stream
+     * @return entity header
+     * @throws IOException if an I/O error occurs
+     */
+    default EntityHeader deserializeHeader(InputStream stream) throws IOException
+    {
+        return EntityHeader.fromEntity(deserialize(stream));
+    }
+
+    /**
+     * Deserialize just the header (classifier path, package and name) of an entity from a byte array.
+     *
+     * @param content input bytes
+     * @return entity header
+     * @throws IOException if an I/O error occurs
+     */
+    default EntityHeader deserializeHeader(byte[] content) throws IOException
+    {
+        return deserializeHeader(new ByteArrayInputStream(content));
+    }
+
     /**
      * Deserialize entities from an input stream.
      *
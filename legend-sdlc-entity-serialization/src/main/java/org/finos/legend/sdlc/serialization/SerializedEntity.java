@@ -0,0 +1,118 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.sdlc.serialization;
+
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An entity backed by its serialization in the default JSON format. The path and classifier path are known up front
+ * (from the entity header), but the content is only deserialized when it is first requested. Consumers which can bind
+ * the serialized form directly, such as protocol converters, can use {@link #getSerializedContent()} instead, so that
+ * the generic content map is never built.
+ */
+public final class SerializedEntity implements Entity
+{
+    private static final EntityTextSerializer ENTITY_SERIALIZER = EntitySerializers.getDefaultJsonSerializer();
+
+    private final String path;
+    private final String classifierPath;
+    private final byte[] serializedContent;
+    private volatile Map<String, ?> content;
+
+    private SerializedEntity(String path, String classifierPath, byte[] serializedContent)
+    {
+        this.path = path;
+        this.classifierPath = classifierPath;
+        this.serializedContent = serializedContent;
+    }
+
+    @Override
+    public String getPath()
+    {
+        return this.path;
+    }
+
+    @Override
+    public String getClassifierPath()
+    {
+        return this.classifierPath;
+    }
+
+    /**
+     * Get the entity content, deserializing it on first access.
+     *
+     * @return entity content
+     * @throws UncheckedIOException if the content cannot be deserialized
+     */
+    @Override
+    public Map<String, ?> getContent()
+    {
+        Map<String, ?> result = this.content;
+        if (result == null)
+        {
+            Entity entity;
+            try
+            {
+                entity = ENTITY_SERIALIZER.deserialize(this.serializedContent);
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException("Error deserializing entity " + this.path, e);
+            }
+            if (!Objects.equals(this.path, entity.getPath()))
+            {
+                throw new RuntimeException("Expected entity path " + this.path + ", found " + entity.getPath());
+            }
+            this.content = result = entity.getContent();
+        }
+        return result;
+    }
+
+    /**
+     * Get the serialized entity, in the default JSON format. The returned array must not be modified.
+     *
+     * @return serialized entity
+     */
+    public byte[] getSerializedContent()
+    {
+        return this.serializedContent;
+    }
+
+    /**
+     * Create a serialized entity from its serialization in the default JSON format. The entity header is read to get
+     * the path and classifier path; the content is not deserialized until requested. The array must not be modified
+     * after this.
+     *
+     * @param serializedContent serialized entity
+     * @return serialized entity
+     * @throws IOException if the entity header cannot be read
+     */
+    public static SerializedEntity newSerializedEntity(byte[] serializedContent) throws IOException
+    {
+        EntityHeader header = ENTITY_SERIALIZER.deserializeHeader(serializedContent);
+        return new SerializedEntity(header.getPath(), header.getClassifierPath(), serializedContent);
+    }
+
+    static SerializedEntity newSerializedEntity(String path, String classifierPath, byte[] serializedContent)
+    {
+        return new SerializedEntity(Objects.requireNonNull(path, "path may not be null"), classifierPath, Objects.requireNonNull(serializedContent, "serialized content may not be null"));
+    }
+}
@@ -14,8 +14,40 @@
 
 package org.finos.legend.sdlc.serialization;
 
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 public class TestDefaultJsonEntitySerializer extends TestEntityTextSerializer<DefaultJsonEntitySerializer>
 {
+    @Test
+    public void testDeserializeHeaderIgnoresNestedFields() throws IOException
+    {
+        String json = "{\"content\": {\"properties\": [{\"name\": \"prop\", \"package\": \"not::this\"}], \"_type\": \"class\", \"package\": \"model::domain\", \"name\": \"MyClass\"}, \"classifierPath\": \"meta::pure::metamodel::type::Class\"}";
+        EntityHeader header = this.serializer.deserializeHeader(json.getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(EntityHeader.newEntityHeader("meta::pure::metamodel::type::Class", "model::domain", "MyClass"), header);
+        Assert.assertEquals("model::domain::MyClass", header.getPath());
+    }
+
+    @Test
+    public void testDeserializeHeaderWithoutPackage() throws IOException
+    {
+        String json = "{\"classifierPath\": \"meta::pure::metamodel::type::Class\", \"content\": {\"_type\": \"class\", \"name\": \"MyClass\"}}";
+        EntityHeader header = this.serializer.deserializeHeader(json.getBytes(StandardCharsets.UTF_8));
+        Assert.assertNull(header.getPackagePath());
+        Assert.assertEquals("MyClass", header.getPath());
+    }
+
+    @Test
+    public void testDeserializeHeaderWithoutName()
+    {
+        String json = "{\"classifierPath\": \"meta::pure::metamodel::type::Class\", \"content\": {\"_type\": \"class\", \"package\": \"model\"}}";
+        RuntimeException e = Assert.assertThrows(RuntimeException.class, () -> this.serializer.deserializeHeader(json.getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals("Could not compute entity path", e.getMessage());
+    }
+
     @Override
     protected DefaultJsonEntitySerializer getSerializer()
     {
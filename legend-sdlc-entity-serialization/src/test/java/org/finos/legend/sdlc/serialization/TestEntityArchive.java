@@ -0,0 +1,140 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.serialization;
+
+import org.finos.legend.sdlc.domain.model.TestTools;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TestEntityArchive
+{
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final List<Entity> entities = Arrays.asList(
+            TestTools.newClassEntity("EmptyClass", "model::domain::test::empty"),
+            TestTools.newClassEntity("ClassWith1Property", "model::domain::test::notEmpty", TestTools.newProperty("prop1", "String", 0, 1)),
+            TestTools.newEnumerationEntity("MusicGenre", "model::domain::test::enums", "CLASSICAL", "DIXIELAND", "COUNTRY"),
+            TestTools.newClassEntity("OtherClass", "model::domainOther")
+    );
+
+    @Test
+    public void testRoundTrip() throws IOException
+    {
+        testRoundTrip(false);
+    }
+
+    @Test
+    public void testRoundTripCompressed() throws IOException
+    {
+        testRoundTrip(true);
+    }
+
+    private void testRoundTrip(boolean compress) throws IOException
+    {
+        Path path = this.tempFolder.getRoot().toPath().resolve(EntityArchive.DEFAULT_FILE_NAME);
+        EntityArchive.Writer writer = EntityArchive.newWriter().withCompression(compress);
+        this.entities.forEach(e -> addEntity(writer, e));
+        Assert.assertEquals(this.entities.size(), writer.size());
+        writer.write(path);
+
+        EntityArchive archive = EntityArchive.read(path);
+        Assert.assertEquals(compress, archive.isCompressed());
+        Assert.assertEquals(this.entities.size(), archive.size());
+        Assert.assertEquals(this.entities.stream().map(Entity::getPath).sorted().collect(Collectors.toList()), archive.getEntityPaths());
+        for (Entity entity : this.entities)
+        {
+            Assert.assertTrue(entity.getPath(), archive.hasEntity(entity.getPath()));
+            Assert.assertEquals(entity.getPath(), entity.getClassifierPath(), archive.getClassifierPath(entity.getPath()));
+            Entity loaded = archive.getEntity(entity.getPath());
+            Assert.assertEquals(entity.getPath(), loaded.getPath());
+            Assert.assertEquals(entity.getClassifierPath(), loaded.getClassifierPath());
+            Assert.assertEquals(entity.getContent(), loaded.getContent());
+        }
+    }
+
+    @Test
+    public void testEntitiesInPackage() throws IOException
+    {
+        EntityArchive archive = writeAndRead();
+        Assert.assertEquals(
+                Arrays.asList("model::domain::test::empty::EmptyClass", "model::domain::test::enums::MusicGenre", "model::domain::test::notEmpty::ClassWith1Property"),
+                archive.getEntityPathsInPackage("model::domain"));
+        Assert.assertEquals(Collections.singletonList("model::domainOther::OtherClass"), archive.getEntityPathsInPackage("model::domainOther"));
+        Assert.assertEquals(archive.getEntityPaths(), archive.getEntityPathsInPackage("model"));
+        Assert.assertEquals(archive.getEntityPaths(), archive.getEntityPathsInPackage("::"));
+        Assert.assertEquals(Collections.emptyList(), archive.getEntityPathsInPackage("non::existent::package"));
+        Assert.assertEquals(
+                Collections.singletonList("model::domain::test::enums::MusicGenre"),
+                archive.getEntitiesInPackage("model::domain::test::enums").map(Entity::getPath).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testMissingEntity() throws IOException
+    {
+        EntityArchive archive = writeAndRead();
+        Assert.assertFalse(archive.hasEntity("model::domain::NotAnEntity"));
+        Assert.assertNull(archive.getClassifierPath("model::domain::NotAnEntity"));
+        Assert.assertNull(archive.getEntity("model::domain::NotAnEntity"));
+        Assert.assertNull(archive.getEntity(null));
+    }
+
+    @Test
+    public void testDuplicateEntity()
+    {
+        EntityArchive.Writer writer = EntityArchive.newWriter();
+        addEntity(writer, this.entities.get(0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> writer.addEntity(this.entities.get(0)));
+    }
+
+    @Test
+    public void testInvalidArchive()
+    {
+        Assert.assertThrows(IOException.class, () -> EntityArchive.read(new byte[0]));
+        Assert.assertThrows(IOException.class, () -> EntityArchive.read("not an entity archive".getBytes()));
+    }
+
+    private EntityArchive writeAndRead() throws IOException
+    {
+        EntityArchive.Writer writer = EntityArchive.newWriter();
+        this.entities.forEach(e -> addEntity(writer, e));
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        writer.write(stream);
+        return EntityArchive.read(stream.toByteArray());
+    }
+
+    private static void addEntity(EntityArchive.Writer writer, Entity entity)
+    {
+        try
+        {
+            writer.addEntity(entity);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+}
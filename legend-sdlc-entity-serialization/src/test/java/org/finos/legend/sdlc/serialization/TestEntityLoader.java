@@ -113,6 +113,46 @@ abstract class TestEntityLoader
         TestTools.assertEntitiesEquivalent(this.testEntities, loadedEntities);
     }
 
+    @Test
+    public void testGetAllEntitiesParallel()
+    {
+        List<Entity> loadedEntities = this.entityLoader.getAllEntities(true).collect(Collectors.toList());
+        TestTools.assertEntitiesEquivalent(this.testEntities, loadedEntities);
+
+        // same encounter order as sequential loading
+        List<String> sequentialPaths = this.entityLoader.getAllEntities().map(Entity::getPath).collect(Collectors.toList());
+        Assert.assertEquals(sequentialPaths, loadedEntities.stream().map(Entity::getPath).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testGetAllSerializedEntities()
+    {
+        for (boolean parallel : new boolean[]{false, true})
+        {
+            List<Entity> loadedEntities = this.entityLoader.getAllSerializedEntities(parallel).collect(Collectors.toList());
+            loadedEntities.forEach(e -> Assert.assertTrue(e.getPath(), e instanceof SerializedEntity));
+            TestTools.assertEntitiesEquivalent(this.testEntities, loadedEntities);
+
+            // same encounter order as loading entities
+            List<String> paths = this.entityLoader.getAllEntities().map(Entity::getPath).collect(Collectors.toList());
+            Assert.assertEquals(paths, loadedEntities.stream().map(Entity::getPath).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testGetEntitiesInPackageParallel()
+    {
+        for (Entity entity : this.testEntities)
+        {
+            String path = entity.getPath();
+            String pkg = path.substring(0, path.lastIndexOf(':') - 1);
+            List<String> sequentialPaths = this.entityLoader.getEntitiesInPackage(pkg).map(Entity::getPath).collect(Collectors.toList());
+            List<String> parallelPaths = this.entityLoader.getEntitiesInPackage(pkg, true).map(Entity::getPath).collect(Collectors.toList());
+            Assert.assertEquals(pkg, sequentialPaths, parallelPaths);
+        }
+        Assert.assertEquals(Collections.emptyList(), this.entityLoader.getEntitiesInPackage("non::existent::package", true).collect(Collectors.toList()));
+    }
+
     @Test
     public void testGetEntitiesInPackage()
     {
@@ -119,6 +119,24 @@ public abstract class TestEntitySerializer<T extends EntitySerializer>
         }
     }
 
+    @Test
+    public void testDeserializeHeader() throws IOException
+    {
+        for (Entity entity : getTestEntities())
+        {
+            byte[] bytes = this.serializer.serializeToBytes(entity);
+            EntityHeader expected = EntityHeader.fromEntity(entity);
+            Assert.assertEquals(entity.getPath(), expected, this.serializer.deserializeHeader(bytes));
+            try (InputStream stream = new ByteArrayInputStream(bytes))
+            {
+                EntityHeader header = this.serializer.deserializeHeader(stream);
+                Assert.assertEquals(entity.getPath(), expected, header);
+                Assert.assertEquals(entity.getPath(), header.getPath());
+                Assert.assertEquals(entity.getClassifierPath(), header.getClassifierPath());
+            }
+        }
+    }
+
     @Test
     public void testFilePathForEntity()
     {
@@ -0,0 +1,45 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.serialization;
+
+import org.junit.Rule;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+public class TestFSArchiveEntityLoader extends TestEntityLoader
+{
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Override
+    protected EntityLoader createEntityLoaderFromFiles(Map<String, byte[]> fileContentByPath) throws IOException
+    {
+        Path root = this.tempFolder.getRoot().toPath();
+        EntityArchive.Writer writer = EntityArchive.newWriter().withCompression(true);
+        for (byte[] content : fileContentByPath.values())
+        {
+            writer.addSerializedEntity(content);
+        }
+        writer.write(root.resolve(EntityArchive.DEFAULT_FILE_NAME));
+
+        // an entity directory with no entity files: entities must come from the archive
+        Files.createDirectories(root.resolve("entities"));
+        return EntityLoader.newEntityLoader(root);
+    }
+}
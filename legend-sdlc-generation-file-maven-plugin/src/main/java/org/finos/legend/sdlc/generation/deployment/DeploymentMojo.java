@@ -82,10 +82,10 @@ public class DeploymentMojo extends AbstractMojo
         }
         getLog().info("include element path directories: " + this.inclusions.toString());
         getLog().info("Converting entities to Pure Model Context Data");
-        PureModelContextDataBuilder pureModelContextDataBuilder = PureModelContextDataBuilder.newBuilder();
+        PureModelContextDataBuilder pureModelContextDataBuilder = PureModelContextDataBuilder.newBuilder().withParallelConversion(true);
         try (EntityLoader allEntities = EntityLoader.newEntityLoader(inclusions.toArray(new File[0])))
         {
-            pureModelContextDataBuilder.addEntitiesIfPossible(allEntities.getAllEntities());
+            pureModelContextDataBuilder.addEntitiesIfPossible(allEntities.getAllSerializedEntities(true).collect(Collectors.toList()));
         }
         catch (Exception e)
         {
@@ -97,10 +97,10 @@ public class FileGenerationMojo extends AbstractMojo
         // Load Model
         long modelStart = System.nanoTime();
         getLog().info("Start loading model");
-        PureModelBuilder pureModelBuilder = PureModelBuilder.newBuilder();
+        PureModelBuilder pureModelBuilder = PureModelBuilder.newBuilder().withParallelConversion(true);
         try (EntityLoader allEntities = EntityLoader.newEntityLoader(Thread.currentThread().getContextClassLoader()))
         {
-            pureModelBuilder.addEntitiesIfPossible(allEntities.getAllEntities());
+            pureModelBuilder.addEntitiesIfPossible(allEntities.getAllSerializedEntities(true).collect(Collectors.toList()));
         }
         catch (Exception e)
         {
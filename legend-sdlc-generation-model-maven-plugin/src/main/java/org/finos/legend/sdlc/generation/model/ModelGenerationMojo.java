@@ -83,10 +83,10 @@ public class ModelGenerationMojo extends AbstractMojo
         // Load Model
         long modelStart = System.nanoTime();
         getLog().info("Start loading model");
-        PureModelBuilder pureModelBuilder = PureModelBuilder.newBuilder();
+        PureModelBuilder pureModelBuilder = PureModelBuilder.newBuilder().withParallelConversion(true);
         try (EntityLoader allEntities = EntityLoader.newEntityLoader(Thread.currentThread().getContextClassLoader()))
         {
-            pureModelBuilder.addEntitiesIfPossible(allEntities.getAllEntities());
+            pureModelBuilder.addEntitiesIfPossible(allEntities.getAllSerializedEntities(true).collect(Collectors.toList()));
             int entityCount = pureModelBuilder.getElementCount();
             getLog().info("Found " + entityCount + " entities");
             if (entityCount == 0)
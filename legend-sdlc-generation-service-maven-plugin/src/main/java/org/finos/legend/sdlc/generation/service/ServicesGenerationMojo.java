@@ -115,10 +115,10 @@ public class ServicesGenerationMojo extends AbstractMojo
         getLog().info("Loading model");
         long modelStart = System.nanoTime();
 
-        PureModelBuilder pureModelBuilder = PureModelBuilder.newBuilder();
+        PureModelBuilder pureModelBuilder = PureModelBuilder.newBuilder().withParallelConversion(true);
         try (EntityLoader allEntities = EntityLoader.newEntityLoader(Thread.currentThread().getContextClassLoader()))
         {
-            pureModelBuilder.addEntitiesIfPossible(allEntities.getAllEntities());
+            pureModelBuilder.addEntitiesIfPossible(allEntities.getAllSerializedEntities(true).collect(Collectors.toList()));
         }
         catch (Exception e)
         {
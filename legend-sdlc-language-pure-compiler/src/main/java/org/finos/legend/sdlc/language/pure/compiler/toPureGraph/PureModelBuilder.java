@@ -36,6 +36,7 @@ public class PureModelBuilder
     private ClassLoader classLoader;
     private CompilerExtensions extensions;
     private String packagePrefix;
+    private boolean compilationCache = false;
 
     private PureModelBuilder(EntityToPureConverter converter)
     {
@@ -146,6 +147,23 @@ public class PureModelBuilder
         return this;
     }
 
+    /**
+     * Set whether entities added in bulk are converted in parallel. See
+     * {@link PureModelContextDataBuilder#setParallelConversion(boolean)}.
+     *
+     * @param parallelConversion whether to convert entities added in bulk in parallel
+     */
+    public void setParallelConversion(boolean parallelConversion)
+    {
+        this.contextDataBuilder.setParallelConversion(parallelConversion);
+    }
+
+    public PureModelBuilder withParallelConversion(boolean parallelConversion)
+    {
+        setParallelConversion(parallelConversion);
+        return this;
+    }
+
     public PureModelBuilder withSDLC(SDLC sdlc)
     {
         this.contextDataBuilder.withSDLC(sdlc);
@@ -191,6 +209,25 @@ public class PureModelBuilder
         return this;
     }
 
+    /**
+     * Set whether to use the in-process compilation cache. When it is used, a build whose elements, SDLC and protocol
+     * information, compiler extensions, package prefix and class loader are all the same as those of a recent build
+     * reuses the {@link PureModel} compiled then instead of compiling a new one. Cached models are shared, so callers
+     * must not modify them.
+     *
+     * @param compilationCache whether to use the compilation cache
+     */
+    public void setCompilationCache(boolean compilationCache)
+    {
+        this.compilationCache = compilationCache;
+    }
+
+    public PureModelBuilder withCompilationCache(boolean compilationCache)
+    {
+        setCompilationCache(compilationCache);
+        return this;
+    }
+
     public PureModelWithContextData build()
     {
         PureModelContextData pureModelContextData = this.contextDataBuilder.build();
@@ -217,7 +254,17 @@ public class PureModelBuilder
 
     private PureModel buildPureModel(PureModelContextData pureModelContextData)
     {
-        return new PureModel(pureModelContextData, getExtensions(), null, this.classLoader, DeploymentMode.PROD, new PureModelProcessParameter(this.packagePrefix), null);
+        CompilerExtensions compilerExtensions = getExtensions();
+        if (!this.compilationCache)
+        {
+            return compile(pureModelContextData, compilerExtensions);
+        }
+        return PureModelCache.getOrCompile(pureModelContextData, compilerExtensions, this.packagePrefix, this.classLoader, () -> compile(pureModelContextData, compilerExtensions));
+    }
+
+    private PureModel compile(PureModelContextData pureModelContextData, CompilerExtensions compilerExtensions)
+    {
+        return new PureModel(pureModelContextData, compilerExtensions, null, this.classLoader, DeploymentMode.PROD, new PureModelProcessParameter(this.packagePrefix), null);
     }
 
     private CompilerExtensions getExtensions()
@@ -0,0 +1,220 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.sdlc.language.pure.compiler.toPureGraph;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.extension.CompilerExtension;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.extension.CompilerExtensions;
+import org.finos.legend.engine.protocol.pure.m3.PackageableElement;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache of compiled {@link PureModel}s, keyed by the closure they were compiled from: the path and content
+ * of every element, the SDLC and protocol information, the compiler extensions, the package prefix, and the class
+ * loader. Only a few of the most recently used models are kept, and they are held by soft reference so that they may
+ * be reclaimed under memory pressure.
+ * <p>
+ * Cached models are shared by every build which hits them, so they must be treated as read only.
+ */
+final class PureModelCache
+{
+    private static final int MAX_SIZE = 4;
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+    private static final Map<Key, SoftReference<PureModel>> CACHE = new LinkedHashMap<Key, SoftReference<PureModel>>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, SoftReference<PureModel>> eldest)
+        {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    private PureModelCache()
+    {
+    }
+
+    static PureModel getOrCompile(PureModelContextData pureModelContextData, CompilerExtensions extensions, String packagePrefix, ClassLoader classLoader, Supplier<? extends PureModel> compiler)
+    {
+        byte[] digest = computeDigest(pureModelContextData, extensions, packagePrefix);
+        if (digest == null)
+        {
+            // the closure could not be fingerprinted, so compile without caching
+            return compiler.get();
+        }
+
+        Key key = new Key(digest, classLoader);
+        PureModel pureModel = get(key);
+        if (pureModel == null)
+        {
+            pureModel = compiler.get();
+            put(key, pureModel);
+        }
+        return pureModel;
+    }
+
+    static synchronized int size()
+    {
+        CACHE.values().removeIf(ref -> ref.get() == null);
+        return CACHE.size();
+    }
+
+    static synchronized void clear()
+    {
+        CACHE.clear();
+    }
+
+    private static synchronized PureModel get(Key key)
+    {
+        SoftReference<PureModel> ref = CACHE.get(key);
+        if (ref == null)
+        {
+            return null;
+        }
+        PureModel pureModel = ref.get();
+        if (pureModel == null)
+        {
+            CACHE.remove(key);
+        }
+        return pureModel;
+    }
+
+    private static synchronized void put(Key key, PureModel pureModel)
+    {
+        CACHE.put(key, new SoftReference<>(pureModel));
+    }
+
+    private static byte[] computeDigest(PureModelContextData pureModelContextData, CompilerExtensions extensions, String packagePrefix)
+    {
+        MessageDigest digest = newMessageDigest();
+        try
+        {
+            update(digest, packagePrefix);
+
+            List<String> extensionClasses = new ArrayList<>();
+            for (CompilerExtension extension : extensions.getExtensions())
+            {
+                extensionClasses.add(extension.getClass().getName());
+            }
+            extensionClasses.sort(Comparator.naturalOrder());
+            updateLength(digest, extensionClasses.size());
+            extensionClasses.forEach(c -> update(digest, c));
+
+            update(digest, OBJECT_MAPPER.writeValueAsBytes(pureModelContextData.getOrigin()));
+            update(digest, OBJECT_MAPPER.writeValueAsBytes(pureModelContextData.getSerializer()));
+
+            // element order does not affect compilation, so sort by path for a stable key
+            List<PackageableElement> elements = new ArrayList<>(pureModelContextData.getElements());
+            elements.sort(Comparator.comparing(PackageableElement::getPath, Comparator.nullsFirst(Comparator.naturalOrder())));
+            updateLength(digest, elements.size());
+            MessageDigest elementDigest = newMessageDigest();
+            for (PackageableElement element : elements)
+            {
+                update(digest, element.getPath());
+                update(digest, elementDigest.digest(OBJECT_MAPPER.writeValueAsBytes(element)));
+            }
+        }
+        catch (IOException e)
+        {
+            return null;
+        }
+        return digest.digest();
+    }
+
+    private static void update(MessageDigest digest, String string)
+    {
+        update(digest, (string == null) ? null : string.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void update(MessageDigest digest, byte[] bytes)
+    {
+        // length prefix, so that adjacent values cannot run together
+        if (bytes == null)
+        {
+            updateLength(digest, -1);
+        }
+        else
+        {
+            updateLength(digest, bytes.length);
+            digest.update(bytes);
+        }
+    }
+
+    private static void updateLength(MessageDigest digest, int length)
+    {
+        digest.update(ByteBuffer.allocate(4).putInt(length).array());
+    }
+
+    private static MessageDigest newMessageDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static class Key
+    {
+        private final ByteBuffer digest;
+        private final ClassLoader classLoader;
+
+        private Key(byte[] digest, ClassLoader classLoader)
+        {
+            this.digest = ByteBuffer.wrap(digest);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (!(other instanceof Key))
+            {
+                return false;
+            }
+            Key that = (Key) other;
+            return (this.classLoader == that.classLoader) && this.digest.equals(that.digest);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.digest.hashCode() + (31 * Objects.hashCode(this.classLoader));
+        }
+    }
+}
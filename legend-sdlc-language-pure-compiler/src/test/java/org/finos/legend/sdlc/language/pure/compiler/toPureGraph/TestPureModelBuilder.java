@@ -20,6 +20,7 @@ import org.finos.legend.engine.protocol.pure.m3.type.Class;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.mapping.Mapping;
 import org.finos.legend.pure.generated.core_pure_serialization_toPureGrammar;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.protocol.pure.v1.PureProtocolHelper;
 import org.finos.legend.sdlc.serialization.EntityLoader;
 import org.junit.After;
@@ -28,6 +29,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.net.URI;
+import java.util.Comparator;
 import java.util.Objects;
 
 public class TestPureModelBuilder
@@ -98,6 +100,40 @@ public class TestPureModelBuilder
         checkPureModel(pureModel);
     }
 
+    @Test
+    public void testCompilationCache()
+    {
+        PureModelCache.clear();
+        try
+        {
+            PureModelBuilder.PureModelWithContextData first = PureModelBuilder.newBuilder().withCompilationCache(true).withEntities(this.entityLoader.getAllEntities()).build();
+            checkPureModelContextData(first.getPureModelContextData());
+            checkPureModel(first.getPureModel());
+            Assert.assertEquals(1, PureModelCache.size());
+
+            // same closure, in a different order: the compiled model is reused
+            PureModelBuilder.PureModelWithContextData second = PureModelBuilder.newBuilder().withCompilationCache(true).withEntities(this.entityLoader.getAllEntities().sorted(Comparator.comparing(Entity::getPath).reversed())).build();
+            checkPureModelContextData(second.getPureModelContextData());
+            Assert.assertSame(first.getPureModel(), second.getPureModel());
+            Assert.assertEquals(1, PureModelCache.size());
+
+            // a different closure is compiled again
+            PureModel third = PureModelBuilder.newBuilder().withCompilationCache(true).withEntities(this.entityLoader.getAllEntities().filter(e -> !e.getPath().startsWith("model::mapping::"))).buildPureModel();
+            Assert.assertNotSame(first.getPureModel(), third);
+            Assert.assertEquals(2, PureModelCache.size());
+
+            // without the cache, the model is always compiled
+            PureModel fourth = PureModelBuilder.newBuilder().withEntities(this.entityLoader.getAllEntities()).buildPureModel();
+            Assert.assertNotSame(first.getPureModel(), fourth);
+            checkPureModel(fourth);
+            Assert.assertEquals(2, PureModelCache.size());
+        }
+        finally
+        {
+            PureModelCache.clear();
+        }
+    }
+
     private void checkPureModelContextData(PureModelContextData pureModelContextData)
     {
         Assert.assertEquals(3, pureModelContextData.getElements().size());
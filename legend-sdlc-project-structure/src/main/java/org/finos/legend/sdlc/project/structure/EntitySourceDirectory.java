@@ -17,12 +17,14 @@ package org.finos.legend.sdlc.project.structure;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.error.LegendSDLCException;
 import org.finos.legend.sdlc.project.files.ProjectFileAccessProvider;
+import org.finos.legend.sdlc.serialization.EntityHeader;
 import org.finos.legend.sdlc.serialization.EntitySerializer;
 import org.finos.legend.sdlc.tools.StringTools;
 import org.finos.legend.sdlc.tools.entity.EntityPaths;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Optional;
 
 public class EntitySourceDirectory
 {
@@ -167,6 +169,20 @@ public class EntitySourceDirectory
         }
     }
 
+    public Optional<byte[]> serializeToBytesIfPossible(Entity entity)
+    {
+        try
+        {
+            return this.serializer.serializeToBytesIfPossible(entity);
+        }
+        catch (Exception e)
+        {
+            StringBuilder message = new StringBuilder("Error serializing entity ").append(entity.getPath());
+            StringTools.appendThrowableMessageIfPresent(message, e);
+            throw new LegendSDLCException(message.toString(), e);
+        }
+    }
+
     public Entity deserialize(ProjectFileAccessProvider.ProjectFile projectFile)
     {
         try (InputStream stream = projectFile.getContentAsInputStream())
@@ -175,17 +191,26 @@ public class EntitySourceDirectory
         }
         catch (Exception e)
         {
-            String eMessage = e.getMessage();
-            if ((e instanceof RuntimeException) && (eMessage != null) && eMessage.startsWith("Error deserializing entity "))
-            {
-                throw (RuntimeException) e;
-            }
-            StringBuilder builder = new StringBuilder("Error deserializing entity from file ").append(projectFile.getPath());
-            if (eMessage != null)
-            {
-                builder.append(": ").append(eMessage);
-            }
-            throw new LegendSDLCException(builder.toString(), e);
+            throw deserializationException(projectFile, e);
+        }
+    }
+
+    /**
+     * Deserialize just the header (classifier path, package and name) of the entity in a project file. Depending on
+     * the serializer, this may avoid deserializing the full entity content.
+     *
+     * @param projectFile project file
+     * @return entity header
+     */
+    public EntityHeader deserializeHeader(ProjectFileAccessProvider.ProjectFile projectFile)
+    {
+        try (InputStream stream = projectFile.getContentAsInputStream())
+        {
+            return this.serializer.deserializeHeader(stream);
+        }
+        catch (Exception e)
+        {
+            throw deserializationException(projectFile, e);
         }
     }
 
@@ -194,6 +219,21 @@ public class EntitySourceDirectory
         return this.serializer.deserialize(content);
     }
 
+    private static RuntimeException deserializationException(ProjectFileAccessProvider.ProjectFile projectFile, Exception e)
+    {
+        String eMessage = e.getMessage();
+        if ((e instanceof RuntimeException) && (eMessage != null) && eMessage.startsWith("Error deserializing entity "))
+        {
+            return (RuntimeException) e;
+        }
+        StringBuilder builder = new StringBuilder("Error deserializing entity from file ").append(projectFile.getPath());
+        if (eMessage != null)
+        {
+            builder.append(": ").append(eMessage);
+        }
+        return new LegendSDLCException(builder.toString(), e);
+    }
+
     private static void appendPackageablePathAsFilePath(StringBuilder builder, String packageablePath)
     {
         EntityPaths.forEachPathElement(packageablePath, elt -> builder.append('/').append(elt));
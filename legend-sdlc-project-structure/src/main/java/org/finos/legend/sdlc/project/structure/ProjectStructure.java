@@ -26,7 +26,9 @@ import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.domain.model.project.ProjectType;
@@ -57,6 +59,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -176,6 +179,27 @@ public abstract class ProjectStructure
         return this.entitySourceDirectories.detectWith(EntitySourceDirectory::canSerialize, entity);
     }
 
+    /**
+     * Find the first source directory where the given entity can be serialized, and serialize it for that source
+     * directory. This is equivalent to {@link #findSourceDirectoryForEntity} followed by serializing the entity, but
+     * avoids serializing it twice where checking whether it can be serialized involves serializing it.
+     *
+     * @param entity entity to serialize
+     * @return source directory where the entity can be serialized with the serialized entity, or null if there is none
+     */
+    public Pair<EntitySourceDirectory, byte[]> findSourceDirectoryAndSerializeEntity(Entity entity)
+    {
+        for (EntitySourceDirectory sourceDirectory : this.entitySourceDirectories)
+        {
+            Optional<byte[]> serialized = sourceDirectory.serializeToBytesIfPossible(entity);
+            if (serialized.isPresent())
+            {
+                return Tuples.pair(sourceDirectory, serialized.get());
+            }
+        }
+        return null;
+    }
+
     /**
      * Find the first source directory where the given file is possibly an entity file.
      *
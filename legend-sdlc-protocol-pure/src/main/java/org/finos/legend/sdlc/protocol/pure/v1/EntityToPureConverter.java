@@ -18,6 +18,7 @@ import org.finos.legend.engine.protocol.pure.m3.PackageableElement;
 import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.protocol.EntityToProtocolConverter;
+import org.finos.legend.sdlc.serialization.SerializedEntity;
 
 public class EntityToPureConverter extends EntityToProtocolConverter<PackageableElement>
 {
@@ -31,4 +32,10 @@ public class EntityToPureConverter extends EntityToProtocolConverter<Packageable
     {
         return PackageableElement.class;
     }
+
+    @Override
+    protected byte[] getSerializedEntity(Entity entity)
+    {
+        return (entity instanceof SerializedEntity) ? ((SerializedEntity) entity).getSerializedContent() : null;
+    }
 }
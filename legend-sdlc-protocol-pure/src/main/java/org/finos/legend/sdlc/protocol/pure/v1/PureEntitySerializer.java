@@ -14,7 +14,9 @@
 
 package org.finos.legend.sdlc.protocol.pure.v1;
 
+import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.partition.list.PartitionMutableList;
+import org.eclipse.collections.api.set.ImmutableSet;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
@@ -27,7 +29,9 @@ import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.section
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.section.SectionIndex;
 import org.finos.legend.engine.shared.core.api.grammar.RenderStyle;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.serialization.EntitySerializers;
 import org.finos.legend.sdlc.serialization.EntityTextSerializer;
+import org.finos.legend.sdlc.serialization.SerializedEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,15 +41,39 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class PureEntitySerializer implements EntityTextSerializer
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(PureEntitySerializer.class);
 
+    // Classifiers of elements which are known to survive rendering to Pure grammar and parsing back, so that for these
+    // it is enough that an entity can be converted to a protocol element
+    private static final ImmutableSet<String> ROUND_TRIP_CLASSIFIERS = Sets.immutable.with(
+            "meta::pure::metamodel::extension::Profile",
+            "meta::pure::metamodel::type::Enumeration");
+
+    // Results of round trip checks, keyed by a hash of the entity (classifier path and content). Serializers are
+    // created afresh for each project structure, so this is shared between them.
+    private static final int ROUND_TRIP_MEMO_MAX_SIZE = 10_000;
+    private static final Map<ByteBuffer, Boolean> ROUND_TRIP_MEMO = Collections.synchronizedMap(new LinkedHashMap<ByteBuffer, Boolean>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Boolean> eldest)
+        {
+            return size() > ROUND_TRIP_MEMO_MAX_SIZE;
+        }
+    });
+
+    private static final EntityTextSerializer JSON_SERIALIZER = EntitySerializers.getDefaultJsonSerializer();
+
     private final PureToEntityConverter pureToEntityConverter = new PureToEntityConverter();
     private final PureGrammarParser pureParser = PureGrammarParser.newInstance();
 
@@ -74,32 +102,97 @@ public class PureEntitySerializer implements EntityTextSerializer
             return false;
         }
 
+        if (ROUND_TRIP_CLASSIFIERS.contains(entity.getClassifierPath()))
+        {
+            return this.entityToPureConverter.fromEntityIfPossible(entity).isPresent();
+        }
+
+        ByteBuffer hash = getEntityHash(entity);
+        Boolean known = (hash == null) ? null : ROUND_TRIP_MEMO.get(hash);
+        return (known != null) ? known : (serializeAndCheckRoundTrip(entity, hash) != null);
+    }
+
+    @Override
+    public Optional<byte[]> serializeToBytesIfPossible(Entity entity)
+    {
+        if (!this.pureToEntityConverter.isSupportedClassifier(entity.getClassifierPath()))
+        {
+            return Optional.empty();
+        }
+
+        String serialized;
+        if (ROUND_TRIP_CLASSIFIERS.contains(entity.getClassifierPath()))
+        {
+            serialized = serializeIfPossible(entity);
+        }
+        else
+        {
+            ByteBuffer hash = getEntityHash(entity);
+            Boolean known = (hash == null) ? null : ROUND_TRIP_MEMO.get(hash);
+            if (known == null)
+            {
+                serialized = serializeAndCheckRoundTrip(entity, hash);
+            }
+            else
+            {
+                serialized = known ? serializeIfPossible(entity) : null;
+            }
+        }
+        return (serialized == null) ? Optional.empty() : Optional.of(serialized.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String serializeAndCheckRoundTrip(Entity entity, ByteBuffer hash)
+    {
+        String serialized = serializeIfPossible(entity);
+        if (serialized != null)
+        {
+            try
+            {
+                deserialize(serialized);
+            }
+            catch (Exception e)
+            {
+                LOGGER.error("Unable to deserialize entity \"{}\" with serializer \"{}\" after serializing it", entity.getPath(), getName(), e);
+                serialized = null;
+            }
+        }
+        if (hash != null)
+        {
+            ROUND_TRIP_MEMO.put(hash, serialized != null);
+        }
+        return serialized;
+    }
+
+    private String serializeIfPossible(Entity entity)
+    {
         Optional<PackageableElement> element = this.entityToPureConverter.fromEntityIfPossible(entity);
         if (!element.isPresent())
         {
-            return false;
+            return null;
         }
 
-        String serialized;
         try
         {
-            serialized = serializeToString(element.get());
+            return serializeToString(element.get());
         }
         catch (Exception e)
         {
             LOGGER.warn("Unable to serialize entity \"{}\" with serializer \"{}\"", entity.getPath(), getName(), e);
-            return false;
+            return null;
         }
+    }
 
+    private static ByteBuffer getEntityHash(Entity entity)
+    {
         try
         {
-            deserialize(serialized);
-            return true;
+            byte[] serialized = (entity instanceof SerializedEntity) ? ((SerializedEntity) entity).getSerializedContent() : JSON_SERIALIZER.serializeToBytes(entity);
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(serialized));
         }
         catch (Exception e)
         {
-            LOGGER.error("Unable to deserialize entity \"{}\" with serializer \"{}\" after serializing it", entity.getPath(), getName(), e);
-            return false;
+            LOGGER.debug("Unable to compute hash for entity \"{}\"", entity.getPath(), e);
+            return null;
         }
     }
 
@@ -17,6 +17,7 @@ package org.finos.legend.sdlc.protocol.pure.v1;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
 import org.finos.legend.engine.protocol.Protocol;
 import org.finos.legend.engine.protocol.pure.m3.PackageableElement;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
@@ -24,7 +25,11 @@ import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextPo
 import org.finos.legend.engine.protocol.pure.v1.model.context.SDLC;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public class PureModelContextDataBuilder
@@ -33,6 +38,7 @@ public class PureModelContextDataBuilder
     private final MutableList<PackageableElement> elements = Lists.mutable.empty();
     private Protocol protocol;
     private SDLC sdlc;
+    private boolean parallelConversion = false;
 
     private PureModelContextDataBuilder(EntityToPureConverter converter)
     {
@@ -68,7 +74,14 @@ public class PureModelContextDataBuilder
 
     public void addEntities(Stream<? extends Entity> entities)
     {
-        entities.forEach(this::addEntity);
+        if (this.parallelConversion)
+        {
+            addEntitiesInParallel(entities.collect(Collectors.toList()), false);
+        }
+        else
+        {
+            entities.forEach(this::addEntity);
+        }
     }
 
     public PureModelContextDataBuilder withEntities(Stream<? extends Entity> entities)
@@ -79,7 +92,14 @@ public class PureModelContextDataBuilder
 
     public void addEntities(Iterable<? extends Entity> entities)
     {
-        entities.forEach(this::addEntity);
+        if (this.parallelConversion)
+        {
+            addEntitiesInParallel(toList(entities), false);
+        }
+        else
+        {
+            entities.forEach(this::addEntity);
+        }
     }
 
     public PureModelContextDataBuilder withEntities(Iterable<? extends Entity> entities)
@@ -90,7 +110,14 @@ public class PureModelContextDataBuilder
 
     public void addEntities(Entity... entities)
     {
-        ArrayIterate.forEach(entities, this::addEntity);
+        if (this.parallelConversion)
+        {
+            addEntitiesInParallel(Arrays.asList(entities), false);
+        }
+        else
+        {
+            ArrayIterate.forEach(entities, this::addEntity);
+        }
     }
 
     public PureModelContextDataBuilder withEntities(Entity... entities)
@@ -114,7 +141,14 @@ public class PureModelContextDataBuilder
 
     public void addEntitiesIfPossible(Stream<? extends Entity> entities)
     {
-        entities.forEach(this::addEntityIfPossible);
+        if (this.parallelConversion)
+        {
+            addEntitiesInParallel(entities.collect(Collectors.toList()), true);
+        }
+        else
+        {
+            entities.forEach(this::addEntityIfPossible);
+        }
     }
 
     public PureModelContextDataBuilder withEntitiesIfPossible(Stream<? extends Entity> entities)
@@ -125,7 +159,14 @@ public class PureModelContextDataBuilder
 
     public void addEntitiesIfPossible(Iterable<? extends Entity> entities)
     {
-        entities.forEach(this::addEntityIfPossible);
+        if (this.parallelConversion)
+        {
+            addEntitiesInParallel(toList(entities), true);
+        }
+        else
+        {
+            entities.forEach(this::addEntityIfPossible);
+        }
     }
 
     public PureModelContextDataBuilder withEntitiesIfPossible(Iterable<? extends Entity> entities)
@@ -136,7 +177,14 @@ public class PureModelContextDataBuilder
 
     public void addEntitiesIfPossible(Entity... entities)
     {
-        ArrayIterate.forEach(entities, this::addEntityIfPossible);
+        if (this.parallelConversion)
+        {
+            addEntitiesInParallel(Arrays.asList(entities), true);
+        }
+        else
+        {
+            ArrayIterate.forEach(entities, this::addEntityIfPossible);
+        }
     }
 
     public PureModelContextDataBuilder withEntitiesIfPossible(Entity... entities)
@@ -145,6 +193,26 @@ public class PureModelContextDataBuilder
         return this;
     }
 
+    /**
+     * Set whether entities added in bulk are converted in parallel (on the common fork-join pool). Elements are added
+     * in the same order as the entities either way. When converting in parallel, a failure to convert one entity does
+     * not stop the conversion of the others: with {@code addEntities}, all the entities which can be converted are
+     * added, and then an exception is thrown for those which could not; with {@code addEntitiesIfPossible}, those
+     * which could not be converted are skipped, as when converting serially.
+     *
+     * @param parallelConversion whether to convert entities added in bulk in parallel
+     */
+    public void setParallelConversion(boolean parallelConversion)
+    {
+        this.parallelConversion = parallelConversion;
+    }
+
+    public PureModelContextDataBuilder withParallelConversion(boolean parallelConversion)
+    {
+        setParallelConversion(parallelConversion);
+        return this;
+    }
+
     public void setProtocol(Protocol protocol)
     {
         this.protocol = protocol;
@@ -190,6 +258,60 @@ public class PureModelContextDataBuilder
         return builder.build();
     }
 
+    private void addEntitiesInParallel(List<? extends Entity> entities, boolean ifPossible)
+    {
+        int size = entities.size();
+        PackageableElement[] elements = new PackageableElement[size];
+        RuntimeException[] failures = new RuntimeException[size];
+        IntStream.range(0, size).parallel().forEach(i ->
+        {
+            Entity entity = entities.get(i);
+            if (ifPossible)
+            {
+                elements[i] = this.converter.fromEntityIfPossible(entity).orElse(null);
+            }
+            else
+            {
+                try
+                {
+                    elements[i] = this.converter.fromEntity(entity);
+                }
+                catch (RuntimeException e)
+                {
+                    failures[i] = e;
+                }
+            }
+        });
+
+        MutableList<RuntimeException> failureList = Lists.mutable.empty();
+        for (int i = 0; i < size; i++)
+        {
+            if (elements[i] != null)
+            {
+                addPackageableElement(elements[i]);
+            }
+            else if (failures[i] != null)
+            {
+                failureList.add(failures[i]);
+            }
+        }
+        if (failureList.size() == 1)
+        {
+            throw failureList.get(0);
+        }
+        if (failureList.notEmpty())
+        {
+            IllegalArgumentException e = new IllegalArgumentException(failureList.size() + " entities could not be converted:" + failureList.collect(RuntimeException::getMessage).makeString("\n\t", "\n\t", ""));
+            failureList.forEach(e::addSuppressed);
+            throw e;
+        }
+    }
+
+    private static List<? extends Entity> toList(Iterable<? extends Entity> entities)
+    {
+        return (entities instanceof List) ? (List<? extends Entity>) entities : Iterate.addAllTo(entities, Lists.mutable.<Entity>empty());
+    }
+
     public static PureModelContextDataBuilder newBuilder()
     {
         return newBuilder(null);
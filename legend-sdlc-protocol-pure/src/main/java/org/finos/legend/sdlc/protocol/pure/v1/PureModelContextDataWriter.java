@@ -0,0 +1,198 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.sdlc.protocol.pure.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.finos.legend.engine.protocol.Protocol;
+import org.finos.legend.engine.protocol.pure.m3.PackageableElement;
+import org.finos.legend.engine.protocol.pure.v1.model.context.SDLC;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Writes Pure model context data as JSON directly from a stream of entities, without building a
+ * {@link org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData} first. The envelope (serializer
+ * and origin) is written first, followed by the elements one at a time, so only one element is held in memory at once.
+ * The output is equivalent to serializing the result of {@link PureModelContextDataBuilder} with the same protocol,
+ * SDLC and entities (using {@link PureModelContextDataBuilder#addEntityIfPossible}).
+ * <p>
+ * With raw entity content enabled, the content of each entity with a {@code _type} is written as it is, rather than
+ * converted to a protocol element and serialized again. This skips the conversion, but since the content is not
+ * validated, an entity which could not be converted is written instead of being skipped.
+ */
+public class PureModelContextDataWriter
+{
+    private static final String ELEMENTS = "elements";
+    private static final String TYPE = "_type";
+
+    private final EntityToPureConverter converter;
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+    private final ObjectWriter elementWriter = this.objectMapper.writerFor(PackageableElement.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    private final ObjectWriter contentWriter = this.objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    private Protocol protocol;
+    private SDLC sdlc;
+    private boolean rawEntityContent = false;
+
+    private PureModelContextDataWriter(EntityToPureConverter converter)
+    {
+        this.converter = (converter == null) ? new EntityToPureConverter() : converter;
+    }
+
+    public void setProtocol(Protocol protocol)
+    {
+        this.protocol = protocol;
+    }
+
+    public PureModelContextDataWriter withProtocol(Protocol protocol)
+    {
+        setProtocol(protocol);
+        return this;
+    }
+
+    public PureModelContextDataWriter withProtocol(String name, String version)
+    {
+        return withProtocol(new Protocol(name, version));
+    }
+
+    public void setSDLC(SDLC sdlc)
+    {
+        this.sdlc = sdlc;
+    }
+
+    public PureModelContextDataWriter withSDLC(SDLC sdlc)
+    {
+        setSDLC(sdlc);
+        return this;
+    }
+
+    public void setRawEntityContent(boolean rawEntityContent)
+    {
+        this.rawEntityContent = rawEntityContent;
+    }
+
+    public PureModelContextDataWriter withRawEntityContent(boolean rawEntityContent)
+    {
+        setRawEntityContent(rawEntityContent);
+        return this;
+    }
+
+    /**
+     * Write Pure model context data with the given entities to the output stream. The entities are consumed as they
+     * are written; the output stream is not closed.
+     *
+     * @param entities entities
+     * @param output   output stream
+     * @return number of elements written
+     * @throws IOException if an error occurs writing
+     */
+    public int write(Stream<? extends Entity> entities, OutputStream output) throws IOException
+    {
+        try (JsonGenerator generator = this.objectMapper.getFactory().createGenerator(output))
+        {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            return write(entities, generator);
+        }
+    }
+
+    /**
+     * Write Pure model context data with the given entities as the next value of the JSON generator. The entities are
+     * consumed as they are written.
+     *
+     * @param entities  entities
+     * @param generator JSON generator
+     * @return number of elements written
+     * @throws IOException if an error occurs writing
+     */
+    public int write(Stream<? extends Entity> entities, JsonGenerator generator) throws IOException
+    {
+        generator.writeStartObject();
+        writeEnvelopeFields(generator);
+        generator.writeArrayFieldStart(ELEMENTS);
+        int count = 0;
+        Iterator<? extends Entity> iterator = entities.iterator();
+        while (iterator.hasNext())
+        {
+            if (writeEntityIfPossible(iterator.next(), generator))
+            {
+                count++;
+            }
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        return count;
+    }
+
+    private void writeEnvelopeFields(JsonGenerator generator) throws IOException
+    {
+        // serialize the data without elements, so that the envelope is exactly as the protocol would write it
+        JsonNode envelope = this.objectMapper.valueToTree(PureModelContextDataBuilder.newBuilder().withProtocol(this.protocol).withSDLC(this.sdlc).build());
+        Iterator<Map.Entry<String, JsonNode>> fields = envelope.fields();
+        while (fields.hasNext())
+        {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!ELEMENTS.equals(field.getKey()))
+            {
+                generator.writeFieldName(field.getKey());
+                this.objectMapper.writeTree(generator, field.getValue());
+            }
+        }
+    }
+
+    private boolean writeEntityIfPossible(Entity entity, JsonGenerator generator) throws IOException
+    {
+        if (entity == null)
+        {
+            return false;
+        }
+        if (this.rawEntityContent)
+        {
+            Map<String, ?> content = entity.getContent();
+            if ((content != null) && (content.get(TYPE) instanceof String))
+            {
+                this.contentWriter.writeValue(generator, content);
+                return true;
+            }
+        }
+        Optional<PackageableElement> element = this.converter.fromEntityIfPossible(entity);
+        if (!element.isPresent())
+        {
+            return false;
+        }
+        this.elementWriter.writeValue(generator, element.get());
+        return true;
+    }
+
+    public static PureModelContextDataWriter newWriter()
+    {
+        return newWriter(null);
+    }
+
+    public static PureModelContextDataWriter newWriter(EntityToPureConverter converter)
+    {
+        return new PureModelContextDataWriter(converter);
+    }
+}
@@ -18,9 +18,12 @@ import org.finos.legend.engine.protocol.pure.m3.PackageableElement;
 import org.finos.legend.engine.protocol.pure.m3.type.Class;
 import org.finos.legend.sdlc.domain.model.TestTools;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.serialization.EntitySerializers;
+import org.finos.legend.sdlc.serialization.SerializedEntity;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -65,4 +68,31 @@ public class TestEntityToPureConverter
         Optional<PackageableElement> nothing = this.converter.fromEntityIfPossible(Entity.newEntity("note::a::real::PureEntity", "meta::unknown::NotAClassifier", Collections.emptyMap()));
         Assert.assertFalse(nothing.isPresent());
     }
+
+    @Test
+    public void testFromSerializedEntity() throws Exception
+    {
+        Entity entity = TestTools.newClassEntity("ClassWith1Property", "model::test", TestTools.newProperty("prop1", "String", 0, 1));
+        SerializedEntity serializedEntity = SerializedEntity.newSerializedEntity(EntitySerializers.getDefaultJsonSerializer().serializeToBytes(entity));
+        Assert.assertEquals(entity.getPath(), serializedEntity.getPath());
+        Assert.assertEquals(entity.getClassifierPath(), serializedEntity.getClassifierPath());
+
+        PackageableElement expected = this.converter.fromEntity(entity);
+        PackageableElement result = this.converter.fromEntity(serializedEntity);
+        Assert.assertTrue(result instanceof Class);
+        Assert.assertEquals(PureProtocolHelper.serializeForComparison(expected), PureProtocolHelper.serializeForComparison(result));
+        Assert.assertEquals(PureProtocolHelper.serializeForComparison(expected), PureProtocolHelper.serializeForComparison(this.converter.fromEntityIfPossible(serializedEntity).get()));
+
+        // invalid content is only detected on conversion
+        String invalidJson = "{\"classifierPath\": \"meta::pure::metamodel::type::Class\", \"content\": {\"_type\": \"class\", \"name\": \"Invalid\", \"package\": \"model::test\", \"properties\": \"not a list\"}}";
+        SerializedEntity invalid = SerializedEntity.newSerializedEntity(invalidJson.getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals("model::test::Invalid", invalid.getPath());
+        IllegalArgumentException e = Assert.assertThrows(IllegalArgumentException.class, () -> this.converter.fromEntity(invalid));
+        String expectedPrefix = "Could not convert entity model::test::Invalid with classifier meta::pure::metamodel::type::Class to class PackageableElement";
+        if (!e.getMessage().startsWith(expectedPrefix))
+        {
+            Assert.assertEquals(expectedPrefix, e.getMessage());
+        }
+        Assert.assertFalse(this.converter.fromEntityIfPossible(invalid).isPresent());
+    }
 }
@@ -35,6 +35,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 import java.util.regex.Pattern;
 
 public class TestPureEntitySerializer
@@ -118,6 +119,7 @@ public class TestPureEntitySerializer
     {
         Entity entity = readEntityFromJsonResource(buildResourceName("invalid", "TestNonPureEntity.json"));
         Assert.assertFalse(this.pureSerializer.canSerialize(entity));
+        Assert.assertFalse(this.pureSerializer.serializeToBytesIfPossible(entity).isPresent());
         IllegalArgumentException e = Assert.assertThrows(IllegalArgumentException.class, () -> this.pureSerializer.serializeToString(entity));
         String message = e.getMessage();
         String expectedStart = "Could not convert entity model::otherthings::AnotherThing with classifier meta::notpure::something::SomeType to class PackageableElement";
@@ -140,6 +142,12 @@ public class TestPureEntitySerializer
         Assert.assertTrue(this.pureSerializer.canSerialize(reducedEntity));
         assertTextEquivalent(pureCode, this.pureSerializer.serializeToString(reducedEntity));
         assertEntitiesEqual(fullEntity, this.pureSerializer.deserialize(pureCode));
+
+        // round trip results are remembered, and serializing if possible gives the same result
+        Assert.assertTrue(new PureEntitySerializer().canSerialize(fullEntity));
+        Optional<byte[]> serialized = new PureEntitySerializer().serializeToBytesIfPossible(fullEntity);
+        Assert.assertTrue(serialized.isPresent());
+        assertTextEquivalent(pureCode, new String(serialized.get(), StandardCharsets.UTF_8));
     }
 
     private void testPureSyntaxError(String expectedErrorMessage, String... names)
@@ -16,18 +16,24 @@ package org.finos.legend.sdlc.protocol.pure.v1;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.protocol.Protocol;
 import org.finos.legend.engine.protocol.pure.m3.type.Class;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.engine.protocol.pure.v1.model.context.SDLC;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.mapping.Mapping;
+import org.finos.legend.sdlc.domain.model.TestTools;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.serialization.EntityLoader;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 public class TestPureModelContextDataBuilder
 {
@@ -162,6 +168,55 @@ public class TestPureModelContextDataBuilder
                 pureModelContextData.getElementsOfType(Mapping.class));
     }
 
+    @Test
+    public void testParallelConversion()
+    {
+        MutableList<Entity> entities = Lists.mutable.empty();
+        for (int i = 0; i < 100; i++)
+        {
+            entities.add(TestTools.newClassEntity("Class" + i, "model::test", TestTools.newProperty("prop" + i, "String", 0, 1)));
+        }
+        PureModelContextData serial = PureModelContextDataBuilder.newBuilder().withEntities(entities).build();
+        PureModelContextData parallel = PureModelContextDataBuilder.newBuilder().withParallelConversion(true).withEntities(entities).build();
+        Assert.assertEquals(
+                ListIterate.collect(serial.getElements(), PureProtocolHelper::serializeForComparison),
+                ListIterate.collect(parallel.getElements(), PureProtocolHelper::serializeForComparison));
+        Assert.assertEquals(
+                ListIterate.collect(serial.getElements(), PureProtocolHelper::serializeForComparison),
+                ListIterate.collect(PureModelContextDataBuilder.newBuilder().withParallelConversion(true).withEntities(entities.stream()).build().getElements(), PureProtocolHelper::serializeForComparison));
+    }
+
+    @Test
+    public void testParallelConversionFailures()
+    {
+        MutableList<Entity> entities = Lists.mutable.empty();
+        for (int i = 0; i < 20; i++)
+        {
+            entities.add(TestTools.newClassEntity("Class" + i, "model::test"));
+            if (i % 5 == 0)
+            {
+                entities.add(Entity.newEntity("not::a::real::PureEntity" + i, "meta::unknown::NotAClassifier", Collections.emptyMap()));
+            }
+        }
+
+        // failures are skipped, and do not stop the other entities being converted
+        PureModelContextDataBuilder ifPossibleBuilder = PureModelContextDataBuilder.newBuilder().withParallelConversion(true).withEntitiesIfPossible(entities);
+        Assert.assertEquals(20, ifPossibleBuilder.getElementCount());
+        Assert.assertEquals(
+                entities.select(e -> e.getPath().startsWith("model::")).collect(Entity::getPath),
+                ListIterate.collect(ifPossibleBuilder.build().getElements(), e -> e.getPath()));
+
+        // failures are all reported, after the other entities are added
+        PureModelContextDataBuilder builder = PureModelContextDataBuilder.newBuilder().withParallelConversion(true);
+        IllegalArgumentException e = Assert.assertThrows(IllegalArgumentException.class, () -> builder.addEntities(entities));
+        Assert.assertEquals(20, builder.getElementCount());
+        Assert.assertEquals(4, e.getSuppressed().length);
+        Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("4 entities could not be converted:"));
+        Assert.assertEquals(
+                Lists.mutable.with("not::a::real::PureEntity0", "not::a::real::PureEntity5", "not::a::real::PureEntity10", "not::a::real::PureEntity15"),
+                Arrays.stream(e.getSuppressed()).map(s -> s.getMessage().split(" ")[4]).collect(Collectors.toList()));
+    }
+
     private static class TestSDLC extends SDLC
     {
         private final String project;
@@ -0,0 +1,117 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.sdlc.protocol.pure.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.finos.legend.engine.protocol.Protocol;
+import org.finos.legend.engine.protocol.pure.v1.model.context.AlloySDLC;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.serialization.EntityLoader;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class TestPureModelContextDataWriter
+{
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+
+    @Test
+    public void testEmpty() throws Exception
+    {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Assert.assertEquals(0, PureModelContextDataWriter.newWriter().write(Lists.mutable.<Entity>empty().stream(), output));
+
+        PureModelContextData pureModelContextData = this.objectMapper.readValue(output.toByteArray(), PureModelContextData.class);
+        Assert.assertNull(pureModelContextData.serializer);
+        Assert.assertNull(pureModelContextData.origin);
+        Assert.assertEquals(Collections.emptyList(), pureModelContextData.getElements());
+    }
+
+    @Test
+    public void testMatchesBuilder() throws Exception
+    {
+        MutableList<Entity> entities = loadEntities();
+        // cannot be converted, so should be skipped
+        entities.add(Entity.newEntity("not::a::real::PureEntity", "meta::unknown::NotAClassifier", Collections.emptyMap()));
+
+        AlloySDLC sdlc = new AlloySDLC();
+        sdlc.project = "someProject";
+        sdlc.baseVersion = "1234567890abcdef";
+        PureModelContextData expected = PureModelContextDataBuilder.newBuilder()
+                .withProtocol("someProtocol", "3.2.1")
+                .withSDLC(sdlc)
+                .withEntitiesIfPossible(entities)
+                .build();
+        Assert.assertEquals(3, expected.getElements().size());
+
+        for (boolean rawEntityContent : new boolean[]{false, true})
+        {
+            String message = "raw entity content: " + rawEntityContent;
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            int count = PureModelContextDataWriter.newWriter()
+                    .withProtocol("someProtocol", "3.2.1")
+                    .withSDLC(sdlc)
+                    .withRawEntityContent(rawEntityContent)
+                    .write(entities.stream(), output);
+            Assert.assertEquals(message, 3, count);
+
+            PureModelContextData actual = this.objectMapper.readValue(output.toByteArray(), PureModelContextData.class);
+            Assert.assertEquals(message, new Protocol("someProtocol", "3.2.1"), actual.serializer);
+            Assert.assertEquals(message, new Protocol("someProtocol", "3.2.1"), actual.origin.serializer);
+            Assert.assertEquals(message, sdlc.project, ((AlloySDLC) actual.origin.sdlcInfo).project);
+            Assert.assertEquals(message, sdlc.baseVersion, actual.origin.sdlcInfo.baseVersion);
+            Assert.assertEquals(
+                    message,
+                    ListIterate.collect(expected.getElements(), PureProtocolHelper::serializeForComparison),
+                    ListIterate.collect(actual.getElements(), PureProtocolHelper::serializeForComparison));
+        }
+    }
+
+    @Test
+    public void testRawEntityContent() throws Exception
+    {
+        // has a type, but the content is not valid for it
+        Entity invalid = Entity.newEntity("model::domain::Invalid", "meta::pure::metamodel::type::Class", Maps.mutable.with("_type", "class", "name", "Invalid", "package", "model::domain", "properties", "not a list"));
+
+        ByteArrayOutputStream converted = new ByteArrayOutputStream();
+        Assert.assertEquals(0, PureModelContextDataWriter.newWriter().write(Lists.mutable.with(invalid).stream(), converted));
+
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        Assert.assertEquals(1, PureModelContextDataWriter.newWriter().withRawEntityContent(true).write(Lists.mutable.with(invalid).stream(), raw));
+        Assert.assertEquals(
+                Collections.singletonList(invalid.getContent()),
+                this.objectMapper.readTree(raw.toByteArray()).get("elements").traverse(this.objectMapper).readValueAs(Object.class));
+    }
+
+    private MutableList<Entity> loadEntities() throws Exception
+    {
+        try (EntityLoader entityLoader = EntityLoader.newEntityLoader(Paths.get(Objects.requireNonNull(getClass().getClassLoader().getResource("pure-model-context-data-builder-test-model")).toURI())))
+        {
+            return entityLoader.getAllEntities().collect(Collectors.toCollection(Lists.mutable::empty));
+        }
+    }
+}
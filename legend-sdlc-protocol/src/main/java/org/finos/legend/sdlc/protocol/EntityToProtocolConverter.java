@@ -14,9 +14,13 @@
 
 package org.finos.legend.sdlc.protocol;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Optional;
 
@@ -36,10 +40,15 @@ public abstract class EntityToProtocolConverter<T>
             throw new IllegalArgumentException("Cannot convert null entity");
         }
 
-        Map<String, ?> content = entity.getContent();
-        if (content == null)
+        byte[] serializedEntity = getSerializedEntity(entity);
+        Map<String, ?> content = null;
+        if (serializedEntity == null)
         {
-            throw new IllegalArgumentException("Could not convert entity " + entity.getPath() + " with classifier " + entity.getClassifierPath() + ": null content");
+            content = entity.getContent();
+            if (content == null)
+            {
+                throw new IllegalArgumentException("Could not convert entity " + entity.getPath() + " with classifier " + entity.getClassifierPath() + ": null content");
+            }
         }
 
         Class<? extends T> targetClass = getTargetClass(entity);
@@ -50,7 +59,7 @@ public abstract class EntityToProtocolConverter<T>
 
         try
         {
-            return this.objectMapper.convertValue(content, targetClass);
+            return (serializedEntity == null) ? this.objectMapper.convertValue(content, targetClass) : readContent(serializedEntity, targetClass);
         }
         catch (Exception e)
         {
@@ -68,15 +77,16 @@ public abstract class EntityToProtocolConverter<T>
     {
         if (entity != null)
         {
-            Map<String, ?> content = entity.getContent();
-            if (content != null)
+            byte[] serializedEntity = getSerializedEntity(entity);
+            Map<String, ?> content = (serializedEntity == null) ? entity.getContent() : null;
+            if ((serializedEntity != null) || (content != null))
             {
                 Class<? extends T> targetClass = getTargetClass(entity);
                 if (targetClass != null)
                 {
                     try
                     {
-                        return Optional.ofNullable(this.objectMapper.convertValue(content, targetClass));
+                        return Optional.ofNullable((serializedEntity == null) ? this.objectMapper.convertValue(content, targetClass) : readContent(serializedEntity, targetClass));
                     }
                     catch (Exception ignore)
                     {
@@ -88,5 +98,41 @@ public abstract class EntityToProtocolConverter<T>
         return Optional.empty();
     }
 
+    /**
+     * Get the entity serialized in the default JSON entity format (an object with classifierPath and content), if it
+     * is available without serializing the entity. If it is, the content is bound to the target class straight from
+     * the serialized form, rather than from the generic content map, which need never be built. The default
+     * implementation returns null.
+     *
+     * @param entity entity
+     * @return serialized entity or null
+     */
+    protected byte[] getSerializedEntity(Entity entity)
+    {
+        return null;
+    }
+
     protected abstract Class<? extends T> getTargetClass(Entity entity);
+
+    private T readContent(byte[] serializedEntity, Class<? extends T> targetClass) throws IOException
+    {
+        try (JsonParser parser = this.objectMapper.getFactory().createParser(serializedEntity))
+        {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+            {
+                throw new JsonParseException(parser, "Expected start of entity object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if ("content".equals(field) && (token != JsonToken.VALUE_NULL))
+                {
+                    return this.objectMapper.readValue(parser, targetClass);
+                }
+                parser.skipChildren();
+            }
+        }
+        throw new IllegalArgumentException("null content");
+    }
 }
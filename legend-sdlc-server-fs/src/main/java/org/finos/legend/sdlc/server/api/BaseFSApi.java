@@ -16,7 +16,6 @@ package org.finos.legend.sdlc.server.api;
 
 import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.lib.Repository;
-import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
 import org.finos.legend.sdlc.domain.model.revision.Revision;
 import org.finos.legend.sdlc.domain.model.revision.RevisionAlias;
 import org.finos.legend.sdlc.server.api.workspace.FileSystemWorkspaceApi;
@@ -47,6 +46,10 @@ public class BaseFSApi
         return this.rootDirectory;
     }
 
+    /**
+     * Open the repository for the given project, or return null if there is none. The repository is shared through
+     * {@link FileSystemRepositoryRegistry} and must be closed by the caller when done.
+     */
     public Repository retrieveRepo(String projectId)
     {
         try
@@ -55,7 +58,7 @@ public class BaseFSApi
             File repoDir = new File(repoDirPath);
             if (repoDir.exists() && repoDir.isDirectory())
             {
-                return FileRepositoryBuilder.create(repoDir);
+                return FileSystemRepositoryRegistry.open(repoDir);
             }
         }
         catch (Exception e)
@@ -68,9 +71,8 @@ public class BaseFSApi
     public Ref getGitBranch(String projectId, String branchName)
     {
         String refBranchName = branchName;
-        try
+        try (Repository repository = retrieveRepo(projectId))
         {
-            Repository repository = retrieveRepo(projectId);
             return repository.getRefDatabase().findRef(refBranchName);
         }
         catch (Exception e)
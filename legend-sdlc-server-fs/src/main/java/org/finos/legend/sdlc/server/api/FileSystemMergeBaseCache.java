@@ -0,0 +1,111 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.api;
+
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.revwalk.filter.RevFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Process-wide cache of merge bases for the file system backend, held per repository and keyed by the ids of the two
+ * commits. The merge base of two commits never changes, so entries never need to be invalidated; each repository
+ * keeps the most recently used results, up to a fixed number.
+ */
+public class FileSystemMergeBaseCache
+{
+    private static final int MAX_ENTRIES_PER_REPOSITORY = 1024;
+
+    private static final ConcurrentMap<String, Map<String, ObjectId>> CACHES = new ConcurrentHashMap<>();
+
+    private FileSystemMergeBaseCache()
+    {
+    }
+
+    /**
+     * Get the merge base of two commits, or null if they have none. When there is more than one merge base, the first
+     * found is returned.
+     *
+     * @param repository repository
+     * @param revWalk    walk over the repository, used to parse the result (its state is reset)
+     * @param commitId1  first commit id
+     * @param commitId2  second commit id
+     * @return merge base commit or null
+     * @throws IOException if the commits cannot be read
+     */
+    public static RevCommit getMergeBase(Repository repository, RevWalk revWalk, AnyObjectId commitId1, AnyObjectId commitId2) throws IOException
+    {
+        if (commitId1.equals(commitId2))
+        {
+            return revWalk.parseCommit(commitId1);
+        }
+
+        // the merge base is symmetric, so order the pair
+        String key = (commitId1.compareTo(commitId2) < 0) ? (commitId1.name() + commitId2.name()) : (commitId2.name() + commitId1.name());
+        Map<String, ObjectId> cache = CACHES.computeIfAbsent(repository.getDirectory().getAbsolutePath(), k -> newCache());
+        ObjectId mergeBaseId;
+        synchronized (cache)
+        {
+            mergeBaseId = cache.get(key);
+        }
+        if (mergeBaseId != null)
+        {
+            return revWalk.parseCommit(mergeBaseId);
+        }
+
+        RevCommit mergeBase;
+        revWalk.reset();
+        try
+        {
+            revWalk.setRevFilter(RevFilter.MERGE_BASE);
+            revWalk.markStart(revWalk.parseCommit(commitId1));
+            revWalk.markStart(revWalk.parseCommit(commitId2));
+            mergeBase = revWalk.next();
+        }
+        finally
+        {
+            revWalk.reset();
+            revWalk.setRevFilter(RevFilter.ALL);
+        }
+        if (mergeBase != null)
+        {
+            synchronized (cache)
+            {
+                cache.put(key, mergeBase.copy());
+            }
+        }
+        return (mergeBase == null) ? null : revWalk.parseCommit(mergeBase);
+    }
+
+    private static Map<String, ObjectId> newCache()
+    {
+        return new LinkedHashMap<String, ObjectId>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ObjectId> eldest)
+            {
+                return size() > MAX_ENTRIES_PER_REPOSITORY;
+            }
+        };
+    }
+}
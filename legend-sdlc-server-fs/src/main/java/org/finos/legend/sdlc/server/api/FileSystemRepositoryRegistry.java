@@ -0,0 +1,117 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.api;
+
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.RepositoryCache;
+import org.eclipse.jgit.lib.RepositoryCacheConfig;
+import org.eclipse.jgit.storage.file.WindowCacheConfig;
+import org.eclipse.jgit.util.FS;
+import org.finos.legend.sdlc.server.startup.FSConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Process-wide registry of open JGit repositories for the file system backend. Repositories are held in the JGit
+ * {@link RepositoryCache}, so repeated requests against the same project share one {@link Repository} (with its ref
+ * database, config and pack file handles) instead of re-opening it each time. Each call to {@link #open} must be
+ * matched by a call to {@link Repository#close()}; repositories which have not been used for the configured idle time
+ * are closed by the cache.
+ */
+public class FileSystemRepositoryRegistry
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemRepositoryRegistry.class);
+
+    private static final ConcurrentMap<String, Lock> REF_LOCKS = new ConcurrentHashMap<>();
+
+    private FileSystemRepositoryRegistry()
+    {
+    }
+
+    /**
+     * Open the repository with the given git directory. The returned repository must be closed by the caller.
+     *
+     * @param gitDir git directory (usually ending with .git)
+     * @return repository
+     * @throws IOException if the directory is not a git repository or cannot be read
+     */
+    public static Repository open(File gitDir) throws IOException
+    {
+        return RepositoryCache.open(RepositoryCache.FileKey.exact(gitDir, FS.DETECTED), true);
+    }
+
+    /**
+     * Get the lock which serializes updates to a ref of a repository within this process. Ref updates are
+     * compare-and-swap, so the lock only prevents concurrent updates of the same ref from failing each other.
+     *
+     * @param repository repository
+     * @param refName    full ref name
+     * @return ref lock
+     */
+    public static Lock getRefLock(Repository repository, String refName)
+    {
+        return REF_LOCKS.computeIfAbsent(repository.getDirectory().getAbsolutePath() + ':' + refName, k -> new ReentrantLock());
+    }
+
+    /**
+     * Apply repository cache settings. This installs the JGit window cache (pack file access) and repository cache
+     * configurations, which are global to the process. Null values leave the JGit defaults in place.
+     *
+     * @param configuration repository cache configuration (may be null)
+     */
+    public static void configure(FSConfiguration.RepositoryCacheConfiguration configuration)
+    {
+        if (configuration == null)
+        {
+            return;
+        }
+
+        WindowCacheConfig windowCacheConfig = new WindowCacheConfig();
+        if (configuration.getPackedGitOpenFiles() != null)
+        {
+            windowCacheConfig.setPackedGitOpenFiles(configuration.getPackedGitOpenFiles());
+        }
+        if (configuration.getPackedGitLimit() != null)
+        {
+            windowCacheConfig.setPackedGitLimit(configuration.getPackedGitLimit());
+        }
+        if (configuration.getDeltaBaseCacheLimit() != null)
+        {
+            windowCacheConfig.setDeltaBaseCacheLimit(configuration.getDeltaBaseCacheLimit());
+        }
+        if (configuration.getStreamFileThreshold() != null)
+        {
+            windowCacheConfig.setStreamFileThreshold(configuration.getStreamFileThreshold());
+        }
+        windowCacheConfig.install();
+
+        if (configuration.getIdleExpirationMillis() != null)
+        {
+            RepositoryCacheConfig repositoryCacheConfig = new RepositoryCacheConfig();
+            repositoryCacheConfig.setExpireAfter(configuration.getIdleExpirationMillis(), TimeUnit.MILLISECONDS);
+            repositoryCacheConfig.install();
+        }
+        LOGGER.debug("Installed repository cache configuration: packedGitOpenFiles={}, packedGitLimit={}, deltaBaseCacheLimit={}, streamFileThreshold={}, idleExpirationMillis={}",
+                windowCacheConfig.getPackedGitOpenFiles(), windowCacheConfig.getPackedGitLimit(), windowCacheConfig.getDeltaBaseCacheLimit(), windowCacheConfig.getStreamFileThreshold(), configuration.getIdleExpirationMillis());
+    }
+}
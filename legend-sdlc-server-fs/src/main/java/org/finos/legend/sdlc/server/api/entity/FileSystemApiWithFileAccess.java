@@ -15,14 +15,25 @@
 package org.finos.legend.sdlc.server.api.entity;
 
 import org.eclipse.collections.api.list.MutableList;
-import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.dircache.DirCacheBuilder;
+import org.eclipse.jgit.dircache.DirCacheEditor;
+import org.eclipse.jgit.dircache.DirCacheEntry;
 import org.eclipse.jgit.lib.*;
 import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevSort;
 import org.eclipse.jgit.revwalk.RevTree;
 import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.revwalk.filter.CommitTimeRevFilter;
+import org.eclipse.jgit.revwalk.filter.RevFilter;
 import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilterGroup;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
 import org.finos.legend.sdlc.domain.model.revision.Revision;
 import org.finos.legend.sdlc.server.api.BaseFSApi;
+import org.finos.legend.sdlc.server.api.FileSystemMergeBaseCache;
+import org.finos.legend.sdlc.server.api.FileSystemRepositoryRegistry;
 import org.finos.legend.sdlc.project.source.SourceSpecification;
 import org.finos.legend.sdlc.server.domain.model.revision.FileSystemRevision;
 import org.finos.legend.sdlc.server.error.LegendSDLCServerException;
@@ -31,20 +42,27 @@ import org.finos.legend.sdlc.project.files.AbstractFileAccessContext;
 import org.finos.legend.sdlc.project.files.ProjectFileAccessProvider;
 import org.finos.legend.sdlc.project.files.ProjectFileOperation;
 import org.finos.legend.sdlc.project.files.ProjectFiles;
+import org.finos.legend.sdlc.project.files.ProjectPaths;
 import org.finos.legend.sdlc.server.startup.FSConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.ws.rs.core.Response;
-import java.io.File;
-import java.nio.file.Files;
-import java.nio.file.StandardOpenOption;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public abstract class FileSystemApiWithFileAccess extends BaseFSApi
 {
@@ -71,81 +89,192 @@ public abstract class FileSystemApiWithFileAccess extends BaseFSApi
         @Override
         protected Stream<ProjectFileAccessProvider.ProjectFile> getFilesInCanonicalDirectories(MutableList<String> directories)
         {
-            List<ProjectFileAccessProvider.ProjectFile> files = new ArrayList<>();
             Repository repo = retrieveRepo(this.projectId);
+            ObjectReader reader = null;
+            TreeWalk treeWalk = null;
             try
             {
-                ObjectId commitId = ObjectId.fromString(revisionId);
-                RevCommit commit = repo.parseCommit(commitId);
-                RevTree tree = commit.getTree();
-                TreeWalk treeWalk = new TreeWalk(repo);
+                reader = repo.newObjectReader();
+                RevTree tree;
+                try (RevWalk revWalk = new RevWalk(reader))
+                {
+                    tree = resolveTree(repo, revWalk);
+                }
+                treeWalk = new TreeWalk(reader);
                 treeWalk.addTree(tree);
                 treeWalk.setRecursive(true);
-
-                while (treeWalk.next())
+                if (!directories.contains(ProjectPaths.ROOT_DIRECTORY))
                 {
-                    String path = treeWalk.getPathString();
-                    if (directories.anySatisfy(d -> path.startsWith(d)))
-                    {
-                        files.add(getFile(path));
-                    }
+                    // canonical directories start and end with /, whereas tree paths have neither
+                    treeWalk.setFilter(PathFilterGroup.createFromStrings(directories.collect(d -> d.substring(1, d.length() - 1))));
                 }
+                TreeWalkFileIterator iterator = new TreeWalkFileIterator(this.projectId, repo, reader, treeWalk);
+                return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(iterator::close);
             }
             catch (Exception e)
             {
+                if (treeWalk != null)
+                {
+                    treeWalk.close();
+                }
+                if (reader != null)
+                {
+                    reader.close();
+                }
+                if (repo != null)
+                {
+                    repo.close();
+                }
                 throw FSException.getLegendSDLCServerException("Error getting files in directories for " + projectId, e);
             }
-            return files.stream();
         }
 
         @Override
         public ProjectFileAccessProvider.ProjectFile getFile(String path)
         {
-            String branchName = getRefBranchName(sourceSpecification);
-            try
+            try (Repository repo = retrieveRepo(this.projectId);
+                 ObjectReader reader = repo.newObjectReader();
+                 RevWalk revWalk = new RevWalk(reader))
             {
-                Repository repo = retrieveRepo(this.projectId);
-                RevWalk revWalk = new RevWalk(repo);
-                RevCommit branchCommit = revWalk.parseCommit(repo.resolve(branchName));
-                RevTree branchTree = branchCommit.getTree();
-                path = path.startsWith("/") ? path.substring(1) : path;
-                try (TreeWalk treeWalk = TreeWalk.forPath(repo, path, branchTree))
+                String relativePath = path.startsWith("/") ? path.substring(1) : path;
+                try (TreeWalk treeWalk = TreeWalk.forPath(reader, relativePath, resolveTree(repo, revWalk)))
                 {
-                    if (treeWalk != null)
+                    if (treeWalk == null)
                     {
-                        ObjectId objectId = treeWalk.getObjectId(0);
-                        ObjectReader objectReader = repo.newObjectReader();
-                        byte[] fileBytes = objectReader.open(objectId).getBytes();
-                        return ProjectFiles.newByteArrayProjectFile(path, fileBytes);
+                        return null;
                     }
+                    byte[] fileBytes = reader.open(treeWalk.getObjectId(0), Constants.OBJ_BLOB).getBytes();
+                    return ProjectFiles.newByteArrayProjectFile("/" + relativePath, fileBytes);
                 }
             }
             catch (Exception e)
             {
                 throw FSException.getLegendSDLCServerException("Error getting file " + path, e);
             }
-            return null;
         }
 
         @Override
         public boolean fileExists(String path)
         {
-            String workspaceId = getRefBranchName(sourceSpecification);
-            try
+            try (Repository repo = retrieveRepo(this.projectId);
+                 ObjectReader reader = repo.newObjectReader();
+                 RevWalk revWalk = new RevWalk(reader))
             {
-                Repository repo = retrieveRepo(this.projectId);
-                RevWalk revWalk = new RevWalk(repo);
-                RevCommit branchCommit = revWalk.parseCommit(repo.resolve(workspaceId));
-                RevTree branchTree = branchCommit.getTree();
-                path = path.startsWith("/") ? path.substring(1) : path;
-                try (TreeWalk treeWalk = TreeWalk.forPath(repo, path, branchTree))
+                try (TreeWalk treeWalk = TreeWalk.forPath(reader, path.startsWith("/") ? path.substring(1) : path, resolveTree(repo, revWalk)))
                 {
                     return treeWalk != null;
                 }
             }
             catch (Exception e)
             {
-                throw FSException.getLegendSDLCServerException("Error occurred while parsing Git commit for workspace " + workspaceId, e);
+                throw FSException.getLegendSDLCServerException("Error occurred while parsing Git commit for " + getRefBranchName(this.sourceSpecification), e);
+            }
+        }
+
+        private RevTree resolveTree(Repository repo, RevWalk revWalk) throws IOException
+        {
+            // the requested revision if there is one, otherwise the current revision of the branch
+            ObjectId commitId = (this.revisionId == null) ? repo.resolve(getRefBranchName(this.sourceSpecification)) : ObjectId.fromString(this.revisionId);
+            if (commitId == null)
+            {
+                throw new LegendSDLCServerException("Failed to resolve " + this.sourceSpecification + " in project " + this.projectId, Response.Status.NOT_FOUND);
+            }
+            return revWalk.parseCommit(commitId).getTree();
+        }
+    }
+
+    /**
+     * Iterates over the files of a single tree walk. Blob contents are loaded on demand through the reader of the
+     * walk, which is shared by all files. The repository handle and reader are released when the iteration is
+     * exhausted or closed; contents loaded after that are read through a fresh reader.
+     */
+    private class TreeWalkFileIterator implements Iterator<ProjectFileAccessProvider.ProjectFile>
+    {
+        private final String projectId;
+        private final Repository repo;
+        private final ObjectReader reader;
+        private final TreeWalk treeWalk;
+        private ProjectFileAccessProvider.ProjectFile next;
+        private boolean closed = false;
+
+        private TreeWalkFileIterator(String projectId, Repository repo, ObjectReader reader, TreeWalk treeWalk)
+        {
+            this.projectId = projectId;
+            this.repo = repo;
+            this.reader = reader;
+            this.treeWalk = treeWalk;
+        }
+
+        @Override
+        public synchronized boolean hasNext()
+        {
+            if ((this.next == null) && !this.closed)
+            {
+                try
+                {
+                    if (this.treeWalk.next())
+                    {
+                        String path = "/" + this.treeWalk.getPathString();
+                        ObjectId objectId = this.treeWalk.getObjectId(0);
+                        this.next = ProjectFiles.newByteArrayProjectFile(path, p -> loadBlob(p, objectId));
+                    }
+                    else
+                    {
+                        close();
+                    }
+                }
+                catch (IOException e)
+                {
+                    close();
+                    throw FSException.getLegendSDLCServerException("Error getting files for " + this.projectId, e);
+                }
+            }
+            return this.next != null;
+        }
+
+        @Override
+        public synchronized ProjectFileAccessProvider.ProjectFile next()
+        {
+            if (!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            ProjectFileAccessProvider.ProjectFile file = this.next;
+            this.next = null;
+            return file;
+        }
+
+        synchronized void close()
+        {
+            if (!this.closed)
+            {
+                this.closed = true;
+                this.treeWalk.close();
+                this.reader.close();
+                this.repo.close();
+            }
+        }
+
+        private byte[] loadBlob(String path, ObjectId objectId)
+        {
+            try
+            {
+                synchronized (this)
+                {
+                    if (!this.closed)
+                    {
+                        return this.reader.open(objectId, Constants.OBJ_BLOB).getBytes();
+                    }
+                }
+                try (Repository repository = retrieveRepo(this.projectId);
+                     ObjectReader objectReader = repository.newObjectReader())
+                {
+                    return objectReader.open(objectId, Constants.OBJ_BLOB).getBytes();
+                }
+            }
+            catch (IOException e)
+            {
+                throw FSException.getLegendSDLCServerException("Error getting file " + path, e);
             }
         }
     }
@@ -154,24 +283,24 @@ public abstract class FileSystemApiWithFileAccess extends BaseFSApi
     {
         private final String projectId;
         private final SourceSpecification sourceSpecification;
+        private final MutableList<String> paths;
 
-        public FileSystemRevisionAccessContext(String projectId, SourceSpecification sourceSpecification)
+        public FileSystemRevisionAccessContext(String projectId, SourceSpecification sourceSpecification, Iterable<? extends String> paths)
         {
             this.projectId = projectId;
             this.sourceSpecification = Objects.requireNonNull(sourceSpecification, "source specification may not be null");
+            this.paths = (paths == null) ? null : ProjectPaths.canonicalizeAndReduceDirectories(paths);
         }
 
         @Override
         public Revision getCurrentRevision()
         {
             String branchName = getRefBranchName(sourceSpecification);
-            Repository repo = retrieveRepo(this.projectId);
-            try
+            try (Repository repo = retrieveRepo(this.projectId);
+                 RevWalk revWalk = new RevWalk(repo))
             {
                 ObjectId commitId = repo.resolve(branchName);
-                RevWalk revWalk = new RevWalk(repo);
                 RevCommit commit = revWalk.parseCommit(commitId);
-                revWalk.dispose();
                 return getRevisionInfo(commit);
             }
             catch (Exception e)
@@ -184,28 +313,14 @@ public abstract class FileSystemApiWithFileAccess extends BaseFSApi
         public Revision getBaseRevision()
         {
             String branchName = getRefBranchName(sourceSpecification);
-            Repository repo = retrieveRepo(this.projectId);
-            try
+            try (Repository repo = retrieveRepo(this.projectId);
+                 RevWalk revWalk = new RevWalk(repo))
             {
                 Ref branchRef = repo.exactRef(Constants.R_HEADS + branchName);
-                ObjectId branchCommitId = branchRef.getObjectId();
                 ObjectId masterCommitId = repo.resolve(Constants.R_HEADS + "master");
-                RevWalk revWalk = new RevWalk(repo);
-                RevCommit branchCommit = revWalk.parseCommit(branchCommitId);
-                if (masterCommitId.equals(branchCommitId)) // If branch is master, return the first commit
-                {
-                    RevCommit baseCommit = revWalk.parseCommit(masterCommitId);
-                    revWalk.dispose();
-                    return getRevisionInfo(baseCommit);
-                }
-                else
-                {
-                    revWalk.markStart(branchCommit);
-                    revWalk.markStart(revWalk.parseCommit(masterCommitId));
-                    RevCommit baseCommit = revWalk.next(); // Finds the common commit which is merge base
-                    revWalk.dispose();
-                    return getRevisionInfo(baseCommit);
-                }
+                // the base of master is its current revision; otherwise, the merge base of the branch and master
+                RevCommit baseCommit = FileSystemMergeBaseCache.getMergeBase(repo, revWalk, branchRef.getObjectId(), masterCommitId);
+                return getRevisionInfo(baseCommit);
             }
             catch (Exception e)
             {
@@ -223,13 +338,11 @@ public abstract class FileSystemApiWithFileAccess extends BaseFSApi
                 throw new LegendSDLCServerException("Failed to resolve revision " + revisionId + " of project " + this.projectId, Response.Status.NOT_FOUND);
             }
             String branchName = getRefBranchName(sourceSpecification);
-            Repository repo = retrieveRepo(this.projectId);
-            try
+            try (Repository repo = retrieveRepo(this.projectId);
+                 RevWalk revWalk = new RevWalk(repo))
             {
                 ObjectId commitId = ObjectId.fromString(resolvedRevisionId);
-                RevWalk revWalk = new RevWalk(repo);
                 RevCommit commit = revWalk.parseCommit(commitId);
-                revWalk.dispose();
                 return getRevisionInfo(commit);
             }
             catch (Exception e)
@@ -238,10 +351,68 @@ public abstract class FileSystemApiWithFileAccess extends BaseFSApi
             }
         }
 
+        /**
+         * Get the revisions of the branch, most recent first. Path, time and limit restrictions are applied in the
+         * revision walk, which stops as soon as the limit is reached or the commits are older than since.
+         */
         @Override
         public Stream<Revision> getAllRevisions(Predicate<? super Revision> predicate, Instant since, Instant until, Integer limit)
         {
-            throw new UnsupportedOperationException("Not implemented");
+            if ((limit != null) && (limit <= 0))
+            {
+                return Stream.empty();
+            }
+            String branchName = getRefBranchName(this.sourceSpecification);
+            try (Repository repo = retrieveRepo(this.projectId);
+                 RevWalk revWalk = new RevWalk(repo))
+            {
+                Ref branchRef = repo.exactRef(Constants.R_HEADS + branchName);
+                if (branchRef == null)
+                {
+                    throw new LegendSDLCServerException("Failed to resolve " + this.sourceSpecification + " in project " + this.projectId, Response.Status.NOT_FOUND);
+                }
+                revWalk.sort(RevSort.COMMIT_TIME_DESC);
+                RevFilter timeFilter = getTimeFilter(since, until);
+                if (timeFilter != null)
+                {
+                    revWalk.setRevFilter(timeFilter);
+                }
+                if ((this.paths != null) && !this.paths.contains(ProjectPaths.ROOT_DIRECTORY))
+                {
+                    // canonical paths start with /, and directories end with /, whereas tree paths have neither
+                    TreeFilter pathFilter = PathFilterGroup.createFromStrings(this.paths.collect(p -> p.substring(1, p.endsWith("/") ? (p.length() - 1) : p.length())));
+                    revWalk.setTreeFilter(AndTreeFilter.create(pathFilter, TreeFilter.ANY_DIFF));
+                }
+                revWalk.markStart(revWalk.parseCommit(branchRef.getObjectId()));
+
+                List<Revision> revisions = new ArrayList<>();
+                for (RevCommit commit : revWalk)
+                {
+                    Revision revision = getRevisionInfo(commit);
+                    if ((predicate == null) || predicate.test(revision))
+                    {
+                        revisions.add(revision);
+                        if ((limit != null) && (revisions.size() >= limit))
+                        {
+                            break;
+                        }
+                    }
+                }
+                return revisions.stream();
+            }
+            catch (Exception e)
+            {
+                throw FSException.getLegendSDLCServerException("Failed to get revisions for branch " + branchName + " in project " + this.projectId, e);
+            }
+        }
+
+        private RevFilter getTimeFilter(Instant since, Instant until)
+        {
+            if (since == null)
+            {
+                return (until == null) ? null : CommitTimeRevFilter.before(until.toEpochMilli());
+            }
+            return (until == null) ? CommitTimeRevFilter.after(since.toEpochMilli()) : CommitTimeRevFilter.between(since.toEpochMilli(), until.toEpochMilli());
         }
 
         private Revision getRevisionInfo(RevCommit commit)
@@ -269,73 +440,189 @@ public abstract class FileSystemApiWithFileAccess extends BaseFSApi
             this.sourceSpecification = Objects.requireNonNull(sourceSpecification, "source specification may not be null");
         }
 
+        /**
+         * Commit the operations directly to the branch, without checking it out. The new tree is built in memory from
+         * the tree of the current branch head, with only the changed blobs written, and the branch is moved with a
+         * compare-and-swap ref update. Updates to the same branch are serialized; updates to different branches
+         * (such as different workspaces) can proceed concurrently.
+         */
         @Override
         public Revision submit(String message, List<? extends ProjectFileOperation> operations)
         {
-            String branchName = getRefBranchName(sourceSpecification);
-            try
+            String branchName = getRefBranchName(this.sourceSpecification);
+            String refName = Constants.R_HEADS + branchName;
+            try (Repository repo = retrieveRepo(this.projectId))
             {
-                Repository repo = retrieveRepo(this.projectId);
-                String referenceRevisionId = this.revisionId;
-                Ref branch = getGitBranch(projectId, branchName);
-                if (referenceRevisionId != null)
+                Lock lock = FileSystemRepositoryRegistry.getRefLock(repo, refName);
+                lock.lock();
+                try (ObjectInserter inserter = repo.newObjectInserter();
+                     ObjectReader reader = inserter.newReader();
+                     RevWalk revWalk = new RevWalk(reader))
                 {
-                    String targetBranchRevision = FileSystemRevision.getFileSystemRevision(this.projectId, branchName, repo, branch).getId();
-                    if (!referenceRevisionId.equals(targetBranchRevision))
+                    Ref branch = repo.exactRef(refName);
+                    if (branch == null)
                     {
-                        String msg = "Expected " + sourceSpecification + " to be at revision " + referenceRevisionId + "; instead it was at revision " + targetBranchRevision;
-                        LOGGER.info(msg);
-                        throw new LegendSDLCServerException(msg, Response.Status.CONFLICT);
+                        throw new LegendSDLCServerException("Unknown " + this.sourceSpecification + " in project " + this.projectId, Response.Status.NOT_FOUND);
                     }
-                }
-                Git git = new Git(repo);
-                git.checkout().setName(branchName).call();
-                for (ProjectFileOperation fileOperation : operations)
-                {
-                    if (fileOperation instanceof ProjectFileOperation.AddFile)
+                    ObjectId headId = branch.getObjectId();
+                    if ((this.revisionId != null) && !this.revisionId.equals(headId.getName()))
                     {
-                        File newFile = new File(repo.getDirectory().getParent(), fileOperation.getPath());
-                        Files.createDirectories(newFile.toPath().getParent());
-                        Files.write(newFile.toPath(), ((ProjectFileOperation.AddFile) fileOperation).getContent(), StandardOpenOption.CREATE_NEW);
-                        git.add().addFilepattern(".").call();
+                        String msg = "Expected " + this.sourceSpecification + " to be at revision " + this.revisionId + "; instead it was at revision " + headId.getName();
+                        LOGGER.info(msg);
+                        throw new LegendSDLCServerException(msg, Response.Status.CONFLICT);
                     }
-                    else if (fileOperation instanceof ProjectFileOperation.ModifyFile)
+                    RevCommit headCommit = revWalk.parseCommit(headId);
+
+                    DirCache index = DirCache.newInCore();
+                    DirCacheBuilder builder = index.builder();
+                    builder.addTree(new byte[0], DirCacheEntry.STAGE_0, reader, headCommit.getTree());
+                    builder.finish();
+                    applyOperations(index, inserter, operations);
+
+                    CommitBuilder commitBuilder = new CommitBuilder();
+                    PersonIdent ident = new PersonIdent(repo);
+                    commitBuilder.setAuthor(ident);
+                    commitBuilder.setCommitter(ident);
+                    commitBuilder.setMessage(message);
+                    commitBuilder.setParentId(headId);
+                    commitBuilder.setTreeId(index.writeTree(inserter));
+                    ObjectId commitId = inserter.insert(commitBuilder);
+                    inserter.flush();
+
+                    RevCommit commit = revWalk.parseCommit(commitId);
+                    RefUpdate refUpdate = repo.updateRef(refName);
+                    refUpdate.setExpectedOldObjectId(headId);
+                    refUpdate.setNewObjectId(commitId);
+                    refUpdate.setRefLogMessage("commit: " + commit.getShortMessage(), false);
+                    RefUpdate.Result result = refUpdate.update(revWalk);
+                    switch (result)
                     {
-                        File file = new File(repo.getDirectory().getParent(), fileOperation.getPath());
-                        if (file.exists())
+                        case NEW:
+                        case FAST_FORWARD:
                         {
-                            Files.write(file.toPath(), ((ProjectFileOperation.ModifyFile) fileOperation).getNewContent());
+                            return getRevision(commit);
                         }
-                        else
+                        case LOCK_FAILURE:
+                        case REJECTED:
                         {
-                            throw new LegendSDLCServerException("File " + file + " does not exist");
+                            String msg = "Expected " + this.sourceSpecification + " to be at revision " + headId.getName() + "; it was updated concurrently";
+                            LOGGER.info(msg);
+                            throw new LegendSDLCServerException(msg, Response.Status.CONFLICT);
                         }
-                        git.add().addFilepattern(".").call();
-                    }
-                    else if (fileOperation instanceof ProjectFileOperation.DeleteFile)
-                    {
-                        File fileToRemove = new File(repo.getWorkTree(), fileOperation.getPath().substring(1));
-                        if (!fileToRemove.exists())
+                        default:
                         {
-                            throw new LegendSDLCServerException("File " + fileToRemove + " does not exist");
+                            throw new IOException("Failed to update " + refName + ": " + result);
                         }
-                        fileToRemove.delete();
-                        git.rm().addFilepattern(fileOperation.getPath().substring(1)).call();
-                    }
-                    else
-                    {
-                        throw new LegendSDLCServerException(fileOperation + "operation is not yet supported");
                     }
                 }
-                git.commit().setMessage(message).call();
-                repo.close();
-                return FileSystemRevision.getFileSystemRevision(projectId, branchName, repo, branch);
+                finally
+                {
+                    lock.unlock();
+                }
+            }
+            catch (LegendSDLCServerException e)
+            {
+                throw e;
             }
             catch (Exception e)
             {
                 throw FSException.getLegendSDLCServerException("Error occurred while committing changes to " + branchName + " of project " + projectId, e);
             }
         }
+
+        private void applyOperations(DirCache index, ObjectInserter inserter, List<? extends ProjectFileOperation> operations) throws IOException
+        {
+            // net change per path: the new blob id, or null for a deletion
+            Map<String, ObjectId> changes = new TreeMap<>();
+            for (ProjectFileOperation fileOperation : operations)
+            {
+                String path = getTreePath(fileOperation.getPath());
+                if (fileOperation instanceof ProjectFileOperation.AddFile)
+                {
+                    if (fileExists(index, changes, path))
+                    {
+                        throw new LegendSDLCServerException("File " + fileOperation.getPath() + " already exists");
+                    }
+                    changes.put(path, inserter.insert(Constants.OBJ_BLOB, ((ProjectFileOperation.AddFile) fileOperation).getContent()));
+                }
+                else if (fileOperation instanceof ProjectFileOperation.ModifyFile)
+                {
+                    if (!fileExists(index, changes, path))
+                    {
+                        throw new LegendSDLCServerException("File " + fileOperation.getPath() + " does not exist");
+                    }
+                    changes.put(path, inserter.insert(Constants.OBJ_BLOB, ((ProjectFileOperation.ModifyFile) fileOperation).getNewContent()));
+                }
+                else if (fileOperation instanceof ProjectFileOperation.DeleteFile)
+                {
+                    if (!fileExists(index, changes, path))
+                    {
+                        throw new LegendSDLCServerException("File " + fileOperation.getPath() + " does not exist");
+                    }
+                    changes.put(path, null);
+                }
+                else if (fileOperation instanceof ProjectFileOperation.MoveFile)
+                {
+                    ProjectFileOperation.MoveFile moveOperation = (ProjectFileOperation.MoveFile) fileOperation;
+                    String newPath = getTreePath(moveOperation.getNewPath());
+                    if (!fileExists(index, changes, path))
+                    {
+                        throw new LegendSDLCServerException("File " + moveOperation.getPath() + " does not exist");
+                    }
+                    if (fileExists(index, changes, newPath))
+                    {
+                        throw new LegendSDLCServerException("File " + moveOperation.getNewPath() + " already exists");
+                    }
+                    ObjectId blobId = (moveOperation.getNewContent() == null) ?
+                            (changes.containsKey(path) ? changes.get(path) : index.getEntry(path).getObjectId()) :
+                            inserter.insert(Constants.OBJ_BLOB, moveOperation.getNewContent());
+                    changes.put(path, null);
+                    changes.put(newPath, blobId);
+                }
+                else
+                {
+                    throw new LegendSDLCServerException(fileOperation + "operation is not yet supported");
+                }
+            }
+
+            DirCacheEditor editor = index.editor();
+            changes.forEach((path, blobId) ->
+            {
+                if (blobId == null)
+                {
+                    editor.add(new DirCacheEditor.DeletePath(path));
+                }
+                else
+                {
+                    editor.add(new DirCacheEditor.PathEdit(path)
+                    {
+                        @Override
+                        public void apply(DirCacheEntry entry)
+                        {
+                            entry.setFileMode(FileMode.REGULAR_FILE);
+                            entry.setObjectId(blobId);
+                        }
+                    });
+                }
+            });
+            editor.finish();
+        }
+
+        private boolean fileExists(DirCache index, Map<String, ObjectId> changes, String path)
+        {
+            return changes.containsKey(path) ? (changes.get(path) != null) : (index.findEntry(path) >= 0);
+        }
+
+        private String getTreePath(String path)
+        {
+            return path.startsWith("/") ? path.substring(1) : path;
+        }
+
+        private Revision getRevision(RevCommit commit)
+        {
+            return new FileSystemRevision(commit.getId().getName(), commit.getAuthorIdent().getName(), commit.getAuthorIdent().getWhenAsInstant(),
+                    commit.getCommitterIdent().getName(), commit.getCommitterIdent().getWhenAsInstant(), commit.getFullMessage());
+        }
     }
 
     protected ProjectFileAccessProvider getProjectFileAccessProvider()
@@ -351,7 +638,7 @@ public abstract class FileSystemApiWithFileAccess extends BaseFSApi
             @Override
             public RevisionAccessContext getRevisionAccessContext(String projectId, SourceSpecification sourceSpecification, Iterable<? extends String> paths)
             {
-                return new FileSystemRevisionAccessContext(projectId, sourceSpecification);
+                return new FileSystemRevisionAccessContext(projectId, sourceSpecification, paths);
             }
 
             @Override
@@ -16,6 +16,7 @@ package org.finos.legend.sdlc.server.api.entity;
 
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.ObjectLoader;
+import org.eclipse.jgit.lib.ObjectReader;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.treewalk.TreeWalk;
 import org.finos.legend.sdlc.core.entity.EntityAccessOperations;
@@ -34,6 +35,7 @@ import org.finos.legend.sdlc.project.structure.EntitySourceDirectory;
 import org.finos.legend.sdlc.project.files.ProjectFileAccessProvider;
 import org.finos.legend.sdlc.project.files.ProjectFiles;
 import org.finos.legend.sdlc.project.structure.ProjectStructure;
+import org.finos.legend.sdlc.serialization.EntityHeader;
 import org.finos.legend.sdlc.server.startup.FSConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -65,8 +67,7 @@ public class FileSystemEntityApi extends FileSystemApiWithFileAccess implements
     public EntityAccessContext getEntityAccessContext(String projectId, SourceSpecification sourceSpecification, String revisionId)
     {
         String branchName = getRefBranchName(sourceSpecification);
-        Repository repo = retrieveRepo(projectId);
-        return new FileSystemEntityAccessContext(branchName, repo)
+        return new FileSystemEntityAccessContext(projectId, branchName)
         {
             @Override
             protected ProjectFileAccessProvider.FileAccessContext getFileAccessContext(ProjectFileAccessProvider projectFileAccessProvider)
@@ -97,13 +98,13 @@ public class FileSystemEntityApi extends FileSystemApiWithFileAccess implements
 
     public abstract class FileSystemEntityAccessContext implements EntityAccessContext
     {
+        private final String projectId;
         private final String branchName;
-        private final Repository repo;
 
-        protected FileSystemEntityAccessContext(String branchName, Repository repo)
+        protected FileSystemEntityAccessContext(String projectId, String branchName)
         {
+            this.projectId = projectId;
             this.branchName = branchName;
-            this.repo = repo;
         }
 
         @Override
@@ -115,19 +116,26 @@ public class FileSystemEntityApi extends FileSystemApiWithFileAccess implements
         @Override
         public List<Entity> getEntities(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> entityContentPredicate, boolean excludeInvalid)
         {
-            try (Stream<EntityProjectFile> stream = getEntityProjectFiles(getFileAccessContext(getProjectFileAccessProvider()), entityPathPredicate, classifierPathPredicate, entityContentPredicate, excludeInvalid, branchName, repo))
+            try (Stream<Entity> stream = streamEntities(entityPathPredicate, classifierPathPredicate, entityContentPredicate, excludeInvalid))
             {
-                return stream.map(excludeInvalid ? epf ->
-                {
-                    try
-                    {
-                        return epf.getEntity();
-                    }
-                    catch (Exception ignore)
-                    {
-                        return null;
-                    }
-                } : EntityProjectFile::getEntity).filter(Objects::nonNull).collect(Collectors.toList());
+                return stream.collect(Collectors.toList());
+            }
+        }
+
+        @Override
+        public Stream<Entity> streamEntities(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> entityContentPredicate, boolean excludeInvalid)
+        {
+            // the repository is closed with the stream
+            Repository repo = retrieveRepo(this.projectId);
+            try
+            {
+                return EntityAccessOperations.toEntities(getEntityProjectFiles(getFileAccessContext(getProjectFileAccessProvider()), entityPathPredicate, classifierPathPredicate, entityContentPredicate, excludeInvalid, this.branchName, repo), EntityProjectFile::getEntity, excludeInvalid)
+                        .onClose(repo::close);
+            }
+            catch (RuntimeException | Error e)
+            {
+                repo.close();
+                throw e;
             }
         }
 
@@ -185,17 +193,17 @@ public class FileSystemEntityApi extends FileSystemApiWithFileAccess implements
         {
             stream = stream.filter(excludeInvalid ? epf ->
             {
-                Entity entity;
+                String classifierPath;
                 try
                 {
-                    entity =  epf.getEntity();
+                    classifierPath = epf.getClassifierPath();
                 }
                 catch (Exception ignore)
                 {
                     return false;
                 }
-                return classifierPathPredicate.test(entity.getClassifierPath());
-            } : epf -> classifierPathPredicate.test(epf.getEntity().getClassifierPath()));
+                return classifierPathPredicate.test(classifierPath);
+            } : epf -> classifierPathPredicate.test(epf.getClassifierPath()));
         }
         if (contentPredicate != null)
         {
@@ -226,17 +234,18 @@ public class FileSystemEntityApi extends FileSystemApiWithFileAccess implements
     private Stream<EntityProjectFile> getSourceDirectoryProjectFiles(EntitySourceDirectory sourceDirectory, String workspaceId, Repository repo, String projectID)
     {
         List<EntityProjectFile> files = new ArrayList<>();
-        try
+        try (TreeWalk treeWalk = new TreeWalk(repo))
         {
             ObjectId headCommitId = repo.findRef(workspaceId).getObjectId();
-            TreeWalk treeWalk = new TreeWalk(repo);
             treeWalk.addTree(repo.parseCommit(headCommitId).getTree());
             treeWalk.setRecursive(true);
+            // read blobs through the walk's reader rather than opening a new reader per file
+            ObjectReader reader = treeWalk.getObjectReader();
             while (treeWalk.next())
             {
                 File file = new File(repo.getWorkTree(), treeWalk.getPathString());
                 ObjectId entityId = treeWalk.getObjectId(0);
-                ObjectLoader loader = repo.open(entityId);
+                ObjectLoader loader = reader.open(entityId);
                 byte[] entityContentBytes = loader.getBytes();
                 String entityContent = new String(entityContentBytes, StandardCharsets.UTF_8);
                 ProjectFileAccessProvider.ProjectFile projectFile = ProjectFiles.newStringProjectFile(file.getCanonicalPath(), entityContent);
@@ -299,6 +308,20 @@ public class FileSystemEntityApi extends FileSystemApiWithFileAccess implements
             return this.path;
         }
 
+        synchronized String getClassifierPath()
+        {
+            if (this.entity != null)
+            {
+                return this.entity.getClassifierPath();
+            }
+            EntityHeader header = this.sourceDirectory.deserializeHeader(this.file);
+            if (!Objects.equals(header.getPath(), getEntityPath()))
+            {
+                throw new RuntimeException("Expected entity path " + getEntityPath() + ", found " + header.getPath());
+            }
+            return header.getClassifierPath();
+        }
+
         synchronized Entity getEntity()
         {
             if (this.entity == null)
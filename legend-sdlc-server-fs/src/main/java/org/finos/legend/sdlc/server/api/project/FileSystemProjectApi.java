@@ -15,6 +15,7 @@
 package org.finos.legend.sdlc.server.api.project;
 
 import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.StoredConfig;
 import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
 import org.finos.legend.sdlc.domain.model.project.Project;
 import org.finos.legend.sdlc.domain.model.project.ProjectType;
@@ -35,23 +36,21 @@ import org.finos.legend.sdlc.project.structure.extension.ProjectStructureExtensi
 
 import org.eclipse.jgit.api.Git;
 import org.finos.legend.sdlc.server.startup.FSConfiguration;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
+import javax.ws.rs.core.Response;
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class FileSystemProjectApi extends FileSystemApiWithFileAccess implements ProjectApi
 {
-    private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemProjectApi.class);
     private final ProjectStructureConfiguration projectStructureConfig;
     private final ProjectStructureExtensionProvider projectStructureExtensionProvider;
     private final ProjectStructurePlatformExtensions projectStructurePlatformExtensions;
@@ -68,40 +67,64 @@ public class FileSystemProjectApi extends FileSystemApiWithFileAccess implements
     @Override
     public Project getProject(String id)
     {
-        Repository repository = retrieveRepo(id);
-        Git git = new Git(repository);
-        return gitProjectToProject(git);
+        try (Repository repository = retrieveRepo(id))
+        {
+            return gitProjectToProject(new Git(repository));
+        }
     }
 
     @Override
     public List<Project> getProjects(boolean user, String search, Iterable<String> tags, Iterable<String> excludeTags, Integer limit)
     {
-        List<Project> gitRepos = new ArrayList<>();
-        try (Stream<Path> paths = Files.list(Paths.get(getRootDirectory())))
+        if (limit != null)
         {
-            paths.filter(path -> Files.isDirectory(path)).forEach(repoDir ->
+            if (limit == 0)
+            {
+                return Collections.emptyList();
+            }
+            if (limit < 0)
             {
-                try
-                {
-                    FileRepositoryBuilder repoBuilder = new FileRepositoryBuilder();
-                    Repository repository = repoBuilder.setGitDir(new File(repoDir.toFile(), ".git")).readEnvironment().findGitDir().build();
-                    if (repository != null)
-                    {
-                        gitRepos.add(gitProjectToProject(new Git(repository)));
-                    }
-                }
-                catch (IOException e)
-                {
-                    LOGGER.error("Repository {} could not be accessed", repoDir, e);
-                }
-            });
+                throw new LegendSDLCServerException("Invalid limit: " + limit, Response.Status.BAD_REQUEST);
+            }
+        }
+
+        // filter on the registered metadata, without opening any repository
+        Stream<FileSystemProjectRegistry.ProjectMetadata> stream = FileSystemProjectRegistry.getRegistry(getRootDirectory()).getProjects();
+        if ((search != null) && !search.isEmpty())
+        {
+            String lowerCaseSearch = search.toLowerCase();
+            stream = stream.filter(p -> containsIgnoreCase(p.getName(), lowerCaseSearch) || containsIgnoreCase(p.getId(), lowerCaseSearch));
         }
-        catch (IOException e)
+        Set<String> tagSet = toSet(tags);
+        if (!tagSet.isEmpty())
         {
-            LOGGER.error("Exception occurred when opening the directory {}", getRootDirectory(), e);
-            throw FSException.getLegendSDLCServerException("Failed to fetch projects", e);
+            stream = stream.filter(p -> p.getTags().stream().anyMatch(tagSet::contains));
         }
-        return gitRepos;
+        Set<String> excludeTagSet = toSet(excludeTags);
+        if (!excludeTagSet.isEmpty())
+        {
+            stream = stream.filter(p -> p.getTags().stream().noneMatch(excludeTagSet::contains));
+        }
+        if (limit != null)
+        {
+            stream = stream.limit(limit);
+        }
+        return stream.map(p -> new ProjectWrapper(p.getId(), p.getName(), p.getDescription(), p.getTags(), p.getType())).collect(Collectors.toList());
+    }
+
+    private static boolean containsIgnoreCase(String string, String lowerCaseSearch)
+    {
+        return (string != null) && string.toLowerCase().contains(lowerCaseSearch);
+    }
+
+    private static Set<String> toSet(Iterable<String> strings)
+    {
+        Set<String> set = new HashSet<>();
+        if (strings != null)
+        {
+            strings.forEach(set::add);
+        }
+        return set;
     }
 
     @Override
@@ -111,26 +134,35 @@ public class FileSystemProjectApi extends FileSystemApiWithFileAccess implements
         LegendSDLCServerException.validateNonNull(description, "description may not be null");
 
         String projectPath = getRootDirectory() + "/" + name;
-        Git gitProject;
         String projectId = name;
-        try
+        Project project;
+        try (Repository repository = FileRepositoryBuilder.create(new File(projectPath, ".git")))
         {
-            Repository repository = FileRepositoryBuilder.create(new File(projectPath, ".git"));
             repository.create();
 
-            gitProject = new Git(repository);
+            Git gitProject = new Git(repository);
             gitProject.commit().setMessage("Initial Commit").call();
 
             repository.getConfig().setString("project", null, "id", projectId);
             repository.getConfig().setString("project", null, "name", name);
             repository.getConfig().setString("project", null, "description", description);
+            if (type != null)
+            {
+                repository.getConfig().setString("project", null, "type", type.name());
+            }
+            Set<String> tagSet = toSet(tags);
+            if (!tagSet.isEmpty())
+            {
+                repository.getConfig().setStringList("project", null, "tags", new ArrayList<>(tagSet));
+            }
             repository.getConfig().save();
+            project = gitProjectToProject(gitProject);
         }
         catch (Exception e)
         {
             throw FSException.getLegendSDLCServerException("Failed to create project: " + name, e);
         }
-        Project project = gitProjectToProject(gitProject);
+        FileSystemProjectRegistry.getRegistry(getRootDirectory()).refresh(name);
 
         // Build project structure
         int projectStructureVersion = getDefaultProjectStructureVersion();
@@ -173,46 +205,61 @@ public class FileSystemProjectApi extends FileSystemApiWithFileAccess implements
 
     private Project gitProjectToProject(Git project)
     {
-        return (project == null) ? null : new FileSystemProjectApi.ProjectWrapper(project);
+        if (project == null)
+        {
+            return null;
+        }
+        // read eagerly, as the repository is closed once the project has been fetched
+        StoredConfig config = project.getRepository().getConfig();
+        return new ProjectWrapper(config.getString("project", null, "id"), config.getString("project", null, "name"), config.getString("project", null, "description"),
+                Arrays.asList(config.getStringList("project", null, "tags")), FileSystemProjectRegistry.parseProjectType(config.getString("project", null, "type")));
     }
 
     private static class ProjectWrapper implements Project
     {
-        private final Git gitProject;
+        private final String projectId;
+        private final String name;
+        private final String description;
+        private final List<String> tags;
+        private final ProjectType projectType;
 
-        public ProjectWrapper(Git gitProject)
+        private ProjectWrapper(String projectId, String name, String description, List<String> tags, ProjectType projectType)
         {
-            this.gitProject = gitProject;
+            this.projectId = projectId;
+            this.name = name;
+            this.description = description;
+            this.tags = tags;
+            this.projectType = projectType;
         }
 
         @Override
         public String getProjectId()
         {
-            return this.gitProject.getRepository().getConfig().getString("project", null, "id");
+            return this.projectId;
         }
 
         @Override
         public String getName()
         {
-            return this.gitProject.getRepository().getConfig().getString("project", null, "name");
+            return this.name;
         }
 
         @Override
         public String getDescription()
         {
-            return this.gitProject.getRepository().getConfig().getString("project", null, "description");
+            return this.description;
         }
 
         @Override
         public List<String> getTags()
         {
-            return null;
+            return this.tags;
         }
 
         @Override
         public ProjectType getProjectType()
         {
-            return null;
+            return this.projectType;
         }
 
         @Override
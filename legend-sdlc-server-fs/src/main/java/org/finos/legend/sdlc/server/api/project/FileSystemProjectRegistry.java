@@ -0,0 +1,380 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.api.project;
+
+import org.eclipse.jgit.errors.ConfigInvalidException;
+import org.eclipse.jgit.storage.file.FileBasedConfig;
+import org.eclipse.jgit.util.FS;
+import org.finos.legend.sdlc.domain.model.project.ProjectType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Registry of the projects under a file system backend root directory. Project metadata (id, name, description, tags
+ * and type) is read from the git config file of each project without opening the repository, and only when first
+ * needed, so listings which stop early only read what they return. The registry is kept up to date by a
+ * {@link WatchService} on the root directory, on each project directory and on each git directory, with changes made
+ * through this server also applied directly. A registry is closed, stopping its watcher thread, when its root
+ * directory is deleted, or by {@link #closeAll()} when the server stops.
+ */
+public class FileSystemProjectRegistry implements Closeable
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemProjectRegistry.class);
+
+    private static final String GIT_DIRECTORY = ".git";
+    private static final String CONFIG_FILE = "config";
+    private static final String PROJECT_SECTION = "project";
+
+    private static final ConcurrentMap<Path, FileSystemProjectRegistry> REGISTRIES = new ConcurrentHashMap<>();
+
+    private final Path rootDirectory;
+    private final ConcurrentNavigableMap<String, Entry> projects = new ConcurrentSkipListMap<>();
+    private final WatchService watchService;
+
+    private FileSystemProjectRegistry(Path rootDirectory)
+    {
+        this.rootDirectory = rootDirectory;
+        this.watchService = newWatchService(rootDirectory);
+        if (this.watchService != null)
+        {
+            Thread thread = new Thread(this::processEvents, "project-registry-watcher-" + rootDirectory.getFileName());
+            thread.setDaemon(true);
+            thread.start();
+        }
+        relist();
+    }
+
+    /**
+     * Get the metadata of all projects, ordered by directory name. Metadata is read lazily as the stream is consumed.
+     *
+     * @return project metadata stream
+     */
+    Stream<ProjectMetadata> getProjects()
+    {
+        return this.projects.values().stream().map(Entry::getMetadata).filter(m -> m != null);
+    }
+
+    /**
+     * Update the registry entry for a project directory, for example after creating a project or changing its
+     * config.
+     *
+     * @param directoryName project directory name
+     */
+    void refresh(String directoryName)
+    {
+        Path projectDirectory = this.rootDirectory.resolve(directoryName);
+        Path gitDirectory = projectDirectory.resolve(GIT_DIRECTORY);
+        if (Files.isDirectory(gitDirectory))
+        {
+            this.projects.put(directoryName, new Entry(gitDirectory));
+            watch(projectDirectory);
+            watch(gitDirectory);
+        }
+        else
+        {
+            this.projects.remove(directoryName);
+            if (Files.isDirectory(projectDirectory))
+            {
+                // watch for a git directory being created
+                watch(projectDirectory);
+            }
+        }
+    }
+
+    private void relist()
+    {
+        try (Stream<Path> paths = Files.list(this.rootDirectory))
+        {
+            paths.filter(Files::isDirectory).forEach(p -> refresh(p.getFileName().toString()));
+        }
+        catch (IOException e)
+        {
+            LOGGER.error("Error listing projects in {}", this.rootDirectory, e);
+        }
+        this.projects.keySet().removeIf(d -> !Files.isDirectory(this.rootDirectory.resolve(d).resolve(GIT_DIRECTORY)));
+    }
+
+    private void watch(Path directory)
+    {
+        if (this.watchService != null)
+        {
+            try
+            {
+                // registering an already watched directory returns the existing key
+                directory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+            catch (ClosedWatchServiceException ignore)
+            {
+                // registry is no longer watched
+            }
+            catch (IOException e)
+            {
+                LOGGER.warn("Error watching {}: changes may not be seen", directory, e);
+            }
+        }
+    }
+
+    private void processEvents()
+    {
+        while (true)
+        {
+            WatchKey key;
+            try
+            {
+                key = this.watchService.take();
+            }
+            catch (InterruptedException | ClosedWatchServiceException e)
+            {
+                return;
+            }
+            Path directory = (Path) key.watchable();
+            try
+            {
+                for (WatchEvent<?> event : key.pollEvents())
+                {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+                    {
+                        relist();
+                    }
+                    else
+                    {
+                        processEvent(directory, ((Path) event.context()).toString());
+                    }
+                }
+            }
+            catch (Exception e)
+            {
+                LOGGER.warn("Error processing changes in {}", this.rootDirectory, e);
+            }
+            if (!key.reset() && directory.equals(this.rootDirectory))
+            {
+                // the root directory is gone: stop watching, a later lookup creates a new registry
+                LOGGER.info("{} is no longer accessible, closing its project registry", this.rootDirectory);
+                close();
+                return;
+            }
+        }
+    }
+
+    private void processEvent(Path directory, String name)
+    {
+        if (directory.equals(this.rootDirectory))
+        {
+            // a project directory was created or deleted
+            refresh(name);
+        }
+        else if (this.rootDirectory.equals(directory.getParent()))
+        {
+            // a git directory was created or deleted in a project directory
+            if (GIT_DIRECTORY.equals(name))
+            {
+                refresh(directory.getFileName().toString());
+            }
+        }
+        else if (name.startsWith(CONFIG_FILE))
+        {
+            // the git config (or its lock file) changed
+            Entry entry = this.projects.get(directory.getParent().getFileName().toString());
+            if (entry != null)
+            {
+                entry.invalidate();
+            }
+        }
+    }
+
+    /**
+     * Close the registry: stop watching for changes and remove it from the registries, so that a later lookup of its
+     * root directory creates a new one.
+     */
+    @Override
+    public void close()
+    {
+        REGISTRIES.remove(this.rootDirectory, this);
+        if (this.watchService != null)
+        {
+            try
+            {
+                this.watchService.close();
+            }
+            catch (IOException e)
+            {
+                LOGGER.warn("Error closing watch service for {}", this.rootDirectory, e);
+            }
+        }
+    }
+
+    static FileSystemProjectRegistry getRegistry(String rootDirectory)
+    {
+        return REGISTRIES.computeIfAbsent(Paths.get(rootDirectory).toAbsolutePath().normalize(), FileSystemProjectRegistry::new);
+    }
+
+    /**
+     * Close all registries, stopping their watcher threads.
+     */
+    public static void closeAll()
+    {
+        REGISTRIES.values().forEach(FileSystemProjectRegistry::close);
+    }
+
+    static ProjectType parseProjectType(String string)
+    {
+        if (string != null)
+        {
+            try
+            {
+                return ProjectType.valueOf(string);
+            }
+            catch (IllegalArgumentException ignore)
+            {
+                // unknown type
+            }
+        }
+        return null;
+    }
+
+    private static WatchService newWatchService(Path rootDirectory)
+    {
+        try
+        {
+            WatchService watchService = rootDirectory.getFileSystem().newWatchService();
+            rootDirectory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE);
+            return watchService;
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Cannot watch {}: external changes to projects will not be seen", rootDirectory, e);
+            return null;
+        }
+    }
+
+    private static class Entry
+    {
+        private final Path gitDirectory;
+        private volatile ProjectMetadata metadata;
+
+        private Entry(Path gitDirectory)
+        {
+            this.gitDirectory = gitDirectory;
+        }
+
+        ProjectMetadata getMetadata()
+        {
+            ProjectMetadata result = this.metadata;
+            if (result == null)
+            {
+                synchronized (this)
+                {
+                    result = this.metadata;
+                    if (result == null)
+                    {
+                        this.metadata = result = readMetadata();
+                    }
+                }
+            }
+            return result;
+        }
+
+        void invalidate()
+        {
+            this.metadata = null;
+        }
+
+        private ProjectMetadata readMetadata()
+        {
+            FileBasedConfig config = new FileBasedConfig(this.gitDirectory.resolve(CONFIG_FILE).toFile(), FS.DETECTED);
+            try
+            {
+                config.load();
+            }
+            catch (IOException | ConfigInvalidException e)
+            {
+                LOGGER.warn("Error reading project config in {}", this.gitDirectory, e);
+                return null;
+            }
+            String id = config.getString(PROJECT_SECTION, null, "id");
+            if (id == null)
+            {
+                // not a project
+                return null;
+            }
+            String[] tags = config.getStringList(PROJECT_SECTION, null, "tags");
+            return new ProjectMetadata(id, config.getString(PROJECT_SECTION, null, "name"), config.getString(PROJECT_SECTION, null, "description"),
+                    (tags.length == 0) ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(tags)),
+                    parseProjectType(config.getString(PROJECT_SECTION, null, "type")));
+        }
+    }
+
+    static class ProjectMetadata
+    {
+        private final String id;
+        private final String name;
+        private final String description;
+        private final List<String> tags;
+        private final ProjectType type;
+
+        private ProjectMetadata(String id, String name, String description, List<String> tags, ProjectType type)
+        {
+            this.id = id;
+            this.name = name;
+            this.description = description;
+            this.tags = tags;
+            this.type = type;
+        }
+
+        String getId()
+        {
+            return this.id;
+        }
+
+        String getName()
+        {
+            return this.name;
+        }
+
+        String getDescription()
+        {
+            return this.description;
+        }
+
+        List<String> getTags()
+        {
+            return this.tags;
+        }
+
+        ProjectType getType()
+        {
+            return this.type;
+        }
+    }
+}
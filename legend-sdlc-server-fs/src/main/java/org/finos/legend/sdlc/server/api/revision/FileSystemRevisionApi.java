@@ -23,10 +23,15 @@ import org.finos.legend.sdlc.backend.api.revision.RevisionApi;
 import org.finos.legend.sdlc.server.error.LegendSDLCServerException;
 import org.finos.legend.sdlc.server.exception.FSException;
 import org.finos.legend.sdlc.project.files.ProjectFileAccessProvider;
+import org.finos.legend.sdlc.project.files.ProjectPaths;
+import org.finos.legend.sdlc.project.structure.ProjectStructure;
 import org.finos.legend.sdlc.server.startup.FSConfiguration;
+import org.finos.legend.sdlc.tools.entity.EntityPaths;
 
 import javax.inject.Inject;
+import javax.ws.rs.core.Response;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -49,13 +54,37 @@ public class FileSystemRevisionApi extends FileSystemApiWithFileAccess implement
     @Override
     public RevisionAccessContext getPackageRevisionContext(String projectId, SourceSpecification sourceSpec, String packagePath)
     {
-        throw FSException.unavailableFeature();
+        LegendSDLCServerException.validateNonNull(projectId, "projectId may not be null");
+        LegendSDLCServerException.validateNonNull(sourceSpec, "sourceSpec may not be null");
+        LegendSDLCServerException.validateNonNull(packagePath, "packagePath may not be null");
+        if (!EntityPaths.isValidPackagePath(packagePath))
+        {
+            throw new LegendSDLCServerException("Invalid package path: " + packagePath, Response.Status.BAD_REQUEST);
+        }
+        ProjectFileAccessProvider fileAccessProvider = getProjectFileAccessProvider();
+        ProjectStructure projectStructure = ProjectStructure.getProjectStructure(fileAccessProvider.getFileAccessContext(projectId, sourceSpec, null));
+        List<String> directories = projectStructure.getEntitySourceDirectories().stream().map(sd -> sd.packagePathToFilePath(packagePath)).collect(Collectors.toList());
+        return new ProjectFileRevisionAccessContextWrapper(fileAccessProvider.getRevisionAccessContext(projectId, sourceSpec, directories));
     }
 
     @Override
     public RevisionAccessContext getEntityRevisionContext(String projectId, SourceSpecification sourceSpec, String entityPath)
     {
-        throw FSException.unavailableFeature();
+        LegendSDLCServerException.validateNonNull(projectId, "projectId may not be null");
+        LegendSDLCServerException.validateNonNull(sourceSpec, "sourceSpec may not be null");
+        LegendSDLCServerException.validateNonNull(entityPath, "entityPath may not be null");
+        if (!EntityPaths.isValidEntityPath(entityPath))
+        {
+            throw new LegendSDLCServerException("Invalid entity path: " + entityPath, Response.Status.BAD_REQUEST);
+        }
+        ProjectFileAccessProvider fileAccessProvider = getProjectFileAccessProvider();
+        ProjectFileAccessProvider.FileAccessContext fileAccessContext = fileAccessProvider.getFileAccessContext(projectId, sourceSpec, null);
+        String filePath = ProjectStructure.getProjectStructure(fileAccessContext).findEntityFile(entityPath, fileAccessContext);
+        if (filePath == null)
+        {
+            throw new LegendSDLCServerException("Cannot find entity \"" + entityPath + "\" in " + sourceSpec + " of project " + projectId, Response.Status.NOT_FOUND);
+        }
+        return new ProjectFileRevisionAccessContextWrapper(fileAccessProvider.getRevisionAccessContext(projectId, sourceSpec, Collections.singleton(ProjectPaths.canonicalizeFile(filePath))));
     }
 
     @Override
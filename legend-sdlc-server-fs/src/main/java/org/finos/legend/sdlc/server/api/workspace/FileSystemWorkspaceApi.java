@@ -81,20 +81,22 @@ public class FileSystemWorkspaceApi extends FileSystemApiWithFileAccess implemen
         Set<WorkspaceType> resolvedTypes = (types == null) ? EnumSet.allOf(WorkspaceType.class) : types;
         Set<ProjectFileAccessProvider.WorkspaceAccessType> resolvedAccessTypes = (accessTypes == null) ? EnumSet.allOf(ProjectFileAccessProvider.WorkspaceAccessType.class) : accessTypes;
 
-        Repository repository = retrieveRepo(projectId);
         MutableList<Workspace> result = Lists.mutable.empty();
         // currently only WORKSPACE access type is supported
         if (resolvedAccessTypes.contains(ProjectFileAccessProvider.WorkspaceAccessType.WORKSPACE))
         {
-            if (resolvedTypes.contains(WorkspaceType.GROUP))
+            try (Repository repository = retrieveRepo(projectId))
             {
-                Collection<? extends Workspace> UserWS = getBranchesByType(repository, "user", projectId, WorkspaceType.USER);
-                result.addAllIterable(UserWS);
-            }
-            if (resolvedTypes.contains(WorkspaceType.USER))
-            {
-                Collection<? extends Workspace> GroupWS = getBranchesByType(repository, "group", projectId, WorkspaceType.GROUP);
-                result.addAllIterable(GroupWS);
+                if (resolvedTypes.contains(WorkspaceType.GROUP))
+                {
+                    Collection<? extends Workspace> UserWS = getBranchesByType(repository, "user", projectId, WorkspaceType.USER);
+                    result.addAllIterable(UserWS);
+                }
+                if (resolvedTypes.contains(WorkspaceType.USER))
+                {
+                    Collection<? extends Workspace> GroupWS = getBranchesByType(repository, "group", projectId, WorkspaceType.GROUP);
+                    result.addAllIterable(GroupWS);
+                }
             }
         }
         return result;
@@ -119,12 +121,11 @@ public class FileSystemWorkspaceApi extends FileSystemApiWithFileAccess implemen
         String workspaceBranchName = getWorkspaceBranchName(workspaceSpecification);
 
         Ref branchRef;
-        try
+        try (Repository repository = retrieveRepo(projectId))
         {
-            Repository repository = retrieveRepo(projectId);
             Git git = new Git(repository);
-            git.checkout().setName("master").call();
-            branchRef = git.branchCreate().setName(workspaceBranchName).call();
+            // branch from master without checking it out: commits are made directly to branches, not the working tree
+            branchRef = git.branchCreate().setName(workspaceBranchName).setStartPoint(Constants.R_HEADS + "master").call();
             git.getRepository().getConfig().setString("branch", workspaceBranchName, "type", type.getLabel());
             git.getRepository().getConfig().save();
         }
@@ -44,11 +44,9 @@ public class FileSystemRevision implements Revision
 
     public static FileSystemRevision getFileSystemRevision(String projectId, String workspaceId, Repository repo, Ref branchRef)
     {
-        try
+        try (RevWalk revWalk = new RevWalk(repo))
         {
-            RevWalk revWalk = new RevWalk(repo);
             RevCommit commit = revWalk.parseCommit(branchRef.getObjectId());
-            revWalk.dispose();
             String revisionId = commit.getId().getName();
             String authorName = commit.getAuthorIdent().getName();
             Instant authoredTimeStamp = commit.getAuthorIdent().getWhenAsInstant();
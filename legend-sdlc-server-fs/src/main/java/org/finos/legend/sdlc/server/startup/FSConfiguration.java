@@ -20,10 +20,12 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 public class FSConfiguration
 {
     public final String rootDirectory;
+    private final RepositoryCacheConfiguration repositoryCache;
 
-    private FSConfiguration(String rootDirectory)
+    private FSConfiguration(String rootDirectory, RepositoryCacheConfiguration repositoryCache)
     {
         this.rootDirectory = rootDirectory;
+        this.repositoryCache = repositoryCache;
     }
 
     public String getRootDirectory()
@@ -31,9 +33,73 @@ public class FSConfiguration
         return rootDirectory;
     }
 
+    public RepositoryCacheConfiguration getRepositoryCacheConfiguration()
+    {
+        return this.repositoryCache;
+    }
+
     @JsonCreator
-    public static FSConfiguration newConfiguration(@JsonProperty("rootDirectory") String rootDirectory)
+    public static FSConfiguration newConfiguration(@JsonProperty("rootDirectory") String rootDirectory, @JsonProperty("repositoryCache") RepositoryCacheConfiguration repositoryCache)
+    {
+        return new FSConfiguration(rootDirectory, repositoryCache);
+    }
+
+    public static FSConfiguration newConfiguration(String rootDirectory)
+    {
+        return newConfiguration(rootDirectory, null);
+    }
+
+    public static class RepositoryCacheConfiguration
     {
-        return new FSConfiguration(rootDirectory);
+        private final Integer packedGitOpenFiles;
+        private final Long packedGitLimit;
+        private final Integer deltaBaseCacheLimit;
+        private final Integer streamFileThreshold;
+        private final Long idleExpirationMillis;
+
+        private RepositoryCacheConfiguration(Integer packedGitOpenFiles, Long packedGitLimit, Integer deltaBaseCacheLimit, Integer streamFileThreshold, Long idleExpirationMillis)
+        {
+            this.packedGitOpenFiles = packedGitOpenFiles;
+            this.packedGitLimit = packedGitLimit;
+            this.deltaBaseCacheLimit = deltaBaseCacheLimit;
+            this.streamFileThreshold = streamFileThreshold;
+            this.idleExpirationMillis = idleExpirationMillis;
+        }
+
+        public Integer getPackedGitOpenFiles()
+        {
+            return this.packedGitOpenFiles;
+        }
+
+        public Long getPackedGitLimit()
+        {
+            return this.packedGitLimit;
+        }
+
+        public Integer getDeltaBaseCacheLimit()
+        {
+            return this.deltaBaseCacheLimit;
+        }
+
+        public Integer getStreamFileThreshold()
+        {
+            return this.streamFileThreshold;
+        }
+
+        public Long getIdleExpirationMillis()
+        {
+            return this.idleExpirationMillis;
+        }
+
+        @JsonCreator
+        public static RepositoryCacheConfiguration newRepositoryCacheConfiguration(
+                @JsonProperty("packedGitOpenFiles") Integer packedGitOpenFiles,
+                @JsonProperty("packedGitLimit") Long packedGitLimit,
+                @JsonProperty("deltaBaseCacheLimit") Integer deltaBaseCacheLimit,
+                @JsonProperty("streamFileThreshold") Integer streamFileThreshold,
+                @JsonProperty("idleExpirationMillis") Long idleExpirationMillis)
+        {
+            return new RepositoryCacheConfiguration(packedGitOpenFiles, packedGitLimit, deltaBaseCacheLimit, streamFileThreshold, idleExpirationMillis);
+        }
     }
 }
@@ -16,9 +16,13 @@ package org.finos.legend.sdlc.server.startup;
 
 import com.google.inject.Binder;
 import com.google.inject.Provides;
+import com.google.inject.Scopes;
+import com.google.inject.Singleton;
 import com.hubspot.dropwizard.guicier.DropwizardAwareModule;
+import io.dropwizard.lifecycle.Managed;
 import org.finos.legend.sdlc.backend.api.spi.Backend;
 import org.finos.legend.sdlc.server.BaseServer;
+import org.finos.legend.sdlc.server.api.FileSystemRepositoryRegistry;
 import org.finos.legend.sdlc.server.api.backup.FileSystemBackupApi;
 import org.finos.legend.sdlc.server.api.build.FileSystemBuildApi;
 import org.finos.legend.sdlc.server.api.comparison.FileSystemComparisonApi;
@@ -45,6 +49,8 @@ import org.finos.legend.sdlc.backend.api.build.BuildApi;
 import org.finos.legend.sdlc.backend.api.comparison.ComparisonApi;
 import org.finos.legend.sdlc.backend.api.conflictresolution.ConflictResolutionApi;
 import org.finos.legend.sdlc.backend.api.dependency.DependenciesApi;
+import org.finos.legend.sdlc.backend.api.dependency.DownstreamDependencyIndex;
+import org.finos.legend.sdlc.core.dependency.UpstreamDependencyResolver;
 import org.finos.legend.sdlc.server.domain.api.dependency.DependenciesApiImpl;
 import org.finos.legend.sdlc.backend.api.entity.EntityApi;
 import org.finos.legend.sdlc.backend.api.issue.IssueApi;
@@ -187,6 +193,7 @@ import org.finos.legend.sdlc.server.resources.workspace.patch.group.PatchesGroup
 import org.finos.legend.sdlc.server.resources.workspace.patch.user.PatchesWorkspacesResource;
 import org.finos.legend.sdlc.server.resources.workspace.project.group.GroupWorkspacesResource;
 import org.finos.legend.sdlc.server.resources.workspace.project.user.WorkspacesResource;
+import org.finos.legend.sdlc.server.resources.workspace.WorkspaceUpdateJobsResource;
 import org.finos.legend.sdlc.backend.api.tools.BackgroundTaskProcessor;
 
 import java.io.File;
@@ -211,6 +218,7 @@ public class FSModule extends DropwizardAwareModule<LegendSDLCServerFSConfigurat
         configureCommonApis(binder);
         configureApis(binder);
         initRootDirectory(getFSConfiguration());
+        FileSystemRepositoryRegistry.configure(getFSConfiguration().getRepositoryCacheConfiguration());
 
         binder.bind(UserContext.class);
         binder.bind(TestModelBuilder.class);
@@ -341,6 +349,7 @@ public class FSModule extends DropwizardAwareModule<LegendSDLCServerFSConfigurat
         binder.bind(PatchesResource.class);
         binder.bind(PatchesWorkspacesResource.class);
         binder.bind(PatchesGroupWorkspacesResource.class);
+        binder.bind(WorkspaceUpdateJobsResource.class);
         binder.bind(PatchesGroupWorkspaceProjectConfigurationResource.class);
         binder.bind(PatchesProjectEntitiesResource.class);
         binder.bind(PatchesProjectEntityPathsResource.class);
@@ -446,6 +455,34 @@ public class FSModule extends DropwizardAwareModule<LegendSDLCServerFSConfigurat
     private void configureCommonApis(Binder binder)
     {
         binder.bind(DependenciesApi.class).to(DependenciesApiImpl.class);
+        // the upstream resolver cache is shared across requests
+        binder.bind(UpstreamDependencyResolver.class).in(Scopes.SINGLETON);
+    }
+
+    /**
+     * The downstream dependency index, shared across requests. The file system APIs are not bound to a user, so they
+     * can refresh the index in the background on behalf of every caller.
+     */
+    @Provides
+    @Singleton
+    public DownstreamDependencyIndex provideDownstreamDependencyIndex(FileSystemProjectApi projectApi, FileSystemProjectConfigurationApi projectConfigurationApi, FileSystemRevisionApi revisionApi)
+    {
+        DownstreamDependencyIndex index = new DownstreamDependencyIndex();
+        getEnvironment().lifecycle().manage(new Managed()
+        {
+            @Override
+            public void start()
+            {
+                index.startBackgroundRefresh(projectApi, projectConfigurationApi, revisionApi);
+            }
+
+            @Override
+            public void stop()
+            {
+                index.close();
+            }
+        });
+        return index;
     }
 
     protected void configureApis(Binder binder)
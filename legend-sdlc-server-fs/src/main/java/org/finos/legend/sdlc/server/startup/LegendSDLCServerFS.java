@@ -21,6 +21,7 @@ import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
 import org.finos.legend.engine.protocol.pure.v1.PureProtocolObjectMapperFactory;
 import org.finos.legend.sdlc.server.BaseServer;
+import org.finos.legend.sdlc.server.api.project.FileSystemProjectRegistry;
 import org.finos.legend.sdlc.server.depot.DepotConfiguration;
 import org.finos.legend.sdlc.server.project.config.ProjectStructureConfiguration;
 import org.finos.legend.sdlc.backend.api.tools.BackgroundTaskProcessor;
@@ -107,6 +108,21 @@ public class LegendSDLCServerFS<T extends LegendSDLCServerFSConfiguration> exten
             }
         });
         this.backgroundTaskProcessor = taskProcessor;
+        lifecycleEnvironment.manage(new Managed()
+        {
+            @Override
+            public void start()
+            {
+                // nothing to do
+            }
+
+            @Override
+            public void stop()
+            {
+                LOGGER.debug("Closing project registries");
+                FileSystemProjectRegistry.closeAll();
+            }
+        });
     }
 
     public BackgroundTaskProcessor getBackgroundTaskProcessor()
@@ -14,6 +14,8 @@
 
 package org.finos.legend.sdlc.server.api.entity;
 
+import org.eclipse.collections.api.factory.Sets;
+import org.finos.legend.sdlc.core.entity.EntityAccessOperations;
 import org.finos.legend.sdlc.domain.model.TestTools;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.domain.model.entity.change.EntityChange;
@@ -29,6 +31,8 @@ import org.finos.legend.sdlc.project.source.WorkspaceSourceSpecification;
 import org.finos.legend.sdlc.project.workspace.WorkspaceSource;
 import org.finos.legend.sdlc.project.workspace.WorkspaceSpecification;
 import org.finos.legend.sdlc.error.LegendSDLCException;
+import org.finos.legend.sdlc.project.files.ProjectFileAccessProvider;
+import org.finos.legend.sdlc.project.files.ProjectFileOperation;
 import org.finos.legend.sdlc.server.startup.FSConfiguration;
 import org.finos.legend.sdlc.project.structure.ProjectStructure;
 import org.junit.Assert;
@@ -39,8 +43,16 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Characterization tests for the entity access/modification logic of {@link FileSystemEntityApi} (re-architecture
@@ -49,17 +61,13 @@ import java.util.List;
  * is plainly buggy (see the re-architecture worklog):
  *
  * <ul>
- * <li>File enumeration through the standard {@code FileAccessContext} returns no files, because
- * {@code FileSystemFileAccessContext.getFilesInCanonicalDirectories} compares canonical directory names (leading
- * {@code /}) against git tree paths (no leading {@code /}). Consequently {@code updateEntities} never sees existing
- * entities: modifying an existing entity fails with "already exists", and {@code replace=true} deletes nothing.</li>
  * <li>Entity enumeration through {@code getEntities} (a git tree walk) relativizes file paths with
  * {@code java.nio.Path} + string concatenation, which produces {@code \}-separated paths on Windows that never match
  * an entity source directory: enumeration is empty on Windows and works on POSIX. Assertions on enumeration are
  * therefore conditional on {@code File.separatorChar}.</li>
- * <li>{@code getEntityPaths} does not take the git tree walk route: it enumerates through the standard
- * {@code FileAccessContext}, whose {@code getFilesInCanonicalDirectories} calls {@code ObjectId.fromString(null)}
- * (the access context is always created with a null revision id) - so it always throws.</li>
+ * <li>{@code getEntityPaths} and {@code updateEntities} enumerate through the standard {@code FileAccessContext},
+ * which walks the git tree of the requested revision (or the branch head when there is none) and so sees existing
+ * entities on all platforms.</li>
  * </ul>
  *
  * Do not "fix" an assertion here without a deliberate behavior-change decision.
@@ -140,43 +148,67 @@ public class TestFileSystemEntityApiCharacterization
     }
 
     @Test
-    public void testGetEntityPathsAlwaysFails()
+    public void testGetEntityPaths()
     {
         Entity entity = TestTools.newClassEntity("TestClass", "model");
         modificationContext().performChanges(
                 Collections.singletonList(EntityChange.newCreateEntity(entity.getPath(), entity.getClassifierPath(), entity.getContent())), null, "create entity");
+        Entity other = TestTools.newClassEntity("Other", "model::other");
+        modificationContext().performChanges(
+                Collections.singletonList(EntityChange.newCreateEntity(other.getPath(), other.getClassifierPath(), other.getContent())), null, "create other entity");
 
-        // getEntityPaths enumerates through the standard file access context, which cannot handle the null revision
-        // id that the entity access context is created with
-        LegendSDLCException e = Assert.assertThrows(LegendSDLCException.class, () -> accessContext().getEntityPaths(null, null, null));
-        Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("Error getting files in directories for " + PROJECT_ID));
-        Assert.assertEquals(500, e.getStatusCode());
+        Assert.assertEquals(Sets.mutable.with("model::TestClass", "model::other::Other"), Sets.mutable.withAll(accessContext().getEntityPaths(null, null, null)));
+        Assert.assertEquals(Collections.singletonList("model::other::Other"), accessContext().getEntityPaths(p -> p.startsWith("model::other"), null, null));
     }
 
     @Test
-    public void testUpdateEntitiesCannotSeeExistingEntities()
+    public void testFilesAtRevision()
+    {
+        Entity entity = TestTools.newClassEntity("TestClass", "model");
+        Revision r1 = modificationContext().performChanges(
+                Collections.singletonList(EntityChange.newCreateEntity(entity.getPath(), entity.getClassifierPath(), entity.getContent())), null, "create entity");
+        Entity second = TestTools.newClassEntity("Second", "model");
+        modificationContext().performChanges(
+                Collections.singletonList(EntityChange.newCreateEntity(second.getPath(), second.getClassifierPath(), second.getContent())), null, "second entity");
+
+        // file access honours the revision id rather than the branch head
+        ProjectFileAccessProvider.FileAccessContext atR1 = this.entityApi.getProjectFileAccessProvider().getFileAccessContext(PROJECT_ID, this.workspaceSourceSpec, r1.getId());
+        ProjectFileAccessProvider.FileAccessContext atHead = this.entityApi.getProjectFileAccessProvider().getFileAccessContext(PROJECT_ID, this.workspaceSourceSpec, null);
+        Assert.assertEquals(Collections.singletonList("model::TestClass"), EntityAccessOperations.getEntityPaths(atR1, null, null, null));
+        Assert.assertEquals(Sets.mutable.with("model::TestClass", "model::Second"), Sets.mutable.withAll(EntityAccessOperations.getEntityPaths(atHead, null, null, null)));
+
+        try (Stream<ProjectFileAccessProvider.ProjectFile> files = atR1.getFiles())
+        {
+            List<ProjectFileAccessProvider.ProjectFile> fileList = files.collect(Collectors.toList());
+            Assert.assertTrue(fileList.stream().allMatch(f -> f.getPath().startsWith("/")));
+            Assert.assertTrue(fileList.stream().anyMatch(f -> "/project.json".equals(f.getPath())));
+            // content can still be read once the listing has been consumed
+            fileList.forEach(f -> Assert.assertNotNull(f.getPath(), f.getContentAsBytes()));
+        }
+    }
+
+    @Test
+    public void testUpdateEntitiesSeesExistingEntities()
     {
         Entity entity = TestTools.newClassEntity("TestClass", "model");
         modificationContext().performChanges(
                 Collections.singletonList(EntityChange.newCreateEntity(entity.getPath(), entity.getClassifierPath(), entity.getContent())), null, "create entity");
 
-        // modifying an existing entity through updateEntities fails: enumeration through the standard file access
-        // context returns nothing, so the update is treated as a create, which then finds the existing file
+        // modifying an existing entity through updateEntities is a modification
         Entity modified = TestTools.newClassEntity("TestClass", "model", TestTools.newProperty("prop", "String", 0, 1));
-        LegendSDLCException e = Assert.assertThrows(LegendSDLCException.class,
-                () -> modificationContext().updateEntities(Collections.singletonList(modified), false, "modify entity"));
-        Assert.assertTrue(e.getMessage(), e.getMessage().endsWith(": entity \"model::TestClass\" already exists"));
-        Assert.assertEquals(500, e.getStatusCode());
-
-        // replace=true with an empty set deletes nothing (existing entities are invisible) and creates no revision
-        Assert.assertNull(modificationContext().updateEntities(Collections.emptyList(), true, "delete all"));
-        Assert.assertEquals("model::TestClass", accessContext().getEntity("model::TestClass").getPath());
+        Assert.assertNotNull(modificationContext().updateEntities(Collections.singletonList(modified), false, "modify entity"));
+        Assert.assertEquals(modified.getContent(), accessContext().getEntity("model::TestClass").getContent());
 
         // creating a genuinely new entity through updateEntities works
         Entity other = TestTools.newClassEntity("Other", "model");
         Revision revision = modificationContext().updateEntities(Collections.singletonList(other), false, "add entity");
         Assert.assertNotNull(revision);
         Assert.assertEquals("model::Other", accessContext().getEntity("model::Other").getPath());
+
+        // replace=true with an empty set deletes the existing entities
+        Assert.assertNotNull(modificationContext().updateEntities(Collections.emptyList(), true, "delete all"));
+        LegendSDLCException e = Assert.assertThrows(LegendSDLCException.class, () -> accessContext().getEntity("model::TestClass"));
+        Assert.assertEquals(404, e.getStatusCode());
     }
 
     @Test
@@ -200,7 +232,7 @@ public class TestFileSystemEntityApiCharacterization
     }
 
     @Test
-    public void testStaleReferenceRevisionIsWrappedConflict()
+    public void testStaleReferenceRevisionIsConflict()
     {
         Entity entity = TestTools.newClassEntity("TestClass", "model");
         Revision r1 = modificationContext().performChanges(
@@ -209,14 +241,55 @@ public class TestFileSystemEntityApiCharacterization
         modificationContext().performChanges(
                 Collections.singletonList(EntityChange.newCreateEntity(second.getPath(), second.getClassifierPath(), second.getContent())), null, "second entity");
 
-        // submitting against a stale reference revision is a conflict, but FSException re-wraps it as a 500
+        // submitting against a stale reference revision is a conflict
         Entity third = TestTools.newClassEntity("Third", "model");
         LegendSDLCException e = Assert.assertThrows(LegendSDLCException.class,
                 () -> modificationContext().performChanges(
                         Collections.singletonList(EntityChange.newCreateEntity(third.getPath(), third.getClassifierPath(), third.getContent())), r1.getId(), "stale revision"));
-        Assert.assertEquals(500, e.getStatusCode());
-        Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("Error occurred while committing changes to ")
-                && e.getMessage().contains("Expected ") && e.getMessage().contains(" to be at revision " + r1.getId()));
+        Assert.assertEquals(409, e.getStatusCode());
+        Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("Expected ") && e.getMessage().contains(" to be at revision " + r1.getId()));
+    }
+
+    @Test
+    public void testConcurrentUpdatesFromSameRevisionConflict() throws Exception
+    {
+        Entity entity = TestTools.newClassEntity("TestClass", "model");
+        Revision r1 = modificationContext().performChanges(
+                Collections.singletonList(EntityChange.newCreateEntity(entity.getPath(), entity.getClassifierPath(), entity.getContent())), null, "create entity");
+
+        // of several concurrent updates from the same revision, one wins and the others lose with a conflict
+        int count = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        int succeeded = 0;
+        try
+        {
+            List<Future<Revision>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++)
+            {
+                Entity other = TestTools.newClassEntity("Class" + i, "model");
+                futures.add(executor.submit(() -> modificationContext().performChanges(
+                        Collections.singletonList(EntityChange.newCreateEntity(other.getPath(), other.getClassifierPath(), other.getContent())), r1.getId(), "create " + other.getPath())));
+            }
+            for (Future<Revision> future : futures)
+            {
+                try
+                {
+                    Assert.assertNotNull(future.get());
+                    succeeded++;
+                }
+                catch (ExecutionException e)
+                {
+                    Assert.assertTrue(String.valueOf(e.getCause()), e.getCause() instanceof LegendSDLCException);
+                    Assert.assertEquals(409, ((LegendSDLCException) e.getCause()).getStatusCode());
+                }
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(1, succeeded);
+        Assert.assertEquals(2, accessContext().getEntityPaths(null, null, null).size());
     }
 
     @Test
@@ -232,6 +305,66 @@ public class TestFileSystemEntityApiCharacterization
         Assert.assertEquals(404, e.getStatusCode());
     }
 
+    @Test
+    public void testSubmitMoveFile()
+    {
+        ProjectFileAccessProvider fileAccessProvider = this.entityApi.getProjectFileAccessProvider();
+        Revision r1 = fileAccessProvider.getFileModificationContext(PROJECT_ID, this.workspaceSourceSpec, null)
+                .submit("add file", Collections.singletonList(ProjectFileOperation.addFile("/docs/a.txt", "content")));
+        Assert.assertEquals(r1.getId(), fileAccessProvider.getRevisionAccessContext(PROJECT_ID, this.workspaceSourceSpec, null).getCurrentRevision().getId());
+
+        Revision r2 = fileAccessProvider.getFileModificationContext(PROJECT_ID, this.workspaceSourceSpec, r1.getId())
+                .submit("move file", Collections.singletonList(ProjectFileOperation.moveFile("/docs/a.txt", "/docs/b.txt")));
+        ProjectFileAccessProvider.FileAccessContext fileAccessContext = fileAccessProvider.getFileAccessContext(PROJECT_ID, this.workspaceSourceSpec, r2.getId());
+        Assert.assertFalse(fileAccessContext.fileExists("/docs/a.txt"));
+        Assert.assertEquals("content", fileAccessContext.getFile("/docs/b.txt").getContentAsString());
+
+        // the earlier revision is unchanged
+        Assert.assertTrue(fileAccessProvider.getFileAccessContext(PROJECT_ID, this.workspaceSourceSpec, r1.getId()).fileExists("/docs/a.txt"));
+
+        LegendSDLCException e = Assert.assertThrows(LegendSDLCException.class,
+                () -> fileAccessProvider.getFileModificationContext(PROJECT_ID, this.workspaceSourceSpec, null)
+                        .submit("move missing file", Collections.singletonList(ProjectFileOperation.moveFile("/docs/a.txt", "/docs/c.txt"))));
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("File /docs/a.txt does not exist"));
+    }
+
+    @Test
+    public void testConcurrentWorkspaceUpdates() throws Exception
+    {
+        String otherWorkspaceId = "otherentitytestworkspace";
+        new FileSystemWorkspaceApi(this.fsConfiguration).newWorkspace(PROJECT_ID, otherWorkspaceId, WorkspaceType.USER, WorkspaceSource.projectWorkspaceSource());
+        WorkspaceSourceSpecification otherSourceSpec = SourceSpecification.workspaceSourceSpecification(WorkspaceSpecification.newWorkspaceSpecification(otherWorkspaceId, WorkspaceType.USER));
+
+        int count = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            List<Future<Revision>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++)
+            {
+                Entity entity = TestTools.newClassEntity("Class" + i, "model");
+                WorkspaceSourceSpecification sourceSpec = ((i % 2) == 0) ? this.workspaceSourceSpec : otherSourceSpec;
+                futures.add(executor.submit(() -> this.entityApi.getEntityModificationContext(PROJECT_ID, sourceSpec).performChanges(
+                        Collections.singletonList(EntityChange.newCreateEntity(entity.getPath(), entity.getClassifierPath(), entity.getContent())), null, "create " + entity.getPath())));
+            }
+            for (Future<Revision> future : futures)
+            {
+                Assert.assertNotNull(future.get());
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(
+                IntStream.range(0, count).filter(i -> (i % 2) == 0).mapToObj(i -> "model::Class" + i).collect(Collectors.toSet()),
+                Sets.mutable.withAll(accessContext().getEntityPaths(null, null, null)));
+        Assert.assertEquals(
+                IntStream.range(0, count).filter(i -> (i % 2) == 1).mapToObj(i -> "model::Class" + i).collect(Collectors.toSet()),
+                Sets.mutable.withAll(this.entityApi.getEntityAccessContext(PROJECT_ID, otherSourceSpec, null).getEntityPaths(null, null, null)));
+    }
+
     protected EntityAccessContext accessContext()
     {
         return this.entityApi.getEntityAccessContext(PROJECT_ID, this.workspaceSourceSpec, null);
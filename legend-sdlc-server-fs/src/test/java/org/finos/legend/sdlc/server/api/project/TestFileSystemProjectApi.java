@@ -0,0 +1,110 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.api.project;
+
+import org.finos.legend.sdlc.domain.model.project.Project;
+import org.finos.legend.sdlc.domain.model.project.ProjectType;
+import org.finos.legend.sdlc.server.error.LegendSDLCServerException;
+import org.finos.legend.sdlc.server.startup.FSConfiguration;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TestFileSystemProjectApi
+{
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private FileSystemProjectApi projectApi;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        FSConfiguration fsConfiguration = FSConfiguration.newConfiguration(this.tempFolder.getRoot().getCanonicalFile().getAbsolutePath());
+        this.projectApi = new FileSystemProjectApi(fsConfiguration, null, null, null);
+        this.projectApi.createProject("ProjectA", "first project", ProjectType.MANAGED, "org.finos.legend.sdlc.test", "project-a", Collections.singletonList("finance"));
+        this.projectApi.createProject("ProjectB", "second project", ProjectType.MANAGED, "org.finos.legend.sdlc.test", "project-b", Arrays.asList("finance", "legacy"));
+        this.projectApi.createProject("OtherC", "third project", ProjectType.MANAGED, "org.finos.legend.sdlc.test", "other-c", Collections.emptyList());
+        // not a project
+        Files.createDirectories(this.tempFolder.getRoot().toPath().resolve("NotAProject"));
+    }
+
+    @After
+    public void tearDown()
+    {
+        FileSystemProjectRegistry.closeAll();
+    }
+
+    @Test
+    public void testGetProjects()
+    {
+        List<Project> projects = this.projectApi.getProjects(false, null, null, null, null);
+        Assert.assertEquals(Arrays.asList("OtherC", "ProjectA", "ProjectB"), getIds(projects));
+        Project projectB = projects.get(2);
+        Assert.assertEquals("second project", projectB.getDescription());
+        Assert.assertEquals(ProjectType.MANAGED, projectB.getProjectType());
+        Assert.assertEquals(Arrays.asList("finance", "legacy"), projectB.getTags().stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testGetProjectsWithFilters()
+    {
+        Assert.assertEquals(Arrays.asList("ProjectA", "ProjectB"), getIds(this.projectApi.getProjects(false, "project", null, null, null)));
+        Assert.assertEquals(Collections.singletonList("OtherC"), getIds(this.projectApi.getProjects(false, "otherc", null, null, null)));
+        Assert.assertEquals(Arrays.asList("ProjectA", "ProjectB"), getIds(this.projectApi.getProjects(false, null, Collections.singletonList("finance"), null, null)));
+        Assert.assertEquals(Collections.singletonList("ProjectA"), getIds(this.projectApi.getProjects(false, null, Collections.singletonList("finance"), Collections.singletonList("legacy"), null)));
+        Assert.assertEquals(Collections.singletonList("OtherC"), getIds(this.projectApi.getProjects(false, null, null, null, 1)));
+        Assert.assertEquals(Collections.singletonList("ProjectA"), getIds(this.projectApi.getProjects(false, "project", null, null, 1)));
+        Assert.assertEquals(Collections.emptyList(), this.projectApi.getProjects(false, null, null, null, 0));
+        LegendSDLCServerException e = Assert.assertThrows(LegendSDLCServerException.class, () -> this.projectApi.getProjects(false, null, null, null, -1));
+        Assert.assertEquals("Invalid limit: -1", e.getMessage());
+    }
+
+    @Test
+    public void testNewProjectListed()
+    {
+        Assert.assertEquals(3, this.projectApi.getProjects(false, null, null, null, null).size());
+        this.projectApi.createProject("ProjectD", "fourth project", ProjectType.MANAGED, "org.finos.legend.sdlc.test", "project-d", Collections.emptyList());
+        Assert.assertEquals(Arrays.asList("OtherC", "ProjectA", "ProjectB", "ProjectD"), getIds(this.projectApi.getProjects(false, null, null, null, null)));
+    }
+
+    @Test
+    public void testClosedRegistryReplaced() throws IOException
+    {
+        String rootDirectory = this.tempFolder.getRoot().getCanonicalFile().getAbsolutePath();
+        FileSystemProjectRegistry registry = FileSystemProjectRegistry.getRegistry(rootDirectory);
+        Assert.assertSame(registry, FileSystemProjectRegistry.getRegistry(rootDirectory));
+
+        registry.close();
+        FileSystemProjectRegistry newRegistry = FileSystemProjectRegistry.getRegistry(rootDirectory);
+        Assert.assertNotSame(registry, newRegistry);
+        Assert.assertEquals(Arrays.asList("OtherC", "ProjectA", "ProjectB"), getIds(this.projectApi.getProjects(false, null, null, null, null)));
+    }
+
+    private static List<String> getIds(List<Project> projects)
+    {
+        return projects.stream().map(Project::getProjectId).collect(Collectors.toList());
+    }
+}
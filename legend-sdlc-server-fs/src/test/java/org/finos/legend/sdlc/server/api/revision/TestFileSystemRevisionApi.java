@@ -0,0 +1,122 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.api.revision;
+
+import org.finos.legend.sdlc.backend.api.revision.RevisionAccessContext;
+import org.finos.legend.sdlc.domain.model.TestTools;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.domain.model.entity.change.EntityChange;
+import org.finos.legend.sdlc.domain.model.project.ProjectType;
+import org.finos.legend.sdlc.domain.model.project.workspace.WorkspaceType;
+import org.finos.legend.sdlc.domain.model.revision.Revision;
+import org.finos.legend.sdlc.project.source.SourceSpecification;
+import org.finos.legend.sdlc.project.workspace.WorkspaceSource;
+import org.finos.legend.sdlc.project.workspace.WorkspaceSpecification;
+import org.finos.legend.sdlc.server.api.entity.FileSystemEntityApi;
+import org.finos.legend.sdlc.server.api.project.FileSystemProjectApi;
+import org.finos.legend.sdlc.server.api.workspace.FileSystemWorkspaceApi;
+import org.finos.legend.sdlc.server.startup.FSConfiguration;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TestFileSystemRevisionApi
+{
+    private static final String PROJECT_ID = "TestProject";
+    private static final String WORKSPACE_ID = "revisiontestworkspace";
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private FileSystemEntityApi entityApi;
+    private FileSystemRevisionApi revisionApi;
+    private SourceSpecification workspaceSourceSpec;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        FSConfiguration fsConfiguration = FSConfiguration.newConfiguration(this.tempFolder.getRoot().getCanonicalFile().getAbsolutePath());
+        new FileSystemProjectApi(fsConfiguration, null, null, null).createProject(PROJECT_ID, "revision test project", ProjectType.MANAGED, "org.finos.legend.sdlc.test", "revision-api-test", Collections.emptyList());
+        new FileSystemWorkspaceApi(fsConfiguration).newWorkspace(PROJECT_ID, WORKSPACE_ID, WorkspaceType.USER, WorkspaceSource.projectWorkspaceSource());
+        this.workspaceSourceSpec = SourceSpecification.workspaceSourceSpecification(WorkspaceSpecification.newWorkspaceSpecification(WORKSPACE_ID, WorkspaceType.USER));
+        this.entityApi = new FileSystemEntityApi(fsConfiguration);
+        this.revisionApi = new FileSystemRevisionApi(fsConfiguration);
+    }
+
+    @Test
+    public void testGetRevisions()
+    {
+        Revision base = this.revisionApi.getRevisionContext(PROJECT_ID, SourceSpecification.projectSourceSpecification()).getCurrentRevision();
+        Revision r1 = createEntity(TestTools.newClassEntity("A", "model::one"));
+        Revision r2 = createEntity(TestTools.newClassEntity("B", "model::two"));
+        Revision r3 = createEntity(TestTools.newClassEntity("C", "model::one"));
+
+        RevisionAccessContext context = this.revisionApi.getRevisionContext(PROJECT_ID, this.workspaceSourceSpec);
+        List<String> allRevisionIds = getIds(context.getRevisions());
+        Assert.assertEquals(Arrays.asList(r3.getId(), r2.getId(), r1.getId()), allRevisionIds.subList(0, 3));
+        Assert.assertTrue(allRevisionIds.contains(base.getId()));
+        Assert.assertEquals(Arrays.asList(r3.getId(), r2.getId()), getIds(context.getRevisions(2)));
+        Assert.assertEquals(Collections.singletonList(r2.getId()), getIds(context.getRevisions(r -> r.getMessage().contains("model::two"), null, null, null)));
+        Assert.assertEquals(Collections.emptyList(), context.getRevisions(0));
+        Assert.assertEquals(Collections.emptyList(), context.getRevisions(null, null, base.getCommittedTimestamp().minusSeconds(3600), null));
+        Assert.assertEquals(allRevisionIds, getIds(context.getRevisions(base.getCommittedTimestamp().minusSeconds(3600), null)));
+    }
+
+    @Test
+    public void testGetPackageAndEntityRevisions()
+    {
+        Revision r1 = createEntity(TestTools.newClassEntity("A", "model::one"));
+        Revision r2 = createEntity(TestTools.newClassEntity("B", "model::two"));
+        Revision r3 = createEntity(TestTools.newClassEntity("C", "model::one"));
+
+        Assert.assertEquals(Arrays.asList(r3.getId(), r1.getId()), getIds(this.revisionApi.getPackageRevisionContext(PROJECT_ID, this.workspaceSourceSpec, "model::one").getRevisions()));
+        Assert.assertEquals(Collections.singletonList(r2.getId()), getIds(this.revisionApi.getPackageRevisionContext(PROJECT_ID, this.workspaceSourceSpec, "model::two").getRevisions()));
+        Assert.assertEquals(Collections.singletonList(r1.getId()), getIds(this.revisionApi.getEntityRevisionContext(PROJECT_ID, this.workspaceSourceSpec, "model::one::A").getRevisions()));
+        Assert.assertEquals(r3.getId(), this.revisionApi.getEntityRevisionContext(PROJECT_ID, this.workspaceSourceSpec, "model::one::C").getCurrentRevision().getId());
+    }
+
+    @Test
+    public void testGetBaseRevision()
+    {
+        Revision masterRevision = this.revisionApi.getRevisionContext(PROJECT_ID, SourceSpecification.projectSourceSpecification()).getCurrentRevision();
+        createEntity(TestTools.newClassEntity("A", "model::one"));
+        createEntity(TestTools.newClassEntity("B", "model::one"));
+
+        RevisionAccessContext context = this.revisionApi.getRevisionContext(PROJECT_ID, this.workspaceSourceSpec);
+        Assert.assertEquals(masterRevision.getId(), context.getBaseRevision().getId());
+        // answered from the cache the second time
+        Assert.assertEquals(masterRevision.getId(), context.getBaseRevision().getId());
+        Assert.assertEquals(masterRevision.getId(), this.revisionApi.getRevisionContext(PROJECT_ID, SourceSpecification.projectSourceSpecification()).getBaseRevision().getId());
+    }
+
+    private Revision createEntity(Entity entity)
+    {
+        return this.entityApi.getEntityModificationContext(PROJECT_ID, this.workspaceSourceSpec).performChanges(
+                Collections.singletonList(EntityChange.newCreateEntity(entity.getPath(), entity.getClassifierPath(), entity.getContent())), null, "create " + entity.getPath());
+    }
+
+    private static List<String> getIds(List<Revision> revisions)
+    {
+        return revisions.stream().map(Revision::getId).collect(Collectors.toList());
+    }
+}
@@ -16,6 +16,7 @@ package org.finos.legend.sdlc.server.monitoring;
 
 import io.prometheus.client.Collector;
 import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.SimpleTimer;
 import io.prometheus.client.Summary;
@@ -25,6 +26,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
+import java.util.function.DoubleSupplier;
 import java.util.regex.Pattern;
 
 public class SDLCMetricsHandler
@@ -55,6 +57,15 @@ public class SDLCMetricsHandler
         }
     };
 
+    private static final MetricsRegistry<Gauge> ADDITIONAL_GAUGES = new MetricsRegistry<Gauge>("gauge")
+    {
+        @Override
+        protected Gauge createNewMetric(String name, String help)
+        {
+            return Gauge.build(name, help).register();
+        }
+    };
+
     public static void operationStart()
     {
         OPERATION_START_COUNTER.inc();
@@ -99,6 +110,39 @@ public class SDLCMetricsHandler
         }
     }
 
+    public static void observeDuration(String name, long durationNanos)
+    {
+        Summary summary = ADDITIONAL_SUMMARIES.getOrCreate(name);
+        if (summary != null)
+        {
+            summary.observe(SimpleTimer.elapsedSecondsFromNanos(0L, durationNanos));
+        }
+    }
+
+    /**
+     * Register a gauge whose value is read from the supplier whenever metrics are collected. Registering the same
+     * name again replaces the supplier.
+     *
+     * @param name     gauge name
+     * @param supplier value supplier
+     */
+    public static void registerGauge(String name, DoubleSupplier supplier)
+    {
+        Objects.requireNonNull(supplier, "supplier may not be null");
+        Gauge gauge = ADDITIONAL_GAUGES.getOrCreate(name);
+        if (gauge != null)
+        {
+            gauge.setChild(new Gauge.Child()
+            {
+                @Override
+                public double get()
+                {
+                    return supplier.getAsDouble();
+                }
+            });
+        }
+    }
+
     private static Histogram createRequestLatencyHistogram(String name, String help)
     {
         return Histogram.build().name(name)
@@ -20,11 +20,14 @@ import org.finos.legend.sdlc.tools.StringTools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.Response.Status.Family;
 
@@ -44,64 +47,105 @@ public abstract class BaseResource
         try
         {
             T result = supplier.get();
-            long endTime = System.nanoTime();
-            SDLCMetricsHandler.operationComplete(startTime, endTime, metricName);
-            if (isInfoLogging)
+            logSuccess(logger, sanitizedDescription, metricName, startTime);
+            return result;
+        }
+        catch (Throwable t)
+        {
+            logFailure(logger, descriptionForLogging, sanitizedDescription, metricName, startTime, t);
+            throw t;
+        }
+    }
+
+    /**
+     * Execute an operation which completes asynchronously, and resume the given response with its result once it
+     * completes. This does not wait for the operation to complete, so the request thread is not held meanwhile.
+     *
+     * @param descriptionForLogging description for logging
+     * @param metricName            metric name (may be null)
+     * @param asyncResponse         response to resume
+     * @param supplier              supplier of the operation's future result
+     * @param <T>                   result type
+     */
+    protected <T> void executeAsync(String descriptionForLogging, String metricName, AsyncResponse asyncResponse, Supplier<? extends CompletionStage<T>> supplier)
+    {
+        Logger logger = getLogger();
+        SDLCMetricsHandler.operationStart();
+        boolean isInfoLogging = logger.isInfoEnabled();
+        String sanitizedDescription = isInfoLogging ? StringTools.sanitizeForLogging(descriptionForLogging, "_", false) : null;
+        long startTime = System.nanoTime();
+        if (isInfoLogging)
+        {
+            logger.info("Starting {}", sanitizedDescription);
+        }
+        CompletionStage<T> stage;
+        try
+        {
+            stage = supplier.get();
+        }
+        catch (Throwable t)
+        {
+            logFailure(logger, descriptionForLogging, sanitizedDescription, metricName, startTime, t);
+            asyncResponse.resume(t);
+            return;
+        }
+        stage.whenComplete((result, t) ->
+        {
+            if (t == null)
             {
-                long duration = endTime - startTime;
-                StringBuilder builder = new StringBuilder(sanitizedDescription.length() + 32).append("Finished ").append(sanitizedDescription).append(" (");
-                StringTools.formatDurationInNanos(builder, duration);
-                builder.append("s)");
-                logger.info(builder.toString());
+                logSuccess(logger, sanitizedDescription, metricName, startTime);
+                asyncResponse.resume(result);
             }
-            return result;
+            else
+            {
+                Throwable error = ((t instanceof CompletionException) && (t.getCause() != null)) ? t.getCause() : t;
+                logFailure(logger, descriptionForLogging, sanitizedDescription, metricName, startTime, error);
+                asyncResponse.resume(error);
+            }
+        });
+    }
+
+    private void logSuccess(Logger logger, String sanitizedDescription, String metricName, long startTime)
+    {
+        long endTime = System.nanoTime();
+        SDLCMetricsHandler.operationComplete(startTime, endTime, metricName);
+        if (sanitizedDescription != null)
+        {
+            long duration = endTime - startTime;
+            StringBuilder builder = new StringBuilder(sanitizedDescription.length() + 32).append("Finished ").append(sanitizedDescription).append(" (");
+            StringTools.formatDurationInNanos(builder, duration);
+            builder.append("s)");
+            logger.info(builder.toString());
         }
-        catch (LegendSDLCException e)
+    }
+
+    private void logFailure(Logger logger, String descriptionForLogging, String sanitizedDescription, String metricName, long startTime, Throwable t)
+    {
+        long endTime = System.nanoTime();
+        if (t instanceof LegendSDLCException)
         {
-            long endTime = System.nanoTime();
-            Status status = Status.fromStatusCode(e.getStatusCode());
+            Status status = Status.fromStatusCode(((LegendSDLCException) t).getStatusCode());
             if ((status != null) && (status.getFamily() == Family.REDIRECTION))
             {
                 SDLCMetricsHandler.operationRedirect(startTime, endTime, metricName);
-                if (isInfoLogging)
+                if (sanitizedDescription != null)
                 {
                     long duration = endTime - startTime;
-                    String redirectLocation = String.valueOf(e.getMessage());
+                    String redirectLocation = String.valueOf(t.getMessage());
                     StringBuilder builder = new StringBuilder(sanitizedDescription.length() + redirectLocation.length() + 39).append("Redirected ").append(sanitizedDescription).append(" to: ").append(redirectLocation).append(" (");
                     StringTools.formatDurationInNanos(builder, duration);
                     builder.append("s)");
                     logger.info(builder.toString());
                 }
+                return;
             }
-            else
-            {
-                SDLCMetricsHandler.operationError(startTime, endTime, metricName);
-                if (logger.isErrorEnabled())
-                {
-                    long duration = endTime - startTime;
-                    if (sanitizedDescription == null)
-                    {
-                        sanitizedDescription = StringTools.sanitizeForLogging(descriptionForLogging, "_", false);
-                    }
-                    logger.error(buildLoggingErrorMessage(e, sanitizedDescription, duration), e);
-                }
-            }
-            throw e;
         }
-        catch (Throwable t)
+        SDLCMetricsHandler.operationError(startTime, endTime, metricName);
+        if (logger.isErrorEnabled())
         {
-            long endTime = System.nanoTime();
-            SDLCMetricsHandler.operationError(startTime, endTime, metricName);
-            if (logger.isErrorEnabled())
-            {
-                long duration = endTime - startTime;
-                if (sanitizedDescription == null)
-                {
-                    sanitizedDescription = StringTools.sanitizeForLogging(descriptionForLogging, "_", false);
-                }
-                logger.error(buildLoggingErrorMessage(t, sanitizedDescription, duration), t);
-            }
-            throw t;
+            long duration = endTime - startTime;
+            String description = (sanitizedDescription == null) ? StringTools.sanitizeForLogging(descriptionForLogging, "_", false) : sanitizedDescription;
+            logger.error(buildLoggingErrorMessage(t, description, duration), t);
         }
     }
 
@@ -147,6 +191,11 @@ public abstract class BaseResource
         return execute(description, null, supplier);
     }
 
+    protected <T> void executeAsyncWithLogging(String description, AsyncResponse asyncResponse, Supplier<? extends CompletionStage<T>> supplier)
+    {
+        executeAsync(description, null, asyncResponse, supplier);
+    }
+
     protected <T, R> R executeWithLogging(String description, Function<? super T, R> function, T arg)
     {
         return executeWithLogging(description, () -> function.apply(arg));
@@ -29,6 +29,7 @@ import org.finos.legend.sdlc.server.gitlab.GitLabBundle;
 import org.finos.legend.sdlc.server.gitlab.GitLabConfiguration;
 import org.finos.legend.sdlc.server.guice.AbstractBaseModule;
 import org.finos.legend.sdlc.server.guice.BaseModule;
+import org.finos.legend.sdlc.server.monitoring.SDLCMetricsHandler;
 import org.finos.legend.sdlc.server.project.config.ProjectStructureConfiguration;
 import org.finos.legend.sdlc.backend.api.tools.BackgroundTaskProcessor;
 import org.slf4j.Logger;
@@ -153,8 +154,48 @@ public abstract class BaseLegendSDLCServer<T extends LegendSDLCServerConfigurati
         if (this.backgroundTaskProcessor == null)
         {
             LOGGER.debug("Creating background task processor");
-            this.backgroundTaskProcessor = new BackgroundTaskProcessor(1);
+            BackgroundTaskProcessor taskProcessor = new BackgroundTaskProcessor(1, BackgroundTaskProcessor.DEFAULT_MAX_PENDING_TASKS, BackgroundTaskProcessor.DEFAULT_SUBMIT_TIMEOUT_MILLIS, new BackgroundTaskMetricsListener());
+            SDLCMetricsHandler.registerGauge("background task queue depth", taskProcessor::getQueuedTaskCount);
+            SDLCMetricsHandler.registerGauge("background task scheduled retries", taskProcessor::getScheduledRetryCount);
+            SDLCMetricsHandler.registerGauge("background task pending", taskProcessor::getPendingTaskCount);
+            this.backgroundTaskProcessor = taskProcessor;
         }
         return this.backgroundTaskProcessor;
     }
+
+    private static class BackgroundTaskMetricsListener implements BackgroundTaskProcessor.Listener
+    {
+        @Override
+        public void taskRetryScheduled(String taskType, int attempt, long delayMillis)
+        {
+            incrementCounter(taskType, "retry");
+        }
+
+        @Override
+        public void taskFinished(String taskType, int attempts, long latencyNanos, boolean succeeded)
+        {
+            incrementCounter(taskType, succeeded ? "completed" : "failed");
+            SDLCMetricsHandler.observeDuration("background task latency", latencyNanos);
+            if (taskType != null)
+            {
+                SDLCMetricsHandler.observeDuration("background task " + taskType + " latency", latencyNanos);
+            }
+        }
+
+        @Override
+        public void taskRejected(String taskType)
+        {
+            incrementCounter(taskType, "rejected");
+        }
+
+        // counts both over all tasks and, for typed tasks, per task type
+        private static void incrementCounter(String taskType, String event)
+        {
+            SDLCMetricsHandler.incrementCounter("background task " + event);
+            if (taskType != null)
+            {
+                SDLCMetricsHandler.incrementCounter("background task " + taskType + " " + event);
+            }
+        }
+    }
 }
@@ -24,11 +24,15 @@ public class DepotConfiguration
 {
     private final ServerConfiguration serverConfiguration;
     private final AuthClientInjector authClientInjector;
+    private final ConnectionConfiguration connectionConfiguration;
+    private final CacheConfiguration cacheConfiguration;
 
-    private DepotConfiguration(ServerConfiguration serverConfiguration, AuthClientInjector authClientInjector)
+    private DepotConfiguration(ServerConfiguration serverConfiguration, AuthClientInjector authClientInjector, ConnectionConfiguration connectionConfiguration, CacheConfiguration cacheConfiguration)
     {
         this.serverConfiguration = serverConfiguration;
         this.authClientInjector = authClientInjector;
+        this.connectionConfiguration = (connectionConfiguration == null) ? ConnectionConfiguration.emptyConfiguration() : connectionConfiguration;
+        this.cacheConfiguration = (cacheConfiguration == null) ? CacheConfiguration.emptyConfiguration() : cacheConfiguration;
     }
 
     public ServerConfiguration getServerConfiguration()
@@ -41,15 +45,30 @@ public class DepotConfiguration
         return this.authClientInjector;
     }
 
+    public ConnectionConfiguration getConnectionConfiguration()
+    {
+        return this.connectionConfiguration;
+    }
+
+    public CacheConfiguration getCacheConfiguration()
+    {
+        return this.cacheConfiguration;
+    }
+
     public static DepotConfiguration emptyConfiguration()
     {
-        return new DepotConfiguration(ServerConfiguration.emptyConfiguration(), null);
+        return new DepotConfiguration(ServerConfiguration.emptyConfiguration(), null, null, null);
+    }
+
+    public static DepotConfiguration newConfiguration(ServerConfiguration serverConfiguration, AuthClientInjector authClientInjector)
+    {
+        return newConfiguration(serverConfiguration, authClientInjector, null, null);
     }
 
     @JsonCreator
-    public static DepotConfiguration newConfiguration(@JsonProperty("server") ServerConfiguration serverConfiguration, @JsonProperty("auth") AuthClientInjector authClientInjector)
+    public static DepotConfiguration newConfiguration(@JsonProperty("server") ServerConfiguration serverConfiguration, @JsonProperty("auth") AuthClientInjector authClientInjector, @JsonProperty("connection") ConnectionConfiguration connectionConfiguration, @JsonProperty("cache") CacheConfiguration cacheConfiguration)
     {
-        return new DepotConfiguration(serverConfiguration, authClientInjector);
+        return new DepotConfiguration(serverConfiguration, authClientInjector, connectionConfiguration, cacheConfiguration);
     }
 
     public static ObjectMapper configureObjectMapper(ObjectMapper objectMapper)
@@ -101,4 +120,156 @@ public class DepotConfiguration
             return new ServerConfiguration(scheme, host, port);
         }
     }
+
+    public static class ConnectionConfiguration
+    {
+        private static final int DEFAULT_MAX_CONNECTIONS = 40;
+        private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+        private static final long DEFAULT_IDLE_CONNECTION_TIMEOUT_MILLIS = 30_000L;
+
+        private final int maxConnections;
+        private final int maxConnectionsPerRoute;
+        private final Integer connectTimeoutMillis;
+        private final Integer connectionRequestTimeoutMillis;
+        private final Integer socketTimeoutMillis;
+        private final long idleConnectionTimeoutMillis;
+
+        private ConnectionConfiguration(Integer maxConnections, Integer maxConnectionsPerRoute, Integer connectTimeoutMillis, Integer connectionRequestTimeoutMillis, Integer socketTimeoutMillis, Long idleConnectionTimeoutMillis)
+        {
+            this.maxConnections = (maxConnections == null) ? DEFAULT_MAX_CONNECTIONS : maxConnections;
+            this.maxConnectionsPerRoute = (maxConnectionsPerRoute == null) ? DEFAULT_MAX_CONNECTIONS_PER_ROUTE : maxConnectionsPerRoute;
+            this.connectTimeoutMillis = connectTimeoutMillis;
+            this.connectionRequestTimeoutMillis = connectionRequestTimeoutMillis;
+            this.socketTimeoutMillis = socketTimeoutMillis;
+            this.idleConnectionTimeoutMillis = (idleConnectionTimeoutMillis == null) ? DEFAULT_IDLE_CONNECTION_TIMEOUT_MILLIS : idleConnectionTimeoutMillis;
+            if (this.maxConnections < 1)
+            {
+                throw new IllegalArgumentException("Invalid max connections: " + this.maxConnections);
+            }
+            if (this.maxConnectionsPerRoute < 1)
+            {
+                throw new IllegalArgumentException("Invalid max connections per route: " + this.maxConnectionsPerRoute);
+            }
+        }
+
+        public int getMaxConnections()
+        {
+            return this.maxConnections;
+        }
+
+        public int getMaxConnectionsPerRoute()
+        {
+            return this.maxConnectionsPerRoute;
+        }
+
+        public Integer getConnectTimeoutMillis()
+        {
+            return this.connectTimeoutMillis;
+        }
+
+        public Integer getConnectionRequestTimeoutMillis()
+        {
+            return this.connectionRequestTimeoutMillis;
+        }
+
+        public Integer getSocketTimeoutMillis()
+        {
+            return this.socketTimeoutMillis;
+        }
+
+        public long getIdleConnectionTimeoutMillis()
+        {
+            return this.idleConnectionTimeoutMillis;
+        }
+
+        public static ConnectionConfiguration emptyConfiguration()
+        {
+            return new ConnectionConfiguration(null, null, null, null, null, null);
+        }
+
+        @JsonCreator
+        public static ConnectionConfiguration newConnectionConfiguration(
+                @JsonProperty("maxConnections") Integer maxConnections,
+                @JsonProperty("maxConnectionsPerRoute") Integer maxConnectionsPerRoute,
+                @JsonProperty("connectTimeoutMillis") Integer connectTimeoutMillis,
+                @JsonProperty("connectionRequestTimeoutMillis") Integer connectionRequestTimeoutMillis,
+                @JsonProperty("socketTimeoutMillis") Integer socketTimeoutMillis,
+                @JsonProperty("idleConnectionTimeoutMillis") Long idleConnectionTimeoutMillis)
+        {
+            return new ConnectionConfiguration(maxConnections, maxConnectionsPerRoute, connectTimeoutMillis, connectionRequestTimeoutMillis, socketTimeoutMillis, idleConnectionTimeoutMillis);
+        }
+    }
+
+    public static class CacheConfiguration
+    {
+        private static final int DEFAULT_MAX_ENTITIES = 10_000;
+        private static final int DEFAULT_MAX_SPILL_FILES = 1_000;
+
+        private final int maxEntities;
+        private final String spillDirectory;
+        private final int maxSpillFiles;
+
+        private CacheConfiguration(Integer maxEntities, String spillDirectory, Integer maxSpillFiles)
+        {
+            this.maxEntities = (maxEntities == null) ? DEFAULT_MAX_ENTITIES : maxEntities;
+            this.spillDirectory = spillDirectory;
+            this.maxSpillFiles = (maxSpillFiles == null) ? DEFAULT_MAX_SPILL_FILES : maxSpillFiles;
+            if (this.maxEntities < 0)
+            {
+                throw new IllegalArgumentException("Invalid max entities: " + this.maxEntities);
+            }
+            if (this.maxSpillFiles < 0)
+            {
+                throw new IllegalArgumentException("Invalid max spill files: " + this.maxSpillFiles);
+            }
+        }
+
+        /**
+         * Maximum number of entities (across all versions) held in memory by the version entity cache. A value of 0
+         * disables in-memory caching.
+         *
+         * @return max number of entities
+         */
+        public int getMaxEntities()
+        {
+            return this.maxEntities;
+        }
+
+        /**
+         * Optional directory to which versions evicted from memory are written, and from which they are re-read.
+         *
+         * @return spill directory or null
+         */
+        public String getSpillDirectory()
+        {
+            return this.spillDirectory;
+        }
+
+        /**
+         * Maximum number of versions kept in the spill directory. Beyond this, the least recently used files are
+         * deleted. A value of 0 disables spilling.
+         *
+         * @return max number of spill files
+         */
+        public int getMaxSpillFiles()
+        {
+            return this.maxSpillFiles;
+        }
+
+        public static CacheConfiguration emptyConfiguration()
+        {
+            return new CacheConfiguration(null, null, null);
+        }
+
+        @JsonCreator
+        public static CacheConfiguration newCacheConfiguration(@JsonProperty("maxEntities") Integer maxEntities, @JsonProperty("spillDirectory") String spillDirectory, @JsonProperty("maxSpillFiles") Integer maxSpillFiles)
+        {
+            return new CacheConfiguration(maxEntities, spillDirectory, maxSpillFiles);
+        }
+
+        public static CacheConfiguration newCacheConfiguration(Integer maxEntities, String spillDirectory)
+        {
+            return new CacheConfiguration(maxEntities, spillDirectory, null);
+        }
+    }
 }
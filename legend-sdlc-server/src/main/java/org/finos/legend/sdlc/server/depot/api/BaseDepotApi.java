@@ -14,38 +14,53 @@
 
 package org.finos.legend.sdlc.server.depot.api;
 
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpStatus;
 import org.apache.http.NameValuePair;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.util.EntityUtils;
+import org.finos.legend.sdlc.server.depot.DepotConfiguration;
 import org.finos.legend.sdlc.server.depot.DepotServerInfo;
 import org.finos.legend.sdlc.server.depot.auth.AuthClientInjector;
 import org.finos.legend.sdlc.server.error.LegendSDLCServerException;
+import org.finos.legend.sdlc.tools.IOTools;
 import org.finos.legend.sdlc.tools.StringTools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
-abstract class BaseDepotApi
+abstract class BaseDepotApi implements Closeable
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(BaseDepotApi.class);
 
     private final DepotServerInfo serverInfo;
-    private final AuthClientInjector authClientInjector;
+    private final CloseableHttpClient client;
 
     protected BaseDepotApi(DepotServerInfo serverInfo, AuthClientInjector authClientInjector)
+    {
+        this(serverInfo, authClientInjector, null);
+    }
+
+    protected BaseDepotApi(DepotServerInfo serverInfo, AuthClientInjector authClientInjector, DepotConfiguration.ConnectionConfiguration connectionConfiguration)
     {
         LegendSDLCServerException.validateNonNull(authClientInjector, "Auth client injector may be null");
 
         this.serverInfo = serverInfo;
-        this.authClientInjector = authClientInjector;
+        this.client = buildClient(authClientInjector, (connectionConfiguration == null) ? DepotConfiguration.ConnectionConfiguration.emptyConfiguration() : connectionConfiguration);
     }
 
     public DepotServerInfo getServerInfo()
@@ -53,6 +68,12 @@ abstract class BaseDepotApi
         return this.serverInfo;
     }
 
+    @Override
+    public void close() throws IOException
+    {
+        this.client.close();
+    }
+
     protected URI buildURI(String path, List<NameValuePair> parameters)
     {
         URIBuilder builder = this.serverInfo.newURIBuilder().setPath(path);
@@ -74,28 +95,56 @@ abstract class BaseDepotApi
 
     protected String execute(HttpUriRequest request)
     {
-        try (CloseableHttpClient client = this.authClientInjector.inject(HttpClientBuilder.create()).build();
-              CloseableHttpResponse response = client.execute(request))
-        {
-            int statusCode = response.getStatusLine().getStatusCode();
+        return execute(request, stream -> (stream == null) ? "" : IOTools.readAllToString(stream, StandardCharsets.UTF_8));
+    }
 
-            switch (statusCode)
+    /**
+     * Execute the request and read the response body incrementally with the given reader. The reader is given null if
+     * the response has no body. The underlying connection is returned to the pool once the reader returns.
+     *
+     * @param request        request
+     * @param responseReader response body reader
+     * @param <T>            result type
+     * @return result of reading the response body
+     */
+    protected <T> T execute(HttpUriRequest request, ResponseReader<T> responseReader)
+    {
+        try (CloseableHttpResponse response = this.client.execute(request))
+        {
+            HttpEntity entity = response.getEntity();
+            try
             {
-                case HttpStatus.SC_OK:
-                case HttpStatus.SC_NO_CONTENT:
-                {
-                    return response.getEntity() == null ? "" : EntityUtils.toString(response.getEntity(), "UTF-8");
-                }
-                case HttpStatus.SC_UNAUTHORIZED:
-                case HttpStatus.SC_FORBIDDEN:
+                int statusCode = response.getStatusLine().getStatusCode();
+                switch (statusCode)
                 {
-                    throw new DepotServerException("Authentication failed. Server responded with code " + statusCode);
-                }
-                default:
-                {
-                    throw new DepotServerException("Server responded with code " + statusCode + ". Response received: " + response.getEntity());
+                    case HttpStatus.SC_OK:
+                    case HttpStatus.SC_NO_CONTENT:
+                    {
+                        if (entity == null)
+                        {
+                            return responseReader.read(null);
+                        }
+                        try (InputStream stream = entity.getContent())
+                        {
+                            return responseReader.read(stream);
+                        }
+                    }
+                    case HttpStatus.SC_UNAUTHORIZED:
+                    case HttpStatus.SC_FORBIDDEN:
+                    {
+                        throw new DepotServerException("Authentication failed. Server responded with code " + statusCode);
+                    }
+                    default:
+                    {
+                        throw new DepotServerException("Server responded with code " + statusCode + ". Response received: " + ((entity == null) ? null : EntityUtils.toString(entity, StandardCharsets.UTF_8)));
+                    }
                 }
             }
+            finally
+            {
+                // fully consume the entity so that the connection can be reused
+                EntityUtils.consumeQuietly(entity);
+            }
         }
         catch (Exception ex)
         {
@@ -103,4 +152,40 @@ abstract class BaseDepotApi
             throw new DepotServerException(this.serverInfo.getDepotURLString(), StringTools.appendThrowableMessageIfPresent("Error getting data from Depot", ex), ex);
         }
     }
+
+    private static CloseableHttpClient buildClient(AuthClientInjector authClientInjector, DepotConfiguration.ConnectionConfiguration connectionConfiguration)
+    {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(connectionConfiguration.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(connectionConfiguration.getMaxConnectionsPerRoute());
+
+        RequestConfig.Builder requestConfig = RequestConfig.custom();
+        if (connectionConfiguration.getConnectTimeoutMillis() != null)
+        {
+            requestConfig.setConnectTimeout(connectionConfiguration.getConnectTimeoutMillis());
+        }
+        if (connectionConfiguration.getConnectionRequestTimeoutMillis() != null)
+        {
+            requestConfig.setConnectionRequestTimeout(connectionConfiguration.getConnectionRequestTimeoutMillis());
+        }
+        if (connectionConfiguration.getSocketTimeoutMillis() != null)
+        {
+            requestConfig.setSocketTimeout(connectionConfiguration.getSocketTimeoutMillis());
+        }
+
+        HttpClientBuilder builder = HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig.build())
+                .evictExpiredConnections();
+        if (connectionConfiguration.getIdleConnectionTimeoutMillis() > 0)
+        {
+            builder.evictIdleConnections(connectionConfiguration.getIdleConnectionTimeoutMillis(), TimeUnit.MILLISECONDS);
+        }
+        return authClientInjector.inject(builder).build();
+    }
+
+    protected interface ResponseReader<T>
+    {
+        T read(InputStream stream) throws IOException;
+    }
 }
@@ -0,0 +1,362 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.depot.api;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.domain.model.version.VersionId;
+import org.finos.legend.sdlc.server.depot.DepotConfiguration;
+import org.finos.legend.sdlc.server.depot.model.DepotProjectId;
+import org.finos.legend.sdlc.server.depot.model.DepotProjectVersion;
+import org.finos.legend.sdlc.server.error.LegendSDLCServerException;
+import org.finos.legend.sdlc.server.monitoring.SDLCMetricsHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@link MetadataApi} decorator which caches the entities of released versions. The entities of a released version
+ * never change, so cached entries never become stale; they are evicted, least recently used first, to keep the total
+ * number of entities held in memory within a bound. Evicted versions may optionally be spilled to disk, where the
+ * number of files is bounded in the same way. Only versions with a valid version id are cached: snapshots and
+ * aliases such as "latest" may resolve to different entities over time.
+ */
+public class CachingMetadataApi implements MetadataApi
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachingMetadataApi.class);
+
+    private static final String SPILL_FILE_EXTENSION = ".json.gz";
+
+    private static final String HIT_METRIC = "depot entity cache hit";
+    private static final String DISK_HIT_METRIC = "depot entity cache disk hit";
+    private static final String MISS_METRIC = "depot entity cache miss";
+    private static final String BYPASS_METRIC = "depot entity cache bypass";
+
+    private static final TypeReference<List<DepotMetadataApi.DepotEntity>> SPILL_FILE_TYPE = new TypeReference<List<DepotMetadataApi.DepotEntity>>()
+    {
+    };
+
+    private final MetadataApi delegate;
+    private final int maxEntities;
+    private final Path spillDirectory;
+    private final int maxSpillFiles;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final LinkedHashMap<String, List<Entity>> entities = new LinkedHashMap<>(16, 0.75f, true);
+    private int currentEntityCount = 0;
+    private LinkedHashMap<Path, Boolean> spillFiles;
+
+    public CachingMetadataApi(MetadataApi delegate, DepotConfiguration.CacheConfiguration cacheConfiguration)
+    {
+        LegendSDLCServerException.validateNonNull(delegate, "delegate may not be null");
+        this.delegate = delegate;
+        this.maxEntities = (cacheConfiguration == null) ? DepotConfiguration.CacheConfiguration.emptyConfiguration().getMaxEntities() : cacheConfiguration.getMaxEntities();
+        this.spillDirectory = ((cacheConfiguration == null) || (cacheConfiguration.getSpillDirectory() == null) || (cacheConfiguration.getMaxSpillFiles() == 0)) ? null : Paths.get(cacheConfiguration.getSpillDirectory());
+        this.maxSpillFiles = (cacheConfiguration == null) ? DepotConfiguration.CacheConfiguration.emptyConfiguration().getMaxSpillFiles() : cacheConfiguration.getMaxSpillFiles();
+    }
+
+    @Inject
+    public CachingMetadataApi(DepotMetadataApi delegate, DepotConfiguration configuration)
+    {
+        this(delegate, configuration.getCacheConfiguration());
+    }
+
+    @Override
+    public List<Entity> getEntities(DepotProjectId projectId, String versionId)
+    {
+        LegendSDLCServerException.validateNonNull(projectId, "Project id may be null");
+        LegendSDLCServerException.validateNonNull(versionId, "Version id may be null");
+
+        if (!isCacheable(versionId))
+        {
+            SDLCMetricsHandler.incrementCounter(BYPASS_METRIC);
+            return this.delegate.getEntities(projectId, versionId);
+        }
+
+        String key = getCacheKey(projectId, versionId);
+        List<Entity> cached = getFromMemory(key);
+        if (cached != null)
+        {
+            SDLCMetricsHandler.incrementCounter(HIT_METRIC);
+            return cached;
+        }
+
+        List<Entity> spilled = readSpillFile(key);
+        if (spilled != null)
+        {
+            SDLCMetricsHandler.incrementCounter(DISK_HIT_METRIC);
+            putInMemory(key, spilled);
+            return spilled;
+        }
+
+        SDLCMetricsHandler.incrementCounter(MISS_METRIC);
+        List<Entity> loaded = Collections.unmodifiableList(Lists.mutable.withAll(this.delegate.getEntities(projectId, versionId)));
+        putInMemory(key, loaded);
+        return loaded;
+    }
+
+    @Override
+    public Set<DepotProjectVersion> getProjectDependencies(DepotProjectId projectId, String versionId, boolean transitive)
+    {
+        return this.delegate.getProjectDependencies(projectId, versionId, transitive);
+    }
+
+    synchronized int getCachedVersionCount()
+    {
+        return this.entities.size();
+    }
+
+    synchronized int getCachedEntityCount()
+    {
+        return this.currentEntityCount;
+    }
+
+    synchronized int getSpillFileCount()
+    {
+        return (this.spillFiles == null) ? 0 : this.spillFiles.size();
+    }
+
+    private synchronized List<Entity> getFromMemory(String key)
+    {
+        return this.entities.get(key);
+    }
+
+    private void putInMemory(String key, List<Entity> versionEntities)
+    {
+        MutableList<Pair<String, List<Entity>>> evicted = Lists.mutable.empty();
+        synchronized (this)
+        {
+            if (versionEntities.size() > this.maxEntities)
+            {
+                // too large to hold in memory, but it may still be spilled
+                evicted.add(Tuples.pair(key, versionEntities));
+            }
+            else
+            {
+                List<Entity> previous = this.entities.put(key, versionEntities);
+                if (previous != null)
+                {
+                    this.currentEntityCount -= previous.size();
+                }
+                this.currentEntityCount += versionEntities.size();
+                Iterator<Map.Entry<String, List<Entity>>> iterator = this.entities.entrySet().iterator();
+                while ((this.currentEntityCount > this.maxEntities) && iterator.hasNext())
+                {
+                    Map.Entry<String, List<Entity>> eldest = iterator.next();
+                    this.currentEntityCount -= eldest.getValue().size();
+                    evicted.add(Tuples.pair(eldest.getKey(), eldest.getValue()));
+                    iterator.remove();
+                }
+            }
+        }
+        // disk writes happen outside the lock
+        evicted.forEach(p -> writeSpillFile(p.getOne(), p.getTwo()));
+    }
+
+    private List<Entity> readSpillFile(String key)
+    {
+        if (this.spillDirectory == null)
+        {
+            return null;
+        }
+        Path file = getSpillFile(key);
+        synchronized (this)
+        {
+            // the lookup also marks the file as most recently used
+            if (getSpillFiles().get(file) == null)
+            {
+                return null;
+            }
+        }
+        try (InputStream stream = new GZIPInputStream(Files.newInputStream(file)))
+        {
+            List<DepotMetadataApi.DepotEntity> spilled = this.jsonMapper.readValue(stream, SPILL_FILE_TYPE);
+            return Collections.unmodifiableList(Lists.mutable.withAll(spilled));
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Error reading cached entities for {} from {}; will get them from the depot", key, file, e);
+            return null;
+        }
+    }
+
+    private void writeSpillFile(String key, List<Entity> versionEntities)
+    {
+        if (this.spillDirectory == null)
+        {
+            return;
+        }
+        Path file = getSpillFile(key);
+        synchronized (this)
+        {
+            if (getSpillFiles().containsKey(file))
+            {
+                return;
+            }
+        }
+        Path tmpFile = null;
+        try
+        {
+            Files.createDirectories(this.spillDirectory);
+            tmpFile = Files.createTempFile(this.spillDirectory, "tmp", SPILL_FILE_EXTENSION);
+            try (OutputStream stream = new GZIPOutputStream(Files.newOutputStream(tmpFile)))
+            {
+                this.jsonMapper.writeValue(stream, versionEntities);
+            }
+            try
+            {
+                Files.move(tmpFile, file, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException e)
+            {
+                Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            addSpillFile(file);
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Error writing cached entities for {} to {}", key, file, e);
+            if (tmpFile != null)
+            {
+                try
+                {
+                    Files.deleteIfExists(tmpFile);
+                }
+                catch (IOException ignore)
+                {
+                    // ignore failure to delete temporary file
+                }
+            }
+        }
+    }
+
+    private void addSpillFile(Path file)
+    {
+        MutableList<Path> evicted = Lists.mutable.empty();
+        synchronized (this)
+        {
+            Map<Path, Boolean> files = getSpillFiles();
+            files.put(file, Boolean.TRUE);
+            Iterator<Path> iterator = files.keySet().iterator();
+            while ((files.size() > this.maxSpillFiles) && iterator.hasNext())
+            {
+                evicted.add(iterator.next());
+                iterator.remove();
+            }
+        }
+        // disk deletes happen outside the lock
+        evicted.forEach(this::deleteSpillFile);
+    }
+
+    private void deleteSpillFile(Path file)
+    {
+        try
+        {
+            Files.deleteIfExists(file);
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Error deleting cached entities file {}", file, e);
+        }
+    }
+
+    /**
+     * Get the spill files in least recently used order. On first use, this indexes the files left in the spill
+     * directory by earlier runs, oldest first, so that they also count against the bound. Must be called while holding
+     * the lock.
+     */
+    private LinkedHashMap<Path, Boolean> getSpillFiles()
+    {
+        if (this.spillFiles == null)
+        {
+            LinkedHashMap<Path, Boolean> files = new LinkedHashMap<>(16, 0.75f, true);
+            if (Files.isDirectory(this.spillDirectory))
+            {
+                try (Stream<Path> stream = Files.list(this.spillDirectory))
+                {
+                    stream.filter(p -> p.getFileName().toString().endsWith(SPILL_FILE_EXTENSION))
+                            .sorted(Comparator.comparing(CachingMetadataApi::getLastModifiedMillis))
+                            .forEach(p -> files.put(p, Boolean.TRUE));
+                }
+                catch (IOException e)
+                {
+                    LOGGER.warn("Error listing cached entities files in {}", this.spillDirectory, e);
+                }
+            }
+            this.spillFiles = files;
+        }
+        return this.spillFiles;
+    }
+
+    private static long getLastModifiedMillis(Path file)
+    {
+        try
+        {
+            return Files.getLastModifiedTime(file).toMillis();
+        }
+        catch (IOException e)
+        {
+            return 0L;
+        }
+    }
+
+    private Path getSpillFile(String key)
+    {
+        try
+        {
+            return this.spillDirectory.resolve(URLEncoder.encode(key, StandardCharsets.UTF_8.name()) + SPILL_FILE_EXTENSION);
+        }
+        catch (IOException e)
+        {
+            // UTF-8 is always supported
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String getCacheKey(DepotProjectId projectId, String versionId)
+    {
+        return projectId.getGroupId() + ':' + projectId.getArtifactId() + ':' + versionId;
+    }
+
+    static boolean isCacheable(String versionId)
+    {
+        return VersionId.isValidVersionIdString(versionId);
+    }
+}
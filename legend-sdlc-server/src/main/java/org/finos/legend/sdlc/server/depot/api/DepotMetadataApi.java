@@ -17,7 +17,7 @@ package org.finos.legend.sdlc.server.depot.api;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import org.apache.http.NameValuePair;
@@ -35,6 +35,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +45,13 @@ import java.util.Set;
 public class DepotMetadataApi extends BaseDepotApi implements MetadataApi
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(DepotMetadataApi.class);
+    private static final TypeReference<List<Entity>> ENTITY_LIST_TYPE = new TypeReference<List<Entity>>()
+    {
+    };
+    private static final TypeReference<Set<DepotProjectVersion>> PROJECT_VERSION_SET_TYPE = new TypeReference<Set<DepotProjectVersion>>()
+    {
+    };
+
     private final JsonMapper jsonMapper = JsonMapper.builder().addMixIn(Entity.class, EntityMixIn.class).build();
 
     private static final String GET_ENTITIES_PATH = "/api/projects/%s/%s/versions/%s";
@@ -51,7 +60,7 @@ public class DepotMetadataApi extends BaseDepotApi implements MetadataApi
     @Inject
     public DepotMetadataApi(DepotConfiguration configuration)
     {
-        super(DepotServerInfo.newServerInfo(configuration.getServerConfiguration()), configuration.getAuthClientInjector());
+        super(DepotServerInfo.newServerInfo(configuration.getServerConfiguration()), configuration.getAuthClientInjector(), configuration.getConnectionConfiguration());
     }
 
     @Override
@@ -61,16 +70,7 @@ public class DepotMetadataApi extends BaseDepotApi implements MetadataApi
         LegendSDLCServerException.validateNonNull(versionId, "Version id may be null");
 
         HttpGet getRequest = this.prepareGetRequest(projectId, versionId, GET_ENTITIES_PATH, Lists.mutable.empty());
-        String response = this.execute(getRequest);
-        try
-        {
-            return jsonMapper.readValue(response, new TypeReference<List<Entity>>() {});
-        }
-        catch (JsonProcessingException ex)
-        {
-            LOGGER.error("Error getting entities from metadata server", ex);
-            throw new DepotServerException(this.getServerInfo().getDepotURLString(), StringTools.appendThrowableMessageIfPresent("Failed to process response", ex), ex);
-        }
+        return this.execute(getRequest, stream -> readResponse(stream, ENTITY_LIST_TYPE, "entities"));
     }
 
     @Override
@@ -81,14 +81,23 @@ public class DepotMetadataApi extends BaseDepotApi implements MetadataApi
 
         NameValuePair transitiveParam = new BasicNameValuePair("transitive", transitive ? "true" : "false");
         HttpGet getRequest = this.prepareGetRequest(projectId, versionId, GET_DEPENDENCIES_PATH, Lists.mutable.with(transitiveParam));
-        String response = this.execute(getRequest);
-        try
+        return this.execute(getRequest, stream -> readResponse(stream, PROJECT_VERSION_SET_TYPE, "project dependencies"));
+    }
+
+    private <T> T readResponse(InputStream stream, TypeReference<T> type, String description)
+    {
+        if (stream == null)
+        {
+            throw new DepotServerException(this.getServerInfo().getDepotURLString(), "Failed to process response: no content");
+        }
+        // parse directly from the response stream, so that the response is never held in memory as a String
+        try (JsonParser parser = this.jsonMapper.createParser(stream))
         {
-            return jsonMapper.readValue(response, new TypeReference<Set<DepotProjectVersion>>() {});
+            return this.jsonMapper.readValue(parser, type);
         }
-        catch (JsonProcessingException ex)
+        catch (IOException ex)
         {
-            LOGGER.error("Error getting project dependencies from metadata server", ex);
+            LOGGER.error("Error getting {} from metadata server", description, ex);
             throw new DepotServerException(this.getServerInfo().getDepotURLString(), StringTools.appendThrowableMessageIfPresent("Failed to process response", ex), ex);
         }
     }
@@ -15,9 +15,11 @@
 package org.finos.legend.sdlc.server.domain.api.dependency;
 
 import org.finos.legend.sdlc.backend.api.dependency.DefaultDependenciesApi;
+import org.finos.legend.sdlc.backend.api.dependency.DownstreamDependencyIndex;
 import org.finos.legend.sdlc.backend.api.project.ProjectApi;
 import org.finos.legend.sdlc.backend.api.project.ProjectConfigurationApi;
 import org.finos.legend.sdlc.backend.api.revision.RevisionApi;
+import org.finos.legend.sdlc.core.dependency.UpstreamDependencyResolver;
 
 import javax.inject.Inject;
 
@@ -29,6 +31,16 @@ import javax.inject.Inject;
 public class DependenciesApiImpl extends DefaultDependenciesApi
 {
     @Inject
+    public DependenciesApiImpl(ProjectApi projectApi, ProjectConfigurationApi projectConfigurationApi, RevisionApi revisionApi, DownstreamDependencyIndex downstreamDependencyIndex, UpstreamDependencyResolver upstreamDependencyResolver)
+    {
+        super(projectApi, projectConfigurationApi, revisionApi, downstreamDependencyIndex, upstreamDependencyResolver);
+    }
+
+    public DependenciesApiImpl(ProjectApi projectApi, ProjectConfigurationApi projectConfigurationApi, RevisionApi revisionApi, DownstreamDependencyIndex downstreamDependencyIndex)
+    {
+        super(projectApi, projectConfigurationApi, revisionApi, downstreamDependencyIndex);
+    }
+
     public DependenciesApiImpl(ProjectApi projectApi, ProjectConfigurationApi projectConfigurationApi, RevisionApi revisionApi)
     {
         super(projectApi, projectConfigurationApi, revisionApi);
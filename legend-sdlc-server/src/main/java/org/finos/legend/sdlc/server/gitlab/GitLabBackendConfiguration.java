@@ -38,9 +38,10 @@ public class GitLabBackendConfiguration extends BackendConfiguration
             @JsonProperty("server") GitLabConfiguration.ServerConfiguration serverConfig,
             @JsonProperty("app") GitLabConfiguration.AppConfiguration appConfig,
             @JsonProperty("newProjectVisibility") GitLabConfiguration.NewProjectVisibility newProjectVisibility,
-            @JsonProperty("gitlabAuthorizers") List<GitLabAuthorizer> gitLabAuthorizers)
+            @JsonProperty("gitlabAuthorizers") List<GitLabAuthorizer> gitLabAuthorizers,
+            @JsonProperty("cache") GitLabConfiguration.CacheConfiguration cacheConfig)
     {
-        this.gitLabConfiguration = GitLabConfiguration.newGitLabConfiguration(projectTag, projectIdPrefix, authConfig, serverConfig, appConfig, newProjectVisibility, gitLabAuthorizers);
+        this.gitLabConfiguration = GitLabConfiguration.newGitLabConfiguration(projectTag, projectIdPrefix, authConfig, serverConfig, appConfig, newProjectVisibility, gitLabAuthorizers, cacheConfig);
     }
 
     /**
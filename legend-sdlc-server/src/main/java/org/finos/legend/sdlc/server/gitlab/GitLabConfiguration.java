@@ -37,8 +37,9 @@ public class GitLabConfiguration
     private final AppConfiguration appConfig;
     private final NewProjectVisibility newProjectVisibility;
     private final List<GitLabAuthorizer> gitLabAuthorizers;
+    private final CacheConfiguration cacheConfig;
 
-    private GitLabConfiguration(String projectTag, String projectIdPrefix, AuthConfiguration authConfig, ServerConfiguration serverConfig, AppConfiguration appConfig, NewProjectVisibility newProjectVisibility, List<GitLabAuthorizer> gitLabAuthorizers)
+    private GitLabConfiguration(String projectTag, String projectIdPrefix, AuthConfiguration authConfig, ServerConfiguration serverConfig, AppConfiguration appConfig, NewProjectVisibility newProjectVisibility, List<GitLabAuthorizer> gitLabAuthorizers, CacheConfiguration cacheConfig)
     {
         if ((projectTag != null) && !LEGEND_SDLC_PROJECT_TAG_PATTERN.matcher(projectTag).matches())
         {
@@ -55,6 +56,7 @@ public class GitLabConfiguration
         this.appConfig = appConfig;
         this.newProjectVisibility = newProjectVisibility;
         this.gitLabAuthorizers = gitLabAuthorizers == null ? Collections.emptyList() : gitLabAuthorizers;
+        this.cacheConfig = (cacheConfig == null) ? CacheConfiguration.defaultCacheConfiguration() : cacheConfig;
     }
 
     public String getProjectTag()
@@ -92,6 +94,11 @@ public class GitLabConfiguration
         return this.gitLabAuthorizers;
     }
 
+    public CacheConfiguration getCacheConfiguration()
+    {
+        return this.cacheConfig;
+    }
+
     @JsonCreator
     public static GitLabConfiguration newGitLabConfiguration(
             @JsonProperty("projectTag") String projectTag,
@@ -102,7 +109,8 @@ public class GitLabConfiguration
             @JsonProperty("server") ServerConfiguration serverConfig,
             @JsonProperty("app") AppConfiguration appConfig,
             @JsonProperty("newProjectVisibility") NewProjectVisibility newProjectVisibility,
-            @JsonProperty("gitlabAuthorizers") List<GitLabAuthorizer> gitLabAuthorizers)
+            @JsonProperty("gitlabAuthorizers") List<GitLabAuthorizer> gitLabAuthorizers,
+            @JsonProperty("cache") CacheConfiguration cacheConfig)
     {
         // Legacy configuration case
         if ((uatConfig != null) || (prodConfig != null))
@@ -117,10 +125,10 @@ public class GitLabConfiguration
             }
 
             ModeConfiguration modeConfig = (uatConfig == null) ? prodConfig : uatConfig;
-            return newGitLabConfiguration(projectTag, (uatConfig == null) ? "PROD" : "UAT", authConfig, modeConfig.getServerConfiguration(), modeConfig.getAppConfiguration(), newProjectVisibility, gitLabAuthorizers);
+            return newGitLabConfiguration(projectTag, (uatConfig == null) ? "PROD" : "UAT", authConfig, modeConfig.getServerConfiguration(), modeConfig.getAppConfiguration(), newProjectVisibility, gitLabAuthorizers, cacheConfig);
         }
 
-        return newGitLabConfiguration(projectTag, projectIdPrefix, authConfig, serverConfig, appConfig, newProjectVisibility, gitLabAuthorizers);
+        return newGitLabConfiguration(projectTag, projectIdPrefix, authConfig, serverConfig, appConfig, newProjectVisibility, gitLabAuthorizers, cacheConfig);
     }
 
     public static GitLabConfiguration newGitLabConfiguration(String projectTag, String projectIdPrefix, AuthConfiguration authConfig, ServerConfiguration serverConfig, AppConfiguration appConfig, NewProjectVisibility newProjectVisibility)
@@ -130,7 +138,12 @@ public class GitLabConfiguration
 
     public static GitLabConfiguration newGitLabConfiguration(String projectTag, String projectIdPrefix, AuthConfiguration authConfig, ServerConfiguration serverConfig, AppConfiguration appConfig, NewProjectVisibility newProjectVisibility, List<GitLabAuthorizer> gitLabAuthorizers)
     {
-        return new GitLabConfiguration(projectTag, projectIdPrefix, authConfig, serverConfig, appConfig, newProjectVisibility, gitLabAuthorizers);
+        return newGitLabConfiguration(projectTag, projectIdPrefix, authConfig, serverConfig, appConfig, newProjectVisibility, gitLabAuthorizers, null);
+    }
+
+    public static GitLabConfiguration newGitLabConfiguration(String projectTag, String projectIdPrefix, AuthConfiguration authConfig, ServerConfiguration serverConfig, AppConfiguration appConfig, NewProjectVisibility newProjectVisibility, List<GitLabAuthorizer> gitLabAuthorizers, CacheConfiguration cacheConfig)
+    {
+        return new GitLabConfiguration(projectTag, projectIdPrefix, authConfig, serverConfig, appConfig, newProjectVisibility, gitLabAuthorizers, cacheConfig);
     }
 
     public static void configureObjectMapper(ObjectMapper objectMapper)
@@ -263,6 +276,92 @@ public class GitLabConfiguration
         }
     }
 
+    public static class CacheConfiguration
+    {
+        private static final long DEFAULT_FILE_CACHE_MAX_BYTES = 64L * 1024L * 1024L;
+        private static final long DEFAULT_PROJECT_METADATA_TTL_SECONDS = 300L;
+        private static final long DEFAULT_VERSION_INDEX_TTL_SECONDS = 60L;
+
+        private final long fileCacheMaxBytes;
+        private final long projectMetadataTtlSeconds;
+        private final long versionIndexTtlSeconds;
+
+        private CacheConfiguration(Long fileCacheMaxBytes, Long projectMetadataTtlSeconds, Long versionIndexTtlSeconds)
+        {
+            if ((fileCacheMaxBytes != null) && (fileCacheMaxBytes < 0))
+            {
+                throw new IllegalArgumentException("Invalid file cache max bytes: " + fileCacheMaxBytes);
+            }
+            if ((projectMetadataTtlSeconds != null) && (projectMetadataTtlSeconds < 0))
+            {
+                throw new IllegalArgumentException("Invalid project metadata TTL seconds: " + projectMetadataTtlSeconds);
+            }
+            if ((versionIndexTtlSeconds != null) && (versionIndexTtlSeconds < 0))
+            {
+                throw new IllegalArgumentException("Invalid version index TTL seconds: " + versionIndexTtlSeconds);
+            }
+            this.fileCacheMaxBytes = (fileCacheMaxBytes == null) ? DEFAULT_FILE_CACHE_MAX_BYTES : fileCacheMaxBytes;
+            this.projectMetadataTtlSeconds = (projectMetadataTtlSeconds == null) ? DEFAULT_PROJECT_METADATA_TTL_SECONDS : projectMetadataTtlSeconds;
+            this.versionIndexTtlSeconds = (versionIndexTtlSeconds == null) ? DEFAULT_VERSION_INDEX_TTL_SECONDS : versionIndexTtlSeconds;
+        }
+
+        /**
+         * Maximum total size (in bytes) of file content held in the shared revision file cache. A value of 0
+         * disables the cache.
+         *
+         * @return file cache max size in bytes
+         */
+        public long getFileCacheMaxBytes()
+        {
+            return this.fileCacheMaxBytes;
+        }
+
+        /**
+         * Time (in seconds) for which project metadata (such as the default branch) is held in the shared project
+         * metadata cache. Entries are also invalidated when a project is updated or deleted through this server. A
+         * value of 0 disables the cache.
+         *
+         * @return project metadata TTL in seconds
+         */
+        public long getProjectMetadataTtlSeconds()
+        {
+            return this.projectMetadataTtlSeconds;
+        }
+
+        /**
+         * Time (in seconds) for which the version index of a project is used before it is rebuilt from the project's
+         * tags. Versions created through this server are added to the index immediately, so this only bounds how long
+         * versions created by other means may go unseen. A value of 0 disables the index.
+         *
+         * @return version index TTL in seconds
+         */
+        public long getVersionIndexTtlSeconds()
+        {
+            return this.versionIndexTtlSeconds;
+        }
+
+        @JsonCreator
+        public static CacheConfiguration newCacheConfiguration(@JsonProperty("fileCacheMaxBytes") Long fileCacheMaxBytes, @JsonProperty("projectMetadataTtlSeconds") Long projectMetadataTtlSeconds, @JsonProperty("versionIndexTtlSeconds") Long versionIndexTtlSeconds)
+        {
+            return new CacheConfiguration(fileCacheMaxBytes, projectMetadataTtlSeconds, versionIndexTtlSeconds);
+        }
+
+        public static CacheConfiguration newCacheConfiguration(Long fileCacheMaxBytes, Long projectMetadataTtlSeconds)
+        {
+            return new CacheConfiguration(fileCacheMaxBytes, projectMetadataTtlSeconds, null);
+        }
+
+        public static CacheConfiguration newCacheConfiguration(Long fileCacheMaxBytes)
+        {
+            return new CacheConfiguration(fileCacheMaxBytes, null, null);
+        }
+
+        public static CacheConfiguration defaultCacheConfiguration()
+        {
+            return new CacheConfiguration(null, null, null);
+        }
+    }
+
     public enum NewProjectVisibility
     {
         PUBLIC(Visibility.PUBLIC), PRIVATE(Visibility.PRIVATE), INTERNAL(Visibility.INTERNAL);
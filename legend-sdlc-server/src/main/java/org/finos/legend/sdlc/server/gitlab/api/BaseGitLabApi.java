@@ -80,6 +80,7 @@ import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -135,6 +136,11 @@ abstract class BaseGitLabApi
         return this.gitLabConfiguration;
     }
 
+    GitLabCaches getCaches()
+    {
+        return GitLabCaches.getCaches(this.gitLabConfiguration);
+    }
+
     protected String getCurrentUser()
     {
         return this.userContext.getCurrentUser();
@@ -462,15 +468,70 @@ abstract class BaseGitLabApi
 
     protected String getDefaultBranch(GitLabProjectId projectId)
     {
+        String defaultBranch;
         try
         {
-            ProjectApi projectApi = getGitLabApi().getProjectApi();
-            return getDefaultBranch(withRetries(() -> projectApi.getProject(projectId.getGitLabId())));
+            defaultBranch = getProjectMetadata(projectId).getDefaultBranch();
         }
         catch (Exception e)
         {
             throw buildException(e, () -> "Error getting default branch for " + projectId);
         }
+        return (defaultBranch == null) ? MASTER_BRANCH : defaultBranch;
+    }
+
+    /**
+     * Get the user-independent metadata of a project from the shared project metadata cache, loading the project
+     * if necessary. Since this may not make any user-scoped call, callers must not serve the metadata to a user
+     * without also making a user-scoped call.
+     *
+     * @param projectId project id
+     * @return project metadata
+     * @throws Exception if loading the project fails
+     */
+    GitLabProjectMetadataCache.ProjectMetadata getProjectMetadata(GitLabProjectId projectId) throws Exception
+    {
+        return getCaches().getProjectMetadataCache().getIfAbsentLoad(projectId, () ->
+        {
+            ProjectApi projectApi = getGitLabApi().getProjectApi();
+            return withRetries(() -> projectApi.getProject(projectId.getGitLabId()));
+        });
+    }
+
+    /**
+     * Get the versions of a project from the shared version index, listing the tags of the project with the given
+     * GitLab API if necessary. Since this may not make any user-scoped call, callers must make one before serving the
+     * versions to a user.
+     *
+     * @param gitLabApi GitLab API
+     * @param projectId project id
+     * @return project versions
+     * @throws Exception if listing the tags fails
+     */
+    GitLabVersionIndex.ProjectVersions getIndexedVersions(GitLabApi gitLabApi, GitLabProjectId projectId) throws Exception
+    {
+        return getCaches().getVersionIndex().getIfAbsentLoad(projectId, () -> streamVersionTags(gitLabApi, projectId));
+    }
+
+    /**
+     * Get the versions of a project from a fresh listing of its tags, which also refreshes the shared version index.
+     * The same access caveat applies as for {@link #getIndexedVersions}.
+     *
+     * @param gitLabApi GitLab API
+     * @param projectId project id
+     * @return project versions
+     * @throws Exception if listing the tags fails
+     */
+    GitLabVersionIndex.ProjectVersions getCurrentVersions(GitLabApi gitLabApi, GitLabProjectId projectId) throws Exception
+    {
+        return getCaches().getVersionIndex().reload(projectId, () -> streamVersionTags(gitLabApi, projectId));
+    }
+
+    private Stream<Version> streamVersionTags(GitLabApi gitLabApi, GitLabProjectId projectId) throws GitLabApiException
+    {
+        return PagerTools.stream(gitLabApi.getTagsApi().getTags(projectId.getGitLabId(), ITEMS_PER_PAGE))
+                .filter(BaseGitLabApi::isVersionTag)
+                .map(tag -> fromGitLabTag(projectId.toString(), tag));
     }
 
     protected String getDefaultBranch(Project project)
@@ -1401,9 +1462,13 @@ abstract class BaseGitLabApi
             Tag tag = gitLabApi.getTagsApi().createTag(projectId.getGitLabId(), tagName, referenceCommit.getId(), message, (String) null);
             if (notes != null)
             {
-                gitLabApi.getReleasesApi().createRelease(projectId.getGitLabId(), new ReleaseParams().withTagName(tagName).withDescription(notes));
+                Release release = gitLabApi.getReleasesApi().createRelease(projectId.getGitLabId(), new ReleaseParams().withTagName(tagName).withDescription(notes));
+                // so that the version (which is also added to the version index) has the notes
+                tag.setRelease(release);
             }
-            return fromGitLabTag(projectId.toString(), tag);
+            Version version = fromGitLabTag(projectId.toString(), tag);
+            getCaches().getVersionIndex().addVersion(projectId, version);
+            return version;
         }
         catch (Exception e)
         {
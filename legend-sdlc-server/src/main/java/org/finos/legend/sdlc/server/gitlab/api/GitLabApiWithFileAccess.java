@@ -23,6 +23,7 @@ import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.set.MutableSet;
+import org.finos.legend.sdlc.core.entity.EntityIndex;
 import org.finos.legend.sdlc.domain.model.project.configuration.ProjectConfiguration;
 import org.finos.legend.sdlc.domain.model.revision.Revision;
 import org.finos.legend.sdlc.domain.model.revision.RevisionAlias;
@@ -86,10 +87,13 @@ import java.util.Base64;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -102,6 +106,10 @@ abstract class GitLabApiWithFileAccess extends BaseGitLabApi
     private static final int MAX_COMMIT_SIZE = 512;
     private static final int MAX_COMMIT_RETRIES = 10;
 
+    protected static final String DELETE_BRANCH_TASK_TYPE = "delete branch";
+    protected static final String DELETE_BRANCH_AFTER_PIPELINES_TASK_TYPE = "delete branch after pipelines";
+    protected static final String CLOSE_MERGE_REQUESTS_TASK_TYPE = "close merge requests";
+
     private final BackgroundTaskProcessor backgroundTaskProcessor;
 
     protected GitLabApiWithFileAccess(GitLabConfiguration gitLabConfiguration, GitLabUserContext userContext, BackgroundTaskProcessor backgroundTaskProcessor)
@@ -192,12 +200,58 @@ abstract class GitLabApiWithFileAccess extends BaseGitLabApi
         return resolvedRevisionId;
     }
 
+    /**
+     * Get the entity index for a reference, if the files of the commit it resolves to are (or can be) held in the
+     * revision file cache. Returns null if they cannot be cached (the cache is disabled, the reference cannot be
+     * resolved to a commit, or the files are too large), in which case callers should read the files directly instead.
+     * Any other failure, such as the user not having access or being rate limited, is thrown.
+     *
+     * @param projectId           project id
+     * @param sourceSpecification source specification
+     * @param revisionId          resolved revision id (may be null for the current revision)
+     * @return entity index or null
+     */
+    protected EntityIndex getEntityIndex(String projectId, SourceSpecification sourceSpecification, String revisionId)
+    {
+        if (!getCaches().getRevisionFileCache().isEnabled())
+        {
+            return null;
+        }
+        GitLabRevisionFileCache.RevisionFiles files;
+        AtomicReference<Stream<ProjectFileAccessProvider.ProjectFile>> overflow = new AtomicReference<>();
+        try
+        {
+            files = new GitLabFileAccessContext(parseProjectId(projectId), sourceSpecification, revisionId).getCachedRevisionFiles(overflow);
+        }
+        catch (Exception e)
+        {
+            throw buildException(e,
+                    () -> "User " + getCurrentUser() + " is not allowed to access files for " + getReferenceInfo(projectId, sourceSpecification, revisionId),
+                    () -> "Unknown " + getReferenceInfo(projectId, sourceSpecification, revisionId),
+                    () -> "Failed to access files for " + getReferenceInfo(projectId, sourceSpecification, revisionId));
+        }
+        Stream<ProjectFileAccessProvider.ProjectFile> archiveFiles = overflow.get();
+        if (archiveFiles != null)
+        {
+            // too large to cache: the commit is now marked as such, so the fallback and later calls skip this download
+            archiveFiles.close();
+        }
+        return (files == null) ? null : files.getEntityIndex();
+    }
+
     private String getCurrentRevisionId(GitLabProjectId projectId, SourceSpecification sourceSpecification)
     {
         Revision revision = new GitLabRevisionAccessContext(projectId, sourceSpecification, null).getCurrentRevision();
         return (revision == null) ? null : revision.getId();
     }
 
+    private static boolean isCommitId(String referenceId)
+    {
+        return (referenceId != null) &&
+                ((referenceId.length() == 40) || (referenceId.length() == 64)) &&
+                referenceId.chars().allMatch(c -> ((c >= '0') && (c <= '9')) || ((c >= 'a') && (c <= 'f')));
+    }
+
     private class GitLabFileAccessContext extends AbstractFileAccessContext
     {
         private final GitLabProjectId projectId;
@@ -217,7 +271,14 @@ abstract class GitLabApiWithFileAccess extends BaseGitLabApi
             Exception exception;
             try
             {
-                return getFilesFromRepoArchive(directories);
+                AtomicReference<Stream<ProjectFileAccessProvider.ProjectFile>> overflow = new AtomicReference<>();
+                GitLabRevisionFileCache.RevisionFiles cachedFiles = getCachedRevisionFiles(overflow);
+                if (cachedFiles != null)
+                {
+                    return cachedFiles.getFilesInCanonicalDirectories(directories);
+                }
+                Stream<ProjectFileAccessProvider.ProjectFile> archiveFiles = overflow.get();
+                return filterToDirectories((archiveFiles == null) ? getFilesFromRepoArchive() : archiveFiles, directories);
             }
             catch (Exception e)
             {
@@ -259,63 +320,135 @@ abstract class GitLabApiWithFileAccess extends BaseGitLabApi
                     () -> "Failed to access files for " + getDescriptionForExceptionMessage());
         }
 
-        private Stream<ProjectFileAccessProvider.ProjectFile> getFilesFromRepoArchive(MutableList<String> directories) throws GitLabApiException, IOException
+        /**
+         * Get the files for the commit the reference resolves to from the revision file cache, loading them if
+         * necessary. Returns null if the files cannot be cached. If loading finds the files are too large to cache, the
+         * files read so far followed by the rest of the archive are set in overflow, so the caller can use them rather
+         * than downloading the archive again; the caller is responsible for closing that stream.
+         */
+        private GitLabRevisionFileCache.RevisionFiles getCachedRevisionFiles(AtomicReference<Stream<ProjectFileAccessProvider.ProjectFile>> overflow) throws Exception
         {
-            InputStream inStream = null;
-            ArchiveInputStream archiveInputStream = null;
+            GitLabRevisionFileCache cache = getCaches().getRevisionFileCache();
+            if (!cache.isEnabled())
+            {
+                return null;
+            }
+
+            // A commit already known to be too large needs no resolving: the archive download checks access itself
+            String referenceId = getReference();
+            if (isCommitId(referenceId) && cache.isTooLarge(this.projectId, referenceId))
+            {
+                return null;
+            }
+
+            // Resolve the reference to a commit with the user's credentials: this both checks that the user has access
+            // and lets branches share entries with the immutable commits they point to
+            String commitId = resolveCommitId();
+            if (commitId == null)
+            {
+                return null;
+            }
+            return cache.getIfAbsentLoad(this.projectId, commitId, () -> readRepoArchive(commitId, cache.getMaxBytes(), overflow));
+        }
+
+        private String resolveCommitId() throws GitLabApiException
+        {
+            String referenceId = getReference();
+            CommitsApi commitsApi = getGitLabApi().getCommitsApi();
+            Commit commit;
             try
             {
-                String referenceId = getReference();
-                RepositoryApi repositoryApi = getGitLabApi().getRepositoryApi();
-                inStream = withRetries(() -> repositoryApi.getRepositoryArchive(this.projectId.getGitLabId(), referenceId));
-                archiveInputStream = new TarArchiveInputStream(new GzipCompressorInputStream(inStream));
-                Stream<ProjectFileAccessProvider.ProjectFile> stream = IOTools.streamCloseableSpliterator(new ArchiveStreamProjectFileSpliterator(archiveInputStream), false);
-                if (directories.size() == 1)
+                commit = withRetries(() -> commitsApi.getCommit(this.projectId.getGitLabId(), referenceId));
+            }
+            catch (GitLabApiException e)
+            {
+                if (GitLabApiTools.isNotFoundGitLabApiException(e))
                 {
-                    String directory = directories.get(0);
-                    if (!ProjectPaths.ROOT_DIRECTORY.equals(directory))
+                    // empty repository or unknown reference: leave it to the uncached path to report
+                    return null;
+                }
+                throw e;
+            }
+            return (commit == null) ? null : commit.getId();
+        }
+
+        private Map<String, byte[]> readRepoArchive(String commitId, long maxBytes, AtomicReference<Stream<ProjectFileAccessProvider.ProjectFile>> overflow) throws GitLabApiException, IOException
+        {
+            ArchiveStreamProjectFileSpliterator spliterator = openRepoArchive(commitId);
+            boolean close = true;
+            try
+            {
+                Map<String, byte[]> files = Maps.mutable.empty();
+                long totalWeight = 0L;
+                Iterator<ProjectFileAccessProvider.ProjectFile> iterator = Spliterators.iterator(spliterator);
+                while (iterator.hasNext())
+                {
+                    ProjectFileAccessProvider.ProjectFile file = iterator.next();
+                    String path = file.getPath();
+                    byte[] content = file.getContentAsBytes();
+                    files.put(path, content);
+                    totalWeight += GitLabRevisionFileCache.getFileWeight(path, content);
+                    if (totalWeight > maxBytes)
                     {
-                        stream = stream.filter(f -> f.getPath().startsWith(directory));
+                        LOGGER.debug("Files for {} at commit {} are too large to cache", this.projectId, commitId);
+                        Stream<ProjectFileAccessProvider.ProjectFile> readFiles = files.entrySet().stream().map(e -> ProjectFiles.newByteArrayProjectFile(e.getKey(), e.getValue()));
+                        overflow.set(Stream.concat(readFiles, IOTools.streamCloseableSpliterator(spliterator, false)));
+                        close = false;
+                        return null;
                     }
                 }
-                else
+                return files;
+            }
+            finally
+            {
+                if (close)
                 {
-                    stream = stream.filter(f ->
-                    {
-                        String path = f.getPath();
-                        return directories.anySatisfy(path::startsWith);
-                    });
+                    spliterator.close();
                 }
-                return stream;
+            }
+        }
+
+        private Stream<ProjectFileAccessProvider.ProjectFile> getFilesFromRepoArchive() throws GitLabApiException, IOException
+        {
+            return IOTools.streamCloseableSpliterator(openRepoArchive(getReference()), false);
+        }
+
+        private ArchiveStreamProjectFileSpliterator openRepoArchive(String referenceId) throws GitLabApiException, IOException
+        {
+            RepositoryApi repositoryApi = getGitLabApi().getRepositoryApi();
+            InputStream inStream = withRetries(() -> repositoryApi.getRepositoryArchive(this.projectId.getGitLabId(), referenceId));
+            try
+            {
+                return new ArchiveStreamProjectFileSpliterator(new TarArchiveInputStream(new GzipCompressorInputStream(inStream)));
             }
             catch (Exception e)
             {
-                if (archiveInputStream != null)
+                try
                 {
-                    try
-                    {
-                        archiveInputStream.close();
-                    }
-                    catch (Exception ignore)
-                    {
-                        // ignore this
-                    }
+                    inStream.close();
                 }
-                if (inStream != null)
+                catch (Exception ignore)
                 {
-                    try
-                    {
-                        inStream.close();
-                    }
-                    catch (Exception ignore)
-                    {
-                        // ignore this
-                    }
+                    // ignore this
                 }
                 throw e;
             }
         }
 
+        private Stream<ProjectFileAccessProvider.ProjectFile> filterToDirectories(Stream<ProjectFileAccessProvider.ProjectFile> stream, MutableList<String> directories)
+        {
+            if (directories.size() == 1)
+            {
+                String directory = directories.get(0);
+                return ProjectPaths.ROOT_DIRECTORY.equals(directory) ? stream : stream.filter(f -> f.getPath().startsWith(directory));
+            }
+            return stream.filter(f ->
+            {
+                String path = f.getPath();
+                return directories.anySatisfy(path::startsWith);
+            });
+        }
+
         private Stream<ProjectFileAccessProvider.ProjectFile> getFilesFromTrees(List<String> directories) throws GitLabApiException
         {
             String referenceId = getReference();
@@ -1107,6 +1240,11 @@ abstract class GitLabApiWithFileAccess extends BaseGitLabApi
         this.backgroundTaskProcessor.submitRetryableTask(task, GitLabApiWithFileAccess::shouldRetryOnException, minWaitBetweenRetriesMillis, description);
     }
 
+    protected void submitBackgroundRetryableTask(String taskType, BackgroundTaskProcessor.RetryableTask task, long minWaitBetweenRetriesMillis, String description)
+    {
+        this.backgroundTaskProcessor.submitRetryableTask(taskType, task, GitLabApiWithFileAccess::shouldRetryOnException, minWaitBetweenRetriesMillis, description);
+    }
+
     private String toGitLabFilePath(String path)
     {
         return ((path != null) && path.startsWith("/")) ? path.substring(1) : path;
@@ -1429,7 +1567,7 @@ abstract class GitLabApiWithFileAccess extends BaseGitLabApi
         {
             GitLabApi gitLabApi = getGitLabApi();
             GitLabProjectId projectId = this.projectId;
-            submitBackgroundRetryableTask(() -> waitForPipelinesDeleteBranchAndVerify(gitLabApi, projectId, branchName), 5000L, "delete " + branchName);
+            submitBackgroundRetryableTask(DELETE_BRANCH_AFTER_PIPELINES_TASK_TYPE, () -> waitForPipelinesDeleteBranchAndVerify(gitLabApi, projectId, branchName), 5000L, "delete " + branchName);
         }
 
         private void checkOpen()
@@ -181,7 +181,7 @@ public class GitLabBackupApi extends GitLabApiWithFileAccess implements BackupAp
         if (!deleted)
         {
             LOGGER.warn("Failed to delete {} in project {}, submitting background task", backupWorkspaceBranchName, projectId);
-            submitBackgroundRetryableTask(() -> GitLabApiTools.deleteBranchAndVerify(repositoryApi, gitLabProjectId.getGitLabId(), backupWorkspaceBranchName, 5, 1_000), 5000L, "delete " + backupWorkspaceBranchName);
+            submitBackgroundRetryableTask(DELETE_BRANCH_TASK_TYPE, () -> GitLabApiTools.deleteBranchAndVerify(repositoryApi, gitLabProjectId.getGitLabId(), backupWorkspaceBranchName, 5, 1_000), 5000L, "delete " + backupWorkspaceBranchName);
         }
     }
 }
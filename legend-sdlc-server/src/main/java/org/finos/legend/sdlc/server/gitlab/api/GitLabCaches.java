@@ -0,0 +1,66 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.gitlab.api;
+
+import org.finos.legend.sdlc.server.gitlab.GitLabConfiguration;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * Caches shared by all GitLab API instances (and so all user sessions) created from the same
+ * {@link GitLabConfiguration}. Only user-independent data may be held here: callers remain responsible for making a
+ * user-scoped GitLab call before serving cached data to a user.
+ */
+final class GitLabCaches
+{
+    private static final Map<GitLabConfiguration, GitLabCaches> CACHES = new WeakHashMap<>();
+
+    private final GitLabRevisionFileCache revisionFileCache;
+    private final GitLabProjectMetadataCache projectMetadataCache;
+    private final GitLabVersionIndex versionIndex;
+
+    private GitLabCaches(GitLabConfiguration.CacheConfiguration cacheConfig)
+    {
+        this.revisionFileCache = new GitLabRevisionFileCache(cacheConfig.getFileCacheMaxBytes());
+        this.projectMetadataCache = new GitLabProjectMetadataCache(cacheConfig.getProjectMetadataTtlSeconds());
+        this.versionIndex = new GitLabVersionIndex(cacheConfig.getVersionIndexTtlSeconds());
+    }
+
+    GitLabRevisionFileCache getRevisionFileCache()
+    {
+        return this.revisionFileCache;
+    }
+
+    GitLabProjectMetadataCache getProjectMetadataCache()
+    {
+        return this.projectMetadataCache;
+    }
+
+    GitLabVersionIndex getVersionIndex()
+    {
+        return this.versionIndex;
+    }
+
+    static GitLabCaches getCaches(GitLabConfiguration gitLabConfiguration)
+    {
+        Objects.requireNonNull(gitLabConfiguration, "GitLab configuration may not be null");
+        synchronized (CACHES)
+        {
+            return CACHES.computeIfAbsent(gitLabConfiguration, c -> new GitLabCaches(c.getCacheConfiguration()));
+        }
+    }
+}
@@ -221,7 +221,7 @@ public class GitLabConflictResolutionApi extends GitLabApiWithFileAccess impleme
         if (!backupBranchDeleted)
         {
             LOGGER.error("Failed to delete backup branch {} in project {}, submitting background task", backupBranchName, projectId);
-            submitBackgroundRetryableTask(() -> GitLabApiTools.deleteBranchAndVerify(repositoryApi, gitLabProjectId.getGitLabId(), backupBranchName, 5, 1_000), 5000L, "delete " + backupBranchName);
+            submitBackgroundRetryableTask(DELETE_BRANCH_TASK_TYPE, () -> GitLabApiTools.deleteBranchAndVerify(repositoryApi, gitLabProjectId.getGitLabId(), backupBranchName, 5, 1_000), 5000L, "delete " + backupBranchName);
         }
     }
 
@@ -417,7 +417,7 @@ public class GitLabConflictResolutionApi extends GitLabApiWithFileAccess impleme
         if (!backupBranchDeleted)
         {
             LOGGER.error("Failed to delete backup branch {} in project {}, submitting background task", backupBranchName, projectId);
-            submitBackgroundRetryableTask(() -> GitLabApiTools.deleteBranchAndVerify(repositoryApi, gitLabProjectId.getGitLabId(), backupBranchName, 5, 1_000), 5000L, "delete " + backupBranchName);
+            submitBackgroundRetryableTask(DELETE_BRANCH_TASK_TYPE, () -> GitLabApiTools.deleteBranchAndVerify(repositoryApi, gitLabProjectId.getGitLabId(), backupBranchName, 5, 1_000), 5000L, "delete " + backupBranchName);
         }
     }
 
@@ -15,6 +15,7 @@
 package org.finos.legend.sdlc.server.gitlab.api;
 
 import org.finos.legend.sdlc.core.entity.EntityAccessOperations;
+import org.finos.legend.sdlc.core.entity.EntityIndex;
 import org.finos.legend.sdlc.core.entity.EntityModificationOperations;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.domain.model.entity.change.EntityChange;
@@ -38,6 +39,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 import javax.inject.Inject;
 
 public class GitLabEntityApi extends GitLabApiWithFileAccess implements EntityApi
@@ -159,7 +161,33 @@ public class GitLabEntityApi extends GitLabApiWithFileAccess implements EntityAp
         {
             try
             {
-                return EntityAccessOperations.getEntities(getFileAccessContext(getProjectFileAccessProvider()), entityPathPredicate, classifierPathPredicate, entityContentPredicate, excludeInvalid);
+                String resolvedRevisionId = resolveRevisionId(this.projectId, this.sourceSpecification, this.revisionId);
+                EntityIndex index = getEntityIndex(resolvedRevisionId, entityContentPredicate);
+                return (index == null) ?
+                        EntityAccessOperations.getEntities(getProjectFileAccessProvider().getFileAccessContext(this.projectId, this.sourceSpecification, resolvedRevisionId), entityPathPredicate, classifierPathPredicate, entityContentPredicate, excludeInvalid) :
+                        index.getEntities(entityPathPredicate, classifierPathPredicate, entityContentPredicate, excludeInvalid);
+            }
+            catch (Exception e)
+            {
+                throw buildException(e,
+                        () -> "User " + getCurrentUser() + " is not allowed to get entities for " + getInfoForException(),
+                        () -> "Unknown entities for " + getInfoForException(),
+                        () -> "Failed to get entities for " + getInfoForException());
+            }
+        }
+
+        @Override
+        public Stream<Entity> streamEntities(Predicate<String> entityPathPredicate, Predicate<String> classifierPathPredicate, Predicate<? super Map<String, ?>> entityContentPredicate, boolean excludeInvalid)
+        {
+            // Only errors opening the stream are translated here: later errors surface as they are, since the
+            // response may already be committed by then
+            try
+            {
+                String resolvedRevisionId = resolveRevisionId(this.projectId, this.sourceSpecification, this.revisionId);
+                EntityIndex index = getEntityIndex(resolvedRevisionId, entityContentPredicate);
+                return (index == null) ?
+                        EntityAccessOperations.streamEntities(getProjectFileAccessProvider().getFileAccessContext(this.projectId, this.sourceSpecification, resolvedRevisionId), entityPathPredicate, classifierPathPredicate, entityContentPredicate, excludeInvalid) :
+                        index.streamEntities(entityPathPredicate, classifierPathPredicate, entityContentPredicate, excludeInvalid);
             }
             catch (Exception e)
             {
@@ -175,7 +203,11 @@ public class GitLabEntityApi extends GitLabApiWithFileAccess implements EntityAp
         {
             try
             {
-                return EntityAccessOperations.getEntityPaths(getFileAccessContext(getProjectFileAccessProvider()), entityPathPredicate, classifierPathPredicate, entityContentPredicate);
+                String resolvedRevisionId = resolveRevisionId(this.projectId, this.sourceSpecification, this.revisionId);
+                EntityIndex index = getEntityIndex(resolvedRevisionId, entityContentPredicate);
+                return (index == null) ?
+                        EntityAccessOperations.getEntityPaths(getProjectFileAccessProvider().getFileAccessContext(this.projectId, this.sourceSpecification, resolvedRevisionId), entityPathPredicate, classifierPathPredicate, entityContentPredicate) :
+                        index.getEntityPaths(entityPathPredicate, classifierPathPredicate, entityContentPredicate);
             }
             catch (Exception e)
             {
@@ -195,6 +227,11 @@ public class GitLabEntityApi extends GitLabApiWithFileAccess implements EntityAp
         {
             return getReferenceInfo(this.projectId, this.sourceSpecification, this.revisionId);
         }
+
+        private EntityIndex getEntityIndex(String resolvedRevisionId, Predicate<?> entityContentPredicate)
+        {
+            return EntityIndex.canEvaluate(entityContentPredicate) ? GitLabEntityApi.this.getEntityIndex(this.projectId, this.sourceSpecification, resolvedRevisionId) : null;
+        }
     }
 
     private class GitLabEntityModificationContext implements EntityModificationContext
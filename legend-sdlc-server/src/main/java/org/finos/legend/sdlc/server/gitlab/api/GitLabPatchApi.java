@@ -263,7 +263,7 @@ public class GitLabPatchApi extends GitLabApiWithFileAccess implements PatchApi
         {
             patchBranchDeleted = GitLabApiTools.deleteBranchAndVerify(repositoryApi, gitLabProjectId.getGitLabId(), getPatchReleaseBranchName(patchReleaseVersionId), 20, 1_000);
             // close merge requests created for patch release branch
-            submitBackgroundRetryableTask(() -> closeMergeRequestsCreatedForPatchReleaseBranch(gitLabProjectId, patchReleaseVersionId), 5000L, "close merge requests created for branch " + getPatchReleaseBranchName(patchReleaseVersionId));
+            submitBackgroundRetryableTask(CLOSE_MERGE_REQUESTS_TASK_TYPE, () -> closeMergeRequestsCreatedForPatchReleaseBranch(gitLabProjectId, patchReleaseVersionId), 5000L, "close merge requests created for branch " + getPatchReleaseBranchName(patchReleaseVersionId));
         }
         catch (Exception e)
         {
@@ -318,8 +318,8 @@ public class GitLabPatchApi extends GitLabApiWithFileAccess implements PatchApi
         Version releaseVersion =  newVersion(gitLabProjectId, patchReleaseVersionId, patchBranch.getCommit().getId(), VersionId.newVersionId(patchReleaseVersionId.getMajorVersion(), patchReleaseVersionId.getMinorVersion(), patchReleaseVersionId.getPatchVersion()), "");
 
         // delete the patch release branch and close the MRs created for this branch
-        submitBackgroundRetryableTask(() -> GitLabApiTools.deleteBranchAndVerify(getGitLabApi().getRepositoryApi(), gitLabProjectId.getGitLabId(), getPatchReleaseBranchName(patchReleaseVersionId), 20, 1_000), 5000L, "delete " + getPatchReleaseBranchName(patchReleaseVersionId));
-        submitBackgroundRetryableTask(() -> closeMergeRequestsCreatedForPatchReleaseBranch(gitLabProjectId, patchReleaseVersionId), 5000L, "close merge requests created for branch " + getPatchReleaseBranchName(patchReleaseVersionId));
+        submitBackgroundRetryableTask(DELETE_BRANCH_TASK_TYPE, () -> GitLabApiTools.deleteBranchAndVerify(getGitLabApi().getRepositoryApi(), gitLabProjectId.getGitLabId(), getPatchReleaseBranchName(patchReleaseVersionId), 20, 1_000), 5000L, "delete " + getPatchReleaseBranchName(patchReleaseVersionId));
+        submitBackgroundRetryableTask(CLOSE_MERGE_REQUESTS_TASK_TYPE, () -> closeMergeRequestsCreatedForPatchReleaseBranch(gitLabProjectId, patchReleaseVersionId), 5000L, "close merge requests created for branch " + getPatchReleaseBranchName(patchReleaseVersionId));
         return releaseVersion;
     }
 
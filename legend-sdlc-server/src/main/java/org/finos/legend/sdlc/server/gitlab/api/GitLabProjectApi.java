@@ -480,6 +480,7 @@ public class GitLabProjectApi extends GitLabApiWithFileAccess implements Project
             try
             {
                 updatedProject = gitLabProjectApi.updateProject(new org.gitlab4j.api.models.Project().withId(currentProject.getId()).withTagList(updatedTags));
+                getCaches().getProjectMetadataCache().invalidate(projectId);
             }
             catch (Exception e)
             {
@@ -585,6 +586,9 @@ public class GitLabProjectApi extends GitLabApiWithFileAccess implements Project
             GitLabProjectId projectId = parseProjectId(id);
             org.gitlab4j.api.models.Project currentProject = getLegendSDLCGitLabProject(projectId);
             withRetries(() -> getGitLabApi().getProjectApi().deleteProject(currentProject));
+            getCaches().getRevisionFileCache().invalidate(projectId);
+            getCaches().getProjectMetadataCache().invalidate(projectId);
+            getCaches().getVersionIndex().invalidate(projectId);
         }
         catch (Exception e)
         {
@@ -610,6 +614,7 @@ public class GitLabProjectApi extends GitLabApiWithFileAccess implements Project
             }
             org.gitlab4j.api.models.Project updatedProject = new org.gitlab4j.api.models.Project().withId(currentProject.getId()).withName(newName);
             withRetries(() -> getGitLabApi().getProjectApi().updateProject(updatedProject));
+            getCaches().getProjectMetadataCache().invalidate(projectId);
         }
         catch (Exception e)
         {
@@ -631,6 +636,7 @@ public class GitLabProjectApi extends GitLabApiWithFileAccess implements Project
             org.gitlab4j.api.models.Project currentProject = getLegendSDLCGitLabProject(projectId);
             org.gitlab4j.api.models.Project updatedProject = new org.gitlab4j.api.models.Project().withId(currentProject.getId()).withDescription(newDescription);
             withRetries(() -> getGitLabApi().getProjectApi().updateProject(updatedProject));
+            getCaches().getProjectMetadataCache().invalidate(projectId);
         }
         catch (LegendSDLCException e)
         {
@@ -672,6 +678,7 @@ public class GitLabProjectApi extends GitLabApiWithFileAccess implements Project
 
             org.gitlab4j.api.models.Project updatedProject = new org.gitlab4j.api.models.Project().withId(currentProject.getId()).withTagList(updatedTags);
             withRetries(() -> getGitLabApi().getProjectApi().updateProject(updatedProject));
+            getCaches().getProjectMetadataCache().invalidate(projectId);
         }
         catch (Exception e)
         {
@@ -709,6 +716,7 @@ public class GitLabProjectApi extends GitLabApiWithFileAccess implements Project
 
             org.gitlab4j.api.models.Project updatedProject = new org.gitlab4j.api.models.Project().withId(currentProject.getId()).withTagList(updatedTags);
             withRetries(() -> getGitLabApi().getProjectApi().updateProject(updatedProject));
+            getCaches().getProjectMetadataCache().invalidate(projectId);
         }
         catch (Exception e)
         {
@@ -1031,6 +1039,8 @@ public class GitLabProjectApi extends GitLabApiWithFileAccess implements Project
                     () -> "Unknown project: " + projectId,
                     () -> "Failed to get project " + projectId);
         }
+        // the project has just been fetched for the user, so refresh the shared metadata while we have it
+        getCaches().getProjectMetadataCache().put(projectId, gitLabProject);
         if (!isLegendSDLCProject(gitLabProject))
         {
             throw new LegendSDLCServerException("Unknown project: " + projectId, Status.NOT_FOUND, new RuntimeException("GitLab project " + projectId.getGitLabId() + " exists but is not a Legend SDLC project"));
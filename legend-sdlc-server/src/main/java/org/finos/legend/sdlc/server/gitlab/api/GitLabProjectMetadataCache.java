@@ -0,0 +1,279 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.sdlc.server.gitlab.api;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.sdlc.server.gitlab.GitLabProjectId;
+import org.finos.legend.sdlc.server.tools.ThrowingSupplier;
+import org.gitlab4j.api.models.Project;
+import org.gitlab4j.api.models.Visibility;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-wide cache of the user-independent metadata of GitLab projects, such as the default branch and tags.
+ * Entries expire after a fixed time, and are invalidated when a project is updated or deleted through this server.
+ * Concurrent loads of the same project are collapsed into a single load; if that load fails, each waiting caller loads
+ * the project itself, as the failure may be specific to the user who made it (such as lacking access). Since the cache
+ * is shared between users, it does not check access: callers must make a user-scoped call before serving cached
+ * metadata to a user, unless the metadata is only used to make such a call (as with the default branch).
+ */
+class GitLabProjectMetadataCache
+{
+    private static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoTime;
+    private final LinkedHashMap<GitLabProjectId, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final MutableMap<GitLabProjectId, CompletableFuture<ProjectMetadata>> inProgress = Maps.mutable.empty();
+
+    GitLabProjectMetadataCache(long ttlSeconds, int maxEntries, LongSupplier nanoTime)
+    {
+        if (ttlSeconds < 0)
+        {
+            throw new IllegalArgumentException("Invalid TTL: " + ttlSeconds);
+        }
+        if (maxEntries < 0)
+        {
+            throw new IllegalArgumentException("Invalid max entries: " + maxEntries);
+        }
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxEntries = maxEntries;
+        this.nanoTime = Objects.requireNonNull(nanoTime, "nanoTime may not be null");
+    }
+
+    GitLabProjectMetadataCache(long ttlSeconds)
+    {
+        this(ttlSeconds, DEFAULT_MAX_ENTRIES, System::nanoTime);
+    }
+
+    boolean isEnabled()
+    {
+        return (this.ttlNanos > 0) && (this.maxEntries > 0);
+    }
+
+    synchronized int size()
+    {
+        return this.entries.size();
+    }
+
+    /**
+     * Get the metadata of the given project, loading the project if there is no current entry for it.
+     *
+     * @param projectId project id
+     * @param loader    project loader
+     * @return project metadata
+     * @throws Exception if loading fails
+     */
+    ProjectMetadata getIfAbsentLoad(GitLabProjectId projectId, ThrowingSupplier<? extends Project, ? extends Exception> loader) throws Exception
+    {
+        if (!isEnabled())
+        {
+            return new ProjectMetadata(loader.get());
+        }
+
+        CompletableFuture<ProjectMetadata> future;
+        boolean isLoader = false;
+        synchronized (this)
+        {
+            Entry entry = this.entries.get(projectId);
+            if (entry != null)
+            {
+                if (!entry.isExpired(this.nanoTime.getAsLong()))
+                {
+                    return entry.metadata;
+                }
+                this.entries.remove(projectId);
+            }
+            future = this.inProgress.get(projectId);
+            if (future == null)
+            {
+                future = new CompletableFuture<>();
+                this.inProgress.put(projectId, future);
+                isLoader = true;
+            }
+        }
+
+        if (!isLoader)
+        {
+            try
+            {
+                return future.get();
+            }
+            catch (ExecutionException e)
+            {
+                // the load failed with another caller's credentials: load with this caller's own instead (without
+                // caching, since an invalidation during this load could not be detected)
+                return new ProjectMetadata(loader.get());
+            }
+        }
+
+        try
+        {
+            ProjectMetadata metadata = new ProjectMetadata(loader.get());
+            synchronized (this)
+            {
+                // an invalidation during the load removes the in-progress future, in which case the load is not cached
+                if (this.inProgress.get(projectId) == future)
+                {
+                    putEntry(projectId, metadata);
+                }
+            }
+            future.complete(metadata);
+            return metadata;
+        }
+        catch (Throwable t)
+        {
+            future.completeExceptionally(t);
+            throw t;
+        }
+        finally
+        {
+            synchronized (this)
+            {
+                this.inProgress.remove(projectId, future);
+            }
+        }
+    }
+
+    /**
+     * Cache the metadata of a project which has just been fetched from GitLab, replacing any current entry.
+     *
+     * @param projectId project id
+     * @param project   GitLab project
+     */
+    void put(GitLabProjectId projectId, Project project)
+    {
+        if (isEnabled() && (project != null))
+        {
+            ProjectMetadata metadata = new ProjectMetadata(project);
+            synchronized (this)
+            {
+                putEntry(projectId, metadata);
+            }
+        }
+    }
+
+    synchronized void invalidate(GitLabProjectId projectId)
+    {
+        this.entries.remove(projectId);
+        this.inProgress.remove(projectId);
+    }
+
+    private void putEntry(GitLabProjectId projectId, ProjectMetadata metadata)
+    {
+        this.entries.put(projectId, new Entry(metadata, this.nanoTime.getAsLong() + this.ttlNanos));
+        while (this.entries.size() > this.maxEntries)
+        {
+            this.entries.remove(this.entries.keySet().iterator().next());
+        }
+    }
+
+    private static class Entry
+    {
+        private final ProjectMetadata metadata;
+        private final long expiresAtNanos;
+
+        private Entry(ProjectMetadata metadata, long expiresAtNanos)
+        {
+            this.metadata = metadata;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now)
+        {
+            return (now - this.expiresAtNanos) >= 0;
+        }
+    }
+
+    /**
+     * Immutable snapshot of the user-independent metadata of a GitLab project.
+     */
+    static class ProjectMetadata
+    {
+        private final Long id;
+        private final String name;
+        private final String description;
+        private final String defaultBranch;
+        private final Visibility visibility;
+        private final List<String> tagList;
+        private final String webUrl;
+
+        private ProjectMetadata(Project project)
+        {
+            Objects.requireNonNull(project, "project may not be null");
+            this.id = project.getId();
+            this.name = project.getName();
+            this.description = project.getDescription();
+            this.defaultBranch = project.getDefaultBranch();
+            this.visibility = project.getVisibility();
+            List<String> projectTags = project.getTagList();
+            this.tagList = (projectTags == null) ? Collections.emptyList() : Collections.unmodifiableList(Lists.mutable.withAll(projectTags));
+            this.webUrl = project.getWebUrl();
+        }
+
+        Long getId()
+        {
+            return this.id;
+        }
+
+        String getName()
+        {
+            return this.name;
+        }
+
+        String getDescription()
+        {
+            return this.description;
+        }
+
+        /**
+         * Get the default branch of the project, as reported by GitLab. This may be null, e.g., for an empty
+         * project.
+         *
+         * @return default branch or null
+         */
+        String getDefaultBranch()
+        {
+            return this.defaultBranch;
+        }
+
+        Visibility getVisibility()
+        {
+            return this.visibility;
+        }
+
+        List<String> getTagList()
+        {
+            return this.tagList;
+        }
+
+        String getWebUrl()
+        {
+            return this.webUrl;
+        }
+    }
+}
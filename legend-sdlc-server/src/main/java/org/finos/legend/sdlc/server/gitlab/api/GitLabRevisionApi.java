@@ -41,6 +41,7 @@ import org.finos.legend.sdlc.backend.api.tools.BackgroundTaskProcessor;
 import org.finos.legend.sdlc.tools.entity.EntityPaths;
 import org.gitlab4j.api.CommitsApi;
 import org.gitlab4j.api.GitLabApi;
+import org.gitlab4j.api.GitLabApiException;
 import org.gitlab4j.api.TagsApi;
 import org.gitlab4j.api.models.CommitRef;
 import org.gitlab4j.api.models.CommitRef.RefType;
@@ -50,6 +51,13 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -59,6 +67,8 @@ import javax.ws.rs.core.Response.Status;
 
 public class GitLabRevisionApi extends GitLabApiWithFileAccess implements RevisionApi
 {
+    private static final ExecutorService TAG_LOOKUP_EXECUTOR = newTagLookupExecutor(8);
+
     @Inject
     public GitLabRevisionApi(GitLabConfiguration gitLabConfiguration, GitLabUserContext userContext, BackgroundTaskProcessor backgroundTaskProcessor)
     {
@@ -138,13 +148,7 @@ public class GitLabRevisionApi extends GitLabApiWithFileAccess implements Revisi
             }
             else
             {
-                TagsApi tagsApi = gitLabApi.getTagsApi();
-                versions = Lists.mutable.ofInitialCapacity(versionTagNames.size());
-                for (String tagName : versionTagNames)
-                {
-                    Tag tag = withRetries(() -> tagsApi.getTag(gitLabProjectId.getGitLabId(), tagName));
-                    versions.add(fromGitLabTag(projectId, tag));
-                }
+                versions = getVersionsForTags(gitLabApi, gitLabProjectId, versionTagNames);
                 versions.sort(Comparator.comparing(Version::getId));
             }
 
@@ -219,6 +223,103 @@ public class GitLabRevisionApi extends GitLabApiWithFileAccess implements Revisi
         }
     }
 
+    private MutableList<Version> getVersionsForTags(GitLabApi gitLabApi, GitLabProjectId projectId, MutableList<String> versionTagNames) throws Exception
+    {
+        MutableList<Version> versions = Lists.mutable.ofInitialCapacity(versionTagNames.size());
+        GitLabVersionIndex versionIndex = getCaches().getVersionIndex();
+        if (!versionIndex.isEnabled())
+        {
+            getTags(gitLabApi, projectId, versionTagNames).forEach(tag -> versions.add(fromGitLabTag(projectId.toString(), tag)));
+            return versions;
+        }
+
+        // The user's access to the project has already been checked by getting the commit refs
+        GitLabVersionIndex.ProjectVersions indexedVersions = getIndexedVersions(gitLabApi, projectId);
+        MutableList<String> unindexedTagNames = Lists.mutable.empty();
+        versionTagNames.forEach(tagName ->
+        {
+            Version version = indexedVersions.getVersion(parseVersionTagName(tagName));
+            if (version == null)
+            {
+                unindexedTagNames.add(tagName);
+            }
+            else
+            {
+                versions.add(version);
+            }
+        });
+
+        // tags created by other means since the index was built
+        getTags(gitLabApi, projectId, unindexedTagNames).forEach(tag ->
+        {
+            Version version = fromGitLabTag(projectId.toString(), tag);
+            versionIndex.addVersion(projectId, version);
+            versions.add(version);
+        });
+        return versions;
+    }
+
+    private MutableList<Tag> getTags(GitLabApi gitLabApi, GitLabProjectId projectId, MutableList<String> tagNames) throws GitLabApiException
+    {
+        TagsApi tagsApi = gitLabApi.getTagsApi();
+        if (tagNames.size() <= 1)
+        {
+            MutableList<Tag> tags = Lists.mutable.ofInitialCapacity(tagNames.size());
+            for (String tagName : tagNames)
+            {
+                tags.add(withRetries(() -> tagsApi.getTag(projectId.getGitLabId(), tagName)));
+            }
+            return tags;
+        }
+
+        MutableList<CompletableFuture<Tag>> futures = tagNames.collect(tagName -> CompletableFuture.supplyAsync(() ->
+        {
+            try
+            {
+                return withRetries(() -> tagsApi.getTag(projectId.getGitLabId(), tagName));
+            }
+            catch (GitLabApiException e)
+            {
+                throw new CompletionException(e);
+            }
+        }, TAG_LOOKUP_EXECUTOR));
+        try
+        {
+            return futures.collect(CompletableFuture::join);
+        }
+        catch (CompletionException e)
+        {
+            futures.forEach(f -> f.cancel(false));
+            Throwable cause = e.getCause();
+            if (cause instanceof GitLabApiException)
+            {
+                throw (GitLabApiException) cause;
+            }
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static ExecutorService newTagLookupExecutor(int threadCount)
+    {
+        AtomicInteger threadCounter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r ->
+        {
+            Thread thread = new Thread(r, "revision-tag-lookup-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     private static class PackageablePathExceptionProcessor implements Function<LegendSDLCServerException, LegendSDLCServerException>
     {
         private final String packageablePath;
@@ -0,0 +1,359 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.gitlab.api;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.sdlc.core.entity.EntityIndex;
+import org.finos.legend.sdlc.project.files.AbstractFileAccessContext;
+import org.finos.legend.sdlc.project.files.ProjectFileAccessProvider;
+import org.finos.legend.sdlc.project.files.ProjectFiles;
+import org.finos.legend.sdlc.project.files.ProjectPaths;
+import org.finos.legend.sdlc.server.gitlab.GitLabProjectId;
+import org.finos.legend.sdlc.server.tools.ThrowingSupplier;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+
+/**
+ * Process-wide cache of the complete file content of a project at a given commit. Since a commit is immutable, cached
+ * entries never become stale: they are only ever evicted to respect the size bound, least recently used first.
+ * Concurrent loads of the same commit are collapsed into a single load. Each entry also holds an {@link EntityIndex}
+ * of the commit, built on first use, so entity queries against a cached commit do not need to scan every entity file.
+ * Commits whose files turn out to be too large to cache are remembered (up to a bound), so that they are not loaded
+ * again just to find that out.
+ */
+class GitLabRevisionFileCache
+{
+    // rough per-file overhead for the path string, map entry and array header
+    private static final long FILE_OVERHEAD_BYTES = 128L;
+    private static final int MAX_TOO_LARGE_ENTRIES = 10_000;
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, RevisionFiles> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final MutableMap<Key, CompletableFuture<RevisionFiles>> inProgress = Maps.mutable.empty();
+    private final LinkedHashMap<Key, Boolean> tooLarge = new LinkedHashMap<Key, Boolean>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Boolean> eldest)
+        {
+            return size() > MAX_TOO_LARGE_ENTRIES;
+        }
+    };
+    private long currentBytes = 0L;
+
+    GitLabRevisionFileCache(long maxBytes)
+    {
+        if (maxBytes < 0)
+        {
+            throw new IllegalArgumentException("Invalid max bytes: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    boolean isEnabled()
+    {
+        return this.maxBytes > 0;
+    }
+
+    long getMaxBytes()
+    {
+        return this.maxBytes;
+    }
+
+    synchronized long getCurrentBytes()
+    {
+        return this.currentBytes;
+    }
+
+    synchronized int size()
+    {
+        return this.entries.size();
+    }
+
+    synchronized RevisionFiles get(GitLabProjectId projectId, String commitId)
+    {
+        return this.entries.get(new Key(projectId, commitId));
+    }
+
+    /**
+     * Whether the files for the given commit are known to be too large to cache. Such commits are not loaded again by
+     * {@link #getIfAbsentLoad}.
+     *
+     * @param projectId project id
+     * @param commitId  commit id
+     * @return whether the commit is known to be too large to cache
+     */
+    synchronized boolean isTooLarge(GitLabProjectId projectId, String commitId)
+    {
+        return this.tooLarge.get(new Key(projectId, commitId)) != null;
+    }
+
+    /**
+     * Get the files for the given commit, loading them if necessary. The loader should return null if the files
+     * would exceed {@link #getMaxBytes()}; in that case, null is returned and the commit is marked as too large, so
+     * that later calls return null without calling their loader.
+     *
+     * @param projectId project id
+     * @param commitId  commit id (must be a full commit id, not a branch or tag name)
+     * @param loader    file loader
+     * @return revision files or null
+     * @throws Exception if loading fails
+     */
+    RevisionFiles getIfAbsentLoad(GitLabProjectId projectId, String commitId, ThrowingSupplier<? extends Map<String, byte[]>, ? extends Exception> loader) throws Exception
+    {
+        if (!isEnabled())
+        {
+            Map<String, byte[]> files = loader.get();
+            return (files == null) ? null : new RevisionFiles(files);
+        }
+
+        Key key = new Key(projectId, commitId);
+        CompletableFuture<RevisionFiles> future;
+        boolean isLoader = false;
+        synchronized (this)
+        {
+            RevisionFiles cached = this.entries.get(key);
+            if (cached != null)
+            {
+                return cached;
+            }
+            if (this.tooLarge.get(key) != null)
+            {
+                return null;
+            }
+            future = this.inProgress.get(key);
+            if (future == null)
+            {
+                future = new CompletableFuture<>();
+                this.inProgress.put(key, future);
+                isLoader = true;
+            }
+        }
+
+        if (!isLoader)
+        {
+            try
+            {
+                return future.get();
+            }
+            catch (ExecutionException e)
+            {
+                Throwable cause = e.getCause();
+                throw (cause instanceof Exception) ? (Exception) cause : e;
+            }
+        }
+
+        RevisionFiles result = null;
+        try
+        {
+            Map<String, byte[]> files = loader.get();
+            if (files == null)
+            {
+                markTooLarge(key);
+            }
+            else
+            {
+                result = new RevisionFiles(files);
+                put(key, result);
+            }
+            future.complete(result);
+            return result;
+        }
+        catch (Throwable t)
+        {
+            future.completeExceptionally(t);
+            throw t;
+        }
+        finally
+        {
+            synchronized (this)
+            {
+                this.inProgress.remove(key);
+            }
+        }
+    }
+
+    synchronized void invalidate(GitLabProjectId projectId)
+    {
+        Iterator<Map.Entry<Key, RevisionFiles>> iterator = this.entries.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            Map.Entry<Key, RevisionFiles> entry = iterator.next();
+            if (entry.getKey().projectId.equals(projectId))
+            {
+                this.currentBytes -= entry.getValue().getWeight();
+                iterator.remove();
+            }
+        }
+        this.tooLarge.keySet().removeIf(k -> k.projectId.equals(projectId));
+    }
+
+    private synchronized void markTooLarge(Key key)
+    {
+        this.tooLarge.put(key, Boolean.TRUE);
+    }
+
+    private synchronized void put(Key key, RevisionFiles files)
+    {
+        long weight = files.getWeight();
+        if (weight > this.maxBytes)
+        {
+            return;
+        }
+        RevisionFiles previous = this.entries.put(key, files);
+        if (previous != null)
+        {
+            this.currentBytes -= previous.getWeight();
+        }
+        this.currentBytes += weight;
+        Iterator<Map.Entry<Key, RevisionFiles>> iterator = this.entries.entrySet().iterator();
+        while ((this.currentBytes > this.maxBytes) && iterator.hasNext())
+        {
+            Map.Entry<Key, RevisionFiles> eldest = iterator.next();
+            if (eldest.getKey().equals(key))
+            {
+                continue;
+            }
+            this.currentBytes -= eldest.getValue().getWeight();
+            iterator.remove();
+        }
+    }
+
+    static long getFileWeight(String path, byte[] content)
+    {
+        return FILE_OVERHEAD_BYTES + (2L * path.length()) + content.length;
+    }
+
+    static class RevisionFiles
+    {
+        private final Map<String, byte[]> files;
+        private final long weight;
+        private EntityIndex entityIndex;
+
+        private RevisionFiles(Map<String, byte[]> files)
+        {
+            this.files = Collections.unmodifiableMap(files);
+            long totalWeight = 0L;
+            for (Map.Entry<String, byte[]> entry : files.entrySet())
+            {
+                totalWeight += getFileWeight(entry.getKey(), entry.getValue());
+            }
+            this.weight = totalWeight;
+        }
+
+        long getWeight()
+        {
+            return this.weight;
+        }
+
+        int getFileCount()
+        {
+            return this.files.size();
+        }
+
+        byte[] getFileContent(String path)
+        {
+            return this.files.get(path);
+        }
+
+        Stream<ProjectFileAccessProvider.ProjectFile> getFilesInCanonicalDirectories(MutableList<String> directories)
+        {
+            Stream<Map.Entry<String, byte[]>> stream = this.files.entrySet().stream();
+            if (directories.size() == 1)
+            {
+                String directory = directories.get(0);
+                if (!ProjectPaths.ROOT_DIRECTORY.equals(directory))
+                {
+                    stream = stream.filter(e -> e.getKey().startsWith(directory));
+                }
+            }
+            else
+            {
+                stream = stream.filter(e ->
+                {
+                    String path = e.getKey();
+                    return directories.anySatisfy(path::startsWith);
+                });
+            }
+            return stream.map(e -> ProjectFiles.newByteArrayProjectFile(e.getKey(), e.getValue()));
+        }
+
+        synchronized EntityIndex getEntityIndex()
+        {
+            if (this.entityIndex == null)
+            {
+                this.entityIndex = EntityIndex.build(new RevisionFilesAccessContext());
+            }
+            return this.entityIndex;
+        }
+
+        private class RevisionFilesAccessContext extends AbstractFileAccessContext
+        {
+            @Override
+            protected Stream<ProjectFileAccessProvider.ProjectFile> getFilesInCanonicalDirectories(MutableList<String> directories)
+            {
+                return RevisionFiles.this.getFilesInCanonicalDirectories(directories);
+            }
+
+            @Override
+            public ProjectFileAccessProvider.ProjectFile getFile(String path)
+            {
+                byte[] content = getFileContent(path);
+                return (content == null) ? null : ProjectFiles.newByteArrayProjectFile(path, content);
+            }
+        }
+    }
+
+    private static class Key
+    {
+        private final GitLabProjectId projectId;
+        private final String commitId;
+
+        private Key(GitLabProjectId projectId, String commitId)
+        {
+            this.projectId = Objects.requireNonNull(projectId, "project id may not be null");
+            this.commitId = Objects.requireNonNull(commitId, "commit id may not be null");
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (!(other instanceof Key))
+            {
+                return false;
+            }
+            Key that = (Key) other;
+            return this.projectId.equals(that.projectId) && this.commitId.equals(that.commitId);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.projectId.hashCode() + (31 * this.commitId.hashCode());
+        }
+    }
+}
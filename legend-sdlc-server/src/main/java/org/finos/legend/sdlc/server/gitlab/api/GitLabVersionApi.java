@@ -22,14 +22,11 @@ import org.finos.legend.sdlc.server.error.LegendSDLCServerException;
 import org.finos.legend.sdlc.server.gitlab.GitLabConfiguration;
 import org.finos.legend.sdlc.server.gitlab.GitLabProjectId;
 import org.finos.legend.sdlc.server.gitlab.auth.GitLabUserContext;
-import org.finos.legend.sdlc.server.gitlab.tools.PagerTools;
 import org.finos.legend.sdlc.backend.api.tools.BackgroundTaskProcessor;
+import org.gitlab4j.api.GitLabApi;
+import org.gitlab4j.api.models.Project;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.function.BinaryOperator;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.ws.rs.core.Response.Status;
 
@@ -48,9 +45,7 @@ public class GitLabVersionApi extends GitLabApiWithFileAccess implements Version
     {
         LegendSDLCServerException.validateNonNull(projectId, "projectId may not be null");
         GitLabProjectId gitLabProjectId = parseProjectId(projectId);
-        List<Version> versions = getVersions(gitLabProjectId, minMajorVersion, maxMajorVersion, minMinorVersion, maxMinorVersion, minPatchVersion, maxPatchVersion).collect(Collectors.toList());
-        versions.sort(Comparator.comparing(Version::getId).reversed());
-        return versions;
+        return getVersions(gitLabProjectId, minMajorVersion, maxMajorVersion, minMinorVersion, maxMinorVersion, minPatchVersion, maxPatchVersion);
     }
 
     @Override
@@ -72,7 +67,9 @@ public class GitLabVersionApi extends GitLabApiWithFileAccess implements Version
         LegendSDLCServerException.validateNonNull(projectId, "projectId may not be null");
         LegendSDLCServerException.validateNonNull(type, "type may not be null");
         GitLabProjectId gitLabProjectId = parseProjectId(projectId);
-        Version latestVersion = getLatestVersion(gitLabProjectId);
+        // the next version must follow the latest version that exists now, so bypass the shared index, which may be
+        // stale if tags have been created elsewhere
+        Version latestVersion = getProjectVersions(gitLabProjectId, true).getLatestVersion(null, null, null, null, null, null);
         VersionId latestVersionId = (latestVersion == null) ? NULL_VERSION : latestVersion.getId();
         VersionId nextVersionId;
         switch (type)
@@ -100,101 +97,35 @@ public class GitLabVersionApi extends GitLabApiWithFileAccess implements Version
         return newVersion(gitLabProjectId, null, revisionId, nextVersionId, notes);
     }
 
-    private Stream<Version> getVersions(GitLabProjectId projectId, Integer minMajorVersion, Integer maxMajorVersion, Integer minMinorVersion, Integer maxMinorVersion, Integer minPatchVersion, Integer maxPatchVersion)
+    private List<Version> getVersions(GitLabProjectId projectId, Integer minMajorVersion, Integer maxMajorVersion, Integer minMinorVersion, Integer maxMinorVersion, Integer minPatchVersion, Integer maxPatchVersion)
     {
-        try
-        {
-            Stream<Version> stream = PagerTools.stream(getGitLabApi().getTagsApi().getTags(projectId.getGitLabId(), ITEMS_PER_PAGE)).filter(GitLabVersionApi::isVersionTag).map(tag -> fromGitLabTag(projectId.toString(), tag));
-
-            // major version constraint
-            if ((minMajorVersion != null) && (maxMajorVersion != null))
-            {
-                int minMajorVersionInt = minMajorVersion;
-                int maxMajorVersionInt = maxMajorVersion;
-                if (minMajorVersionInt == maxMajorVersionInt)
-                {
-                    stream = stream.filter(v -> v.getId().getMajorVersion() == minMajorVersionInt);
-                }
-                else
-                {
-                    stream = stream.filter(v ->
-                    {
-                        int majorVersion = v.getId().getMajorVersion();
-                        return (minMajorVersionInt <= majorVersion) && (majorVersion <= maxMajorVersionInt);
-                    });
-                }
-            }
-            else if (minMajorVersion != null)
-            {
-                int minMajorVersionInt = minMajorVersion;
-                stream = stream.filter(v -> v.getId().getMajorVersion() >= minMajorVersionInt);
-            }
-            else if (maxMajorVersion != null)
-            {
-                int maxMajorVersionInt = maxMajorVersion;
-                stream = stream.filter(v -> v.getId().getMajorVersion() <= maxMajorVersionInt);
-            }
+        return getProjectVersions(projectId).getVersions(minMajorVersion, maxMajorVersion, minMinorVersion, maxMinorVersion, minPatchVersion, maxPatchVersion);
+    }
 
-            // minor version constraint
-            if ((minMinorVersion != null) && (maxMinorVersion != null))
-            {
-                int minMinorVersionInt = minMinorVersion;
-                int maxMinorVersionInt = maxMinorVersion;
-                if (minMinorVersionInt == maxMinorVersionInt)
-                {
-                    stream = stream.filter(v -> v.getId().getMinorVersion() == minMinorVersionInt);
-                }
-                else
-                {
-                    stream = stream.filter(v ->
-                    {
-                        int minorVersion = v.getId().getMinorVersion();
-                        return (minMinorVersionInt <= minorVersion) && (minorVersion <= maxMinorVersionInt);
-                    });
-                }
-            }
-            else if (minMinorVersion != null)
-            {
-                int minMinorVersionInt = minMinorVersion;
-                stream = stream.filter(v -> v.getId().getMinorVersion() >= minMinorVersionInt);
-            }
-            else if (maxMinorVersion != null)
-            {
-                int maxMinorVersionInt = maxMinorVersion;
-                stream = stream.filter(v -> v.getId().getMinorVersion() <= maxMinorVersionInt);
-            }
+    private Version getLatestVersion(GitLabProjectId projectId, Integer minMajorVersion, Integer maxMajorVersion, Integer minMinorVersion, Integer maxMinorVersion, Integer minPatchVersion, Integer maxPatchVersion)
+    {
+        return getProjectVersions(projectId).getLatestVersion(minMajorVersion, maxMajorVersion, minMinorVersion, maxMinorVersion, minPatchVersion, maxPatchVersion);
+    }
 
+    private GitLabVersionIndex.ProjectVersions getProjectVersions(GitLabProjectId projectId)
+    {
+        return getProjectVersions(projectId, false);
+    }
 
-            // patch version constraint
-            if ((minPatchVersion != null) && (maxPatchVersion != null))
-            {
-                int minPatchVersionInt = minPatchVersion;
-                int maxPatchVersionInt = maxPatchVersion;
-                if (minPatchVersionInt == maxPatchVersionInt)
-                {
-                    stream = stream.filter(v -> v.getId().getPatchVersion() == minPatchVersionInt);
-                }
-                else
-                {
-                    stream = stream.filter(v ->
-                    {
-                        int patchVersion = v.getId().getPatchVersion();
-                        return (minPatchVersionInt <= patchVersion) && (patchVersion <= maxPatchVersionInt);
-                    });
-                }
-            }
-            else if (minPatchVersion != null)
-            {
-                int minPatchVersionInt = minPatchVersion;
-                stream = stream.filter(v -> v.getId().getPatchVersion() >= minPatchVersionInt);
-            }
-            else if (maxPatchVersion != null)
+    private GitLabVersionIndex.ProjectVersions getProjectVersions(GitLabProjectId projectId, boolean current)
+    {
+        try
+        {
+            GitLabApi gitLabApi = getGitLabApi();
+            GitLabVersionIndex versionIndex = getCaches().getVersionIndex();
+            if (versionIndex.isEnabled())
             {
-                int maxPatchVersionInt = maxPatchVersion;
-                stream = stream.filter(v -> v.getId().getPatchVersion() <= maxPatchVersionInt);
+                // The index is shared between users, so check that the user has access to the project first; this
+                // also refreshes the shared project metadata
+                Project project = withRetries(() -> gitLabApi.getProjectApi().getProject(projectId.getGitLabId()));
+                getCaches().getProjectMetadataCache().put(projectId, project);
             }
-
-            return stream;
+            return current ? getCurrentVersions(gitLabApi, projectId) : getIndexedVersions(gitLabApi, projectId);
         }
         catch (Exception e)
         {
@@ -204,14 +135,4 @@ public class GitLabVersionApi extends GitLabApiWithFileAccess implements Version
                 () -> "Error getting versions for project " + projectId);
         }
     }
-
-    private Version getLatestVersion(GitLabProjectId projectId)
-    {
-        return getLatestVersion(projectId, null, null, null, null, null, null);
-    }
-
-    private Version getLatestVersion(GitLabProjectId projectId, Integer minMajorVersion, Integer maxMajorVersion, Integer minMinorVersion, Integer maxMinorVersion, Integer minPatchVersion, Integer maxPatchVersion)
-    {
-        return getVersions(projectId, minMajorVersion, maxMajorVersion, minMinorVersion, maxMinorVersion, minPatchVersion, maxPatchVersion).reduce(BinaryOperator.maxBy(Comparator.comparing(Version::getId))).orElse(null);
-    }
 }
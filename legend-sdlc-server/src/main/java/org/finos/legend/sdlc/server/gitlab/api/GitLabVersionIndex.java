@@ -0,0 +1,353 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.sdlc.server.gitlab.api;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.sdlc.domain.model.version.Version;
+import org.finos.legend.sdlc.domain.model.version.VersionId;
+import org.finos.legend.sdlc.server.gitlab.GitLabProjectId;
+import org.finos.legend.sdlc.server.tools.ThrowingSupplier;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Process-wide index of the version tags of GitLab projects, ordered by version id. An index is built from a full
+ * listing of the tags of a project, kept up to date as versions are created through this server, and rebuilt after a
+ * short time to pick up tags created by other means. Concurrent builds for the same project are collapsed into a
+ * single build. Since the index is shared between users, it does not check access: callers must make a user-scoped
+ * call before serving versions to a user.
+ */
+class GitLabVersionIndex
+{
+    private static final int DEFAULT_MAX_ENTRIES = 1_000;
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoTime;
+    private final LinkedHashMap<GitLabProjectId, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final MutableMap<GitLabProjectId, CompletableFuture<ProjectVersions>> inProgress = Maps.mutable.empty();
+
+    GitLabVersionIndex(long ttlSeconds, int maxEntries, LongSupplier nanoTime)
+    {
+        if (ttlSeconds < 0)
+        {
+            throw new IllegalArgumentException("Invalid TTL: " + ttlSeconds);
+        }
+        if (maxEntries < 0)
+        {
+            throw new IllegalArgumentException("Invalid max entries: " + maxEntries);
+        }
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxEntries = maxEntries;
+        this.nanoTime = Objects.requireNonNull(nanoTime, "nanoTime may not be null");
+    }
+
+    GitLabVersionIndex(long ttlSeconds)
+    {
+        this(ttlSeconds, DEFAULT_MAX_ENTRIES, System::nanoTime);
+    }
+
+    boolean isEnabled()
+    {
+        return (this.ttlNanos > 0) && (this.maxEntries > 0);
+    }
+
+    synchronized int size()
+    {
+        return this.entries.size();
+    }
+
+    /**
+     * Get the versions of the given project, building the index for the project if there is no current entry for it.
+     * The loader must supply all the versions of the project; it is responsible for closing the stream it supplies.
+     *
+     * @param projectId project id
+     * @param loader    version loader
+     * @return project versions
+     * @throws Exception if loading fails
+     */
+    ProjectVersions getIfAbsentLoad(GitLabProjectId projectId, ThrowingSupplier<? extends Stream<Version>, ? extends Exception> loader) throws Exception
+    {
+        if (!isEnabled())
+        {
+            return load(loader);
+        }
+
+        CompletableFuture<ProjectVersions> future;
+        boolean isLoader = false;
+        synchronized (this)
+        {
+            Entry entry = this.entries.get(projectId);
+            if (entry != null)
+            {
+                if (!entry.isExpired(this.nanoTime.getAsLong()))
+                {
+                    return entry.versions;
+                }
+                this.entries.remove(projectId);
+            }
+            future = this.inProgress.get(projectId);
+            if (future == null)
+            {
+                future = new CompletableFuture<>();
+                this.inProgress.put(projectId, future);
+                isLoader = true;
+            }
+        }
+
+        if (!isLoader)
+        {
+            try
+            {
+                return future.get();
+            }
+            catch (ExecutionException e)
+            {
+                Throwable cause = e.getCause();
+                throw (cause instanceof Exception) ? (Exception) cause : e;
+            }
+        }
+
+        try
+        {
+            ProjectVersions versions = load(loader);
+            synchronized (this)
+            {
+                // a version added or an invalidation during the load removes the in-progress future, in which case the
+                // load may be stale and is not cached
+                if (this.inProgress.get(projectId) == future)
+                {
+                    this.entries.put(projectId, new Entry(versions, this.nanoTime.getAsLong() + this.ttlNanos));
+                    while (this.entries.size() > this.maxEntries)
+                    {
+                        this.entries.remove(this.entries.keySet().iterator().next());
+                    }
+                }
+            }
+            future.complete(versions);
+            return versions;
+        }
+        catch (Throwable t)
+        {
+            future.completeExceptionally(t);
+            throw t;
+        }
+        finally
+        {
+            synchronized (this)
+            {
+                this.inProgress.remove(projectId, future);
+            }
+        }
+    }
+
+    /**
+     * Get the versions of the given project from a fresh load, discarding any current entry for it. The fresh load
+     * replaces the entry. Use this where a stale answer is not acceptable, such as when choosing the next version.
+     *
+     * @param projectId project id
+     * @param loader    version loader
+     * @return project versions
+     * @throws Exception if loading fails
+     */
+    ProjectVersions reload(GitLabProjectId projectId, ThrowingSupplier<? extends Stream<Version>, ? extends Exception> loader) throws Exception
+    {
+        // invalidating also detaches any load already in progress, which may have started before the latest change
+        invalidate(projectId);
+        return getIfAbsentLoad(projectId, loader);
+    }
+
+    /**
+     * Add a version which has just been created to the index of its project, if there is one. This does not extend
+     * the life of the entry.
+     *
+     * @param projectId project id
+     * @param version   new version
+     */
+    synchronized void addVersion(GitLabProjectId projectId, Version version)
+    {
+        Entry entry = this.entries.get(projectId);
+        if (entry != null)
+        {
+            this.entries.put(projectId, new Entry(entry.versions.withVersion(version), entry.expiresAtNanos));
+        }
+        this.inProgress.remove(projectId);
+    }
+
+    synchronized void invalidate(GitLabProjectId projectId)
+    {
+        this.entries.remove(projectId);
+        this.inProgress.remove(projectId);
+    }
+
+    private static ProjectVersions load(ThrowingSupplier<? extends Stream<Version>, ? extends Exception> loader) throws Exception
+    {
+        TreeMap<VersionId, Version> versions = new TreeMap<>();
+        try (Stream<Version> stream = loader.get())
+        {
+            stream.forEach(v -> versions.put(v.getId(), v));
+        }
+        return new ProjectVersions(versions);
+    }
+
+    private static class Entry
+    {
+        private final ProjectVersions versions;
+        private final long expiresAtNanos;
+
+        private Entry(ProjectVersions versions, long expiresAtNanos)
+        {
+            this.versions = versions;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now)
+        {
+            return (now - this.expiresAtNanos) >= 0;
+        }
+    }
+
+    /**
+     * Immutable snapshot of the versions of a project, ordered by version id. Range queries first narrow the versions
+     * to the contiguous range of version ids the constraints allow, and only filter within that range.
+     */
+    static class ProjectVersions
+    {
+        private final NavigableMap<VersionId, Version> versions;
+
+        private ProjectVersions(TreeMap<VersionId, Version> versions)
+        {
+            this.versions = Collections.unmodifiableNavigableMap(versions);
+        }
+
+        int size()
+        {
+            return this.versions.size();
+        }
+
+        /**
+         * Get the version with the given id, or null if there is none.
+         *
+         * @param versionId version id
+         * @return version or null
+         */
+        Version getVersion(VersionId versionId)
+        {
+            return this.versions.get(versionId);
+        }
+
+        /**
+         * Get the versions within the given constraints (each of which may be null), in descending order of version
+         * id.
+         *
+         * @return versions in descending order
+         */
+        List<Version> getVersions(Integer minMajorVersion, Integer maxMajorVersion, Integer minMinorVersion, Integer maxMinorVersion, Integer minPatchVersion, Integer maxPatchVersion)
+        {
+            MutableList<Version> result = Lists.mutable.empty();
+            NavigableMap<VersionId, Version> range = getRange(minMajorVersion, maxMajorVersion, minMinorVersion, maxMinorVersion, minPatchVersion, maxPatchVersion);
+            for (Version version : range.descendingMap().values())
+            {
+                if (matches(version.getId(), minMajorVersion, maxMajorVersion, minMinorVersion, maxMinorVersion, minPatchVersion, maxPatchVersion))
+                {
+                    result.add(version);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Get the latest version within the given constraints (each of which may be null), or null if there is none.
+         *
+         * @return latest version or null
+         */
+        Version getLatestVersion(Integer minMajorVersion, Integer maxMajorVersion, Integer minMinorVersion, Integer maxMinorVersion, Integer minPatchVersion, Integer maxPatchVersion)
+        {
+            NavigableMap<VersionId, Version> range = getRange(minMajorVersion, maxMajorVersion, minMinorVersion, maxMinorVersion, minPatchVersion, maxPatchVersion);
+            for (Version version : range.descendingMap().values())
+            {
+                if (matches(version.getId(), minMajorVersion, maxMajorVersion, minMinorVersion, maxMinorVersion, minPatchVersion, maxPatchVersion))
+                {
+                    return version;
+                }
+            }
+            return null;
+        }
+
+        private ProjectVersions withVersion(Version version)
+        {
+            TreeMap<VersionId, Version> newVersions = new TreeMap<>(this.versions);
+            newVersions.put(version.getId(), version);
+            return new ProjectVersions(newVersions);
+        }
+
+        private NavigableMap<VersionId, Version> getRange(Integer minMajorVersion, Integer maxMajorVersion, Integer minMinorVersion, Integer maxMinorVersion, Integer minPatchVersion, Integer maxPatchVersion)
+        {
+            // Version ids are ordered by major, then minor, then patch version, so minor and patch constraints only
+            // narrow the range when all the more significant components are fixed
+            int lowMajor = lowerBound(minMajorVersion);
+            int highMajor = upperBound(maxMajorVersion);
+            boolean majorFixed = (lowMajor == highMajor);
+            int lowMinor = majorFixed ? lowerBound(minMinorVersion) : 0;
+            int highMinor = majorFixed ? upperBound(maxMinorVersion) : Integer.MAX_VALUE;
+            boolean minorFixed = majorFixed && (lowMinor == highMinor);
+            int lowPatch = minorFixed ? lowerBound(minPatchVersion) : 0;
+            int highPatch = minorFixed ? upperBound(maxPatchVersion) : Integer.MAX_VALUE;
+            if ((highMajor < 0) || (highMinor < 0) || (highPatch < 0))
+            {
+                return Collections.emptyNavigableMap();
+            }
+            VersionId low = VersionId.newVersionId(lowMajor, lowMinor, lowPatch);
+            VersionId high = VersionId.newVersionId(highMajor, highMinor, highPatch);
+            return (low.compareTo(high) > 0) ? Collections.emptyNavigableMap() : this.versions.subMap(low, true, high, true);
+        }
+
+        private static int lowerBound(Integer min)
+        {
+            return (min == null) ? 0 : Math.max(0, min);
+        }
+
+        private static int upperBound(Integer max)
+        {
+            return (max == null) ? Integer.MAX_VALUE : max;
+        }
+
+        private static boolean matches(VersionId versionId, Integer minMajorVersion, Integer maxMajorVersion, Integer minMinorVersion, Integer maxMinorVersion, Integer minPatchVersion, Integer maxPatchVersion)
+        {
+            return inRange(versionId.getMajorVersion(), minMajorVersion, maxMajorVersion) &&
+                    inRange(versionId.getMinorVersion(), minMinorVersion, maxMinorVersion) &&
+                    inRange(versionId.getPatchVersion(), minPatchVersion, maxPatchVersion);
+        }
+
+        private static boolean inRange(int value, Integer min, Integer max)
+        {
+            return ((min == null) || (min <= value)) && ((max == null) || (value <= max));
+        }
+    }
+}
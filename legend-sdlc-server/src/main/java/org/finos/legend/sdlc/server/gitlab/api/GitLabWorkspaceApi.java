@@ -61,6 +61,11 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.inject.Inject;
@@ -71,6 +76,11 @@ public class GitLabWorkspaceApi extends GitLabApiWithFileAccess implements Works
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(GitLabWorkspaceApi.class);
 
+    private static final int REBASE_STATUS_MAX_TRIES = 600;
+    private static final long REBASE_STATUS_WAIT_INTERVAL_MILLIS = 1_000L;
+
+    private static final GitLabWorkspaceUpdateJobs UPDATE_JOBS = new GitLabWorkspaceUpdateJobs(4, TimeUnit.HOURS.toMillis(1));
+
     private final ProjectApi projectApi;
     private final RevisionApi revisionApi;
     private final String sandboxArtifactId = "my-prototype";
@@ -404,7 +414,7 @@ public class GitLabWorkspaceApi extends GitLabApiWithFileAccess implements Works
         try
         {
             branch = GitLabApiTools.createBranchFromSourceBranchAndVerify(repositoryApi, gitLabProjectId.getGitLabId(), workspaceBranchName, sourceBranchName, 30, 1_000);
-            tags = getGitLabApi().getProjectApi().getProject(gitLabProjectId.getGitLabId()).getTagList();
+            tags = getProjectMetadata(gitLabProjectId).getTagList();
         }
         catch (Exception e)
         {
@@ -506,13 +516,58 @@ public class GitLabWorkspaceApi extends GitLabApiWithFileAccess implements Works
      * This check makes sure the conflict that causes rebase to fail does not come from intermediate
      * commits by squashing these commits and attempt to do another rebase there. If this still fails
      * it means the workspace in overall truly has merge conflicts while updating, so entering conflict resolution mode
+     * <p>
+     * The update runs as a workspace update job (see {@link #submitWorkspaceUpdate}), which this waits for.
      */
     @Override
     public WorkspaceUpdateReport updateWorkspace(String projectId, WorkspaceSpecification workspaceSpecification)
+    {
+        return UPDATE_JOBS.await(submitUpdateJob(projectId, workspaceSpecification));
+    }
+
+    @Override
+    public CompletableFuture<WorkspaceUpdateReport> updateWorkspaceAsync(String projectId, WorkspaceSpecification workspaceSpecification)
+    {
+        return UPDATE_JOBS.getCompletion(submitUpdateJob(projectId, workspaceSpecification));
+    }
+
+    @Override
+    public WorkspaceUpdateJob submitWorkspaceUpdate(String projectId, WorkspaceSpecification workspaceSpecification)
+    {
+        return submitUpdateJob(projectId, workspaceSpecification);
+    }
+
+    @Override
+    public WorkspaceUpdateJob getWorkspaceUpdateJob(String projectId, String jobId)
+    {
+        LegendSDLCServerException.validateNonNull(projectId, "projectId may not be null");
+        LegendSDLCServerException.validateNonNull(jobId, "jobId may not be null");
+
+        // check that the user has access to the project before revealing anything about its jobs
+        this.projectApi.getProject(projectId);
+        WorkspaceUpdateJob job = UPDATE_JOBS.getJob(jobId, getCurrentUser());
+        if ((job == null) || !projectId.equals(job.getProjectId()))
+        {
+            throw new LegendSDLCServerException("Unknown workspace update job in project " + projectId + ": " + jobId, Status.NOT_FOUND);
+        }
+        return job;
+    }
+
+    private GitLabWorkspaceUpdateJobs.Job submitUpdateJob(String projectId, WorkspaceSpecification workspaceSpecification)
     {
         LegendSDLCServerException.validateNonNull(projectId, "projectId may not be null");
         LegendSDLCServerException.validateNonNull(workspaceSpecification, "workspace specification may not be null");
 
+        GitLabProjectId gitLabProjectId = parseProjectId(projectId);
+        String workspaceBranchName = getWorkspaceBranchName(workspaceSpecification);
+        // The job outlives this request, so the user's GitLab API must be obtained (and so cached in the user
+        // context) now: it cannot be obtained from the request once the request has finished
+        getGitLabApi();
+        return UPDATE_JOBS.submit(projectId, workspaceSpecification.getId(), gitLabProjectId.getGitLabId() + ":" + workspaceBranchName, getCurrentUser(), (scheduler, executor) -> updateWorkspace(projectId, workspaceSpecification, scheduler, executor));
+    }
+
+    private CompletableFuture<WorkspaceUpdateReport> updateWorkspace(String projectId, WorkspaceSpecification workspaceSpecification, ScheduledExecutorService scheduler, Executor executor)
+    {
         LOGGER.debug("Updating workspace {} in project {} to latest revision", workspaceSpecification, projectId);
         GitLabProjectId gitLabProjectId = parseProjectId(projectId);
         GitLabApi gitLabApi = getGitLabApi();
@@ -571,7 +626,7 @@ public class GitLabWorkspaceApi extends GitLabApiWithFileAccess implements Works
             {
                 // revision is already in the workspace, no update necessary, hence NO_OP
                 LOGGER.debug("Workspace {} in project {} already has revision {}, no update necessary", workspaceSpecification, projectId, sourceRevisionId);
-                return createWorkspaceUpdateReport(WorkspaceUpdateReportStatus.NO_OP, sourceRevisionId, currentWorkspaceRevisionId);
+                return CompletableFuture.completedFuture(createWorkspaceUpdateReport(WorkspaceUpdateReportStatus.NO_OP, sourceRevisionId, currentWorkspaceRevisionId));
             }
         }
         catch (Exception e)
@@ -602,15 +657,19 @@ public class GitLabWorkspaceApi extends GitLabApiWithFileAccess implements Works
         }
 
         // Attempt to rebase the temporary branch on top of master
-        boolean rebaseSucceeded = attemptToRebaseWorkspaceUsingTemporaryBranch(projectId, workspaceSpecification, tempBranchName, sourceRevisionId);
-        // If fail to rebase, there could be 2 possible reasons:
-        // 1. At least one of the intermediate commits on the workspace branch causes rebase to fail
-        //      -> we need to squash the workspace branch and try rebase again
-        //      to do this, we first check if we even need to squash by checking the number of commits on the workspace branch
-        // 2. There are merge conflicts, so we enter conflict resolution route
-        if (!rebaseSucceeded)
+        return attemptToRebaseWorkspaceUsingTemporaryBranch(projectId, workspaceSpecification, tempBranchName, sourceRevisionId, scheduler, executor).thenCompose(rebaseSucceeded ->
         {
+            if (rebaseSucceeded)
+            {
+                String updatedCurrentWorkspaceRevisionId = this.revisionApi.getRevisionContext(projectId, workspaceSpecification.getSourceSpecification()).getCurrentRevision().getId();
+                return CompletableFuture.completedFuture(createWorkspaceUpdateReport(WorkspaceUpdateReportStatus.UPDATED, sourceRevisionId, updatedCurrentWorkspaceRevisionId));
+            }
 
+            // If fail to rebase, there could be 2 possible reasons:
+            // 1. At least one of the intermediate commits on the workspace branch causes rebase to fail
+            //      -> we need to squash the workspace branch and try rebase again
+            //      to do this, we first check if we even need to squash by checking the number of commits on the workspace branch
+            // 2. There are merge conflicts, so we enter conflict resolution route
             String workspaceCreationRevisionId;
             try
             {
@@ -630,18 +689,13 @@ public class GitLabWorkspaceApi extends GitLabApiWithFileAccess implements Works
             if (latestTwoRevisionOnWorkspaceBranchIds.contains(workspaceCreationRevisionId))
             {
                 LOGGER.debug("Failed to rebase branch {}, but the branch does not have enough commits to perform squashing. Proceeding to conflict resolution...", workspaceBranchName);
-                return createConflictResolution(projectId, workspaceSpecification, sourceRevisionId);
-            }
-            else
-            {
-                LOGGER.debug("Failed to rebase branch {}. Performing squashing commits and re-attempting rebase...", workspaceBranchName);
+                return CompletableFuture.completedFuture(createConflictResolution(projectId, workspaceSpecification, sourceRevisionId));
             }
+            LOGGER.debug("Failed to rebase branch {}. Performing squashing commits and re-attempting rebase...", workspaceBranchName);
 
-            WorkspaceUpdateReport rebaseUpdateAttemptReport = attemptToSquashAndRebaseWorkspace(projectId, workspaceSpecification, sourceRevisionId, currentWorkspaceRevisionId, workspaceCreationRevisionId);
-            return WorkspaceUpdateReportStatus.UPDATED.equals(rebaseUpdateAttemptReport.getStatus()) ? rebaseUpdateAttemptReport : this.createConflictResolution(projectId, workspaceSpecification, sourceRevisionId);
-        }
-        String updatedCurrentWorkspaceRevisionId = this.revisionApi.getRevisionContext(projectId, workspaceSpecification.getSourceSpecification()).getCurrentRevision().getId();
-        return createWorkspaceUpdateReport(WorkspaceUpdateReportStatus.UPDATED, sourceRevisionId, updatedCurrentWorkspaceRevisionId);
+            return attemptToSquashAndRebaseWorkspace(projectId, workspaceSpecification, sourceRevisionId, currentWorkspaceRevisionId, workspaceCreationRevisionId, scheduler, executor)
+                    .thenApply(rebaseUpdateAttemptReport -> WorkspaceUpdateReportStatus.UPDATED.equals(rebaseUpdateAttemptReport.getStatus()) ? rebaseUpdateAttemptReport : createConflictResolution(projectId, workspaceSpecification, sourceRevisionId));
+        });
     }
 
     /**
@@ -661,9 +715,9 @@ public class GitLabWorkspaceApi extends GitLabApiWithFileAccess implements Works
      * - If succeeded: re-create current workspace branch on top of the temp branch
      * - If failed -> implies conflict resolution is needed
      *
-     * @return a workspace update report that might have status as UPDATED or CONFLICT.
+     * @return a future workspace update report that might have status as UPDATED or CONFLICT.
      */
-    private WorkspaceUpdateReport attemptToSquashAndRebaseWorkspace(String projectId, WorkspaceSpecification workspaceSpecification, String masterRevisionId, String currentWorkspaceRevisionId, String workspaceCreationRevisionId)
+    private CompletableFuture<WorkspaceUpdateReport> attemptToSquashAndRebaseWorkspace(String projectId, WorkspaceSpecification workspaceSpecification, String masterRevisionId, String currentWorkspaceRevisionId, String workspaceCreationRevisionId, ScheduledExecutorService scheduler, Executor executor)
     {
         GitLabProjectId gitLabProjectId = parseProjectId(projectId);
         RepositoryApi repositoryApi = getGitLabApi().getRepositoryApi();
@@ -773,13 +827,11 @@ public class GitLabWorkspaceApi extends GitLabApiWithFileAccess implements Works
                     () -> "Failed to create commit in temporary workspace " + tempBranchName + " of project " + projectId);
         }
         // Attempt to rebase the temporary branch on top of master
-        boolean attemptRebaseResult = attemptToRebaseWorkspaceUsingTemporaryBranch(projectId, workspaceSpecification, tempBranchName, masterRevisionId);
         // If rebasing failed, this implies there are conflicts, otherwise, the workspace should be updated
-        if (!attemptRebaseResult)
-        {
-            return createWorkspaceUpdateReport(WorkspaceUpdateReportStatus.CONFLICT, null, null);
-        }
-        return createWorkspaceUpdateReport(WorkspaceUpdateReportStatus.UPDATED, masterRevisionId, squashedCommit.getId());
+        String squashedCommitId = squashedCommit.getId();
+        return attemptToRebaseWorkspaceUsingTemporaryBranch(projectId, workspaceSpecification, tempBranchName, masterRevisionId, scheduler, executor).thenApply(attemptRebaseResult -> attemptRebaseResult ?
+                createWorkspaceUpdateReport(WorkspaceUpdateReportStatus.UPDATED, masterRevisionId, squashedCommitId) :
+                createWorkspaceUpdateReport(WorkspaceUpdateReportStatus.CONFLICT, null, null));
     }
 
     /**
@@ -792,16 +844,18 @@ public class GitLabWorkspaceApi extends GitLabApiWithFileAccess implements Works
      * 4. Re-create workspace branch on top of the rebased temp branch.
      * 5. Cleanup: remove the temp branch and the MR
      * 6. Return `true`
+     * <p>
+     * Checks of the rebase status are scheduled on the given scheduler rather than waited for, so no thread is held
+     * while GitLab is rebasing. The checks, and the steps which follow them, run on the given executor.
      *
-     * @return a boolean flag indicating if the attempted rebase succeeded.
+     * @return a future boolean flag indicating if the attempted rebase succeeded.
      */
-    private boolean attemptToRebaseWorkspaceUsingTemporaryBranch(String projectId, WorkspaceSpecification workspaceSpecification, String tempBranchName, String masterRevisionId)
+    private CompletableFuture<Boolean> attemptToRebaseWorkspaceUsingTemporaryBranch(String projectId, WorkspaceSpecification workspaceSpecification, String tempBranchName, String masterRevisionId, ScheduledExecutorService scheduler, Executor executor)
     {
         GitLabProjectId gitLabProjectId = parseProjectId(projectId);
         GitLabApi gitLabApi = getGitLabApi();
-        RepositoryApi repositoryApi = gitLabApi.getRepositoryApi();
         // Create merge request to rebase
-        MergeRequestApi mergeRequestApi = getGitLabApi().getMergeRequestApi();
+        MergeRequestApi mergeRequestApi = gitLabApi.getMergeRequestApi();
         String title = "Update workspace " + workspaceSpecification.getId();
         String message = "Update workspace " + workspaceSpecification.getId() + " up to revision " + masterRevisionId;
         MergeRequest mergeRequest;
@@ -817,111 +871,42 @@ public class GitLabWorkspaceApi extends GitLabApiWithFileAccess implements Works
                     () -> "Error creating merge request in project " + projectId);
         }
         // Attempt to rebase the merge request
+        CompletableFuture<Boolean> rebaseResult;
         try
         {
             mergeRequestApi.rebaseMergeRequest(gitLabProjectId.getGitLabId(), mergeRequest.getIid());
             // Check rebase status
             // This only throws when we have 403, so we need to keep polling till we know the result
             // See https://docs.gitlab.com/ee/api/merge_requests.html#rebase-a-merge-request
-            CallUntil<MergeRequest, GitLabApiException> rebaseStatusCallUntil = CallUntil.callUntil(
+            rebaseResult = CallUntil.callUntilAsync(
                     () -> withRetries(() -> mergeRequestApi.getRebaseStatus(gitLabProjectId.getGitLabId(), mergeRequest.getIid())),
                     mr -> !mr.getRebaseInProgress(),
-                    600,
-                    1000L);
-            if (!rebaseStatusCallUntil.succeeded())
+                    REBASE_STATUS_MAX_TRIES,
+                    REBASE_STATUS_WAIT_INTERVAL_MILLIS,
+                    scheduler,
+                    executor).thenApply(rebaseStatusCallUntil ->
             {
-                LOGGER.warn("Timeout waiting for merge request " + mergeRequest.getIid() + " in project " + projectId + " to finish rebasing");
-                return false;
-            }
-            // Check if there is merge conflict
-            if (rebaseStatusCallUntil.getResult().getMergeError() != null)
-            {
-                return false;
-            }
-            // if there are no merge conflicts, proceed with the update
-            else
-            {
-                String workspaceBranchName = getWorkspaceBranchName(workspaceSpecification);
-                // Create backup branch
-                Branch backupBranch;
-                WorkspaceSpecification backupWorkspaceSpec = WorkspaceSpecification.newWorkspaceSpecification(workspaceSpecification.getId(), workspaceSpecification.getType(), WorkspaceAccessType.BACKUP, workspaceSpecification.getSource());
-                String backupBranchName = getWorkspaceBranchName(backupWorkspaceSpec);
-                try
+                if (!rebaseStatusCallUntil.succeeded())
                 {
-                    backupBranch = GitLabApiTools.createBranchFromSourceBranchAndVerify(repositoryApi, gitLabProjectId.getGitLabId(), backupBranchName, workspaceBranchName, 30, 1_000);
-                }
-                catch (Exception e)
-                {
-                    throw buildException(e,
-                            () -> "User " + getCurrentUser() + " is not allowed to create " + getReferenceInfo(projectId, backupWorkspaceSpec),
-                            () -> "Unknown project: " + projectId,
-                            () -> "Error creating " + getReferenceInfo(projectId, backupWorkspaceSpec));
+                    LOGGER.warn("Timeout waiting for merge request " + mergeRequest.getIid() + " in project " + projectId + " to finish rebasing");
+                    return false;
                 }
-                if (backupBranch == null)
+                // Check if there is merge conflict
+                if (rebaseStatusCallUntil.getResult().getMergeError() != null)
                 {
-                    throw new LegendSDLCServerException("Failed to create " + getReferenceInfo(projectId, backupWorkspaceSpec) + " from " + getReferenceInfo(projectId, workspaceSpecification));
-                }
-                // Delete original branch
-                boolean originalBranchDeleted;
-                try
-                {
-                    originalBranchDeleted = GitLabApiTools.deleteBranchAndVerify(repositoryApi, gitLabProjectId.getGitLabId(), workspaceBranchName, 20, 1_000);
-                }
-                catch (Exception e)
-                {
-                    throw buildException(e,
-                            () -> "Error while attempting to update " + getReferenceInfo(projectId, workspaceSpecification) + ": user " + getCurrentUser() + " is not allowed to delete workspace",
-                            () -> "Error while attempting to update " + getReferenceInfo(projectId, workspaceSpecification) + ": unknown workspace or project",
-                            () -> "Error while attempting to update " + getReferenceInfo(projectId, workspaceSpecification) + ": error deleting workspace");
-                }
-                if (!originalBranchDeleted)
-                {
-                    throw new LegendSDLCServerException("Failed to delete " + getReferenceInfo(projectId, workspaceSpecification));
-                }
-                // Create new workspace branch off the temp branch head
-                Branch newWorkspaceBranch;
-                try
-                {
-                    newWorkspaceBranch = GitLabApiTools.createBranchFromSourceBranchAndVerify(repositoryApi, gitLabProjectId.getGitLabId(),
-                            workspaceBranchName,
-                            tempBranchName,
-                            30, 1_000);
-                }
-                catch (Exception e)
-                {
-                    throw buildException(e,
-                            () -> "Error while attempting to update " + getReferenceInfo(projectId, workspaceSpecification) + ": user " + getCurrentUser() + " is not allowed to create workspace",
-                            () -> "Error while attempting to update " + getReferenceInfo(projectId, workspaceSpecification) + ": unknown project: " + projectId,
-                            () -> "Error while attempting to update " + getReferenceInfo(projectId, workspaceSpecification) + ": error creating workspace");
+                    return false;
                 }
-                if (newWorkspaceBranch == null)
-                {
-                    throw new LegendSDLCServerException("Failed to create " + getReferenceInfo(projectId, workspaceSpecification) + " from temporary workspace " + tempBranchName);
-                }
-                // Delete backup branch
-                try
-                {
-                    boolean deleted = GitLabApiTools.deleteBranchAndVerify(repositoryApi, gitLabProjectId.getGitLabId(), backupBranchName, 20, 1_000);
-                    if (!deleted)
-                    {
-                        LOGGER.error("Failed to delete {} in project {}", backupBranchName, projectId);
-                    }
-                }
-                catch (Exception e)
-                {
-                    // unfortunate, but this should not throw error
-                    LOGGER.error("Error deleting {} in project {}", backupBranchName, projectId);
-                }
-            }
+                // if there are no merge conflicts, proceed with the update
+                replaceWorkspaceBranch(gitLabApi.getRepositoryApi(), gitLabProjectId, projectId, workspaceSpecification, tempBranchName);
+                return true;
+            });
         }
         catch (Exception e)
         {
-            throw buildException(e,
-                    () -> "User " + getCurrentUser() + " is not allowed to rebase merge request " + mergeRequest.getIid() + " in project " + projectId,
-                    () -> "Unknown merge request ( " + mergeRequest.getIid() + " ) or project ( " + projectId + " )",
-                    () -> "Error rebasing merge request " + mergeRequest.getIid() + " in project " + projectId);
+            rebaseResult = new CompletableFuture<>();
+            rebaseResult.completeExceptionally(e);
         }
-        finally
+        return rebaseResult.handle((succeeded, t) ->
         {
             // Try to close merge request
             try
@@ -934,9 +919,101 @@ public class GitLabWorkspaceApi extends GitLabApiWithFileAccess implements Works
                 LOGGER.error("Could not close merge request {} for project {}: {}", mergeRequest.getIid(), projectId, mergeRequest.getWebUrl(), closeEx);
             }
             // Delete temporary branch in the background
-            submitBackgroundRetryableTask(() -> waitForPipelinesDeleteBranchAndVerify(gitLabApi, gitLabProjectId, tempBranchName), 5000L, "delete " + tempBranchName);
+            submitBackgroundRetryableTask(DELETE_BRANCH_AFTER_PIPELINES_TASK_TYPE, () -> waitForPipelinesDeleteBranchAndVerify(gitLabApi, gitLabProjectId, tempBranchName), 5000L, "delete " + tempBranchName);
+
+            if (t != null)
+            {
+                Throwable cause = ((t instanceof CompletionException) && (t.getCause() != null)) ? t.getCause() : t;
+                if (cause instanceof Error)
+                {
+                    throw (Error) cause;
+                }
+                throw buildException((Exception) cause,
+                        () -> "User " + getCurrentUser() + " is not allowed to rebase merge request " + mergeRequest.getIid() + " in project " + projectId,
+                        () -> "Unknown merge request ( " + mergeRequest.getIid() + " ) or project ( " + projectId + " )",
+                        () -> "Error rebasing merge request " + mergeRequest.getIid() + " in project " + projectId);
+            }
+            return succeeded;
+        });
+    }
+
+    /**
+     * Re-create the workspace branch from the head of the (rebased) temp branch. The original workspace branch is
+     * backed up while this happens, and the backup is removed afterwards.
+     */
+    private void replaceWorkspaceBranch(RepositoryApi repositoryApi, GitLabProjectId gitLabProjectId, String projectId, WorkspaceSpecification workspaceSpecification, String tempBranchName)
+    {
+        String workspaceBranchName = getWorkspaceBranchName(workspaceSpecification);
+        // Create backup branch
+        Branch backupBranch;
+        WorkspaceSpecification backupWorkspaceSpec = WorkspaceSpecification.newWorkspaceSpecification(workspaceSpecification.getId(), workspaceSpecification.getType(), WorkspaceAccessType.BACKUP, workspaceSpecification.getSource());
+        String backupBranchName = getWorkspaceBranchName(backupWorkspaceSpec);
+        try
+        {
+            backupBranch = GitLabApiTools.createBranchFromSourceBranchAndVerify(repositoryApi, gitLabProjectId.getGitLabId(), backupBranchName, workspaceBranchName, 30, 1_000);
+        }
+        catch (Exception e)
+        {
+            throw buildException(e,
+                    () -> "User " + getCurrentUser() + " is not allowed to create " + getReferenceInfo(projectId, backupWorkspaceSpec),
+                    () -> "Unknown project: " + projectId,
+                    () -> "Error creating " + getReferenceInfo(projectId, backupWorkspaceSpec));
+        }
+        if (backupBranch == null)
+        {
+            throw new LegendSDLCServerException("Failed to create " + getReferenceInfo(projectId, backupWorkspaceSpec) + " from " + getReferenceInfo(projectId, workspaceSpecification));
+        }
+        // Delete original branch
+        boolean originalBranchDeleted;
+        try
+        {
+            originalBranchDeleted = GitLabApiTools.deleteBranchAndVerify(repositoryApi, gitLabProjectId.getGitLabId(), workspaceBranchName, 20, 1_000);
+        }
+        catch (Exception e)
+        {
+            throw buildException(e,
+                    () -> "Error while attempting to update " + getReferenceInfo(projectId, workspaceSpecification) + ": user " + getCurrentUser() + " is not allowed to delete workspace",
+                    () -> "Error while attempting to update " + getReferenceInfo(projectId, workspaceSpecification) + ": unknown workspace or project",
+                    () -> "Error while attempting to update " + getReferenceInfo(projectId, workspaceSpecification) + ": error deleting workspace");
+        }
+        if (!originalBranchDeleted)
+        {
+            throw new LegendSDLCServerException("Failed to delete " + getReferenceInfo(projectId, workspaceSpecification));
+        }
+        // Create new workspace branch off the temp branch head
+        Branch newWorkspaceBranch;
+        try
+        {
+            newWorkspaceBranch = GitLabApiTools.createBranchFromSourceBranchAndVerify(repositoryApi, gitLabProjectId.getGitLabId(),
+                    workspaceBranchName,
+                    tempBranchName,
+                    30, 1_000);
+        }
+        catch (Exception e)
+        {
+            throw buildException(e,
+                    () -> "Error while attempting to update " + getReferenceInfo(projectId, workspaceSpecification) + ": user " + getCurrentUser() + " is not allowed to create workspace",
+                    () -> "Error while attempting to update " + getReferenceInfo(projectId, workspaceSpecification) + ": unknown project: " + projectId,
+                    () -> "Error while attempting to update " + getReferenceInfo(projectId, workspaceSpecification) + ": error creating workspace");
+        }
+        if (newWorkspaceBranch == null)
+        {
+            throw new LegendSDLCServerException("Failed to create " + getReferenceInfo(projectId, workspaceSpecification) + " from temporary workspace " + tempBranchName);
+        }
+        // Delete backup branch
+        try
+        {
+            boolean deleted = GitLabApiTools.deleteBranchAndVerify(repositoryApi, gitLabProjectId.getGitLabId(), backupBranchName, 20, 1_000);
+            if (!deleted)
+            {
+                LOGGER.error("Failed to delete {} in project {}", backupBranchName, projectId);
+            }
+        }
+        catch (Exception e)
+        {
+            // unfortunate, but this should not throw error
+            LOGGER.error("Error deleting {} in project {}", backupBranchName, projectId);
         }
-        return true;
     }
 
     /**
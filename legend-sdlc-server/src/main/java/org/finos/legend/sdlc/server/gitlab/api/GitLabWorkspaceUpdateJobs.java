@@ -0,0 +1,298 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.sdlc.server.gitlab.api;
+
+import org.finos.legend.sdlc.backend.api.workspace.WorkspaceApi.WorkspaceUpdateJob;
+import org.finos.legend.sdlc.backend.api.workspace.WorkspaceApi.WorkspaceUpdateJobStatus;
+import org.finos.legend.sdlc.backend.api.workspace.WorkspaceApi.WorkspaceUpdateReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Registry of workspace update jobs, together with the threads they run on. An update runs as a chain of steps on a
+ * fixed pool of worker threads, so no request thread is held while it runs. The steps which call GitLab block their
+ * worker thread, including the short verification and retry loops around creating and deleting branches; but the long
+ * wait for GitLab to finish a rebase is scheduled rather than slept through, so no worker thread is held for that. The
+ * scheduler thread only hands work over to the workers, so a slow GitLab call never delays the steps of other updates.
+ * <p>
+ * At most one update of a given workspace is in progress at a time: submitting an update of a workspace which is
+ * already being updated returns the existing job. A job can only be read by the users who submitted it. Finished jobs
+ * are retained for a limited time so that their status can still be read.
+ */
+final class GitLabWorkspaceUpdateJobs
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(GitLabWorkspaceUpdateJobs.class);
+
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final ThreadPoolExecutor workers;
+    private final long retentionMillis;
+    private final ConcurrentMap<String, Job> jobsById = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Job> activeJobsByWorkspace = new ConcurrentHashMap<>();
+
+    GitLabWorkspaceUpdateJobs(int workerCount, long retentionMillis)
+    {
+        if (retentionMillis < 0)
+        {
+            throw new IllegalArgumentException("Invalid retention: " + retentionMillis);
+        }
+        this.scheduler = new ScheduledThreadPoolExecutor(1, newThreadFactory("workspace-update-scheduler-"));
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        int threadCount = Math.max(1, workerCount);
+        this.workers = new ThreadPoolExecutor(threadCount, threadCount, 1L, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), newThreadFactory("workspace-update-"));
+        this.workers.allowCoreThreadTimeOut(true);
+        this.retentionMillis = retentionMillis;
+    }
+
+    /**
+     * Submit an update of a workspace on behalf of a user, unless one is already in progress, in which case the user
+     * is allowed to read that job instead. The update function is called on a worker thread, and is given the
+     * scheduler to wait on and the executor to run any further steps on.
+     *
+     * @param projectId    project id
+     * @param workspaceId  workspace id
+     * @param workspaceKey key which uniquely identifies the workspace
+     * @param userId       id of the submitting user
+     * @param update       update function
+     * @return the new job, or the job already in progress for the workspace
+     */
+    Job submit(String projectId, String workspaceId, String workspaceKey, String userId, BiFunction<? super ScheduledExecutorService, ? super Executor, ? extends CompletableFuture<? extends WorkspaceUpdateReport>> update)
+    {
+        Objects.requireNonNull(userId, "userId may not be null");
+        Objects.requireNonNull(update, "update may not be null");
+        Job[] newJob = {null};
+        Job job = this.activeJobsByWorkspace.compute(workspaceKey, (k, activeJob) ->
+        {
+            if (activeJob != null)
+            {
+                // add the user while the job is still registered as active, so that they can always read it
+                activeJob.userIds.add(userId);
+                return activeJob;
+            }
+            newJob[0] = new Job(UUID.randomUUID().toString(), projectId, workspaceId);
+            newJob[0].userIds.add(userId);
+            return newJob[0];
+        });
+        if (newJob[0] == null)
+        {
+            LOGGER.debug("Update of workspace {} in project {} already in progress: {}", workspaceId, projectId, job.id);
+            return job;
+        }
+
+        this.jobsById.put(job.id, job);
+        try
+        {
+            this.workers.execute(() -> run(job, workspaceKey, update));
+        }
+        catch (Exception e)
+        {
+            finish(job, workspaceKey, null, e);
+        }
+        return job;
+    }
+
+    /**
+     * Get a job, provided that the given user submitted it.
+     *
+     * @param jobId  job id
+     * @param userId user id
+     * @return job, or null if there is no such job which the user may read
+     */
+    Job getJob(String jobId, String userId)
+    {
+        Job job = (jobId == null) ? null : this.jobsById.get(jobId);
+        return ((job == null) || (userId == null) || !job.userIds.contains(userId)) ? null : job;
+    }
+
+    int getActiveJobCount()
+    {
+        return this.activeJobsByWorkspace.size();
+    }
+
+    /**
+     * Get a future which completes when a job finishes, with its report or its error.
+     *
+     * @param job job
+     * @return future of the workspace update report
+     */
+    CompletableFuture<WorkspaceUpdateReport> getCompletion(Job job)
+    {
+        // a dependent future, so that callers cannot complete the job's own
+        return job.future.thenApply(Function.identity());
+    }
+
+    /**
+     * Wait for a job to finish and return its report, or throw its error.
+     *
+     * @param job job
+     * @return workspace update report
+     */
+    WorkspaceUpdateReport await(Job job)
+    {
+        try
+        {
+            return job.future.join();
+        }
+        catch (CompletionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private void run(Job job, String workspaceKey, BiFunction<? super ScheduledExecutorService, ? super Executor, ? extends CompletableFuture<? extends WorkspaceUpdateReport>> update)
+    {
+        job.status = WorkspaceUpdateJobStatus.RUNNING;
+        CompletableFuture<? extends WorkspaceUpdateReport> future;
+        try
+        {
+            future = Objects.requireNonNull(update.apply(this.scheduler, this.workers), "update future may not be null");
+        }
+        catch (Throwable t)
+        {
+            finish(job, workspaceKey, null, t);
+            return;
+        }
+        future.whenComplete((report, t) -> finish(job, workspaceKey, report, t));
+    }
+
+    private void finish(Job job, String workspaceKey, WorkspaceUpdateReport report, Throwable t)
+    {
+        Throwable error = ((t instanceof CompletionException) && (t.getCause() != null)) ? t.getCause() : t;
+        if (error == null)
+        {
+            job.report = report;
+            job.status = WorkspaceUpdateJobStatus.SUCCEEDED;
+        }
+        else
+        {
+            LOGGER.debug("Update of workspace {} in project {} failed (job {})", job.workspaceId, job.projectId, job.id, error);
+            job.errorMessage = (error.getMessage() == null) ? error.getClass().getName() : error.getMessage();
+            job.status = WorkspaceUpdateJobStatus.FAILED;
+        }
+
+        // the workspace is free for another update as soon as this one has finished
+        this.activeJobsByWorkspace.remove(workspaceKey, job);
+        try
+        {
+            this.scheduler.schedule(() -> this.jobsById.remove(job.id, job), this.retentionMillis, TimeUnit.MILLISECONDS);
+        }
+        catch (Exception e)
+        {
+            this.jobsById.remove(job.id, job);
+        }
+
+        if (error == null)
+        {
+            job.future.complete(report);
+        }
+        else
+        {
+            job.future.completeExceptionally(error);
+        }
+    }
+
+    static final class Job implements WorkspaceUpdateJob
+    {
+        private final String id;
+        private final String projectId;
+        private final String workspaceId;
+        private final Set<String> userIds = ConcurrentHashMap.newKeySet();
+        private final CompletableFuture<WorkspaceUpdateReport> future = new CompletableFuture<>();
+        private volatile WorkspaceUpdateJobStatus status = WorkspaceUpdateJobStatus.PENDING;
+        private volatile WorkspaceUpdateReport report;
+        private volatile String errorMessage;
+
+        private Job(String id, String projectId, String workspaceId)
+        {
+            this.id = id;
+            this.projectId = projectId;
+            this.workspaceId = workspaceId;
+        }
+
+        @Override
+        public String getId()
+        {
+            return this.id;
+        }
+
+        @Override
+        public String getProjectId()
+        {
+            return this.projectId;
+        }
+
+        @Override
+        public String getWorkspaceId()
+        {
+            return this.workspaceId;
+        }
+
+        @Override
+        public WorkspaceUpdateJobStatus getStatus()
+        {
+            return this.status;
+        }
+
+        @Override
+        public WorkspaceUpdateReport getReport()
+        {
+            return this.report;
+        }
+
+        @Override
+        public String getErrorMessage()
+        {
+            return this.errorMessage;
+        }
+    }
+
+    private static ThreadFactory newThreadFactory(String namePrefix)
+    {
+        AtomicInteger threadCounter = new AtomicInteger();
+        return r ->
+        {
+            Thread thread = new Thread(r, namePrefix + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -17,6 +17,7 @@ package org.finos.legend.sdlc.server.guice;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.Binder;
 import com.google.inject.Provides;
+import com.google.inject.Scopes;
 import com.google.inject.Singleton;
 import com.hubspot.dropwizard.guicier.DropwizardAwareModule;
 import io.dropwizard.jackson.Jackson;
@@ -28,6 +29,8 @@ import org.finos.legend.sdlc.server.config.LegendSDLCServerFeaturesConfiguration
 import org.finos.legend.sdlc.server.depot.DepotConfiguration;
 import org.finos.legend.sdlc.server.depot.auth.AuthClientInjector;
 import org.finos.legend.sdlc.backend.api.dependency.DependenciesApi;
+import org.finos.legend.sdlc.backend.api.dependency.DownstreamDependencyIndex;
+import org.finos.legend.sdlc.core.dependency.UpstreamDependencyResolver;
 import org.finos.legend.sdlc.backend.api.spi.Backend;
 import org.finos.legend.sdlc.backend.api.spi.BackendConfiguration;
 import org.finos.legend.sdlc.backend.api.spi.BackendEnvironment;
@@ -232,6 +235,7 @@ import org.finos.legend.sdlc.server.resources.revision.project.user.WorkspaceRev
 import org.finos.legend.sdlc.server.resources.workflow.project.user.WorkspaceWorkflowJobsResource;
 import org.finos.legend.sdlc.server.resources.workflow.project.user.WorkspaceWorkflowsResource;
 import org.finos.legend.sdlc.server.resources.workspace.project.user.WorkspacesResource;
+import org.finos.legend.sdlc.server.resources.workspace.WorkspaceUpdateJobsResource;
 import org.finos.legend.sdlc.backend.api.tools.BackgroundTaskProcessor;
 import org.finos.legend.sdlc.server.tools.SessionProvider;
 import org.finos.legend.server.pac4j.LegendPac4jConfiguration;
@@ -396,6 +400,7 @@ public abstract class AbstractBaseModule extends DropwizardAwareModule<LegendSDL
         binder.bind(PatchesResource.class);
         binder.bind(PatchesWorkspacesResource.class);
         binder.bind(PatchesGroupWorkspacesResource.class);
+        binder.bind(WorkspaceUpdateJobsResource.class);
         binder.bind(PatchesGroupWorkspaceProjectConfigurationResource.class);
         binder.bind(PatchesProjectEntitiesResource.class);
         binder.bind(PatchesProjectEntityPathsResource.class);
@@ -479,6 +484,10 @@ public abstract class AbstractBaseModule extends DropwizardAwareModule<LegendSDL
     private void configureCommonApis(Binder binder)
     {
         binder.bind(DependenciesApi.class).to(DependenciesApiImpl.class);
+        // the downstream dependency index and upstream resolver cache are shared across requests; the index has no
+        // service identity to refresh it with here, so it stays unbuilt and downstream lookups scan per caller
+        binder.bind(DownstreamDependencyIndex.class).in(Scopes.SINGLETON);
+        binder.bind(UpstreamDependencyResolver.class).in(Scopes.SINGLETON);
     }
 
     @Provides
@@ -18,6 +18,7 @@ import com.google.inject.Binder;
 import com.google.inject.Provides;
 import com.google.inject.Scopes;
 import com.google.inject.servlet.RequestScoped;
+import io.dropwizard.lifecycle.Managed;
 import org.finos.legend.sdlc.backend.api.backup.BackupApi;
 import org.finos.legend.sdlc.backend.api.build.BuildApi;
 import org.finos.legend.sdlc.backend.api.comparison.ComparisonApi;
@@ -39,6 +40,8 @@ import org.finos.legend.sdlc.backend.api.workspace.WorkspaceApi;
 import org.finos.legend.sdlc.server.BaseLegendSDLCServer;
 import org.finos.legend.sdlc.server.backend.ServletBackendSessionContext;
 import org.finos.legend.sdlc.server.config.LegendSDLCServerConfiguration;
+import org.finos.legend.sdlc.server.depot.DepotConfiguration;
+import org.finos.legend.sdlc.server.depot.api.CachingMetadataApi;
 import org.finos.legend.sdlc.server.depot.api.DepotMetadataApi;
 import org.finos.legend.sdlc.server.depot.api.MetadataApi;
 import org.finos.legend.sdlc.server.gitlab.GitLabAppInfo;
@@ -91,7 +94,31 @@ public class BaseModule extends AbstractBaseModule
 
     protected void configureMetadataApi(Binder binder)
     {
-        binder.bind(MetadataApi.class).to(DepotMetadataApi.class);
+        // DepotMetadataApi holds a pooled HTTP client and CachingMetadataApi a process-wide cache, so both are shared
+        binder.bind(DepotMetadataApi.class).toProvider(this::buildDepotMetadataApi).in(Scopes.SINGLETON);
+        binder.bind(MetadataApi.class).to(CachingMetadataApi.class).in(Scopes.SINGLETON);
+    }
+
+    private DepotMetadataApi buildDepotMetadataApi()
+    {
+        DepotConfiguration depotConfiguration = getConfiguration().getDepotConfiguration();
+        DepotMetadataApi metadataApi = new DepotMetadataApi((depotConfiguration == null) ? DepotConfiguration.emptyConfiguration() : depotConfiguration);
+        // release the pooled connections and stop the idle connection eviction thread with the server
+        getEnvironment().lifecycle().manage(new Managed()
+        {
+            @Override
+            public void start()
+            {
+                // nothing to do
+            }
+
+            @Override
+            public void stop() throws Exception
+            {
+                metadataApi.close();
+            }
+        });
+        return metadataApi;
     }
 
     @Provides
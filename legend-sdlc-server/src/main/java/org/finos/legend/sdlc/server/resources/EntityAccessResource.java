@@ -14,20 +14,42 @@
 
 package org.finos.legend.sdlc.server.resources;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.sdlc.core.entity.EntityAnnotationPredicate;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.backend.api.entity.EntityAccessContext;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import javax.ws.rs.core.StreamingOutput;
 
 public abstract class EntityAccessResource extends BaseResource
 {
+    /**
+     * Media type of streamed entity listings: newline-delimited JSON, one entity per line.
+     */
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    /**
+     * Produces value for streamed entity listings. The lower quality source factor keeps plain JSON the default for
+     * clients which accept any media type, so streaming is only used when explicitly requested.
+     */
+    protected static final String STREAMING_PRODUCES = APPLICATION_NDJSON + ";qs=0.5";
+
     private static final char TAGGED_VALUE_DELIMITER = '/';
+    private static final ObjectWriter ENTITY_WRITER = new ObjectMapper().writerFor(Entity.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
 
     protected List<String> getEntityPaths(EntityAccessContext entityAccessContext, Set<String> classifierPaths, Set<String> packages, boolean includeSubPackages, String nameRegex, Set<String> stereotypes, Collection<String> taggedValueRegexes)
     {
@@ -45,6 +67,37 @@ public abstract class EntityAccessResource extends BaseResource
         return entityAccessContext.getEntities(entityPathPredicate, classifierPathPredicate, contentPredicate, excludeInvalidEntities);
     }
 
+    /**
+     * Stream the matching entities as newline-delimited JSON, one entity per line. The entity stream is opened (and so
+     * the source resolved and access checked) before the response is committed, but entities are only read as they
+     * are written, so memory use does not grow with the number of entities. Writes block while the client is not
+     * reading, which holds back reading further entities.
+     */
+    protected StreamingOutput streamEntities(EntityAccessContext entityAccessContext, Set<String> classifierPaths, Set<String> packages, boolean includeSubPackages, String nameRegex, Set<String> stereotypes, Collection<String> taggedValueRegexes, boolean excludeInvalidEntities)
+    {
+        Predicate<String> entityPathPredicate = getEntityPathPredicate(packages, includeSubPackages, nameRegex);
+        Predicate<String> classifierPathPredicate = getClassifierPathPredicate(classifierPaths);
+        Predicate<Map<String, ?>> contentPredicate = getContentPredicate(stereotypes, taggedValueRegexes);
+        Stream<Entity> entities = entityAccessContext.streamEntities(entityPathPredicate, classifierPathPredicate, contentPredicate, excludeInvalidEntities);
+        return output -> writeNewlineDelimitedJson(entities, output);
+    }
+
+    private static void writeNewlineDelimitedJson(Stream<Entity> entities, OutputStream output) throws IOException
+    {
+        try (Stream<Entity> stream = entities;
+             JsonGenerator generator = ENTITY_WRITER.getFactory().createGenerator(output))
+        {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            Iterator<Entity> iterator = stream.iterator();
+            while (iterator.hasNext())
+            {
+                ENTITY_WRITER.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
     private Predicate<String> getEntityPathPredicate(Set<String> packages, boolean includeSubPackages, String nameRegex)
     {
         Pattern namePattern = compileRegex(nameRegex);
@@ -103,7 +156,7 @@ public abstract class EntityAccessResource extends BaseResource
         }
     }
 
-    private Predicate<Map<String, ?>> getContentPredicate(Set<String> stereotypes, Collection<String> taggedValueRegexes)
+    private EntityAnnotationPredicate getContentPredicate(Set<String> stereotypes, Collection<String> taggedValueRegexes)
     {
         Predicate<Map<String, ?>> predicate = null;
         if ((stereotypes != null) && !stereotypes.isEmpty())
@@ -149,7 +202,8 @@ public abstract class EntityAccessResource extends BaseResource
             Predicate<Map<String, ?>> taggedValuePred = content -> entityMatchesAnyTaggedValuePattern(content, taggedValuePatterns);
             predicate = (predicate == null) ? taggedValuePred : predicate.and(taggedValuePred);
         }
-        return predicate;
+        // only annotations are inspected, which allows the predicate to be evaluated against an entity index
+        return (predicate == null) ? null : predicate::test;
     }
 
     private static Pattern compileRegex(String regex)
@@ -19,8 +19,13 @@ import org.finos.legend.engine.protocol.pure.v1.model.context.AlloySDLC;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.protocol.pure.v1.PureModelContextDataBuilder;
+import org.finos.legend.sdlc.protocol.pure.v1.PureModelContextDataWriter;
 import org.finos.legend.sdlc.backend.api.entity.EntityAccessContext;
 
+import java.util.stream.Stream;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
 public abstract class PureModelContextDataResource extends BaseResource
 {
     protected PureModelContextData getPureModelContextData(String projectId, String revisionOrVersionId, EntityAccessContext entityAccessContext)
@@ -30,13 +35,53 @@ public abstract class PureModelContextDataResource extends BaseResource
 
     protected PureModelContextData getPureModelContextData(String projectId, String revisionOrVersionId, Iterable<? extends Entity> entities)
     {
-        AlloySDLC sdlc = new AlloySDLC();
-        sdlc.project = projectId;
-        sdlc.baseVersion = revisionOrVersionId;
         return PureModelContextDataBuilder.newBuilder()
                 .withProtocol("pure", PureClientVersions.production)
-                .withSDLC(sdlc)
+                .withSDLC(newSDLC(projectId, revisionOrVersionId))
+                .withParallelConversion(true)
                 .withEntitiesIfPossible(entities)
                 .build();
     }
+
+    /**
+     * Get Pure model context data for the entities of the context as a response. By default, the data is built in full
+     * before the response is committed, so any error is reported with an error status. If stream is true, the data is
+     * instead written as it is built (see {@link #streamPureModelContextData}), which bounds memory use at the cost of
+     * errors part way through truncating the response.
+     */
+    protected Response getPureModelContextDataResponse(String projectId, String revisionOrVersionId, EntityAccessContext entityAccessContext, boolean stream)
+    {
+        return Response.ok(stream ?
+                        streamPureModelContextData(projectId, revisionOrVersionId, entityAccessContext) :
+                        getPureModelContextData(projectId, revisionOrVersionId, entityAccessContext))
+                .build();
+    }
+
+    /**
+     * Stream Pure model context data for the entities of the context. The entity stream is opened before the response
+     * is committed, but entities are then read, converted and written one at a time, so that the data as a whole is
+     * never held in memory. The output is the same as for {@link #getPureModelContextData(String, String, EntityAccessContext)}.
+     */
+    protected StreamingOutput streamPureModelContextData(String projectId, String revisionOrVersionId, EntityAccessContext entityAccessContext)
+    {
+        PureModelContextDataWriter writer = PureModelContextDataWriter.newWriter()
+                .withProtocol("pure", PureClientVersions.production)
+                .withSDLC(newSDLC(projectId, revisionOrVersionId));
+        Stream<Entity> entities = entityAccessContext.streamEntities(null, null, null, false);
+        return output ->
+        {
+            try (Stream<Entity> stream = entities)
+            {
+                writer.write(stream, output);
+            }
+        };
+    }
+
+    private static AlloySDLC newSDLC(String projectId, String revisionOrVersionId)
+    {
+        AlloySDLC sdlc = new AlloySDLC();
+        sdlc.project = projectId;
+        sdlc.baseVersion = revisionOrVersionId;
+        return sdlc;
+    }
 }
@@ -16,6 +16,7 @@ package org.finos.legend.sdlc.server.resources.pmcd;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.sdlc.domain.model.version.VersionId;
 import org.finos.legend.sdlc.backend.api.entity.EntityApi;
@@ -24,11 +25,14 @@ import org.finos.legend.sdlc.server.resources.PureModelContextDataResource;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 @Path("/projects/{projectId}/versions/{versionId}/pureModelContextData")
 @Api("Pure Model Context")
@@ -45,12 +49,12 @@ public class VersionPureModelContextDataResource extends PureModelContextDataRes
     }
 
     @GET
-    @ApiOperation("Get Pure model context data for a version of a project")
-    public PureModelContextData getPureModelContextData(@PathParam("projectId") String projectId, @PathParam("versionId") String versionId)
+    @ApiOperation(value = "Get Pure model context data for a version of a project", response = PureModelContextData.class)
+    public Response getPureModelContextData(@PathParam("projectId") String projectId, @PathParam("versionId") String versionId, @QueryParam("stream") @DefaultValue("false") @ApiParam("Whether to write the data as it is built rather than building it in full before responding. Streaming uses less memory, but an error part way through truncates the response instead of returning an error status.") boolean stream)
     {
         return executeWithLogging(
                 "getting Pure model context data for version " + versionId + " of project " + projectId,
-                () -> getPureModelContextData(projectId, VersionId.parseVersionId(versionId).toVersionIdString(), this.entityApi.getEntityAccessContext(projectId, SourceSpecification.versionSourceSpecification(versionId)))
+                () -> getPureModelContextDataResponse(projectId, VersionId.parseVersionId(versionId).toVersionIdString(), this.entityApi.getEntityAccessContext(projectId, SourceSpecification.versionSourceSpecification(versionId)), stream)
         );
     }
 }
@@ -16,6 +16,7 @@ package org.finos.legend.sdlc.server.resources.pmcd.patch;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.sdlc.domain.model.revision.Revision;
 import org.finos.legend.sdlc.domain.model.version.VersionId;
@@ -27,10 +28,12 @@ import org.finos.legend.sdlc.server.resources.PureModelContextDataResource;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -51,8 +54,8 @@ public class PatchPureModelContextDataResource extends PureModelContextDataResou
     }
 
     @GET
-    @ApiOperation("Get Pure model context data for a project (at the latest revision) for patch release version")
-    public PureModelContextData getPureModelContextData(@PathParam("projectId") String projectId, @PathParam("patchReleaseVersionId") String patchReleaseVersionId)
+    @ApiOperation(value = "Get Pure model context data for a project (at the latest revision) for patch release version", response = PureModelContextData.class)
+    public Response getPureModelContextData(@PathParam("projectId") String projectId, @PathParam("patchReleaseVersionId") String patchReleaseVersionId, @QueryParam("stream") @DefaultValue("false") @ApiParam("Whether to write the data as it is built rather than building it in full before responding. Streaming uses less memory, but an error part way through truncates the response instead of returning an error status.") boolean stream)
     {
         LegendSDLCServerException.validateNonNull(patchReleaseVersionId, "patchReleaseVersionId may not be null");
         VersionId versionId;
@@ -73,7 +76,7 @@ public class PatchPureModelContextDataResource extends PureModelContextDataResou
                     {
                         throw new LegendSDLCServerException("Could not find latest revision for project " + projectId + "; project may be corrupt" + " for patch release version " + patchReleaseVersionId);
                     }
-                    return getPureModelContextData(projectId, revision.getId(), this.entityApi.getEntityAccessContext(projectId, SourceSpecification.patchSourceSpecification(versionId)));
+                    return getPureModelContextDataResponse(projectId, revision.getId(), this.entityApi.getEntityAccessContext(projectId, SourceSpecification.patchSourceSpecification(versionId)), stream);
                 });
     }
 }
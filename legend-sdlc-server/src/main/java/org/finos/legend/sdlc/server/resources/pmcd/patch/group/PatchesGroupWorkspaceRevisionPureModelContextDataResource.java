@@ -29,10 +29,12 @@ import org.finos.legend.sdlc.server.resources.PureModelContextDataResource;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -51,11 +53,12 @@ public class PatchesGroupWorkspaceRevisionPureModelContextDataResource extends P
     }
 
     @GET
-    @ApiOperation("Get Pure model context data for a group workspace at a revision for patch release version")
-    public PureModelContextData getPureModelContextData(@PathParam("projectId") String projectId,
-                                                        @PathParam("patchReleaseVersionId") String patchReleaseVersionId,
-                                                        @PathParam("workspaceId") String workspaceId,
-                                                        @PathParam("revisionId") @ApiParam("Including aliases: head, latest, current, base") String revisionId)
+    @ApiOperation(value = "Get Pure model context data for a group workspace at a revision for patch release version", response = PureModelContextData.class)
+    public Response getPureModelContextData(@PathParam("projectId") String projectId,
+                                            @PathParam("patchReleaseVersionId") String patchReleaseVersionId,
+                                            @PathParam("workspaceId") String workspaceId,
+                                            @PathParam("revisionId") @ApiParam("Including aliases: head, latest, current, base") String revisionId,
+                                            @QueryParam("stream") @DefaultValue("false") @ApiParam("Whether to write the data as it is built rather than building it in full before responding. Streaming uses less memory, but an error part way through truncates the response instead of returning an error status.") boolean stream)
     {
         LegendSDLCServerException.validateNonNull(patchReleaseVersionId, "patchReleaseVersionId may not be null");
         VersionId versionId;
@@ -69,7 +72,7 @@ public class PatchesGroupWorkspaceRevisionPureModelContextDataResource extends P
         }
         return executeWithLogging(
                 "getting Pure model context data for group workspace " + workspaceId + " in project " + projectId + " at revision " + revisionId + " for patch release version " + patchReleaseVersionId,
-                () -> getPureModelContextData(projectId, revisionId, this.entityApi.getEntityAccessContext(projectId, SourceSpecification.workspaceSourceSpecification(WorkspaceSpecification.newWorkspaceSpecification(workspaceId, WorkspaceType.GROUP, WorkspaceSource.patchWorkspaceSource(versionId))), revisionId))
+                () -> getPureModelContextDataResponse(projectId, revisionId, this.entityApi.getEntityAccessContext(projectId, SourceSpecification.workspaceSourceSpecification(WorkspaceSpecification.newWorkspaceSpecification(workspaceId, WorkspaceType.GROUP, WorkspaceSource.patchWorkspaceSource(versionId))), revisionId), stream)
         );
     }
 }
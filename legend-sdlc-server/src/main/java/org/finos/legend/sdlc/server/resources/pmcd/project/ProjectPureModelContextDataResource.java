@@ -16,6 +16,7 @@ package org.finos.legend.sdlc.server.resources.pmcd.project;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.sdlc.domain.model.revision.Revision;
 import org.finos.legend.sdlc.backend.api.entity.EntityApi;
@@ -26,11 +27,14 @@ import org.finos.legend.sdlc.server.resources.PureModelContextDataResource;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 @Path("/projects/{projectId}/pureModelContextData")
 @Api("Pure Model Context")
@@ -49,8 +53,8 @@ public class ProjectPureModelContextDataResource extends PureModelContextDataRes
     }
 
     @GET
-    @ApiOperation("Get Pure model context data for a project (at the latest revision)")
-    public PureModelContextData getPureModelContextData(@PathParam("projectId") String projectId)
+    @ApiOperation(value = "Get Pure model context data for a project (at the latest revision)", response = PureModelContextData.class)
+    public Response getPureModelContextData(@PathParam("projectId") String projectId, @QueryParam("stream") @DefaultValue("false") @ApiParam("Whether to write the data as it is built rather than building it in full before responding. Streaming uses less memory, but an error part way through truncates the response instead of returning an error status.") boolean stream)
     {
         return executeWithLogging(
                 "getting Pure model context data for project " + projectId,
@@ -61,7 +65,7 @@ public class ProjectPureModelContextDataResource extends PureModelContextDataRes
                     {
                         throw new LegendSDLCServerException("Could not find latest revision for project " + projectId + "; project may be corrupt");
                     }
-                    return getPureModelContextData(projectId, revision.getId(), this.entityApi.getEntityAccessContext(projectId, SourceSpecification.projectSourceSpecification()));
+                    return getPureModelContextDataResponse(projectId, revision.getId(), this.entityApi.getEntityAccessContext(projectId, SourceSpecification.projectSourceSpecification()), stream);
                 });
     }
 }
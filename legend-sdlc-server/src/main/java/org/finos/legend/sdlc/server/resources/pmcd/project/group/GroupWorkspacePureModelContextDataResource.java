@@ -16,6 +16,7 @@ package org.finos.legend.sdlc.server.resources.pmcd.project.group;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.sdlc.domain.model.project.workspace.WorkspaceType;
 import org.finos.legend.sdlc.domain.model.revision.Revision;
@@ -28,11 +29,14 @@ import org.finos.legend.sdlc.server.resources.PureModelContextDataResource;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 @Path("/projects/{projectId}/groupWorkspaces/{workspaceId}/pureModelContextData")
 @Api("Pure Model Context")
@@ -51,8 +55,8 @@ public class GroupWorkspacePureModelContextDataResource extends PureModelContext
     }
 
     @GET
-    @ApiOperation("Get Pure model context data for a group workspace (at the latest revision)")
-    public PureModelContextData getPureModelContextData(@PathParam("projectId") String projectId, @PathParam("workspaceId") String workspaceId)
+    @ApiOperation(value = "Get Pure model context data for a group workspace (at the latest revision)", response = PureModelContextData.class)
+    public Response getPureModelContextData(@PathParam("projectId") String projectId, @PathParam("workspaceId") String workspaceId, @QueryParam("stream") @DefaultValue("false") @ApiParam("Whether to write the data as it is built rather than building it in full before responding. Streaming uses less memory, but an error part way through truncates the response instead of returning an error status.") boolean stream)
     {
         return executeWithLogging(
                 "getting Pure model context data for group workspace " + workspaceId + " in project " + projectId,
@@ -63,7 +67,7 @@ public class GroupWorkspacePureModelContextDataResource extends PureModelContext
                     {
                         throw new LegendSDLCServerException("Could not find latest revision for group workspace " + workspaceId + " in project " + projectId + "; project may be corrupt");
                     }
-                    return getPureModelContextData(projectId, revision.getId(), this.entityApi.getEntityAccessContext(projectId, SourceSpecification.workspaceSourceSpecification(WorkspaceSpecification.newWorkspaceSpecification(workspaceId, WorkspaceType.GROUP))));
+                    return getPureModelContextDataResponse(projectId, revision.getId(), this.entityApi.getEntityAccessContext(projectId, SourceSpecification.workspaceSourceSpecification(WorkspaceSpecification.newWorkspaceSpecification(workspaceId, WorkspaceType.GROUP))), stream);
                 });
     }
 }
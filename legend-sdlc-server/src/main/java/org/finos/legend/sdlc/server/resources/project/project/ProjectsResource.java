@@ -26,6 +26,7 @@ import org.finos.legend.sdlc.server.application.project.CreateProjectCommand;
 import org.finos.legend.sdlc.server.application.project.ImportProjectCommand;
 import org.finos.legend.sdlc.server.application.project.UpdateProjectCommand;
 import org.finos.legend.sdlc.server.config.LegendSDLCServerFeaturesConfiguration;
+import org.finos.legend.sdlc.backend.api.dependency.DependenciesApi;
 import org.finos.legend.sdlc.backend.api.project.ProjectApi;
 import org.finos.legend.sdlc.backend.api.project.ProjectApi.ImportReport;
 import org.finos.legend.sdlc.server.error.LegendSDLCServerException;
@@ -56,12 +57,19 @@ public class ProjectsResource extends BaseResource
 {
     private final ProjectApi projectApi;
     private final LegendSDLCServerFeaturesConfiguration featuresConfiguration;
+    private final DependenciesApi dependenciesApi;
 
     @Inject
-    public ProjectsResource(LegendSDLCServerFeaturesConfiguration featuresConfiguration, ProjectApi projectApi)
+    public ProjectsResource(LegendSDLCServerFeaturesConfiguration featuresConfiguration, ProjectApi projectApi, DependenciesApi dependenciesApi)
     {
         this.featuresConfiguration = featuresConfiguration;
         this.projectApi = projectApi;
+        this.dependenciesApi = dependenciesApi;
+    }
+
+    public ProjectsResource(LegendSDLCServerFeaturesConfiguration featuresConfiguration, ProjectApi projectApi)
+    {
+        this(featuresConfiguration, projectApi, null);
     }
 
     @GET
@@ -158,8 +166,14 @@ public class ProjectsResource extends BaseResource
     {
         executeWithLogging(
             "deleting project " + projectId,
-            this.projectApi::deleteProject,
-            projectId
+            () ->
+            {
+                this.projectApi.deleteProject(projectId);
+                if (this.dependenciesApi != null)
+                {
+                    this.dependenciesApi.projectDeleted(projectId);
+                }
+            }
         );
     }
 
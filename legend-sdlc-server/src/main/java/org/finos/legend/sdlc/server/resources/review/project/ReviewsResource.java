@@ -24,6 +24,7 @@ import org.finos.legend.sdlc.domain.model.review.ReviewState;
 import org.finos.legend.sdlc.server.application.review.CommitReviewCommand;
 import org.finos.legend.sdlc.server.application.review.CreateReviewCommand;
 import org.finos.legend.sdlc.server.application.review.EditReviewCommand;
+import org.finos.legend.sdlc.backend.api.dependency.DependenciesApi;
 import org.finos.legend.sdlc.backend.api.review.ReviewApi;
 import org.finos.legend.sdlc.backend.api.review.ReviewApi.ReviewUpdateStatus;
 import org.finos.legend.sdlc.server.error.LegendSDLCServerException;
@@ -52,11 +53,18 @@ import javax.ws.rs.core.MediaType;
 public class ReviewsResource extends ReviewFilterResource
 {
     private final ReviewApi reviewApi;
+    private final DependenciesApi dependenciesApi;
 
     @Inject
-    public ReviewsResource(ReviewApi reviewApi)
+    public ReviewsResource(ReviewApi reviewApi, DependenciesApi dependenciesApi)
     {
         this.reviewApi = reviewApi;
+        this.dependenciesApi = dependenciesApi;
+    }
+
+    public ReviewsResource(ReviewApi reviewApi)
+    {
+        this(reviewApi, null);
     }
 
     @GET
@@ -195,7 +203,15 @@ public class ReviewsResource extends ReviewFilterResource
         LegendSDLCServerException.validateNonNull(command, "Input required to commit review");
         return executeWithLogging(
                 "committing review " + reviewId + " for project " + projectId,
-                () -> this.reviewApi.commitReview(projectId, reviewId, command.getMessage())
+                () ->
+                {
+                    Review review = this.reviewApi.commitReview(projectId, reviewId, command.getMessage());
+                    if (this.dependenciesApi != null)
+                    {
+                        this.dependenciesApi.projectRevisionChanged(projectId);
+                    }
+                    return review;
+                }
         );
     }
 
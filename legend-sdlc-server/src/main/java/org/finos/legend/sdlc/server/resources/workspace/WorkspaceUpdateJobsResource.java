@@ -0,0 +1,57 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.sdlc.server.resources.workspace;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import org.finos.legend.sdlc.backend.api.workspace.WorkspaceApi;
+import org.finos.legend.sdlc.server.resources.BaseResource;
+
+import javax.inject.Inject;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+@Path("/projects/{projectId}/workspaceUpdateJobs")
+@Api("Workspaces")
+@Consumes(MediaType.APPLICATION_JSON)
+@Produces(MediaType.APPLICATION_JSON)
+public class WorkspaceUpdateJobsResource extends BaseResource
+{
+    private final WorkspaceApi workspaceApi;
+
+    @Inject
+    public WorkspaceUpdateJobsResource(WorkspaceApi workspaceApi)
+    {
+        this.workspaceApi = workspaceApi;
+    }
+
+    @GET
+    @Path("{jobId}")
+    @ApiOperation("Get the status of a workspace update job")
+    public WorkspaceApi.WorkspaceUpdateJob getWorkspaceUpdateJob(@PathParam("projectId") String projectId, @PathParam("jobId") String jobId)
+    {
+        return executeWithLogging(
+                "getting workspace update job " + jobId + " for project " + projectId,
+                this.workspaceApi::getWorkspaceUpdateJob,
+                projectId,
+                jobId
+        );
+    }
+}
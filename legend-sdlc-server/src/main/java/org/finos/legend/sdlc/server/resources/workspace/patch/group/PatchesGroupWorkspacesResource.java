@@ -40,6 +40,8 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -188,8 +190,8 @@ public class PatchesGroupWorkspacesResource extends BaseResource
 
     @POST
     @Path("{workspaceId}/update")
-    @ApiOperation("Update a group workspace for patch release version")
-    public WorkspaceApi.WorkspaceUpdateReport updateGroupWorkspace(@PathParam("projectId") String projectId, @PathParam("patchReleaseVersionId") String patchReleaseVersionId, @PathParam("workspaceId") String workspaceId)
+    @ApiOperation(value = "Update a group workspace for patch release version", response = WorkspaceApi.WorkspaceUpdateReport.class)
+    public void updateGroupWorkspace(@PathParam("projectId") String projectId, @PathParam("patchReleaseVersionId") String patchReleaseVersionId, @PathParam("workspaceId") String workspaceId, @Suspended AsyncResponse asyncResponse)
     {
         LegendSDLCServerException.validateNonNull(patchReleaseVersionId, "patchReleaseVersionId may not be null");
         VersionId versionId;
@@ -201,9 +203,31 @@ public class PatchesGroupWorkspacesResource extends BaseResource
         {
             throw new LegendSDLCServerException(e.getMessage(), Response.Status.BAD_REQUEST, e);
         }
-        return executeWithLogging(
+        executeAsyncWithLogging(
                 "updating user workspace " + workspaceId + " in project " + projectId + " for patch release version " + patchReleaseVersionId + " to latest revision",
-                () -> this.workspaceApi.updateWorkspace(projectId, SourceSpecification.workspaceSourceSpecification(WorkspaceSpecification.newWorkspaceSpecification(workspaceId, WorkspaceType.GROUP, WorkspaceSource.patchWorkspaceSource(versionId))))
+                asyncResponse,
+                () -> this.workspaceApi.updateWorkspaceAsync(projectId, WorkspaceSpecification.newWorkspaceSpecification(workspaceId, WorkspaceType.GROUP, WorkspaceSource.patchWorkspaceSource(versionId)))
+        );
+    }
+
+    @POST
+    @Path("{workspaceId}/updateJobs")
+    @ApiOperation(value = "Submit a job to update a group workspace for patch release version", notes = "Returns without waiting for the update. The status of the job can be followed at /projects/{projectId}/workspaceUpdateJobs/{jobId}")
+    public WorkspaceApi.WorkspaceUpdateJob submitGroupWorkspaceUpdate(@PathParam("projectId") String projectId, @PathParam("patchReleaseVersionId") String patchReleaseVersionId, @PathParam("workspaceId") String workspaceId)
+    {
+        LegendSDLCServerException.validateNonNull(patchReleaseVersionId, "patchReleaseVersionId may not be null");
+        VersionId versionId;
+        try
+        {
+            versionId = VersionId.parseVersionId(patchReleaseVersionId);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new LegendSDLCServerException(e.getMessage(), Response.Status.BAD_REQUEST, e);
+        }
+        return executeWithLogging(
+                "submitting update of group workspace " + workspaceId + " in project " + projectId + " for patch release version " + patchReleaseVersionId + " to latest revision",
+                () -> this.workspaceApi.submitWorkspaceUpdate(projectId, WorkspaceSpecification.newWorkspaceSpecification(workspaceId, WorkspaceType.GROUP, WorkspaceSource.patchWorkspaceSource(versionId)))
         );
     }
-}
\ No newline at end of file
+}
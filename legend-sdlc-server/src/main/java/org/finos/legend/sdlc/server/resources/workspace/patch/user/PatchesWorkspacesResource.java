@@ -36,6 +36,8 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import java.util.Collections;
@@ -188,8 +190,8 @@ public class PatchesWorkspacesResource extends BaseResource
 
     @POST
     @Path("{workspaceId}/update")
-    @ApiOperation("Update a user workspace for patch release version")
-    public WorkspaceApi.WorkspaceUpdateReport updateUserWorkspace(@PathParam("projectId") String projectId, @PathParam("patchReleaseVersionId") String patchReleaseVersionId, @PathParam("workspaceId") String workspaceId)
+    @ApiOperation(value = "Update a user workspace for patch release version", response = WorkspaceApi.WorkspaceUpdateReport.class)
+    public void updateUserWorkspace(@PathParam("projectId") String projectId, @PathParam("patchReleaseVersionId") String patchReleaseVersionId, @PathParam("workspaceId") String workspaceId, @Suspended AsyncResponse asyncResponse)
     {
         LegendSDLCServerException.validateNonNull(patchReleaseVersionId, "patchReleaseVersionId may not be null");
         VersionId versionId;
@@ -201,9 +203,31 @@ public class PatchesWorkspacesResource extends BaseResource
         {
             throw new LegendSDLCServerException(e.getMessage(), Response.Status.BAD_REQUEST, e);
         }
-        return executeWithLogging(
+        executeAsyncWithLogging(
                 "updating user workspace " + workspaceId + " in project " + projectId + " to latest revision",
-                () -> this.workspaceApi.updateWorkspace(projectId, WorkspaceSpecification.newWorkspaceSpecification(workspaceId, WorkspaceType.USER, WorkspaceSource.patchWorkspaceSource(versionId)))
+                asyncResponse,
+                () -> this.workspaceApi.updateWorkspaceAsync(projectId, WorkspaceSpecification.newWorkspaceSpecification(workspaceId, WorkspaceType.USER, WorkspaceSource.patchWorkspaceSource(versionId)))
+        );
+    }
+
+    @POST
+    @Path("{workspaceId}/updateJobs")
+    @ApiOperation(value = "Submit a job to update a user workspace for patch release version", notes = "Returns without waiting for the update. The status of the job can be followed at /projects/{projectId}/workspaceUpdateJobs/{jobId}")
+    public WorkspaceApi.WorkspaceUpdateJob submitUserWorkspaceUpdate(@PathParam("projectId") String projectId, @PathParam("patchReleaseVersionId") String patchReleaseVersionId, @PathParam("workspaceId") String workspaceId)
+    {
+        LegendSDLCServerException.validateNonNull(patchReleaseVersionId, "patchReleaseVersionId may not be null");
+        VersionId versionId;
+        try
+        {
+            versionId = VersionId.parseVersionId(patchReleaseVersionId);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new LegendSDLCServerException(e.getMessage(), Response.Status.BAD_REQUEST, e);
+        }
+        return executeWithLogging(
+                "submitting update of user workspace " + workspaceId + " in project " + projectId + " for patch release version " + patchReleaseVersionId + " to latest revision",
+                () -> this.workspaceApi.submitWorkspaceUpdate(projectId, WorkspaceSpecification.newWorkspaceSpecification(workspaceId, WorkspaceType.USER, WorkspaceSource.patchWorkspaceSource(versionId)))
         );
     }
 }
@@ -18,7 +18,9 @@ import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import org.finos.legend.sdlc.domain.model.project.workspace.Workspace;
+import org.finos.legend.sdlc.domain.model.project.workspace.WorkspaceType;
 import org.finos.legend.sdlc.backend.api.workspace.WorkspaceApi;
+import org.finos.legend.sdlc.project.workspace.WorkspaceSpecification;
 import org.finos.legend.sdlc.server.resources.BaseResource;
 
 import java.util.List;
@@ -32,6 +34,8 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 @Path("/projects/{projectId}/groupWorkspaces")
@@ -129,12 +133,24 @@ public class GroupWorkspacesResource extends BaseResource
 
     @POST
     @Path("{workspaceId}/update")
-    @ApiOperation("Update a group workspace")
-    public WorkspaceApi.WorkspaceUpdateReport updateGroupWorkspace(@PathParam("projectId") String projectId, @PathParam("workspaceId") String workspaceId)
+    @ApiOperation(value = "Update a group workspace", response = WorkspaceApi.WorkspaceUpdateReport.class)
+    public void updateGroupWorkspace(@PathParam("projectId") String projectId, @PathParam("workspaceId") String workspaceId, @Suspended AsyncResponse asyncResponse)
     {
-        return executeWithLogging(
+        executeAsyncWithLogging(
                 "updating group workspace " + workspaceId + " in project " + projectId + " to latest revision",
-                () -> this.workspaceApi.updateGroupWorkspace(projectId, workspaceId)
+                asyncResponse,
+                () -> this.workspaceApi.updateWorkspaceAsync(projectId, WorkspaceSpecification.newWorkspaceSpecification(workspaceId, WorkspaceType.GROUP))
+        );
+    }
+
+    @POST
+    @Path("{workspaceId}/updateJobs")
+    @ApiOperation(value = "Submit a job to update a group workspace", notes = "Returns without waiting for the update. The status of the job can be followed at /projects/{projectId}/workspaceUpdateJobs/{jobId}")
+    public WorkspaceApi.WorkspaceUpdateJob submitGroupWorkspaceUpdate(@PathParam("projectId") String projectId, @PathParam("workspaceId") String workspaceId)
+    {
+        return executeWithLogging(
+                "submitting update of group workspace " + workspaceId + " in project " + projectId + " to latest revision",
+                () -> this.workspaceApi.submitWorkspaceUpdate(projectId, WorkspaceSpecification.newWorkspaceSpecification(workspaceId, WorkspaceType.GROUP))
         );
     }
-}
\ No newline at end of file
+}
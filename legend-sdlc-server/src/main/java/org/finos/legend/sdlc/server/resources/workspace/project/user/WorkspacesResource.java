@@ -18,7 +18,9 @@ import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import org.finos.legend.sdlc.domain.model.project.workspace.Workspace;
+import org.finos.legend.sdlc.domain.model.project.workspace.WorkspaceType;
 import org.finos.legend.sdlc.backend.api.workspace.WorkspaceApi;
+import org.finos.legend.sdlc.project.workspace.WorkspaceSpecification;
 import org.finos.legend.sdlc.server.resources.BaseResource;
 
 import javax.inject.Inject;
@@ -31,6 +33,8 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 import java.util.List;
 
@@ -130,12 +134,24 @@ public class WorkspacesResource extends BaseResource
 
     @POST
     @Path("{workspaceId}/update")
-    @ApiOperation("Update a user workspace")
-    public WorkspaceApi.WorkspaceUpdateReport updateUserWorkspace(@PathParam("projectId") String projectId, @PathParam("workspaceId") String workspaceId)
+    @ApiOperation(value = "Update a user workspace", response = WorkspaceApi.WorkspaceUpdateReport.class)
+    public void updateUserWorkspace(@PathParam("projectId") String projectId, @PathParam("workspaceId") String workspaceId, @Suspended AsyncResponse asyncResponse)
     {
-        return executeWithLogging(
+        executeAsyncWithLogging(
                 "updating user workspace " + workspaceId + " in project " + projectId + " to latest revision",
-                () -> this.workspaceApi.updateUserWorkspace(projectId, workspaceId)
+                asyncResponse,
+                () -> this.workspaceApi.updateWorkspaceAsync(projectId, WorkspaceSpecification.newWorkspaceSpecification(workspaceId, WorkspaceType.USER))
+        );
+    }
+
+    @POST
+    @Path("{workspaceId}/updateJobs")
+    @ApiOperation(value = "Submit a job to update a user workspace", notes = "Returns without waiting for the update. The status of the job can be followed at /projects/{projectId}/workspaceUpdateJobs/{jobId}")
+    public WorkspaceApi.WorkspaceUpdateJob submitUserWorkspaceUpdate(@PathParam("projectId") String projectId, @PathParam("workspaceId") String workspaceId)
+    {
+        return executeWithLogging(
+                "submitting update of user workspace " + workspaceId + " in project " + projectId + " to latest revision",
+                () -> this.workspaceApi.submitWorkspaceUpdate(projectId, WorkspaceSpecification.newWorkspaceSpecification(workspaceId, WorkspaceType.USER))
         );
     }
 }
@@ -25,4 +25,9 @@ public class BackgroundTaskProcessor extends org.finos.legend.sdlc.backend.api.t
     {
         super(threadPoolSize);
     }
+
+    public BackgroundTaskProcessor(int threadPoolSize, int maxPendingTasks, long submitTimeoutMillis, Listener listener)
+    {
+        super(threadPoolSize, maxPendingTasks, submitTimeoutMillis, listener);
+    }
 }
@@ -17,6 +17,10 @@ package org.finos.legend.sdlc.server.tools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 public class CallUntil<T, E extends Exception>
@@ -66,6 +70,80 @@ public class CallUntil<T, E extends Exception>
         return this.success;
     }
 
+    /**
+     * Call the supplier until the predicate is satisfied or maxTries is reached, as {@link #callUntil(int, long)}
+     * does, but without blocking: rather than sleeping between tries, each subsequent try is scheduled on the given
+     * executor. The first try is made immediately on the calling thread. The returned future completes with this
+     * CallUntil once it has succeeded or run out of tries, or exceptionally if the supplier throws.
+     *
+     * @param maxTries           maximum number of tries
+     * @param waitIntervalMillis interval between tries in milliseconds
+     * @param scheduler          executor to schedule subsequent tries on
+     * @return future of this CallUntil
+     */
+    public CompletableFuture<CallUntil<T, E>> callUntilAsync(int maxTries, long waitIntervalMillis, ScheduledExecutorService scheduler)
+    {
+        return callUntilAsync(maxTries, waitIntervalMillis, scheduler, scheduler);
+    }
+
+    /**
+     * As {@link #callUntilAsync(int, long, ScheduledExecutorService)}, except that the scheduler is only used to wait
+     * out the interval between tries: the tries themselves are run on the given executor. This keeps the scheduler
+     * free when the supplier blocks.
+     *
+     * @param maxTries           maximum number of tries
+     * @param waitIntervalMillis interval between tries in milliseconds
+     * @param scheduler          executor to schedule subsequent tries on
+     * @param executor           executor to run subsequent tries on
+     * @return future of this CallUntil
+     */
+    public CompletableFuture<CallUntil<T, E>> callUntilAsync(int maxTries, long waitIntervalMillis, ScheduledExecutorService scheduler, Executor executor)
+    {
+        CompletableFuture<CallUntil<T, E>> future = new CompletableFuture<>();
+        tryAsync(maxTries, waitIntervalMillis, scheduler, executor, future);
+        return future;
+    }
+
+    private void tryAsync(int remainingTries, long waitIntervalMillis, ScheduledExecutorService scheduler, Executor executor, CompletableFuture<CallUntil<T, E>> future)
+    {
+        try
+        {
+            if (!this.success && (remainingTries > 0))
+            {
+                this.tryCount++;
+                T value = this.supplier.get();
+                if (this.predicate.test(value))
+                {
+                    this.result = value;
+                    this.success = true;
+                }
+            }
+            if (this.success || (remainingTries <= 1))
+            {
+                future.complete(this);
+            }
+            else
+            {
+                Runnable nextTry = () -> tryAsync(remainingTries - 1, waitIntervalMillis, scheduler, executor, future);
+                scheduler.schedule(() ->
+                {
+                    try
+                    {
+                        executor.execute(nextTry);
+                    }
+                    catch (Throwable t)
+                    {
+                        future.completeExceptionally(t);
+                    }
+                }, Math.max(0L, waitIntervalMillis), TimeUnit.MILLISECONDS);
+            }
+        }
+        catch (Throwable t)
+        {
+            future.completeExceptionally(t);
+        }
+    }
+
     public int getTryCount()
     {
         return this.tryCount;
@@ -87,4 +165,14 @@ public class CallUntil<T, E extends Exception>
         callUntil.callUntil(maxTries, waitIntervalMillis);
         return callUntil;
     }
+
+    public static <T, E extends Exception> CompletableFuture<CallUntil<T, E>> callUntilAsync(ThrowingSupplier<T, E> supplier, Predicate<? super T> predicate, int maxTries, long waitIntervalMillis, ScheduledExecutorService scheduler)
+    {
+        return new CallUntil<T, E>(supplier, predicate).callUntilAsync(maxTries, waitIntervalMillis, scheduler);
+    }
+
+    public static <T, E extends Exception> CompletableFuture<CallUntil<T, E>> callUntilAsync(ThrowingSupplier<T, E> supplier, Predicate<? super T> predicate, int maxTries, long waitIntervalMillis, ScheduledExecutorService scheduler, Executor executor)
+    {
+        return new CallUntil<T, E>(supplier, predicate).callUntilAsync(maxTries, waitIntervalMillis, scheduler, executor);
+    }
 }
@@ -0,0 +1,183 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.depot.api;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.server.depot.DepotConfiguration;
+import org.finos.legend.sdlc.server.depot.model.DepotProjectId;
+import org.finos.legend.sdlc.server.depot.model.DepotProjectVersion;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class TestCachingMetadataApi
+{
+    private static final DepotProjectId PROJECT_ID = DepotProjectId.newDepotProjectId("org.finos.test", "test-project");
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testReleasedVersionsAreCached()
+    {
+        CountingMetadataApi delegate = new CountingMetadataApi(3);
+        CachingMetadataApi cachingApi = new CachingMetadataApi(delegate, DepotConfiguration.CacheConfiguration.newCacheConfiguration(100, null));
+
+        List<Entity> first = cachingApi.getEntities(PROJECT_ID, "1.0.0");
+        List<Entity> second = cachingApi.getEntities(PROJECT_ID, "1.0.0");
+        Assert.assertEquals(3, first.size());
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, delegate.getCallCount("1.0.0"));
+        Assert.assertEquals(1, cachingApi.getCachedVersionCount());
+        Assert.assertEquals(3, cachingApi.getCachedEntityCount());
+    }
+
+    @Test
+    public void testSnapshotVersionsAreNotCached()
+    {
+        CountingMetadataApi delegate = new CountingMetadataApi(3);
+        CachingMetadataApi cachingApi = new CachingMetadataApi(delegate, DepotConfiguration.CacheConfiguration.newCacheConfiguration(100, null));
+
+        cachingApi.getEntities(PROJECT_ID, "master-SNAPSHOT");
+        cachingApi.getEntities(PROJECT_ID, "master-SNAPSHOT");
+        Assert.assertEquals(2, delegate.getCallCount("master-SNAPSHOT"));
+        Assert.assertEquals(0, cachingApi.getCachedVersionCount());
+    }
+
+    @Test
+    public void testVersionAliasesAreNotCached()
+    {
+        CountingMetadataApi delegate = new CountingMetadataApi(3);
+        CachingMetadataApi cachingApi = new CachingMetadataApi(delegate, DepotConfiguration.CacheConfiguration.newCacheConfiguration(100, null));
+
+        cachingApi.getEntities(PROJECT_ID, "latest");
+        cachingApi.getEntities(PROJECT_ID, "latest");
+        Assert.assertEquals(2, delegate.getCallCount("latest"));
+        Assert.assertEquals(0, cachingApi.getCachedVersionCount());
+    }
+
+    @Test
+    public void testEvictionByEntityCount()
+    {
+        CountingMetadataApi delegate = new CountingMetadataApi(4);
+        CachingMetadataApi cachingApi = new CachingMetadataApi(delegate, DepotConfiguration.CacheConfiguration.newCacheConfiguration(10, null));
+
+        cachingApi.getEntities(PROJECT_ID, "1.0.0");
+        cachingApi.getEntities(PROJECT_ID, "2.0.0");
+        // touch 1.0.0 so 2.0.0 is least recently used
+        cachingApi.getEntities(PROJECT_ID, "1.0.0");
+        cachingApi.getEntities(PROJECT_ID, "3.0.0");
+        Assert.assertEquals(2, cachingApi.getCachedVersionCount());
+        Assert.assertEquals(8, cachingApi.getCachedEntityCount());
+
+        cachingApi.getEntities(PROJECT_ID, "1.0.0");
+        Assert.assertEquals(1, delegate.getCallCount("1.0.0"));
+        cachingApi.getEntities(PROJECT_ID, "2.0.0");
+        Assert.assertEquals(2, delegate.getCallCount("2.0.0"));
+    }
+
+    @Test
+    public void testSpillToDisk() throws Exception
+    {
+        CountingMetadataApi delegate = new CountingMetadataApi(2);
+        String spillDirectory = this.tempFolder.newFolder("spill").getPath();
+        CachingMetadataApi cachingApi = new CachingMetadataApi(delegate, DepotConfiguration.CacheConfiguration.newCacheConfiguration(2, spillDirectory));
+
+        List<Entity> original = cachingApi.getEntities(PROJECT_ID, "1.0.0");
+        // evicts 1.0.0 to disk
+        cachingApi.getEntities(PROJECT_ID, "2.0.0");
+        Assert.assertEquals(1, cachingApi.getCachedVersionCount());
+
+        List<Entity> reloaded = cachingApi.getEntities(PROJECT_ID, "1.0.0");
+        Assert.assertEquals(1, delegate.getCallCount("1.0.0"));
+        Assert.assertEquals(original.size(), reloaded.size());
+        for (int i = 0; i < original.size(); i++)
+        {
+            Assert.assertEquals(original.get(i).getPath(), reloaded.get(i).getPath());
+            Assert.assertEquals(original.get(i).getClassifierPath(), reloaded.get(i).getClassifierPath());
+            Assert.assertEquals(original.get(i).getContent(), reloaded.get(i).getContent());
+        }
+    }
+
+    @Test
+    public void testSpillFilesAreBounded() throws Exception
+    {
+        CountingMetadataApi delegate = new CountingMetadataApi(2);
+        Path spillDirectory = this.tempFolder.newFolder("spill").toPath();
+        CachingMetadataApi cachingApi = new CachingMetadataApi(delegate, DepotConfiguration.CacheConfiguration.newCacheConfiguration(2, spillDirectory.toString(), 1));
+
+        cachingApi.getEntities(PROJECT_ID, "1.0.0");
+        // evicts 1.0.0 to disk
+        cachingApi.getEntities(PROJECT_ID, "2.0.0");
+        // evicts 2.0.0 to disk, which deletes the spill file for 1.0.0
+        cachingApi.getEntities(PROJECT_ID, "3.0.0");
+        Assert.assertEquals(1, cachingApi.getSpillFileCount());
+        try (Stream<Path> files = Files.list(spillDirectory))
+        {
+            Assert.assertEquals(1L, files.count());
+        }
+
+        cachingApi.getEntities(PROJECT_ID, "2.0.0");
+        Assert.assertEquals(1, delegate.getCallCount("2.0.0"));
+        cachingApi.getEntities(PROJECT_ID, "1.0.0");
+        Assert.assertEquals(2, delegate.getCallCount("1.0.0"));
+    }
+
+    private static class CountingMetadataApi implements MetadataApi
+    {
+        private final int entitiesPerVersion;
+        private final MutableMap<String, Integer> callCounts = Maps.mutable.empty();
+
+        private CountingMetadataApi(int entitiesPerVersion)
+        {
+            this.entitiesPerVersion = entitiesPerVersion;
+        }
+
+        int getCallCount(String versionId)
+        {
+            return this.callCounts.getIfAbsentValue(versionId, 0);
+        }
+
+        @Override
+        public List<Entity> getEntities(DepotProjectId projectId, String versionId)
+        {
+            this.callCounts.updateValue(versionId, () -> 0, c -> c + 1);
+            List<Entity> entities = Lists.mutable.empty();
+            for (int i = 0; i < this.entitiesPerVersion; i++)
+            {
+                String name = "Class" + i;
+                entities.add(Entity.newEntity("test::model::" + name, "meta::pure::metamodel::type::Class", Maps.mutable.with("_type", "class", "name", name, "package", "test::model")));
+            }
+            return entities;
+        }
+
+        @Override
+        public Set<DepotProjectVersion> getProjectDependencies(DepotProjectId projectId, String versionId, boolean transitive)
+        {
+            return Collections.emptySet();
+        }
+    }
+}
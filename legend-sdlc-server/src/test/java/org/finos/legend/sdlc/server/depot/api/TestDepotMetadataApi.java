@@ -0,0 +1,189 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.depot.api;
+
+import com.sun.net.httpserver.HttpServer;
+import org.eclipse.collections.api.factory.Sets;
+import org.finos.legend.sdlc.domain.model.entity.Entity;
+import org.finos.legend.sdlc.server.depot.DepotConfiguration;
+import org.finos.legend.sdlc.server.depot.model.DepotProjectId;
+import org.finos.legend.sdlc.server.depot.model.DepotProjectVersion;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+public class TestDepotMetadataApi
+{
+    private static final DepotProjectId PROJECT_ID = DepotProjectId.newDepotProjectId("org.finos.test", "test-project");
+    private static final String ENTITIES_PATH = "/api/projects/org.finos.test/test-project/versions/1.0.0";
+    private static final String DEPENDENCIES_PATH = ENTITIES_PATH + "/projectDependencies";
+
+    private HttpServer server;
+    private DepotMetadataApi metadataApi;
+    private volatile int responseCode;
+    private volatile String responseBody;
+    private volatile String requestPath;
+    private volatile String requestQuery;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/api/projects", exchange ->
+        {
+            this.requestPath = exchange.getRequestURI().getPath();
+            this.requestQuery = exchange.getRequestURI().getQuery();
+            byte[] body = (this.responseBody == null) ? null : this.responseBody.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(this.responseCode, (body == null) ? -1 : body.length);
+            if (body != null)
+            {
+                try (OutputStream stream = exchange.getResponseBody())
+                {
+                    stream.write(body);
+                }
+            }
+            exchange.close();
+        });
+        this.server.start();
+
+        DepotConfiguration.ServerConfiguration serverConfig = DepotConfiguration.ServerConfiguration.newServerConfiguration("http", this.server.getAddress().getHostString(), this.server.getAddress().getPort());
+        this.metadataApi = new DepotMetadataApi(DepotConfiguration.newConfiguration(serverConfig, builder -> builder));
+    }
+
+    @After
+    public void tearDown() throws IOException
+    {
+        if (this.metadataApi != null)
+        {
+            this.metadataApi.close();
+        }
+        if (this.server != null)
+        {
+            this.server.stop(0);
+        }
+    }
+
+    @Test
+    public void testGetEntities()
+    {
+        respond(200, "[" +
+                "{\"path\":\"model::domain::A\",\"classifierPath\":\"meta::pure::metamodel::type::Class\",\"content\":{\"_type\":\"class\",\"name\":\"A\",\"package\":\"model::domain\"}}," +
+                "{\"path\":\"model::domain::B\",\"classifierPath\":\"meta::pure::metamodel::type::Enumeration\",\"content\":{\"_type\":\"Enumeration\",\"name\":\"B\",\"package\":\"model::domain\"}}" +
+                "]");
+
+        List<Entity> entities = this.metadataApi.getEntities(PROJECT_ID, "1.0.0");
+        Assert.assertEquals(ENTITIES_PATH, this.requestPath);
+        Assert.assertEquals(2, entities.size());
+        Assert.assertEquals("model::domain::A", entities.get(0).getPath());
+        Assert.assertEquals("meta::pure::metamodel::type::Class", entities.get(0).getClassifierPath());
+        Assert.assertEquals("A", entities.get(0).getContent().get("name"));
+        Assert.assertEquals("model::domain::B", entities.get(1).getPath());
+        Assert.assertEquals("meta::pure::metamodel::type::Enumeration", entities.get(1).getClassifierPath());
+        Assert.assertEquals("B", entities.get(1).getContent().get("name"));
+    }
+
+    @Test
+    public void testGetEmptyEntities()
+    {
+        respond(200, "[]");
+        Assert.assertEquals(Collections.emptyList(), this.metadataApi.getEntities(PROJECT_ID, "1.0.0"));
+    }
+
+    @Test
+    public void testGetProjectDependencies()
+    {
+        respond(200, "[" +
+                "{\"groupId\":\"org.finos.test\",\"artifactId\":\"dep-one\",\"versionId\":\"2.0.0\"}," +
+                "{\"groupId\":\"org.finos.test\",\"artifactId\":\"dep-two\",\"versionId\":\"3.1.0\"}" +
+                "]");
+
+        Assert.assertEquals(
+                Sets.mutable.with(DepotProjectVersion.newDepotProjectVersion("org.finos.test", "dep-one", "2.0.0"), DepotProjectVersion.newDepotProjectVersion("org.finos.test", "dep-two", "3.1.0")),
+                this.metadataApi.getProjectDependencies(PROJECT_ID, "1.0.0", true));
+        Assert.assertEquals(DEPENDENCIES_PATH, this.requestPath);
+        Assert.assertEquals("transitive=true", this.requestQuery);
+
+        respond(200, "[]");
+        Assert.assertEquals(Collections.emptySet(), this.metadataApi.getProjectDependencies(PROJECT_ID, "1.0.0", false));
+        Assert.assertEquals("transitive=false", this.requestQuery);
+    }
+
+    @Test
+    public void testNoContent()
+    {
+        respond(204, null);
+        DepotServerException entitiesException = Assert.assertThrows(DepotServerException.class, () -> this.metadataApi.getEntities(PROJECT_ID, "1.0.0"));
+        assertMessageContains("Failed to process response: no content", entitiesException);
+
+        DepotServerException dependenciesException = Assert.assertThrows(DepotServerException.class, () -> this.metadataApi.getProjectDependencies(PROJECT_ID, "1.0.0", false));
+        assertMessageContains("Failed to process response: no content", dependenciesException);
+    }
+
+    @Test
+    public void testMalformedResponse()
+    {
+        respond(200, "[{\"path\":\"model::domain::A\",");
+        DepotServerException e = Assert.assertThrows(DepotServerException.class, () -> this.metadataApi.getEntities(PROJECT_ID, "1.0.0"));
+        assertMessageContains("Failed to process response", e);
+    }
+
+    @Test
+    public void testErrorStatus()
+    {
+        respond(500, "something went wrong");
+        DepotServerException e = Assert.assertThrows(DepotServerException.class, () -> this.metadataApi.getEntities(PROJECT_ID, "1.0.0"));
+        assertMessageContains("Server responded with code 500. Response received: something went wrong", e);
+
+        respond(404, null);
+        e = Assert.assertThrows(DepotServerException.class, () -> this.metadataApi.getProjectDependencies(PROJECT_ID, "1.0.0", false));
+        assertMessageContains("Server responded with code 404", e);
+    }
+
+    @Test
+    public void testAuthenticationFailure()
+    {
+        respond(401, "unauthorized");
+        DepotServerException e = Assert.assertThrows(DepotServerException.class, () -> this.metadataApi.getEntities(PROJECT_ID, "1.0.0"));
+        assertMessageContains("Authentication failed. Server responded with code 401", e);
+
+        respond(403, "forbidden");
+        e = Assert.assertThrows(DepotServerException.class, () -> this.metadataApi.getProjectDependencies(PROJECT_ID, "1.0.0", true));
+        assertMessageContains("Authentication failed. Server responded with code 403", e);
+    }
+
+    private void respond(int code, String body)
+    {
+        this.responseCode = code;
+        this.responseBody = body;
+    }
+
+    private static void assertMessageContains(String expected, Throwable t)
+    {
+        String message = t.getMessage();
+        if ((message == null) || !message.contains(expected))
+        {
+            Assert.fail("Expected message containing \"" + expected + "\", got: " + message);
+        }
+    }
+}
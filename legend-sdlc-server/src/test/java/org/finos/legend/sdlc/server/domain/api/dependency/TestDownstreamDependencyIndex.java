@@ -0,0 +1,247 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.domain.api.dependency;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.finos.legend.sdlc.backend.api.dependency.DownstreamDependencyIndex;
+import org.finos.legend.sdlc.backend.api.dependency.ProjectRevision;
+import org.finos.legend.sdlc.backend.api.project.ProjectApi;
+import org.finos.legend.sdlc.domain.model.project.Project;
+import org.finos.legend.sdlc.error.LegendSDLCException;
+import org.finos.legend.sdlc.server.inmemory.backend.InMemoryBackend;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+public class TestDownstreamDependencyIndex
+{
+    private InMemoryBackend backend;
+
+    @Before
+    public void setup()
+    {
+        this.backend = new InMemoryBackend();
+        this.backend.project("A").addVersionedClasses("1.0.0", "a1");
+        this.backend.project("B").addVersionedClasses("1.0.0", "b1");
+        this.backend.project("C").addVersionedClasses("1.0.0", "c1");
+        this.backend.project("D").addVersionedClasses("1.0.0", "d1");
+
+        this.backend.project("B").addDependency("A:1.0.0");
+        this.backend.project("C").addDependency("A:1.0.0");
+        this.backend.project("D").addDependency("B:1.0.0");
+    }
+
+    @Test
+    public void testIndexMatchesScan()
+    {
+        DownstreamDependencyIndex index = new DownstreamDependencyIndex();
+        refresh(index);
+        DependenciesApiImpl scanningApi = newDependenciesApi(null);
+        DependenciesApiImpl indexedApi = newDependenciesApi(index);
+
+        for (String projectId : new String[]{"A", "B", "C", "D"})
+        {
+            Assert.assertEquals(projectId, scanningApi.getDownstreamProjects(projectId), indexedApi.getDownstreamProjects(projectId));
+        }
+        Assert.assertEquals(Sets.mutable.with("B:rev~2", "C:rev~2"), toStrings(indexedApi.getDownstreamProjects("A")));
+        Assert.assertEquals(Sets.mutable.with("D:rev~2"), toStrings(indexedApi.getDownstreamProjects("B")));
+    }
+
+    @Test
+    public void testUnbuiltIndexFallsBackToScan()
+    {
+        DownstreamDependencyIndex index = new DownstreamDependencyIndex();
+        DependenciesApiImpl dependenciesApi = newDependenciesApi(index);
+
+        // reads never build the index
+        Assert.assertEquals(Sets.mutable.with("B:rev~2", "C:rev~2"), toStrings(dependenciesApi.getDownstreamProjects("A")));
+        Assert.assertFalse(index.isBuilt());
+        Assert.assertEquals(Collections.emptySet(), index.getDownstreamProjects("A"));
+
+        this.backend.project("D").addDependency("A:1.0.0");
+        dependenciesApi.projectRevisionChanged("D");
+        Assert.assertFalse(index.isBuilt());
+        Assert.assertEquals(Collections.emptySet(), index.getDownstreamProjects("A"));
+        Assert.assertEquals(Sets.mutable.with("B:rev~2", "C:rev~2", "D:rev~3"), toStrings(dependenciesApi.getDownstreamProjects("A")));
+    }
+
+    @Test
+    public void testReadsDoNotRefresh()
+    {
+        DownstreamDependencyIndex index = new DownstreamDependencyIndex(1L);
+        refresh(index);
+        DependenciesApiImpl dependenciesApi = newDependenciesApi(index);
+
+        Assert.assertEquals(Sets.mutable.with("B:rev~2", "C:rev~2"), toStrings(dependenciesApi.getDownstreamProjects("A")));
+        Assert.assertTrue(index.isBuilt());
+
+        // even once stale, lookups are served from the index until it is refreshed
+        this.backend.project("D").addDependency("A:1.0.0");
+        index.invalidate();
+        Assert.assertTrue(index.isStale());
+        Assert.assertEquals(Sets.mutable.with("B:rev~2", "C:rev~2"), toStrings(dependenciesApi.getDownstreamProjects("A")));
+
+        refresh(index);
+        Assert.assertEquals(Sets.mutable.with("B:rev~2", "C:rev~2", "D:rev~3"), toStrings(dependenciesApi.getDownstreamProjects("A")));
+        Assert.assertEquals(Sets.mutable.with("D:rev~3"), toStrings(dependenciesApi.getDownstreamProjects("B")));
+    }
+
+    @Test
+    public void testBackgroundRefresh() throws InterruptedException
+    {
+        try (DownstreamDependencyIndex index = new DownstreamDependencyIndex(TimeUnit.HOURS.toMillis(1)))
+        {
+            index.startBackgroundRefresh(this.backend.getProjectApi(), this.backend.getProjectConfigurationApi(), this.backend.getRevisionApi());
+            Assert.assertThrows(IllegalStateException.class, () -> index.startBackgroundRefresh(this.backend.getProjectApi(), this.backend.getProjectConfigurationApi(), this.backend.getRevisionApi()));
+            waitFor(index::isBuilt);
+            DependenciesApiImpl dependenciesApi = newDependenciesApi(index);
+            Assert.assertEquals(Sets.mutable.with("B:rev~2", "C:rev~2"), toStrings(dependenciesApi.getDownstreamProjects("A")));
+
+            // invalidating requests an immediate background refresh
+            this.backend.project("D").addDependency("A:1.0.0");
+            index.invalidate();
+            waitFor(() -> toStrings(index.getDownstreamProjects("A")).contains("D:rev~3"));
+            Assert.assertEquals(Sets.mutable.with("B:rev~2", "C:rev~2", "D:rev~3"), toStrings(dependenciesApi.getDownstreamProjects("A")));
+        }
+    }
+
+    @Test
+    public void testUpdateAndRemove()
+    {
+        DownstreamDependencyIndex index = new DownstreamDependencyIndex(TimeUnit.HOURS.toMillis(1));
+        refresh(index);
+        DependenciesApiImpl dependenciesApi = newDependenciesApi(index);
+        Assert.assertEquals(Sets.mutable.with("B:rev~2", "C:rev~2"), toStrings(dependenciesApi.getDownstreamProjects("A")));
+
+        // C drops its dependency on A
+        index.update("C", "rev~3", null);
+        Assert.assertEquals(Sets.mutable.with("B:rev~2"), toStrings(index.getDownstreamProjects("A")));
+
+        index.remove("B");
+        Assert.assertEquals(Collections.emptySet(), index.getDownstreamProjects("A"));
+        Assert.assertEquals(Collections.emptySet(), index.getDownstreamProjects("B"));
+    }
+
+    @Test
+    public void testProjectRevisionChanged()
+    {
+        DownstreamDependencyIndex index = new DownstreamDependencyIndex(TimeUnit.HOURS.toMillis(1));
+        refresh(index);
+        DependenciesApiImpl dependenciesApi = newDependenciesApi(index);
+        Assert.assertEquals(Sets.mutable.with("B:rev~2", "C:rev~2"), toStrings(dependenciesApi.getDownstreamProjects("A")));
+
+        this.backend.project("D").addDependency("A:1.0.0");
+        dependenciesApi.projectRevisionChanged("D");
+        Assert.assertFalse(index.isStale());
+        Assert.assertEquals(Sets.mutable.with("B:rev~2", "C:rev~2", "D:rev~3"), toStrings(dependenciesApi.getDownstreamProjects("A")));
+
+        dependenciesApi.projectDeleted("B");
+        Assert.assertEquals(Sets.mutable.with("C:rev~2", "D:rev~3"), toStrings(dependenciesApi.getDownstreamProjects("A")));
+    }
+
+    @Test
+    public void testResultsFilteredByAccess()
+    {
+        DownstreamDependencyIndex index = new DownstreamDependencyIndex();
+        refresh(index);
+        AtomicInteger getProjectCalls = new AtomicInteger();
+        DependenciesApiImpl fullAccessApi = newDependenciesApi(index);
+        DependenciesApiImpl restrictedApi = newDependenciesApi(index, newRestrictedProjectApi("C", getProjectCalls));
+
+        Assert.assertEquals(Sets.mutable.with("B:rev~2", "C:rev~2"), toStrings(fullAccessApi.getDownstreamProjects("A")));
+
+        // a caller who cannot see C does not get it, and it is still there for others
+        Assert.assertEquals(Sets.mutable.with("B:rev~2"), toStrings(restrictedApi.getDownstreamProjects("A")));
+        Assert.assertEquals(Sets.mutable.with("B:rev~2", "C:rev~2"), toStrings(index.getDownstreamProjects("A")));
+        Assert.assertEquals(Sets.mutable.with("B:rev~2", "C:rev~2"), toStrings(fullAccessApi.getDownstreamProjects("A")));
+
+        // access is checked against a single listing, not project by project
+        Assert.assertEquals(0, getProjectCalls.get());
+    }
+
+    private void refresh(DownstreamDependencyIndex index)
+    {
+        index.refresh(this.backend.getProjectApi(), this.backend.getProjectConfigurationApi(), this.backend.getRevisionApi());
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (!condition.getAsBoolean())
+        {
+            if (System.currentTimeMillis() > deadline)
+            {
+                Assert.fail("Timed out waiting for background refresh");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private DependenciesApiImpl newDependenciesApi(DownstreamDependencyIndex index)
+    {
+        return newDependenciesApi(index, this.backend.getProjectApi());
+    }
+
+    private DependenciesApiImpl newDependenciesApi(DownstreamDependencyIndex index, ProjectApi projectApi)
+    {
+        return new DependenciesApiImpl(projectApi, this.backend.getProjectConfigurationApi(), this.backend.getRevisionApi(), index);
+    }
+
+    private ProjectApi newRestrictedProjectApi(String hiddenProjectId, AtomicInteger getProjectCalls)
+    {
+        ProjectApi projectApi = this.backend.getProjectApi();
+        return (ProjectApi) Proxy.newProxyInstance(ProjectApi.class.getClassLoader(), new Class<?>[]{ProjectApi.class}, (proxy, method, args) ->
+        {
+            if ("getProject".equals(method.getName()))
+            {
+                getProjectCalls.incrementAndGet();
+            }
+            if ("getProject".equals(method.getName()) && hiddenProjectId.equals(args[0]))
+            {
+                throw new LegendSDLCException("Unknown project: " + hiddenProjectId, 404);
+            }
+            Object result;
+            try
+            {
+                result = method.invoke(projectApi, args);
+            }
+            catch (InvocationTargetException e)
+            {
+                throw e.getCause();
+            }
+            if ("getProjects".equals(method.getName()))
+            {
+                return ListIterate.reject((List<Project>) result, p -> hiddenProjectId.equals(p.getProjectId()));
+            }
+            return result;
+        });
+    }
+
+    private static Set<String> toStrings(Set<ProjectRevision> projectRevisions)
+    {
+        return Iterate.collect(projectRevisions, ProjectRevision::toProjectRevisionString, Sets.mutable.empty());
+    }
+}
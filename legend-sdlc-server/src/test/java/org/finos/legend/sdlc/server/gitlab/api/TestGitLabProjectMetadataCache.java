@@ -0,0 +1,178 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.sdlc.server.gitlab.api;
+
+import org.finos.legend.sdlc.server.gitlab.GitLabProjectId;
+import org.gitlab4j.api.models.Project;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TestGitLabProjectMetadataCache
+{
+    private static final GitLabProjectId PROJECT_ID = GitLabProjectId.newProjectId("TEST", 1L);
+    private static final GitLabProjectId OTHER_PROJECT_ID = GitLabProjectId.newProjectId("TEST", 2L);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    public void testLoadedOnceWithinTtl() throws Exception
+    {
+        GitLabProjectMetadataCache cache = new GitLabProjectMetadataCache(60L, 100, this.nanoTime::get);
+
+        GitLabProjectMetadataCache.ProjectMetadata metadata1 = cache.getIfAbsentLoad(PROJECT_ID, () -> load(1L, "main"));
+        this.nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        GitLabProjectMetadataCache.ProjectMetadata metadata2 = cache.getIfAbsentLoad(PROJECT_ID, () -> load(1L, "main"));
+        Assert.assertSame(metadata1, metadata2);
+        Assert.assertEquals(1, this.loadCount.get());
+        Assert.assertEquals("main", metadata1.getDefaultBranch());
+        Assert.assertEquals(Arrays.asList("legend", "finance"), metadata1.getTagList());
+
+        // expired
+        this.nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        GitLabProjectMetadataCache.ProjectMetadata metadata3 = cache.getIfAbsentLoad(PROJECT_ID, () -> load(1L, "develop"));
+        Assert.assertNotSame(metadata1, metadata3);
+        Assert.assertEquals("develop", metadata3.getDefaultBranch());
+        Assert.assertEquals(2, this.loadCount.get());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testInvalidate() throws Exception
+    {
+        GitLabProjectMetadataCache cache = new GitLabProjectMetadataCache(60L, 100, this.nanoTime::get);
+        cache.getIfAbsentLoad(PROJECT_ID, () -> load(1L, "main"));
+        cache.getIfAbsentLoad(OTHER_PROJECT_ID, () -> load(2L, "main"));
+        Assert.assertEquals(2, cache.size());
+
+        cache.invalidate(PROJECT_ID);
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals("develop", cache.getIfAbsentLoad(PROJECT_ID, () -> load(1L, "develop")).getDefaultBranch());
+        Assert.assertEquals("main", cache.getIfAbsentLoad(OTHER_PROJECT_ID, () -> load(2L, "develop")).getDefaultBranch());
+        Assert.assertEquals(3, this.loadCount.get());
+    }
+
+    @Test
+    public void testPutReplacesEntry() throws Exception
+    {
+        GitLabProjectMetadataCache cache = new GitLabProjectMetadataCache(60L, 100, this.nanoTime::get);
+        cache.getIfAbsentLoad(PROJECT_ID, () -> load(1L, "main"));
+        cache.put(PROJECT_ID, new Project().withId(1L).withDefaultBranch("develop"));
+        Assert.assertEquals("develop", cache.getIfAbsentLoad(PROJECT_ID, () -> load(1L, "other")).getDefaultBranch());
+        Assert.assertEquals(1, this.loadCount.get());
+    }
+
+    @Test
+    public void testFailureNotCached()
+    {
+        GitLabProjectMetadataCache cache = new GitLabProjectMetadataCache(60L, 100, this.nanoTime::get);
+        IllegalStateException e = Assert.assertThrows(IllegalStateException.class, () -> cache.getIfAbsentLoad(PROJECT_ID, () ->
+        {
+            throw new IllegalStateException("GitLab unavailable");
+        }));
+        Assert.assertEquals("GitLab unavailable", e.getMessage());
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testWaiterLoadsWithOwnCredentialsAfterFailure() throws Exception
+    {
+        GitLabProjectMetadataCache cache = new GitLabProjectMetadataCache(60L, 100, this.nanoTime::get);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch fail = new CountDownLatch(1);
+        AtomicReference<Exception> loaderException = new AtomicReference<>();
+        Thread loaderThread = new Thread(() ->
+        {
+            try
+            {
+                cache.getIfAbsentLoad(PROJECT_ID, () ->
+                {
+                    loading.countDown();
+                    fail.await();
+                    throw new IllegalStateException("403 Forbidden");
+                });
+            }
+            catch (Exception e)
+            {
+                loaderException.set(e);
+            }
+        });
+        loaderThread.start();
+        Assert.assertTrue(loading.await(10, TimeUnit.SECONDS));
+
+        AtomicReference<GitLabProjectMetadataCache.ProjectMetadata> waiterResult = new AtomicReference<>();
+        Thread waiterThread = new Thread(() ->
+        {
+            try
+            {
+                waiterResult.set(cache.getIfAbsentLoad(PROJECT_ID, () -> load(1L, "main")));
+            }
+            catch (Exception e)
+            {
+                throw new RuntimeException(e);
+            }
+        });
+        waiterThread.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while ((waiterThread.getState() != Thread.State.WAITING) && (System.nanoTime() < deadline))
+        {
+            Thread.sleep(1);
+        }
+
+        fail.countDown();
+        loaderThread.join(10_000);
+        waiterThread.join(10_000);
+        Assert.assertEquals("403 Forbidden", loaderException.get().getMessage());
+        Assert.assertNotNull(waiterResult.get());
+        Assert.assertEquals("main", waiterResult.get().getDefaultBranch());
+        Assert.assertEquals(1, this.loadCount.get());
+    }
+
+    @Test
+    public void testMaxEntries() throws Exception
+    {
+        GitLabProjectMetadataCache cache = new GitLabProjectMetadataCache(60L, 1, this.nanoTime::get);
+        cache.getIfAbsentLoad(PROJECT_ID, () -> load(1L, "main"));
+        cache.getIfAbsentLoad(OTHER_PROJECT_ID, () -> load(2L, "main"));
+        Assert.assertEquals(1, cache.size());
+        cache.getIfAbsentLoad(OTHER_PROJECT_ID, () -> load(2L, "main"));
+        Assert.assertEquals(2, this.loadCount.get());
+    }
+
+    @Test
+    public void testDisabled() throws Exception
+    {
+        GitLabProjectMetadataCache cache = new GitLabProjectMetadataCache(0L, 100, this.nanoTime::get);
+        Assert.assertFalse(cache.isEnabled());
+        cache.getIfAbsentLoad(PROJECT_ID, () -> load(1L, "main"));
+        cache.getIfAbsentLoad(PROJECT_ID, () -> load(1L, "main"));
+        Assert.assertEquals(2, this.loadCount.get());
+        Assert.assertEquals(0, cache.size());
+    }
+
+    private Project load(long id, String defaultBranch)
+    {
+        this.loadCount.incrementAndGet();
+        return new Project().withId(id).withDefaultBranch(defaultBranch).withTagList(Arrays.asList("legend", "finance"));
+    }
+}
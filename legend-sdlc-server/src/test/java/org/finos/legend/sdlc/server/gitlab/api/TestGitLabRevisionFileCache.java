@@ -0,0 +1,177 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.sdlc.server.gitlab.api;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.sdlc.project.files.ProjectFileAccessProvider;
+import org.finos.legend.sdlc.server.gitlab.GitLabProjectId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+public class TestGitLabRevisionFileCache
+{
+    private static final GitLabProjectId PROJECT_ID = GitLabProjectId.newProjectId("TEST", 1L);
+    private static final GitLabProjectId OTHER_PROJECT_ID = GitLabProjectId.newProjectId("TEST", 2L);
+
+    @Test
+    public void testLoadedOnce() throws Exception
+    {
+        GitLabRevisionFileCache cache = new GitLabRevisionFileCache(1024L * 1024L);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        GitLabRevisionFileCache.RevisionFiles files1 = cache.getIfAbsentLoad(PROJECT_ID, "abc", () ->
+        {
+            loadCount.incrementAndGet();
+            return files("/entities/a.json", "a", "/project.json", "p");
+        });
+        GitLabRevisionFileCache.RevisionFiles files2 = cache.getIfAbsentLoad(PROJECT_ID, "abc", () ->
+        {
+            loadCount.incrementAndGet();
+            return files("/entities/a.json", "a", "/project.json", "p");
+        });
+        Assert.assertSame(files1, files2);
+        Assert.assertEquals(1, loadCount.get());
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals(files1.getWeight(), cache.getCurrentBytes());
+
+        Assert.assertEquals(
+                Lists.fixedSize.with("/entities/a.json"),
+                files1.getFilesInCanonicalDirectories(Lists.mutable.with("/entities")).map(ProjectFileAccessProvider.ProjectFile::getPath).collect(Collectors.toList()));
+        Assert.assertEquals("a", new String(files1.getFileContent("/entities/a.json"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() throws Exception
+    {
+        long oneEntryWeight = GitLabRevisionFileCache.getFileWeight("/a.json", new byte[100]);
+        GitLabRevisionFileCache cache = new GitLabRevisionFileCache(2 * oneEntryWeight);
+
+        cache.getIfAbsentLoad(PROJECT_ID, "c1", () -> files("/a.json", new String(new byte[100], StandardCharsets.UTF_8)));
+        cache.getIfAbsentLoad(PROJECT_ID, "c2", () -> files("/a.json", new String(new byte[100], StandardCharsets.UTF_8)));
+        Assert.assertEquals(2, cache.size());
+
+        // touch c1 so that c2 becomes the least recently used
+        Assert.assertNotNull(cache.get(PROJECT_ID, "c1"));
+        cache.getIfAbsentLoad(PROJECT_ID, "c3", () -> files("/a.json", new String(new byte[100], StandardCharsets.UTF_8)));
+        Assert.assertEquals(2, cache.size());
+        Assert.assertNotNull(cache.get(PROJECT_ID, "c1"));
+        Assert.assertNull(cache.get(PROJECT_ID, "c2"));
+        Assert.assertNotNull(cache.get(PROJECT_ID, "c3"));
+        Assert.assertTrue(cache.getCurrentBytes() <= cache.getMaxBytes());
+    }
+
+    @Test
+    public void testTooLargeNotCached() throws Exception
+    {
+        GitLabRevisionFileCache cache = new GitLabRevisionFileCache(10L);
+        GitLabRevisionFileCache.RevisionFiles files = cache.getIfAbsentLoad(PROJECT_ID, "abc", () -> files("/a.json", "some content"));
+        Assert.assertNotNull(files);
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(0L, cache.getCurrentBytes());
+
+        Assert.assertNull(cache.getIfAbsentLoad(PROJECT_ID, "def", () -> null));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testTooLargeRemembered() throws Exception
+    {
+        GitLabRevisionFileCache cache = new GitLabRevisionFileCache(1024L);
+        AtomicInteger loadCount = new AtomicInteger();
+        Assert.assertFalse(cache.isTooLarge(PROJECT_ID, "abc"));
+        Assert.assertNull(cache.getIfAbsentLoad(PROJECT_ID, "abc", () ->
+        {
+            loadCount.incrementAndGet();
+            return null;
+        }));
+        Assert.assertTrue(cache.isTooLarge(PROJECT_ID, "abc"));
+        Assert.assertFalse(cache.isTooLarge(OTHER_PROJECT_ID, "abc"));
+
+        // the commit is not loaded again
+        Assert.assertNull(cache.getIfAbsentLoad(PROJECT_ID, "abc", () ->
+        {
+            loadCount.incrementAndGet();
+            return files("/a.json", "a");
+        }));
+        Assert.assertEquals(1, loadCount.get());
+
+        cache.invalidate(PROJECT_ID);
+        Assert.assertFalse(cache.isTooLarge(PROJECT_ID, "abc"));
+    }
+
+    @Test
+    public void testDisabled() throws Exception
+    {
+        GitLabRevisionFileCache cache = new GitLabRevisionFileCache(0L);
+        Assert.assertFalse(cache.isEnabled());
+        AtomicInteger loadCount = new AtomicInteger();
+        cache.getIfAbsentLoad(PROJECT_ID, "abc", () ->
+        {
+            loadCount.incrementAndGet();
+            return files("/a.json", "a");
+        });
+        cache.getIfAbsentLoad(PROJECT_ID, "abc", () ->
+        {
+            loadCount.incrementAndGet();
+            return files("/a.json", "a");
+        });
+        Assert.assertEquals(2, loadCount.get());
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLoadFailureNotCached()
+    {
+        GitLabRevisionFileCache cache = new GitLabRevisionFileCache(1024L);
+        IllegalStateException e = Assert.assertThrows(IllegalStateException.class, () -> cache.getIfAbsentLoad(PROJECT_ID, "abc", () ->
+        {
+            throw new IllegalStateException("failed");
+        }));
+        Assert.assertEquals("failed", e.getMessage());
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testInvalidate() throws Exception
+    {
+        GitLabRevisionFileCache cache = new GitLabRevisionFileCache(1024L * 1024L);
+        cache.getIfAbsentLoad(PROJECT_ID, "c1", () -> files("/a.json", "a"));
+        cache.getIfAbsentLoad(PROJECT_ID, "c2", () -> files("/a.json", "b"));
+        cache.getIfAbsentLoad(OTHER_PROJECT_ID, "c1", () -> files("/a.json", "c"));
+        Assert.assertEquals(3, cache.size());
+
+        cache.invalidate(PROJECT_ID);
+        Assert.assertEquals(1, cache.size());
+        Assert.assertNull(cache.get(PROJECT_ID, "c1"));
+        Assert.assertNotNull(cache.get(OTHER_PROJECT_ID, "c1"));
+        Assert.assertEquals(cache.get(OTHER_PROJECT_ID, "c1").getWeight(), cache.getCurrentBytes());
+    }
+
+    private static Map<String, byte[]> files(String... pathsAndContents)
+    {
+        Map<String, byte[]> files = Maps.mutable.empty();
+        for (int i = 0; i < pathsAndContents.length; i += 2)
+        {
+            files.put(pathsAndContents[i], pathsAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+        }
+        return files;
+    }
+}
@@ -0,0 +1,231 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.sdlc.server.gitlab.api;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.sdlc.domain.model.version.Version;
+import org.finos.legend.sdlc.domain.model.version.VersionId;
+import org.finos.legend.sdlc.server.gitlab.GitLabProjectId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+public class TestGitLabVersionIndex
+{
+    private static final GitLabProjectId PROJECT_ID = GitLabProjectId.newProjectId("TEST", 1L);
+    private static final GitLabProjectId OTHER_PROJECT_ID = GitLabProjectId.newProjectId("TEST", 2L);
+    private static final Integer[] CONSTRAINT_VALUES = {null, -1, 0, 1, 2, 3};
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    public void testQueriesMatchFiltering() throws Exception
+    {
+        MutableList<Version> allVersions = Lists.mutable.empty();
+        for (int major = 0; major <= 2; major++)
+        {
+            for (int minor = 0; minor <= 2; minor++)
+            {
+                for (int patch = 0; patch <= 2; patch++)
+                {
+                    if (((major + minor + patch) % 4) != 3)
+                    {
+                        allVersions.add(version(PROJECT_ID, major, minor, patch));
+                    }
+                }
+            }
+        }
+
+        GitLabVersionIndex index = new GitLabVersionIndex(60L, 10, this.nanoTime::get);
+        GitLabVersionIndex.ProjectVersions versions = index.getIfAbsentLoad(PROJECT_ID, () -> load(allVersions.toReversed()));
+        Assert.assertEquals(allVersions.size(), versions.size());
+
+        for (Integer minMajor : CONSTRAINT_VALUES)
+        {
+            for (Integer maxMajor : CONSTRAINT_VALUES)
+            {
+                for (Integer minMinor : CONSTRAINT_VALUES)
+                {
+                    for (Integer maxMinor : CONSTRAINT_VALUES)
+                    {
+                        for (Integer minPatch : CONSTRAINT_VALUES)
+                        {
+                            for (Integer maxPatch : CONSTRAINT_VALUES)
+                            {
+                                List<VersionId> expected = allVersions
+                                        .select(v -> inRange(v.getId().getMajorVersion(), minMajor, maxMajor) && inRange(v.getId().getMinorVersion(), minMinor, maxMinor) && inRange(v.getId().getPatchVersion(), minPatch, maxPatch))
+                                        .collect(Version::getId)
+                                        .sortThis(Comparator.reverseOrder());
+                                String message = "[" + minMajor + ", " + maxMajor + "], [" + minMinor + ", " + maxMinor + "], [" + minPatch + ", " + maxPatch + "]";
+                                Assert.assertEquals(message, expected, Lists.mutable.withAll(versions.getVersions(minMajor, maxMajor, minMinor, maxMinor, minPatch, maxPatch)).collect(Version::getId));
+                                Version latest = versions.getLatestVersion(minMajor, maxMajor, minMinor, maxMinor, minPatch, maxPatch);
+                                Assert.assertEquals(message, expected.isEmpty() ? null : expected.get(0), (latest == null) ? null : latest.getId());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLoadedOnceWithinTtl() throws Exception
+    {
+        GitLabVersionIndex index = new GitLabVersionIndex(60L, 10, this.nanoTime::get);
+
+        GitLabVersionIndex.ProjectVersions versions1 = index.getIfAbsentLoad(PROJECT_ID, () -> load(version(PROJECT_ID, 1, 0, 0)));
+        this.nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        GitLabVersionIndex.ProjectVersions versions2 = index.getIfAbsentLoad(PROJECT_ID, () -> load(version(PROJECT_ID, 2, 0, 0)));
+        Assert.assertSame(versions1, versions2);
+        Assert.assertEquals(1, this.loadCount.get());
+
+        // expired: picks up the externally created tag
+        this.nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        GitLabVersionIndex.ProjectVersions versions3 = index.getIfAbsentLoad(PROJECT_ID, () -> load(version(PROJECT_ID, 1, 0, 0), version(PROJECT_ID, 2, 0, 0)));
+        Assert.assertEquals(VersionId.newVersionId(2, 0, 0), versions3.getLatestVersion(null, null, null, null, null, null).getId());
+        Assert.assertEquals(2, this.loadCount.get());
+    }
+
+    @Test
+    public void testReloadBypassesCurrentEntry() throws Exception
+    {
+        GitLabVersionIndex index = new GitLabVersionIndex(60L, 10, this.nanoTime::get);
+        index.getIfAbsentLoad(PROJECT_ID, () -> load(version(PROJECT_ID, 1, 1, 0)));
+
+        // a tag created elsewhere within the TTL is seen by a reload, and the reload refreshes the entry
+        GitLabVersionIndex.ProjectVersions reloaded = index.reload(PROJECT_ID, () -> load(version(PROJECT_ID, 1, 1, 0), version(PROJECT_ID, 1, 2, 0)));
+        Assert.assertEquals(VersionId.newVersionId(1, 2, 0), reloaded.getLatestVersion(null, null, null, null, null, null).getId());
+        Assert.assertEquals(2, this.loadCount.get());
+        Assert.assertSame(reloaded, index.getIfAbsentLoad(PROJECT_ID, () -> load()));
+        Assert.assertEquals(2, this.loadCount.get());
+    }
+
+    @Test
+    public void testAddVersion() throws Exception
+    {
+        GitLabVersionIndex index = new GitLabVersionIndex(60L, 10, this.nanoTime::get);
+        index.getIfAbsentLoad(PROJECT_ID, () -> load(version(PROJECT_ID, 1, 0, 0)));
+
+        index.addVersion(PROJECT_ID, version(PROJECT_ID, 1, 1, 0));
+        GitLabVersionIndex.ProjectVersions versions = index.getIfAbsentLoad(PROJECT_ID, () -> load());
+        Assert.assertEquals(1, this.loadCount.get());
+        Assert.assertEquals(Lists.mutable.with(VersionId.newVersionId(1, 1, 0), VersionId.newVersionId(1, 0, 0)), Lists.mutable.withAll(versions.getVersions(null, null, null, null, null, null)).collect(Version::getId));
+
+        // adding a version does not extend the life of the entry
+        this.nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        index.addVersion(PROJECT_ID, version(PROJECT_ID, 1, 2, 0));
+        index.getIfAbsentLoad(PROJECT_ID, () -> load(version(PROJECT_ID, 1, 0, 0)));
+        Assert.assertEquals(2, this.loadCount.get());
+
+        // no entry is created for a project which is not indexed
+        index.addVersion(OTHER_PROJECT_ID, version(OTHER_PROJECT_ID, 1, 0, 0));
+        Assert.assertEquals(1, index.size());
+    }
+
+    @Test
+    public void testInvalidate() throws Exception
+    {
+        GitLabVersionIndex index = new GitLabVersionIndex(60L, 10, this.nanoTime::get);
+        index.getIfAbsentLoad(PROJECT_ID, () -> load(version(PROJECT_ID, 1, 0, 0)));
+        index.getIfAbsentLoad(OTHER_PROJECT_ID, () -> load(version(OTHER_PROJECT_ID, 1, 0, 0)));
+        Assert.assertEquals(2, index.size());
+
+        index.invalidate(PROJECT_ID);
+        Assert.assertEquals(1, index.size());
+        Assert.assertNull(index.getIfAbsentLoad(PROJECT_ID, () -> load()).getLatestVersion(null, null, null, null, null, null));
+        Assert.assertNotNull(index.getIfAbsentLoad(OTHER_PROJECT_ID, () -> load()).getLatestVersion(null, null, null, null, null, null));
+        Assert.assertEquals(3, this.loadCount.get());
+    }
+
+    @Test
+    public void testFailureNotCached()
+    {
+        GitLabVersionIndex index = new GitLabVersionIndex(60L, 10, this.nanoTime::get);
+        IllegalStateException e = Assert.assertThrows(IllegalStateException.class, () -> index.getIfAbsentLoad(PROJECT_ID, () ->
+        {
+            throw new IllegalStateException("GitLab unavailable");
+        }));
+        Assert.assertEquals("GitLab unavailable", e.getMessage());
+        Assert.assertEquals(0, index.size());
+    }
+
+    @Test
+    public void testDisabled() throws Exception
+    {
+        GitLabVersionIndex index = new GitLabVersionIndex(0L, 10, this.nanoTime::get);
+        Assert.assertFalse(index.isEnabled());
+        index.getIfAbsentLoad(PROJECT_ID, () -> load(version(PROJECT_ID, 1, 0, 0)));
+        GitLabVersionIndex.ProjectVersions versions = index.getIfAbsentLoad(PROJECT_ID, () -> load(version(PROJECT_ID, 1, 0, 0), version(PROJECT_ID, 0, 1, 0)));
+        Assert.assertEquals(2, this.loadCount.get());
+        Assert.assertEquals(0, index.size());
+        Assert.assertEquals(VersionId.newVersionId(0, 1, 0), versions.getLatestVersion(0, 0, null, null, null, null).getId());
+    }
+
+    private Stream<Version> load(Version... versions)
+    {
+        return load(Lists.mutable.with(versions));
+    }
+
+    private Stream<Version> load(List<Version> versions)
+    {
+        this.loadCount.incrementAndGet();
+        return versions.stream();
+    }
+
+    private static boolean inRange(int value, Integer min, Integer max)
+    {
+        return ((min == null) || (min <= value)) && ((max == null) || (value <= max));
+    }
+
+    private static Version version(GitLabProjectId projectId, int major, int minor, int patch)
+    {
+        VersionId versionId = VersionId.newVersionId(major, minor, patch);
+        return new Version()
+        {
+            @Override
+            public VersionId getId()
+            {
+                return versionId;
+            }
+
+            @Override
+            public String getProjectId()
+            {
+                return projectId.toString();
+            }
+
+            @Override
+            public String getRevisionId()
+            {
+                return "rev" + versionId.toVersionIdString();
+            }
+
+            @Override
+            public String getNotes()
+            {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,201 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.sdlc.server.gitlab.api;
+
+import org.finos.legend.sdlc.backend.api.workspace.WorkspaceApi.WorkspaceUpdateJobStatus;
+import org.finos.legend.sdlc.backend.api.workspace.WorkspaceApi.WorkspaceUpdateReport;
+import org.finos.legend.sdlc.backend.api.workspace.WorkspaceApi.WorkspaceUpdateReportStatus;
+import org.finos.legend.sdlc.server.error.LegendSDLCServerException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestGitLabWorkspaceUpdateJobs
+{
+    @Test
+    public void testConcurrentUpdatesDeduplicated()
+    {
+        GitLabWorkspaceUpdateJobs jobs = new GitLabWorkspaceUpdateJobs(2, TimeUnit.MINUTES.toMillis(1));
+        AtomicInteger updateCount = new AtomicInteger();
+        CompletableFuture<WorkspaceUpdateReport> pendingReport = new CompletableFuture<>();
+
+        GitLabWorkspaceUpdateJobs.Job job1 = jobs.submit("p1", "w1", "1:w1", "user1", (scheduler, executor) ->
+        {
+            updateCount.incrementAndGet();
+            return pendingReport;
+        });
+        GitLabWorkspaceUpdateJobs.Job job2 = jobs.submit("p1", "w1", "1:w1", "user1", (scheduler, executor) ->
+        {
+            updateCount.incrementAndGet();
+            return pendingReport;
+        });
+        Assert.assertSame(job1, job2);
+        Assert.assertNotEquals(WorkspaceUpdateJobStatus.SUCCEEDED, job1.getStatus());
+        Assert.assertEquals(1, jobs.getActiveJobCount());
+        Assert.assertSame(job1, jobs.getJob(job1.getId(), "user1"));
+
+        WorkspaceUpdateReport report = newReport(WorkspaceUpdateReportStatus.UPDATED);
+        pendingReport.complete(report);
+        Assert.assertSame(report, jobs.await(job1));
+        Assert.assertEquals(WorkspaceUpdateJobStatus.SUCCEEDED, job1.getStatus());
+        Assert.assertSame(report, job1.getReport());
+        Assert.assertNull(job1.getErrorMessage());
+        Assert.assertEquals(1, updateCount.get());
+        Assert.assertEquals(0, jobs.getActiveJobCount());
+
+        // finished jobs are retained, but a new update of the workspace starts a new job
+        Assert.assertSame(job1, jobs.getJob(job1.getId(), "user1"));
+        GitLabWorkspaceUpdateJobs.Job job3 = jobs.submit("p1", "w1", "1:w1", "user1", (scheduler, executor) -> CompletableFuture.completedFuture(newReport(WorkspaceUpdateReportStatus.NO_OP)));
+        Assert.assertNotSame(job1, job3);
+        Assert.assertEquals(WorkspaceUpdateReportStatus.NO_OP, jobs.await(job3).getStatus());
+    }
+
+    @Test
+    public void testDifferentWorkspacesNotDeduplicated()
+    {
+        GitLabWorkspaceUpdateJobs jobs = new GitLabWorkspaceUpdateJobs(2, TimeUnit.MINUTES.toMillis(1));
+        CompletableFuture<WorkspaceUpdateReport> pendingReport = new CompletableFuture<>();
+        GitLabWorkspaceUpdateJobs.Job job1 = jobs.submit("p1", "w1", "1:w1", "user1", (scheduler, executor) -> pendingReport);
+        GitLabWorkspaceUpdateJobs.Job job2 = jobs.submit("p1", "w2", "1:w2", "user1", (scheduler, executor) -> pendingReport);
+        Assert.assertNotSame(job1, job2);
+        Assert.assertNotEquals(job1.getId(), job2.getId());
+        Assert.assertEquals(2, jobs.getActiveJobCount());
+        pendingReport.complete(newReport(WorkspaceUpdateReportStatus.UPDATED));
+        jobs.await(job1);
+        jobs.await(job2);
+        Assert.assertEquals(0, jobs.getActiveJobCount());
+    }
+
+    @Test
+    public void testFailedUpdate()
+    {
+        GitLabWorkspaceUpdateJobs jobs = new GitLabWorkspaceUpdateJobs(1, TimeUnit.MINUTES.toMillis(1));
+        GitLabWorkspaceUpdateJobs.Job job = jobs.submit("p1", "w1", "1:w1", "user1", (scheduler, executor) ->
+        {
+            throw new LegendSDLCServerException("Rebase failed");
+        });
+        LegendSDLCServerException e = Assert.assertThrows(LegendSDLCServerException.class, () -> jobs.await(job));
+        Assert.assertEquals("Rebase failed", e.getMessage());
+        Assert.assertEquals(WorkspaceUpdateJobStatus.FAILED, job.getStatus());
+        Assert.assertEquals("Rebase failed", job.getErrorMessage());
+        Assert.assertNull(job.getReport());
+        Assert.assertEquals(0, jobs.getActiveJobCount());
+    }
+
+    @Test
+    public void testFinishedJobsExpire() throws Exception
+    {
+        GitLabWorkspaceUpdateJobs jobs = new GitLabWorkspaceUpdateJobs(1, 0L);
+        GitLabWorkspaceUpdateJobs.Job job = jobs.submit("p1", "w1", "1:w1", "user1", (scheduler, executor) -> CompletableFuture.completedFuture(newReport(WorkspaceUpdateReportStatus.NO_OP)));
+        jobs.await(job);
+        for (int i = 0; (i < 100) && (jobs.getJob(job.getId(), "user1") != null); i++)
+        {
+            Thread.sleep(10L);
+        }
+        Assert.assertNull(jobs.getJob(job.getId(), "user1"));
+    }
+
+    @Test
+    public void testJobsOnlyVisibleToSubmitters()
+    {
+        GitLabWorkspaceUpdateJobs jobs = new GitLabWorkspaceUpdateJobs(1, TimeUnit.MINUTES.toMillis(1));
+        CompletableFuture<WorkspaceUpdateReport> pendingReport = new CompletableFuture<>();
+        GitLabWorkspaceUpdateJobs.Job job = jobs.submit("p1", "w1", "1:w1", "user1", (scheduler, executor) -> pendingReport);
+        Assert.assertSame(job, jobs.getJob(job.getId(), "user1"));
+        Assert.assertNull(jobs.getJob(job.getId(), "user2"));
+        Assert.assertNull(jobs.getJob(job.getId(), null));
+
+        // a user whose update is deduplicated into an existing job may read that job
+        Assert.assertSame(job, jobs.submit("p1", "w1", "1:w1", "user2", (scheduler, executor) -> pendingReport));
+        Assert.assertSame(job, jobs.getJob(job.getId(), "user2"));
+        Assert.assertNull(jobs.getJob(job.getId(), "user3"));
+
+        pendingReport.complete(newReport(WorkspaceUpdateReportStatus.UPDATED));
+        jobs.await(job);
+        Assert.assertSame(job, jobs.getJob(job.getId(), "user1"));
+        Assert.assertSame(job, jobs.getJob(job.getId(), "user2"));
+        Assert.assertNull(jobs.getJob(job.getId(), "user3"));
+    }
+
+    @Test
+    public void testUpdatesRunOnWorkers()
+    {
+        GitLabWorkspaceUpdateJobs jobs = new GitLabWorkspaceUpdateJobs(1, TimeUnit.MINUTES.toMillis(1));
+        String[] threadNames = new String[2];
+        GitLabWorkspaceUpdateJobs.Job job = jobs.submit("p1", "w1", "1:w1", "user1", (scheduler, executor) ->
+        {
+            threadNames[0] = Thread.currentThread().getName();
+            // a step after a wait is handed over from the scheduler to a worker
+            CompletableFuture<WorkspaceUpdateReport> future = new CompletableFuture<>();
+            scheduler.schedule(() -> executor.execute(() ->
+            {
+                threadNames[1] = Thread.currentThread().getName();
+                future.complete(newReport(WorkspaceUpdateReportStatus.NO_OP));
+            }), 1L, TimeUnit.MILLISECONDS);
+            return future;
+        });
+        Assert.assertEquals(WorkspaceUpdateReportStatus.NO_OP, jobs.await(job).getStatus());
+        Assert.assertEquals("workspace-update-1", threadNames[0]);
+        Assert.assertEquals("workspace-update-1", threadNames[1]);
+    }
+
+    @Test
+    public void testCompletion()
+    {
+        GitLabWorkspaceUpdateJobs jobs = new GitLabWorkspaceUpdateJobs(1, TimeUnit.MINUTES.toMillis(1));
+        CompletableFuture<WorkspaceUpdateReport> pendingReport = new CompletableFuture<>();
+        GitLabWorkspaceUpdateJobs.Job job = jobs.submit("p1", "w1", "1:w1", "user1", (scheduler, executor) -> pendingReport);
+        CompletableFuture<WorkspaceUpdateReport> completion = jobs.getCompletion(job);
+        Assert.assertFalse(completion.isDone());
+
+        // completing the returned future does not complete the job
+        completion.complete(newReport(WorkspaceUpdateReportStatus.NO_OP));
+        Assert.assertNotEquals(WorkspaceUpdateJobStatus.SUCCEEDED, job.getStatus());
+        Assert.assertEquals(1, jobs.getActiveJobCount());
+
+        WorkspaceUpdateReport report = newReport(WorkspaceUpdateReportStatus.UPDATED);
+        pendingReport.complete(report);
+        Assert.assertSame(report, jobs.getCompletion(job).join());
+        Assert.assertEquals(WorkspaceUpdateJobStatus.SUCCEEDED, job.getStatus());
+    }
+
+    private static WorkspaceUpdateReport newReport(WorkspaceUpdateReportStatus status)
+    {
+        return new WorkspaceUpdateReport()
+        {
+            @Override
+            public WorkspaceUpdateReportStatus getStatus()
+            {
+                return status;
+            }
+
+            @Override
+            public String getWorkspaceMergeBaseRevisionId()
+            {
+                return null;
+            }
+
+            @Override
+            public String getWorkspaceRevisionId()
+            {
+                return null;
+            }
+        };
+    }
+}
@@ -14,6 +14,8 @@
 
 package org.finos.legend.sdlc.server.resources;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.http.client.HttpResponseException;
 import org.finos.legend.sdlc.domain.model.entity.Entity;
 import org.finos.legend.sdlc.domain.model.project.workspace.Workspace;
@@ -26,7 +28,9 @@ import org.finos.legend.sdlc.tools.entity.EntityPaths;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.MediaType;
@@ -456,6 +460,46 @@ public class TestWorkspaceEntitiesResource extends AbstractLegendSDLCServerResou
         Assert.assertNotNull(revision.getId());
     }
 
+    @Test
+    public void testStreamUserWorkspaceEntities() throws Exception
+    {
+        String projectId = "A";
+        String workspaceOneId = "entityw5";
+        String entityOneName = "testentityone";
+        String entityTwoName = "testentitytwo";
+        String entityPackageName = "testpkg";
+
+        this.backend.project(projectId).addEntities(workspaceOneId, InMemoryEntity.newEntity(entityOneName, entityPackageName), InMemoryEntity.newEntity(entityTwoName, entityPackageName));
+
+        Response responseOne = this.clientFor("/api/projects/A/workspaces/entityw5/entities").request(EntityAccessResource.APPLICATION_NDJSON).get();
+
+        if (responseOne.getStatus() != 200)
+        {
+            throw new HttpResponseException(responseOne.getStatus(), "Error during streaming entities in user workspace with status: " + responseOne.getStatus() + ", entity: " + responseOne.readEntity(String.class));
+        }
+
+        Assert.assertEquals(EntityAccessResource.APPLICATION_NDJSON, responseOne.getMediaType().getType() + "/" + responseOne.getMediaType().getSubtype());
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> entityPaths = new ArrayList<>();
+        for (String line : responseOne.readEntity(String.class).split("\n"))
+        {
+            JsonNode entity = objectMapper.readTree(line);
+            Assert.assertEquals(entityPackageName, entity.get("content").get("package").asText());
+            entityPaths.add(entity.get("path").asText());
+        }
+        Collections.sort(entityPaths);
+        Assert.assertEquals(Arrays.asList(entityPackageName + EntityPaths.PACKAGE_SEPARATOR + entityOneName, entityPackageName + EntityPaths.PACKAGE_SEPARATOR + entityTwoName), entityPaths);
+
+        // plain JSON remains the default
+        Response responseTwo = this.clientFor("/api/projects/A/workspaces/entityw5/entities").request().get();
+        Assert.assertEquals(200, responseTwo.getStatus());
+        Assert.assertTrue(MediaType.APPLICATION_JSON_TYPE.isCompatible(responseTwo.getMediaType()));
+        List<Entity> entities = responseTwo.readEntity(new GenericType<List<Entity>>()
+        {
+        });
+        Assert.assertEquals(2, entities.size());
+    }
+
     private Entity findEntity(List<Entity> entities, String entityName, String entityPackageName)
     {
         return entities.stream().filter(entity -> entity.getContent().get("name").equals(entityName) && entity.getContent().get("package").equals(entityPackageName)).findFirst().get();
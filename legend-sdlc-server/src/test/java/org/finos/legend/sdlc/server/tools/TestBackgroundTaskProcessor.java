@@ -20,6 +20,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -79,4 +80,61 @@ public class TestBackgroundTaskProcessor
         Assert.assertTrue(latch.await(2, TimeUnit.SECONDS));
         Assert.assertEquals(expected, i.get());
     }
+
+    @Test
+    public void testRetryWaitDoesNotHoldThread() throws Exception
+    {
+        BackgroundTaskProcessor processor = new BackgroundTaskProcessor(1);
+        AtomicInteger attempts = new AtomicInteger(0);
+        try
+        {
+            CountDownLatch firstAttempt = new CountDownLatch(1);
+            processor.submitRetryableTask(() ->
+            {
+                attempts.incrementAndGet();
+                firstAttempt.countDown();
+                return false;
+            }, 60_000L, "slow retry");
+            Assert.assertTrue(firstAttempt.await(2, TimeUnit.SECONDS));
+
+            // the only pool thread must be free while the retry waits
+            CountDownLatch otherTask = new CountDownLatch(1);
+            processor.submitTask(otherTask::countDown, "other task");
+            Assert.assertTrue(otherTask.await(2, TimeUnit.SECONDS));
+            Assert.assertEquals(1, attempts.get());
+            Assert.assertEquals(1, processor.getScheduledRetryCount());
+            Assert.assertEquals(1, processor.getTotalRetryCount());
+        }
+        finally
+        {
+            processor.shutdown();
+            Assert.assertTrue(processor.awaitTermination(30L, TimeUnit.SECONDS));
+        }
+        // the waiting retry gets its final attempt on shutdown
+        Assert.assertEquals(2, attempts.get());
+        Assert.assertEquals(0, processor.getScheduledRetryCount());
+        Assert.assertEquals(0, processor.getPendingTaskCount());
+        Assert.assertEquals(1L, processor.getFailedTaskCount());
+    }
+
+    @Test
+    public void testPendingTaskBound() throws Exception
+    {
+        BackgroundTaskProcessor processor = new BackgroundTaskProcessor(1, 1, 0L, null);
+        CountDownLatch release = new CountDownLatch(1);
+        try
+        {
+            processor.submitTask(() -> release.await(10, TimeUnit.SECONDS), "blocking task");
+            Assert.assertThrows(RejectedExecutionException.class, () -> processor.submitTask(() ->
+            {
+            }, "rejected task"));
+        }
+        finally
+        {
+            release.countDown();
+            processor.shutdown();
+            Assert.assertTrue(processor.awaitTermination(30L, TimeUnit.SECONDS));
+        }
+        Assert.assertEquals(1L, processor.getCompletedTaskCount());
+    }
 }
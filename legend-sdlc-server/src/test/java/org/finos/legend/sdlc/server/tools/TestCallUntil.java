@@ -17,6 +17,17 @@ package org.finos.legend.sdlc.server.tools;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+
 public class TestCallUntil
 {
     @Test
@@ -128,6 +139,102 @@ public class TestCallUntil
         }
     }
 
+    @Test
+    public void testAsyncMultipleFailuresBeforeSuccess()
+    {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try
+        {
+            CountingSupplier supplier = new CountingSupplier();
+            CallUntil<String, TestException> callUntil = CallUntil.callUntilAsync(supplier, i -> i.length() > 7, 5, 1L, scheduler).join();
+            Assert.assertTrue(callUntil.succeeded());
+            Assert.assertEquals(4, callUntil.getTryCount());
+            Assert.assertEquals("0_1_2_3_4", callUntil.getResult());
+
+            CountingSupplier supplier2 = new CountingSupplier();
+            CallUntil<String, TestException> callUntil2 = CallUntil.callUntilAsync(supplier2, i -> i.length() > 11, 5, 1L, scheduler).join();
+            Assert.assertFalse(callUntil2.succeeded());
+            Assert.assertEquals(5, callUntil2.getTryCount());
+            Assert.assertNull(callUntil2.getResult());
+        }
+        finally
+        {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAsyncException()
+    {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try
+        {
+            String message = "Only 2 calls allowed!";
+            CountingSupplier supplier = new ErroringCountingSupplier(2, message);
+            CompletableFuture<CallUntil<String, TestException>> future = CallUntil.callUntilAsync(supplier, i -> i.length() > 11, 5, 1L, scheduler);
+            CompletionException e = Assert.assertThrows(CompletionException.class, future::join);
+            Assert.assertTrue(e.getCause() instanceof TestException);
+            Assert.assertEquals(message, e.getCause().getMessage());
+            Assert.assertEquals(3, supplier.getCallCount());
+        }
+        finally
+        {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAsyncWithExecutor()
+    {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "scheduler"));
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "executor"));
+        try
+        {
+            Set<String> threadNames = ConcurrentHashMap.newKeySet();
+            CountingSupplier supplier = new CountingSupplier()
+            {
+                @Override
+                public String get() throws TestException
+                {
+                    threadNames.add(Thread.currentThread().getName());
+                    return super.get();
+                }
+            };
+            CallUntil<String, TestException> callUntil = CallUntil.callUntilAsync(supplier, i -> i.length() > 7, 5, 1L, scheduler, executor).join();
+            Assert.assertTrue(callUntil.succeeded());
+            Assert.assertEquals(4, callUntil.getTryCount());
+            Assert.assertEquals("0_1_2_3_4", callUntil.getResult());
+            // the first try is made on the calling thread, and the others on the executor
+            Assert.assertEquals(new HashSet<>(Arrays.asList(Thread.currentThread().getName(), "executor")), threadNames);
+        }
+        finally
+        {
+            scheduler.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAsyncWithRejectingExecutor()
+    {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try
+        {
+            CountingSupplier supplier = new CountingSupplier();
+            CompletableFuture<CallUntil<String, TestException>> future = CallUntil.callUntilAsync(supplier, i -> i.length() > 7, 5, 1L, scheduler, r ->
+            {
+                throw new RejectedExecutionException("rejected");
+            });
+            CompletionException e = Assert.assertThrows(CompletionException.class, future::join);
+            Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+            Assert.assertEquals(1, supplier.getCallCount());
+        }
+        finally
+        {
+            scheduler.shutdownNow();
+        }
+    }
+
     private static class TestException extends Exception
     {
         private TestException(String message)
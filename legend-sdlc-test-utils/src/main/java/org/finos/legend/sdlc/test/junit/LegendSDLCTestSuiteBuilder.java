@@ -73,7 +73,7 @@ public class LegendSDLCTestSuiteBuilder
         this.pureVersion = pureVersion;
         this.testableClassifiers = TestableRunnerExtensionLoader.getClassifierPathToTestableRunnerMap(classLoader).keySet();
         this.entities = getEntities(classLoader);
-        PureModelWithContextData pureModelWithContextData = PureModelBuilder.newBuilder().withEntitiesIfPossible(this.entities).withClassLoader(classLoader).build();
+        PureModelWithContextData pureModelWithContextData = PureModelBuilder.newBuilder().withParallelConversion(true).withCompilationCache(true).withEntitiesIfPossible(this.entities).withClassLoader(classLoader).build();
         this.pureModel = pureModelWithContextData.getPureModel();
         this.pureModelContextData = pureModelWithContextData.getPureModelContextData();
         this.protocolIndex = Iterate.groupByUniqueKey(this.pureModelContextData.getElements(), PackageableElement::getPath);
@@ -91,7 +91,7 @@ public class LegendSDLCTestSuiteBuilder
         MutableSet<String> entityPaths = Sets.mutable.empty();
         try (EntityLoader entityLoader = EntityLoader.newEntityLoader(directoriesForTesting))
         {
-            entityLoader.getAllEntities().map(Entity::getPath).forEach(entityPaths::add);
+            entityLoader.getAllEntities(true).map(Entity::getPath).forEachOrdered(entityPaths::add);
         }
         catch (Exception e)
         {
@@ -245,7 +245,7 @@ public class LegendSDLCTestSuiteBuilder
     @Deprecated
     public static TestSuite buildTestSuite(String name, EntityLoader entityLoader)
     {
-        MutableSet<String> entityPaths = entityLoader.getAllEntities().map(Entity::getPath).collect(Collectors.toCollection(Sets.mutable::empty));
+        MutableSet<String> entityPaths = entityLoader.getAllEntities(true).map(Entity::getPath).collect(Collectors.toCollection(Sets.mutable::empty));
         return new LegendSDLCTestSuiteBuilder(name, null).buildSuiteFromEntityPaths(entityPaths);
     }
 
@@ -253,7 +253,7 @@ public class LegendSDLCTestSuiteBuilder
     {
         try (EntityLoader entityLoader = EntityLoader.newEntityLoader(classLoader))
         {
-            return entityLoader.getAllEntities().collect(Collectors.toCollection(Lists.mutable::empty));
+            return entityLoader.getAllEntities(true).collect(Collectors.toCollection(Lists.mutable::empty));
         }
         catch (Exception e)
         {
@@ -36,6 +36,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.stream.Collectors;
 
 class PureTestHelper
 {
@@ -119,7 +120,8 @@ class PureTestHelper
         try (EntityLoader entityLoader = EntityLoader.newEntityLoader(classLoader))
         {
             return PureModelBuilder.newBuilder()
-                    .withEntitiesIfPossible(entityLoader.getAllEntities())
+                    .withCompilationCache(true)
+                    .withEntitiesIfPossible(entityLoader.getAllEntities(true).collect(Collectors.toList()))
                     .withClassLoader(classLoader)
                     .build();
         }
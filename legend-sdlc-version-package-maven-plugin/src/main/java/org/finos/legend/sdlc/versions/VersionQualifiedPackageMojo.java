@@ -195,7 +195,7 @@ public class VersionQualifiedPackageMojo extends AbstractMojo
         EntityPathTransformer transformer = EntityPathTransformer.newTransformer(getPathTransformationFunction());
         try (EntityLoader entityLoader = EntityLoader.newEntityLoader(this.entitySourceDirectories))
         {
-            entityLoader.getAllEntities().forEach(transformer::addEntity);
+            entityLoader.getAllEntities(true).forEachOrdered(transformer::addEntity);
         }
         List<Entity> transformedEntities = transformer.transformEntities();
         getLog().info(String.format("Done qualifying packages by version for %,d entities (%.9fs)", transformedEntities.size(), (System.nanoTime() - transformStart) / 1_000_000_000.0));
@@ -224,7 +224,7 @@ public class VersionQualifiedPackageMojo extends AbstractMojo
         String projectPrefix = getPackagePrefix(findGroupId(), findArtifactId(), findVersion(), this.versionAlias);
         try (EntityLoader entityLoader = EntityLoader.newEntityLoader(this.entitySourceDirectories))
         {
-            entityLoader.getAllEntities().forEach(e -> forEachPackageableElementPath(e, path -> pathMap.computeIfAbsent(path, projectPrefix::concat)));
+            entityLoader.getAllEntities(true).forEachOrdered(e -> forEachPackageableElementPath(e, path -> pathMap.computeIfAbsent(path, projectPrefix::concat)));
         }
 
         // dependencies
@@ -240,7 +240,7 @@ public class VersionQualifiedPackageMojo extends AbstractMojo
                         Pattern prefixPattern = Pattern.compile(appendVersionPackage(appendGroupIdPackage(new StringBuilder("^\\Q"), artifact.getGroupId()).append("::\\E\\w+\\Q::"), artifact.getVersion()).append("::\\E").toString());
                         try (EntityLoader entityLoader = EntityLoader.newEntityLoader(artifact.getFile()))
                         {
-                            entityLoader.getAllEntities().forEach(e -> forEachPackageableElementPath(e, path ->
+                            entityLoader.getAllEntities(true).forEachOrdered(e -> forEachPackageableElementPath(e, path ->
                             {
                                 Matcher matcher = prefixPattern.matcher(path);
                                 if (matcher.find())